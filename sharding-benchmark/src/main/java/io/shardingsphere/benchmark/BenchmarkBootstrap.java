@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark;
+
+import io.shardingsphere.benchmark.report.BaselineComparator;
+import io.shardingsphere.benchmark.report.BenchmarkResult;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Bootstrap of benchmarks.
+ *
+ * <p>
+ * Runs benchmarks selected by JMH command line options with allocation profiling, and writes JSON result to {@code benchmark.result} file.
+ * If {@code benchmark.baseline} is set, results are compared with that JSON result,
+ * and process exits with failure if any benchmark regresses more than {@code benchmark.threshold} percentage.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkBootstrap {
+    
+    /**
+     * Main entrance.
+     *
+     * @param args JMH command line options
+     * @throws Exception exception
+     */
+    public static void main(final String[] args) throws Exception {
+        File resultFile = new File(System.getProperty("benchmark.result", "benchmark-result.json"));
+        Options options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).resultFormat(ResultFormatType.JSON).result(resultFile.getPath()).build();
+        new Runner(options).run();
+        String baseline = System.getProperty("benchmark.baseline");
+        if (null == baseline) {
+            return;
+        }
+        double thresholdPercentage = Double.parseDouble(System.getProperty("benchmark.threshold", "10"));
+        int regressions = new BaselineComparator(BenchmarkResult.load(new File(baseline)), BenchmarkResult.load(resultFile), thresholdPercentage).report(System.out);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.core;
+
+import io.shardingsphere.core.keygen.DefaultKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for generating keys.
+ *
+ * <p>
+ * Key generator is shared by all benchmark threads, so contention is measured by running on a machine with at least 16 cores,
+ * once for each thread count of 1, 4, 16 and 64:
+ * {@code mvn -Pbenchmark package -DskipTests && java -jar sharding-benchmark/target/benchmarks.jar KeyGeneratorBenchmark -t 16}.
+ * Results on a machine with fewer cores than threads show time slicing instead of contention.
+ * No results of lock free key generation are recorded yet, its throughput under contention is not verified.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyGeneratorBenchmark {
+    
+    @Param({"1", "16", "256"})
+    private int rowCount;
+    
+    private final DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+    
+    /**
+     * Generate key.
+     *
+     * @return generated key
+     */
+    @Benchmark
+    public Number generateKey() {
+        return keyGenerator.generateKey();
+    }
+    
+    /**
+     * Generate keys for multiple rows of insert.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    public List<Number> generateKeys() {
+        return keyGenerator.generateKeys(rowCount);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.core;
+
+import io.shardingsphere.benchmark.fixture.H2DataSourceFixture;
+import io.shardingsphere.benchmark.fixture.QueryResultSnapshot;
+import io.shardingsphere.benchmark.fixture.SQLCaseFixture;
+import io.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.merger.MergeEngineFactory;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of merge engine.
+ *
+ * <p>Results of each route unit are loaded from H2 once, and replayed from memory for each merge, so only merging is measured.</p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MergeBenchmark {
+    
+    private static final int ROW_COUNT = 10240;
+    
+    @Param({"1", "16", "256"})
+    private int shardCount;
+    
+    @Param({"select_order_by_with_star_no_table_alias", "select_group_by_with_sum", "select_group_by_with_order_by_desc", "select_count"})
+    private String sqlCaseId;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private SQLStatement sqlStatement;
+    
+    private List<QueryResultSnapshot> queryResultSnapshots;
+    
+    /**
+     * Set up benchmark.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        shardingRule = ShardingRuleFixture.createShardingRule(shardCount);
+        shardingTableMetaData = ShardingRuleFixture.createShardingTableMetaData();
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(H2DataSourceFixture.getURLs(shardCount), shardingRule, DatabaseType.H2);
+        String sql = SQLCaseFixture.getSQL(sqlCaseId);
+        SQLRouteResult routeResult = new PreparedStatementRoutingEngine(
+                sql, shardingRule, shardingTableMetaData, DatabaseType.H2, false, shardingDataSourceMetaData).route(SQLCaseFixture.getParameters(sql));
+        sqlStatement = routeResult.getSqlStatement();
+        Map<String, DataSource> dataSourceMap = H2DataSourceFixture.createDataSources(shardCount, ROW_COUNT);
+        try {
+            queryResultSnapshots = loadQueryResultSnapshots(dataSourceMap, routeResult);
+        } finally {
+            for (DataSource each : dataSourceMap.values()) {
+                ((BasicDataSource) each).close();
+            }
+        }
+    }
+    
+    private List<QueryResultSnapshot> loadQueryResultSnapshots(final Map<String, DataSource> dataSourceMap, final SQLRouteResult routeResult) throws SQLException {
+        List<QueryResultSnapshot> result = new ArrayList<>(routeResult.getRouteUnits().size());
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            try (
+                    Connection connection = dataSourceMap.get(each.getDataSourceName()).getConnection();
+                    PreparedStatement preparedStatement = connection.prepareStatement(each.getSqlUnit().getSql())) {
+                List<Object> parameters = each.getSqlUnit().getParameterSets().get(0);
+                for (int i = 0; i < parameters.size(); i++) {
+                    preparedStatement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    result.add(QueryResultSnapshot.load(resultSet));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results and iterate all values of merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(queryResultSnapshots.size());
+        for (QueryResultSnapshot each : queryResultSnapshots) {
+            queryResults.add(each.replay());
+        }
+        MergedResult mergedResult = MergeEngineFactory.newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData).merge();
+        int columnCount = queryResultSnapshots.get(0).getColumnLabels().size();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.core;
+
+import io.shardingsphere.benchmark.fixture.SQLCaseFixture;
+import io.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SQL parsing engine.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLParsingBenchmark {
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_count_with_binding_tables_with_join", "select_group_by_with_order_by_and_limit",
+        "select_full_route_with_binding_tables", "insert_with_all_placeholders", "update_with_alias", "delete_with_sharding_value"})
+    private String sqlCaseId;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private String sql;
+    
+    /**
+     * Set up benchmark.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingRuleFixture.createShardingRule(1);
+        shardingTableMetaData = ShardingRuleFixture.createShardingTableMetaData();
+        sql = SQLCaseFixture.getSQL(sqlCaseId);
+    }
+    
+    /**
+     * Parse SQL without parsing result cache.
+     *
+     * @return parsed SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return new SQLParsingEngine(DatabaseType.H2, sql, shardingRule, shardingTableMetaData).parse(false);
+    }
+    
+    /**
+     * Parse SQL with parsing result cache.
+     *
+     * @return parsed SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache() {
+        return new SQLParsingEngine(DatabaseType.H2, sql, shardingRule, shardingTableMetaData).parse(true);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.core;
+
+import io.shardingsphere.benchmark.fixture.H2DataSourceFixture;
+import io.shardingsphere.benchmark.fixture.SQLCaseFixture;
+import io.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.routing.type.RoutingTable;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SQL rewrite engine.
+ *
+ * <p>SQL is rewritten for table units of all shards, which is the worst case of full routing.</p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SQLRewriteBenchmark {
+    
+    @Param({"1", "16", "256"})
+    private int shardCount;
+    
+    @Param({"select_in_with_single_table", "select_count_with_binding_tables_with_join", "select_full_route_with_binding_tables", "update_with_alias", "delete_with_sharding_value"})
+    private String sqlCaseId;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    private ShardingConditions shardingConditions;
+    
+    private List<TableUnit> tableUnits;
+    
+    /**
+     * Set up benchmark.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingRuleFixture.createShardingRule(shardCount);
+        ShardingTableMetaData shardingTableMetaData = ShardingRuleFixture.createShardingTableMetaData();
+        shardingDataSourceMetaData = new ShardingDataSourceMetaData(H2DataSourceFixture.getURLs(shardCount), shardingRule, DatabaseType.H2);
+        sql = SQLCaseFixture.getSQL(sqlCaseId);
+        parameters = SQLCaseFixture.getParameters(sql);
+        sqlStatement = new SQLParsingEngine(DatabaseType.H2, sql, shardingRule, shardingTableMetaData).parse(false);
+        shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, null).optimize();
+        tableUnits = createTableUnits();
+    }
+    
+    private List<TableUnit> createTableUnits() {
+        List<TableUnit> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            TableUnit tableUnit = new TableUnit("ds_" + i);
+            for (String each : sqlStatement.getTables().getTableNames()) {
+                tableUnit.getRoutingTables().add(new RoutingTable(each, each + "_" + i));
+            }
+            result.add(tableUnit);
+        }
+        return result;
+    }
+    
+    /**
+     * Rewrite SQL for all shards.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.H2, sqlStatement, shardingConditions, parameters);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(shardCount > 1);
+        for (TableUnit each : tableUnits) {
+            blackhole.consume(rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.core;
+
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.api.config.strategy.ConsistentHashShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ModShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.VolumeRangeShardingStrategyConfiguration;
+import io.shardingsphere.core.routing.strategy.ShardingStrategy;
+import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of built-in sharding algorithms against inline expression.
+ *
+ * <p>
+ * Each invocation shards one precise value through {@link ShardingStrategy}, same as routing engine does,
+ * so inline expression is measured with closure evaluation and built-in algorithms are measured with target name lookup.
+ * Values are cycled to avoid measuring a single constant folded path.
+ * </p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShardingAlgorithmBenchmark {
+    
+    private static final int VALUE_COUNT = 1024;
+    
+    @Param({"4", "256"})
+    private int shardCount;
+    
+    @Param({"inline", "mod", "hash_mod", "consistent_hash", "volume_range"})
+    private String algorithm;
+    
+    private ShardingStrategy shardingStrategy;
+    
+    private Collection<String> availableTargetNames;
+    
+    private List<Collection<ShardingValue>> shardingValues;
+    
+    private int index;
+    
+    /**
+     * Set up benchmark.
+     */
+    @Setup
+    public void setUp() {
+        shardingStrategy = ShardingStrategyFactory.newInstance(createShardingStrategyConfiguration());
+        availableTargetNames = new LinkedHashSet<>(shardCount, 1);
+        for (int i = 0; i < shardCount; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        shardingValues = new ArrayList<>(VALUE_COUNT);
+        for (long i = 0; i < VALUE_COUNT; i++) {
+            shardingValues.add(Collections.<ShardingValue>singletonList(new ListShardingValue<>("t_order", "order_id", Collections.singletonList(i * 7919L))));
+        }
+    }
+    
+    private ShardingStrategyConfiguration createShardingStrategyConfiguration() {
+        switch (algorithm) {
+            case "inline":
+                return new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % " + shardCount + "}");
+            case "mod":
+                return new ModShardingStrategyConfiguration("order_id", shardCount, false);
+            case "hash_mod":
+                return new ModShardingStrategyConfiguration("order_id", shardCount, true);
+            case "consistent_hash":
+                return new ConsistentHashShardingStrategyConfiguration("order_id", shardCount);
+            case "volume_range":
+                return new VolumeRangeShardingStrategyConfiguration("order_id", 0L, VALUE_COUNT * 7919L / shardCount + 1);
+            default:
+                throw new UnsupportedOperationException(algorithm);
+        }
+    }
+    
+    /**
+     * Shard precise value.
+     *
+     * @return sharded target names
+     */
+    @Benchmark
+    public Collection<String> doSharding() {
+        index = (index + 1) % VALUE_COUNT;
+        return shardingStrategy.doSharding(availableTargetNames, shardingValues.get(index));
+    }
+}
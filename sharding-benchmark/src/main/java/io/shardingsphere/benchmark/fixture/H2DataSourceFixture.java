@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.dbcp2.BasicDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Embedded H2 data sources for benchmarks.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class H2DataSourceFixture {
+    
+    /**
+     * Get URL of data source.
+     *
+     * @param dataSourceName data source name
+     * @return URL of data source
+     */
+    public static String getURL(final String dataSourceName) {
+        return String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName);
+    }
+    
+    /**
+     * Get URLs of data sources.
+     *
+     * @param shardCount count of shards
+     * @return URLs of data sources
+     */
+    public static Map<String, String> getURLs(final int shardCount) {
+        Map<String, String> result = new LinkedHashMap<>(shardCount, 1);
+        for (String each : ShardingRuleFixture.getDataSourceNames(shardCount)) {
+            result.put(each, getURL(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Create data sources with tables of each shard and distribute rows to them.
+     *
+     * @param shardCount count of shards
+     * @param rowCount total count of order rows
+     * @return data source map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, DataSource> createDataSources(final int shardCount, final int rowCount) throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(shardCount, 1);
+        for (int i = 0; i < shardCount; i++) {
+            String dataSourceName = "ds_" + i;
+            BasicDataSource dataSource = new BasicDataSource();
+            dataSource.setDriverClassName("org.h2.Driver");
+            dataSource.setUrl(getURL(dataSourceName));
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            dataSource.setMaxTotal(16);
+            createTables(dataSource, i);
+            result.put(dataSourceName, dataSource);
+        }
+        insertRows(result, shardCount, rowCount);
+        return result;
+    }
+    
+    private static void createTables(final DataSource dataSource, final int shard) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", shard));
+            statement.execute(String.format("DROP TABLE IF EXISTS t_order_item_%d", shard));
+            statement.execute(String.format("CREATE TABLE t_order_%d (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", shard));
+            statement.execute(String.format("CREATE TABLE t_order_item_%d (item_id INT NOT NULL, order_id INT NOT NULL, user_id INT NOT NULL, "
+                    + "status VARCHAR(45) NULL, creation_date DATE, PRIMARY KEY (item_id))", shard));
+        }
+    }
+    
+    private static void insertRows(final Map<String, DataSource> dataSourceMap, final int shardCount, final int rowCount) throws SQLException {
+        for (int orderId = 1; orderId <= rowCount; orderId++) {
+            int userId = orderId % 1024;
+            int shard = userId % shardCount;
+            try (
+                    Connection connection = dataSourceMap.get("ds_" + shard).getConnection();
+                    PreparedStatement orderStatement = connection.prepareStatement(String.format("INSERT INTO t_order_%d VALUES (?, ?, 'init')", shard));
+                    PreparedStatement itemStatement = connection.prepareStatement(String.format("INSERT INTO t_order_item_%d VALUES (?, ?, ?, 'init', '2017-08-08')", shard))) {
+                orderStatement.setInt(1, orderId);
+                orderStatement.setInt(2, userId);
+                orderStatement.executeUpdate();
+                itemStatement.setInt(1, orderId);
+                itemStatement.setInt(2, orderId);
+                itemStatement.setInt(3, userId);
+                itemStatement.executeUpdate();
+            }
+        }
+    }
+}
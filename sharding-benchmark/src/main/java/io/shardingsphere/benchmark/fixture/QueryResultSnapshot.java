@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of query result, which can be replayed without accessing database.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class QueryResultSnapshot {
+    
+    private final List<String> columnLabels;
+    
+    private final List<Integer> columnTypes;
+    
+    private final List<Object[]> rows;
+    
+    /**
+     * Load snapshot from result set.
+     *
+     * @param resultSet result set
+     * @return snapshot of query result
+     * @throws SQLException SQL exception
+     */
+    public static QueryResultSnapshot load(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> columnLabels = new ArrayList<>(columnCount);
+        List<Integer> columnTypes = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnLabels.add(metaData.getColumnLabel(i));
+            columnTypes.add(metaData.getColumnType(i));
+        }
+        List<Object[]> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = resultSet.getObject(i + 1);
+            }
+            rows.add(row);
+        }
+        return new QueryResultSnapshot(columnLabels, columnTypes, rows);
+    }
+    
+    /**
+     * Replay snapshot as query result.
+     *
+     * @return query result positioned before first row
+     */
+    public QueryResult replay() {
+        return new ReplayQueryResult(this);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Query result which replays rows of snapshot.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ReplayQueryResult implements QueryResult {
+    
+    private final QueryResultSnapshot snapshot;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() {
+        return ++currentRowIndex < snapshot.getRows().size();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return snapshot.getColumnLabels().size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return snapshot.getColumnLabels().get(columnIndex - 1);
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return snapshot.getColumnTypes().get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = snapshot.getRows().get(currentRowIndex)[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getValue(findColumnIndex(columnLabel), type);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private int findColumnIndex(final String columnLabel) throws SQLException {
+        int result = snapshot.getColumnLabels().indexOf(columnLabel);
+        if (result < 0) {
+            throw new SQLException(String.format("Can not find column label '%s'", columnLabel));
+        }
+        return result + 1;
+    }
+}
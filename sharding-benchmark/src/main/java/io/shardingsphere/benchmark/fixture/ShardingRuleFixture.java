@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding rule fixture for benchmarks.
+ *
+ * <p>
+ * Table {@code t_order} and its binding table {@code t_order_item} are sharded by {@code user_id},
+ * shard {@code N} is actual table {@code t_order_N} in data source {@code ds_N}.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRuleFixture {
+    
+    public static final String[] ORDER_COLUMNS = {"order_id", "user_id", "status"};
+    
+    public static final String[] ORDER_ITEM_COLUMNS = {"item_id", "order_id", "user_id", "status", "creation_date"};
+    
+    /**
+     * Get data source names.
+     *
+     * @param shardCount count of shards
+     * @return data source names
+     */
+    public static List<String> getDataSourceNames(final int shardCount) {
+        List<String> result = new LinkedList<>();
+        for (int i = 0; i < shardCount; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule configuration.
+     *
+     * @param shardCount count of shards
+     * @return sharding rule configuration
+     */
+    public static ShardingRuleConfiguration createShardingRuleConfiguration(final int shardCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", shardCount));
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", shardCount));
+        result.getBindingTableGroups().add("t_order, t_order_item");
+        result.setDefaultDataSourceName("ds_0");
+        return result;
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final int shardCount) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        StringBuilder actualDataNodes = new StringBuilder();
+        for (int i = 0; i < shardCount; i++) {
+            if (i > 0) {
+                actualDataNodes.append(',');
+            }
+            actualDataNodes.append("ds_").append(i).append('.').append(logicTable).append('_').append(i);
+        }
+        result.setActualDataNodes(actualDataNodes.toString());
+        result.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + shardCount + "}"));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", logicTable + "_${user_id % " + shardCount + "}"));
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param shardCount count of shards
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int shardCount) {
+        return new ShardingRule(createShardingRuleConfiguration(shardCount), getDataSourceNames(shardCount));
+    }
+    
+    /**
+     * Create sharding table meta data.
+     *
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", createTableMetaData(ORDER_COLUMNS));
+        tableMetaDataMap.put("t_order_item", createTableMetaData(ORDER_ITEM_COLUMNS));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+    
+    private static TableMetaData createTableMetaData(final String... columnNames) {
+        List<ColumnMetaData> columnMetaData = new LinkedList<>();
+        for (String each : columnNames) {
+            columnMetaData.add(new ColumnMetaData(each, "varchar", columnNames[0].equals(each)));
+        }
+        return new TableMetaData(columnMetaData);
+    }
+}
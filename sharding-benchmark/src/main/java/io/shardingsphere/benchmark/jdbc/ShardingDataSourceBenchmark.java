@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.jdbc;
+
+import io.shardingsphere.benchmark.fixture.H2DataSourceFixture;
+import io.shardingsphere.benchmark.fixture.SQLCaseFixture;
+import io.shardingsphere.benchmark.fixture.ShardingRuleFixture;
+import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end benchmark of sharding data source against embedded H2 shards.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardingDataSourceBenchmark {
+    
+    private static final int ROW_COUNT = 10240;
+    
+    @Param({"1", "16", "256"})
+    private int shardCount;
+    
+    @Param({"select_equal_with_single_table", "select_order_by_with_star_no_table_alias", "select_group_by_with_order_by_desc", "select_count_with_binding_tables_with_join", "update_with_alias"})
+    private String sqlCaseId;
+    
+    private ShardingDataSource shardingDataSource;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    /**
+     * Set up benchmark.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        shardingDataSource = new ShardingDataSource(H2DataSourceFixture.createDataSources(shardCount, ROW_COUNT), ShardingRuleFixture.createShardingRule(shardCount));
+        sql = SQLCaseFixture.getSQL(sqlCaseId);
+        parameters = SQLCaseFixture.getParameters(sql);
+    }
+    
+    /**
+     * Tear down benchmark.
+     */
+    @TearDown
+    public void tearDown() {
+        shardingDataSource.close();
+    }
+    
+    /**
+     * Execute SQL through prepared statement and consume all results.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void execute(final Blackhole blackhole) throws SQLException {
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            if (!preparedStatement.execute()) {
+                blackhole.consume(preparedStatement.getUpdateCount());
+                return;
+            }
+            try (ResultSet resultSet = preparedStatement.getResultSet()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columnCount; i++) {
+                        blackhole.consume(resultSet.getObject(i));
+                    }
+                }
+            }
+        }
+    }
+}
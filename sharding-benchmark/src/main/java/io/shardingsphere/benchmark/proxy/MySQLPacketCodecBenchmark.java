@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of MySQL packet codec of proxy.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MySQLPacketCodecBenchmark {
+    
+    @Param({"1", "16", "64"})
+    private int columnCount;
+    
+    private EmbeddedChannel channel;
+    
+    private TextResultSetRowPacket rowPacket;
+    
+    private byte[] queryPacketBytes;
+    
+    /**
+     * Set up benchmark.
+     */
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLPacketCodec());
+        List<Object> data = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            data.add("value_" + i);
+        }
+        rowPacket = new TextResultSetRowPacket(1, data);
+        byte[] sql = "SELECT * FROM t_order WHERE user_id = 1 AND order_id = 1".getBytes();
+        ByteBuf queryPacket = Unpooled.buffer();
+        queryPacket.writeMediumLE(sql.length + 1);
+        queryPacket.writeByte(0);
+        queryPacket.writeByte(0x03);
+        queryPacket.writeBytes(sql);
+        queryPacketBytes = new byte[queryPacket.readableBytes()];
+        queryPacket.readBytes(queryPacketBytes);
+    }
+    
+    /**
+     * Tear down benchmark.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Encode text result set row packet.
+     *
+     * @return readable bytes of encoded packet
+     */
+    @Benchmark
+    public int encodeTextResultSetRow() {
+        channel.writeOutbound(rowPacket);
+        ByteBuf encoded = channel.readOutbound();
+        int result = encoded.readableBytes();
+        encoded.release();
+        return result;
+    }
+    
+    /**
+     * Decode query command packet.
+     *
+     * @return readable bytes of decoded payload
+     */
+    @Benchmark
+    public int decodeQuery() {
+        channel.writeInbound(Unpooled.wrappedBuffer(queryPacketBytes));
+        ByteBuf decoded = channel.readInbound();
+        int result = decoded.readableBytes();
+        decoded.release();
+        return result;
+    }
+}
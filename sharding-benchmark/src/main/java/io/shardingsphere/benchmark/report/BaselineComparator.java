@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.report;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Comparator of benchmark results with baseline.
+ *
+ * <p>A benchmark regresses if its score or allocated bytes per operation is worse than baseline by more than threshold percentage.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class BaselineComparator {
+    
+    private final Map<String, BenchmarkResult> baselineResults;
+    
+    private final Map<String, BenchmarkResult> currentResults;
+    
+    private final double thresholdPercentage;
+    
+    /**
+     * Print comparison report.
+     *
+     * @param out print stream
+     * @return count of regressions
+     */
+    public int report(final PrintStream out) {
+        int result = 0;
+        out.println(String.format("%-100s %16s %16s %9s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change", "Baseline B/op", "Current B/op", "Change"));
+        for (Entry<String, BenchmarkResult> entry : currentResults.entrySet()) {
+            BenchmarkResult current = entry.getValue();
+            BenchmarkResult baseline = baselineResults.get(entry.getKey());
+            if (null == baseline) {
+                out.println(String.format("%-100s %16s %13.3f %-2s %9s", entry.getKey(), "-", current.getScore(), current.getScoreUnit(), "new"));
+                continue;
+            }
+            double scoreChange = getChangePercentage(baseline.getScore(), current.getScore());
+            double allocationChange = getChangePercentage(baseline.getAllocatedBytesPerOperation(), current.getAllocatedBytesPerOperation());
+            boolean regressed = isRegressed(current.isLowerBetter() ? scoreChange : -scoreChange) || isRegressed(allocationChange);
+            if (regressed) {
+                result++;
+            }
+            out.println(String.format("%-100s %13.3f %-2s %13.3f %-2s %+8.1f%% %14.1f %14.1f %+8.1f%%%s", entry.getKey(), baseline.getScore(), baseline.getScoreUnit(), current.getScore(),
+                    current.getScoreUnit(), scoreChange, baseline.getAllocatedBytesPerOperation(), current.getAllocatedBytesPerOperation(), allocationChange, regressed ? " REGRESSED" : ""));
+        }
+        out.println(String.format("%d regression(s) over %.1f%% threshold.", result, thresholdPercentage));
+        return result;
+    }
+    
+    private double getChangePercentage(final double baseline, final double current) {
+        if (Double.isNaN(baseline) || Double.isNaN(current) || 0 == baseline) {
+            return 0;
+        }
+        return (current - baseline) / baseline * 100;
+    }
+    
+    private boolean isRegressed(final double changePercentage) {
+        return changePercentage > thresholdPercentage;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.report;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Result of one benchmark with its parameters, loaded from JMH JSON result.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class BenchmarkResult {
+    
+    private static final String ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+    
+    private final String key;
+    
+    private final String mode;
+    
+    private final double score;
+    
+    private final String scoreUnit;
+    
+    private final double allocatedBytesPerOperation;
+    
+    /**
+     * Judge lower score is better or not.
+     *
+     * @return lower score is better or not
+     */
+    public boolean isLowerBetter() {
+        return !"thrpt".equals(mode);
+    }
+    
+    /**
+     * Load benchmark results from JMH JSON result file.
+     *
+     * @param file JMH JSON result file
+     * @return benchmark results, key is benchmark name with parameters
+     * @throws IOException IO exception
+     */
+    public static Map<String, BenchmarkResult> load(final File file) throws IOException {
+        Map<String, BenchmarkResult> result = new LinkedHashMap<>();
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            JsonArray benchmarks = new JsonParser().parse(reader).getAsJsonArray();
+            for (JsonElement each : benchmarks) {
+                BenchmarkResult benchmarkResult = parse(each.getAsJsonObject());
+                result.put(benchmarkResult.getKey(), benchmarkResult);
+            }
+        }
+        return result;
+    }
+    
+    private static BenchmarkResult parse(final JsonObject benchmark) {
+        JsonObject primaryMetric = benchmark.getAsJsonObject("primaryMetric");
+        JsonObject secondaryMetrics = benchmark.getAsJsonObject("secondaryMetrics");
+        double allocatedBytesPerOperation = null != secondaryMetrics && secondaryMetrics.has(ALLOCATION_METRIC)
+                ? secondaryMetrics.getAsJsonObject(ALLOCATION_METRIC).get("score").getAsDouble() : Double.NaN;
+        return new BenchmarkResult(getKey(benchmark), benchmark.get("mode").getAsString(),
+                primaryMetric.get("score").getAsDouble(), primaryMetric.get("scoreUnit").getAsString(), allocatedBytesPerOperation);
+    }
+    
+    private static String getKey(final JsonObject benchmark) {
+        StringBuilder result = new StringBuilder(benchmark.get("benchmark").getAsString());
+        if (!benchmark.has("params")) {
+            return result.toString();
+        }
+        Map<String, String> params = new TreeMap<>();
+        for (Entry<String, JsonElement> entry : benchmark.getAsJsonObject("params").entrySet()) {
+            params.put(entry.getKey(), entry.getValue().getAsString());
+        }
+        for (Entry<String, String> entry : params.entrySet()) {
+            result.append(':').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return result.toString();
+    }
+}
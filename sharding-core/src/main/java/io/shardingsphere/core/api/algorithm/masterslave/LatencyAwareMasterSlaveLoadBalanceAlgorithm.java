@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware slave database load-balance algorithm.
+ * 
+ * <p>
+ * Select slave data source with the lowest cost, which is exponentially weighted moving average of latency multiplied by in-flight executions plus one.
+ * Latency of slave data sources without any latency sampled is seeded with mean latency of sampled slave data sources,
+ * so that they are measured without taking all executions before their first sample.
+ * Slave data source is selected randomly if execution statistics are not available.
+ * </p>
+ *
+ * @author agent
+ */
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithm implements StatisticsBasedMasterSlaveLoadBalanceAlgorithm {
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        return slaveDataSourceNames.get(ThreadLocalRandom.current().nextInt(slaveDataSourceNames.size()));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames, final DataSourceStatisticsRegistry statisticsRegistry) {
+        int size = slaveDataSourceNames.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        double seedLatencyNanos = getSeedLatencyNanos(slaveDataSourceNames, statisticsRegistry);
+        String result = null;
+        double lowestCost = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            String each = slaveDataSourceNames.get((offset + i) % size);
+            DataSourceStatistics statistics = statisticsRegistry.getStatistics(each);
+            double latencyNanos = 0L == statistics.getEwmaLatencyNanos() ? seedLatencyNanos : statistics.getEwmaLatencyNanos();
+            double cost = latencyNanos * (statistics.getActiveCount() + 1);
+            if (cost < lowestCost) {
+                lowestCost = cost;
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private double getSeedLatencyNanos(final List<String> slaveDataSourceNames, final DataSourceStatisticsRegistry statisticsRegistry) {
+        long totalLatencyNanos = 0L;
+        int sampledCount = 0;
+        for (String each : slaveDataSourceNames) {
+            long latencyNanos = statisticsRegistry.getStatistics(each).getEwmaLatencyNanos();
+            if (latencyNanos > 0L) {
+                totalLatencyNanos += latencyNanos;
+                sampledCount++;
+            }
+        }
+        return 0 == sampledCount ? 1D : (double) totalLatencyNanos / sampledCount;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least active slave database load-balance algorithm.
+ * 
+ * <p>
+ * Select slave data source with the least in-flight executions, ties are broken from a random start position.
+ * Slave data source is selected randomly if execution statistics are not available.
+ * </p>
+ *
+ * @author agent
+ */
+public final class LeastActiveMasterSlaveLoadBalanceAlgorithm implements StatisticsBasedMasterSlaveLoadBalanceAlgorithm {
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        return slaveDataSourceNames.get(ThreadLocalRandom.current().nextInt(slaveDataSourceNames.size()));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames, final DataSourceStatisticsRegistry statisticsRegistry) {
+        int size = slaveDataSourceNames.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+        String result = null;
+        int leastActiveCount = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            String each = slaveDataSourceNames.get((offset + i) % size);
+            int activeCount = statisticsRegistry.getStatistics(each).getActiveCount();
+            if (activeCount < leastActiveCount) {
+                leastActiveCount = activeCount;
+                result = each;
+            }
+        }
+        return result;
+    }
+}
@@ -20,6 +20,8 @@ package io.shardingsphere.core.api.algorithm.masterslave;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+
 /**
  * Master-slave database load-balance algorithm type.
  *
@@ -30,7 +32,10 @@ import lombok.RequiredArgsConstructor;
 public enum MasterSlaveLoadBalanceAlgorithmType {
     
     ROUND_ROBIN(new RoundRobinMasterSlaveLoadBalanceAlgorithm()),
-    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm());
+    RANDOM(new RandomMasterSlaveLoadBalanceAlgorithm()),
+    LEAST_ACTIVE(new LeastActiveMasterSlaveLoadBalanceAlgorithm()),
+    LATENCY_AWARE(new LatencyAwareMasterSlaveLoadBalanceAlgorithm()),
+    WEIGHTED(new WeightedMasterSlaveLoadBalanceAlgorithm(Collections.<String, Integer>emptyMap()));
     
     private final MasterSlaveLoadBalanceAlgorithm algorithm;
     
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+
+import java.util.List;
+
+/**
+ * Master-slave database load-balance algorithm based on execution statistics of data sources.
+ *
+ * <p>Statistics are scoped to the sharding context which executes the query, data sources are selected without statistics if no sharding context available.</p>
+ *
+ * @author agent
+ */
+public interface StatisticsBasedMasterSlaveLoadBalanceAlgorithm extends MasterSlaveLoadBalanceAlgorithm {
+    
+    /**
+     * Get data source by execution statistics.
+     * 
+     * @param name master-slave logic data source name
+     * @param masterDataSourceName name of master data sources
+     * @param slaveDataSourceNames names of slave data sources
+     * @param statisticsRegistry statistics registry of data sources
+     * @return name of selected data source
+     */
+    String getDataSource(String name, String masterDataSourceName, List<String> slaveDataSourceNames, DataSourceStatisticsRegistry statisticsRegistry);
+}
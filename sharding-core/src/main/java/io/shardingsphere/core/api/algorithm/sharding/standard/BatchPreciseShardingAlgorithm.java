@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Precise sharding algorithm which shards a whole collection of values in one call.
+ * 
+ * @author agent
+ * 
+ * @param <T> class type of sharding value
+ */
+public interface BatchPreciseShardingAlgorithm<T extends Comparable<?>> extends PreciseShardingAlgorithm<T> {
+    
+    /**
+     * Sharding values in batch.
+     * 
+     * @param availableTargetNames available data sources or tables's names
+     * @param shardingValue sharding values
+     * @return map of data source or table's name and sharding values routed to it, values without target are absent
+     */
+    Map<String, Collection<T>> doBatchSharding(Collection<String> availableTargetNames, ListShardingValue<T> shardingValue);
+}
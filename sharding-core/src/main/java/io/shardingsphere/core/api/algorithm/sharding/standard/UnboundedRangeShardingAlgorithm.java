@@ -0,0 +1,31 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+/**
+ * Range sharding algorithm which can shard ranges without lower or upper bound.
+ * 
+ * <p>Ranges of {@code <}, {@code <=}, {@code >} and {@code >=} without opposite bound are delivered only to algorithms implementing this interface,
+ * other range sharding algorithms route them to all available targets.</p>
+ * 
+ * @author agent
+ * 
+ * @param <T> class type of sharding value
+ */
+public interface UnboundedRangeShardingAlgorithm<T extends Comparable<?>> extends RangeShardingAlgorithm<T> {
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Calendar;
+
+/**
+ * Interval unit of time based sharding.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public enum IntervalUnit {
+    
+    /**
+     * One target per day, suffix is formatted as {@code yyyyMMdd}.
+     */
+    DAY(Calendar.DAY_OF_MONTH),
+    
+    /**
+     * One target per month, suffix is formatted as {@code yyyyMM}.
+     */
+    MONTH(Calendar.MONTH),
+    
+    /**
+     * One target per year, suffix is formatted as {@code yyyy}.
+     */
+    YEAR(Calendar.YEAR);
+    
+    private final int calendarField;
+}
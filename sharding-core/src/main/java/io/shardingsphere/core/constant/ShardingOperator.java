@@ -31,7 +31,11 @@ public enum ShardingOperator {
     
     EQUAL("="), 
     BETWEEN("BETWEEN"), 
-    IN("IN");
+    IN("IN"), 
+    LESS_THAN("<"), 
+    LESS_THAN_OR_EQUAL("<="), 
+    GREATER_THAN(">"), 
+    GREATER_THAN_OR_EQUAL(">=");
     
     private final String expression;
 }
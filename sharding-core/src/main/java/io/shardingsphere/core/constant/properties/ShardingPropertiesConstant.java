@@ -60,11 +60,127 @@ public enum ShardingPropertiesConstant {
      * <p>
      * Execute SQL Statement and PrepareStatement will use this thread pool.
      * One sharding data source will use a independent thread pool, it does not share thread pool even different data source in same JVM.
-     * Default: infinite.
+     * Default: infinite, worker threads are only bounded by executor max concurrency if it is configured.
      * </p>
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Max concurrent connections held by queries of all data sources.
+     *
+     * <p>
+     * Query waits in queue if permits for its connections can not be acquired, see executor max queue size.
+     * Default: 0, means not limited.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY("executor.max.concurrency", String.valueOf(0), int.class),
+    
+    /**
+     * Max concurrent connections held by queries of each data source.
+     *
+     * <p>
+     * Limit concurrency of each data source, so a slow data source only degrades queries which touch it.
+     * Default: 0, means not limited.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("executor.max.concurrency.per.data.source", String.valueOf(0), int.class),
+    
+    /**
+     * Max queries waiting for permits of each saturated bulkhead.
+     *
+     * <p>
+     * Waiting queries acquire permits in arrival order on caller thread, query is rejected at once if queue is full.
+     * Default: 0, means query is rejected at once if bulkhead is saturated.
+     * </p>
+     */
+    EXECUTOR_MAX_QUEUE_SIZE("executor.max.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max milliseconds of query waiting for permits of each saturated bulkhead.
+     *
+     * <p>
+     * Query is rejected if permits can not be acquired in time.
+     * Default: 1000 milliseconds.
+     * </p>
+     */
+    EXECUTOR_MAX_QUEUE_WAIT_MILLISECONDS("executor.max.queue.wait.milliseconds", String.valueOf(1000), long.class),
+    
+    /**
+     * Enable circuit breaker of each data source or not.
+     *
+     * <p>
+     * Executions on a data source whose circuit breaker is open fail fast without acquiring connections.
+     * Default: false.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_ENABLED("executor.circuit.breaker.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Percentage of failed executions in window to open circuit breaker.
+     *
+     * <p>
+     * Default: 50.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD("executor.circuit.breaker.failure.rate.threshold", String.valueOf(50), int.class),
+    
+    /**
+     * Executions slower than this are considered as slow calls.
+     *
+     * <p>
+     * Default: 0, means latency does not open circuit breaker.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_SLOW_CALL_MILLISECONDS("executor.circuit.breaker.slow.call.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Percentage of slow executions in window to open circuit breaker.
+     *
+     * <p>
+     * For example, 10 means circuit breaker opens when 90th percentile latency exceeds slow call threshold.
+     * Default: 50.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD("executor.circuit.breaker.slow.call.rate.threshold", String.valueOf(50), int.class),
+    
+    /**
+     * Min executions in window before failure rate and slow call rate are evaluated.
+     *
+     * <p>
+     * Default: 20.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_MINIMUM_CALLS("executor.circuit.breaker.minimum.calls", String.valueOf(20), int.class),
+    
+    /**
+     * Length of window to count executions.
+     *
+     * <p>
+     * Default: 10000 milliseconds.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_WINDOW_MILLISECONDS("executor.circuit.breaker.window.milliseconds", String.valueOf(10000), long.class),
+    
+    /**
+     * Time to keep circuit breaker open before a probe execution is allowed.
+     *
+     * <p>
+     * Default: 5000 milliseconds.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_OPEN_MILLISECONDS("executor.circuit.breaker.open.milliseconds", String.valueOf(5000), long.class),
+    
+    /**
+     * Upper bound of adaptive concurrency limit of each data source.
+     *
+     * <p>
+     * Limit increases additively on fast successful executions and decreases multiplicatively on failed or slow executions,
+     * executions over limit are rejected immediately.
+     * Default: 0, means concurrency is not limited adaptively.
+     * </p>
+     */
+    EXECUTOR_CIRCUIT_BREAKER_MAX_CONCURRENCY_LIMIT("executor.circuit.breaker.max.concurrency.limit", String.valueOf(0), int.class),
+    
     /**
      * Connection mode of connected to databases.
      *
@@ -78,19 +194,96 @@ public enum ShardingPropertiesConstant {
      * CONNECTION_STRICTLY:
      * harding-Sphere will release connections after get the overall rows from the ResultSet.
      * Meanwhile, the cost of the memory will be increased.
+     * In this mode connection mode is decided for each data source of each query,
+     * routed units which fit in available connections still use stream ResultSet on separate connections.
+     * Available connections start from max connections size per query, and shrink when data source is saturated by in-flight executions.
+     * Batch executions are partitioned to available connections in the same way in both modes.
      * </p>
      */
     CONNECTION_MODE("connection.mode", ConnectionMode.MEMORY_STRICTLY.name(), String.class),
     
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable or Disable read your writes consistency for master-slave.
+     *
+     * <p>
+     * Capture written replication position of master data source after commit,
+     * and route later reads in same session to slave data sources which replayed to the position, master data source is used if no slave caught up.
+     * Disable this property will route all reads to master data source after any write in same session.
+     * Only MySQL binlog position is supported.
+     * Default: false
+     * </p>
+     */
+    MASTER_SLAVE_READ_YOUR_WRITES_ENABLED("master.slave.read.your.writes.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Interval to poll replayed replication positions of slave data sources for read your writes consistency.
+     *
+     * <p>
+     * Default: 200 milliseconds.
+     * </p>
+     */
+    MASTER_SLAVE_REPLICATION_POLL_INTERVAL_MILLISECONDS("master.slave.replication.poll.interval.milliseconds", String.valueOf(200), long.class),
+    
+    /**
+     * Enable or Disable estimating COUNT(DISTINCT) with HyperLogLog sketch.
+     *
+     * <p>
+     * Estimation uses fixed memory for each group with about 0.81% standard error, SUM(DISTINCT) and AVG(DISTINCT) are always exact.
+     * Default: false
+     * </p>
+     */
+    AGGREGATION_DISTINCT_APPROXIMATE_ENABLED("aggregation.distinct.approximate.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of distinct values held in memory for all groups of exact distinct aggregations in a query.
+     *
+     * <p>
+     * Largest distinct values of groups are sorted and spilled to temporary files once it is reached.
+     * Default: 100000
+     * </p>
+     */
+    AGGREGATION_DISTINCT_MAX_IN_MEMORY_SIZE("aggregation.distinct.max.in.memory.size", String.valueOf(100000), int.class),
+    
+    /**
+     * Draining seconds of data sources retired by renewed orchestration configuration.
+     *
+     * <p>
+     * Retired data sources are closed after draining, so that in-flight statements can finish on them.
+     * Default: 30
+     * </p>
+     */
+    ORCHESTRATION_RETIRED_DATA_SOURCE_DRAINING_SECONDS("orchestration.retired.datasource.draining.seconds", String.valueOf(30), long.class),
+    
     PROXY_TRANSACTION_ENABLED("proxy.transaction.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
     PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", String.valueOf(Boolean.FALSE), boolean.class),
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
+    
+    /**
+     * Idle timeout milliseconds of backend connections kept by proxy session.
+     *
+     * <p>
+     * Backend connections are kept by session across commands and released after session idle for this timeout,
+     * 0 means release backend connections after each command.
+     * Default: 10000
+     * </p>
+     */
+    PROXY_BACKEND_CONNECTION_IDLE_TIMEOUT_MILLISECONDS("proxy.backend.connection.idle.timeout.milliseconds", String.valueOf(10000), long.class),
+    
+    /**
+     * Port of HTTP server which exports metrics in Prometheus text format.
+     *
+     * <p>
+     * Metrics are served on path {@code /metrics}, 0 means do not start HTTP server.
+     * Default: 0
+     * </p>
+     */
+    PROXY_METRICS_PORT("proxy.metrics.port", String.valueOf(0), int.class);
     
     private final String key;
     
@@ -18,6 +18,8 @@
 package io.shardingsphere.core.executor;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -28,13 +30,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Sharding execute engine.
@@ -45,14 +54,37 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private static final ScheduledExecutorService DEADLINE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Deadline"));
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
     private final ListeningExecutorService executorService;
     
     public ShardingExecuteEngine(final int executorSize) {
-        executorService = MoreExecutors.listeningDecorator(
-                0 == executorSize ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build()));
+        threadPoolExecutor = (ThreadPoolExecutor) (0 == executorSize
+                ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build()));
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
+    /**
+     * Get count of threads which are executing tasks.
+     *
+     * @return count of threads which are executing tasks
+     */
+    public int getActiveThreadCount() {
+        return threadPoolExecutor.getActiveCount();
+    }
+    
+    /**
+     * Get count of tasks which are waiting for threads.
+     *
+     * @return count of tasks which are waiting for threads
+     */
+    public int getQueuedTaskCount() {
+        return threadPoolExecutor.getQueue().size();
+    }
+    
     /**
      * Execute.
      *
@@ -190,6 +222,99 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Execute for group asynchronously.
+     *
+     * <p>
+     * All groups are executed by executor threads, caller thread is not blocked.
+     * When any group fails or deadline is exceeded, outstanding groups are cancelled:
+     * groups not started are never executed, and cancel callback is called for groups already started instead of interrupting their threads.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param cancelCallback sharding cancel callback
+     * @param timeoutMilliseconds timeout in milliseconds of whole execution, no deadline if not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return futures of execute result in order of input groups
+     */
+    public <I, O> List<ListenableFuture<Collection<O>>> asyncGroupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups,
+                                                                         final ShardingGroupExecuteCallback<I, O> callback, final ShardingGroupCancelCallback<I> cancelCallback, final long timeoutMilliseconds) {
+        if (inputGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> futures = new LinkedHashMap<>(inputGroups.size(), 1);
+        final Map<ShardingExecuteGroup<I>, AtomicBoolean> startedFlags = new LinkedHashMap<>(inputGroups.size(), 1);
+        for (ShardingExecuteGroup<I> each : inputGroups) {
+            AtomicBoolean started = new AtomicBoolean();
+            startedFlags.put(each, started);
+            futures.put(asyncGroupExecute(each, callback, started), each);
+        }
+        Runnable cancelTask = new Runnable() {
+            
+            @Override
+            public void run() {
+                cancel(futures, startedFlags, cancelCallback);
+            }
+        };
+        cancelOnFailure(futures.keySet(), cancelTask);
+        if (timeoutMilliseconds > 0L) {
+            cancelOnDeadline(futures.keySet(), cancelTask, timeoutMilliseconds);
+        }
+        return new ArrayList<>(futures.keySet());
+    }
+    
+    private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback, final AtomicBoolean started) {
+        return executorService.submit(new Callable<Collection<O>>() {
+            
+            @Override
+            public Collection<O> call() throws SQLException {
+                started.set(true);
+                return callback.execute(inputGroup.getInputs());
+            }
+        });
+    }
+    
+    private <O> void cancelOnFailure(final Collection<ListenableFuture<O>> futures, final Runnable cancelTask) {
+        for (ListenableFuture<O> each : futures) {
+            Futures.addCallback(each, new FutureCallback<O>() {
+                
+                @Override
+                public void onSuccess(final O result) {
+                }
+                
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    cancelTask.run();
+                }
+            }, MoreExecutors.directExecutor());
+        }
+    }
+    
+    private <O> void cancelOnDeadline(final Collection<ListenableFuture<O>> futures, final Runnable cancelTask, final long timeoutMilliseconds) {
+        final ScheduledFuture<?> deadlineFuture = DEADLINE_EXECUTOR.schedule(cancelTask, timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        Futures.successfulAsList(futures).addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                deadlineFuture.cancel(false);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
+    private <I, O> void cancel(final Map<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> futures,
+                               final Map<ShardingExecuteGroup<I>, AtomicBoolean> startedFlags, final ShardingGroupCancelCallback<I> cancelCallback) {
+        for (Entry<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> entry : futures.entrySet()) {
+            if (entry.getKey().isDone()) {
+                continue;
+            }
+            if (entry.getKey().cancel(false) && startedFlags.get(entry.getValue()).get()) {
+                cancelCallback.cancel(entry.getValue().getInputs());
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception ex) throws SQLException {
         if (ex.getCause() instanceof SQLException) {
             throw (SQLException) ex.getCause();
@@ -17,16 +17,31 @@
 
 package io.shardingsphere.core.executor.sql.execute;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.ShardingGroupCancelCallback;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.breaker.CircuitBreakerSQLExecuteCallback;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.executor.sql.execute.statistics.StatisticsSQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
+import io.shardingsphere.core.metrics.SQLStage;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SQL execute template.
@@ -39,8 +54,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class SQLExecuteTemplate {
     
+    private static final ShardingGroupCancelCallback<SQLExecuteUnit> STATEMENT_CANCEL_CALLBACK = new ShardingGroupCancelCallback<SQLExecuteUnit>() {
+        
+        @Override
+        public void cancel(final Collection<SQLExecuteUnit> inputs) {
+            for (SQLExecuteUnit each : inputs) {
+                try {
+                    each.getStatement().cancel();
+                } catch (final SQLException ignore) {
+                }
+            }
+        }
+    };
+    
     private final ShardingExecuteEngine executeEngine;
     
+    private final SQLExecuteCircuitBreaker circuitBreaker;
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine) {
+        this(executeEngine, null, null);
+    }
+    
     /**
      * Execute.
      *
@@ -67,11 +103,14 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> execute(final Collection<? extends SQLExecuteUnit> sqlExecuteUnits,
                                final SQLExecuteCallback<T> firstExecuteCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        long startNanos = System.nanoTime();
         try {
-            return executeEngine.execute((Collection) sqlExecuteUnits, firstExecuteCallback, callback);
+            return executeEngine.execute((Collection) sqlExecuteUnits, decorate(firstExecuteCallback), decorate(callback));
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            SQLStage.EXECUTE.record(startNanos);
         }
     }
     
@@ -101,11 +140,137 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends SQLExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            return executeEngine.groupExecute((Collection) sqlExecuteGroups, decorate(firstCallback), decorate(callback));
+        } catch (final SQLException ex) {
+            ExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        } finally {
+            SQLStage.EXECUTE.record(startNanos);
+        }
+    }
+    
+    /**
+     * Execute for query with deadline and cancellation.
+     *
+     * @param sqlExecuteUnits SQL execute units
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeCancellable(final Collection<? extends SQLExecuteUnit> sqlExecuteUnits, final SQLExecuteCallback<T> callback) throws SQLException {
+        if (sqlExecuteUnits.size() <= 1) {
+            return execute(sqlExecuteUnits, callback);
+        }
+        Collection<ShardingExecuteGroup<? extends SQLExecuteUnit>> sqlExecuteGroups = new ArrayList<>(sqlExecuteUnits.size());
+        for (SQLExecuteUnit each : sqlExecuteUnits) {
+            sqlExecuteGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(each)));
+        }
+        return executeGroupCancellable(sqlExecuteGroups, callback);
+    }
+    
+    /**
+     * Execute group for query with deadline and cancellation.
+     *
+     * <p>
+     * Groups are awaited in completion order, so failure of any group is thrown without waiting for groups before it.
+     * Deadline is the longest query timeout of statements. When any group fails or deadline exceeds, statements still running are cancelled.
+     * Results are returned in order of groups, to keep order of rows merged without order by same as sequential execution.
+     * </p>
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeGroupCancellable(final Collection<ShardingExecuteGroup<? extends SQLExecuteUnit>> sqlExecuteGroups, final SQLExecuteCallback<T> callback) throws SQLException {
+        if (sqlExecuteGroups.size() <= 1) {
+            return executeGroup(sqlExecuteGroups, callback);
+        }
+        long startNanos = System.nanoTime();
         try {
-            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback);
+            return getResults(executeEngine.asyncGroupExecute((Collection) sqlExecuteGroups, decorate(callback), STATEMENT_CANCEL_CALLBACK, getQueryTimeoutMilliseconds(sqlExecuteGroups)));
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            SQLStage.EXECUTE.record(startNanos);
+        }
+    }
+    
+    private long getQueryTimeoutMilliseconds(final Collection<ShardingExecuteGroup<? extends SQLExecuteUnit>> sqlExecuteGroups) throws SQLException {
+        int result = 0;
+        for (ShardingExecuteGroup<? extends SQLExecuteUnit> each : sqlExecuteGroups) {
+            for (SQLExecuteUnit unit : each.getInputs()) {
+                result = Math.max(result, unit.getStatement().getQueryTimeout());
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(result);
+    }
+    
+    private <T> List<T> getResults(final List<ListenableFuture<Collection<T>>> futures) throws SQLException {
+        for (ListenableFuture<Collection<T>> each : Futures.inCompletionOrder(futures)) {
+            getResult(each, futures);
+        }
+        List<T> result = new LinkedList<>();
+        for (ListenableFuture<Collection<T>> each : futures) {
+            result.addAll(getResult(each, futures));
+        }
+        return result;
+    }
+    
+    private <T> Collection<T> getResult(final ListenableFuture<Collection<T>> future, final List<ListenableFuture<Collection<T>>> futures) throws SQLException {
+        try {
+            return future.get();
+        } catch (final CancellationException ex) {
+            throwFailureIfPresent(futures);
+            throw new SQLTimeoutException("Query execution exceeds deadline and is cancelled.");
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw getFailure(ex);
+        }
+    }
+    
+    private <T> void throwFailureIfPresent(final List<ListenableFuture<Collection<T>>> futures) throws SQLException {
+        for (ListenableFuture<Collection<T>> each : futures) {
+            if (!each.isDone() || each.isCancelled()) {
+                continue;
+            }
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            } catch (final ExecutionException ex) {
+                throw getFailure(ex);
+            }
+        }
+    }
+    
+    private SQLException getFailure(final ExecutionException ex) {
+        if (ex.getCause() instanceof SQLException) {
+            return (SQLException) ex.getCause();
+        }
+        throw new ShardingException(ex);
+    }
+    
+    private <T> SQLExecuteUnitCallback<T> decorate(final SQLExecuteCallback<T> callback) {
+        if (null == callback) {
+            return null;
+        }
+        SQLExecuteUnitCallback<T> result = callback;
+        if (null != statisticsRegistry) {
+            result = new StatisticsSQLExecuteCallback<>(statisticsRegistry, result);
+        }
+        if (null != circuitBreaker) {
+            result = new CircuitBreakerSQLExecuteCallback<>(circuitBreaker, result);
         }
+        return result;
     }
 }
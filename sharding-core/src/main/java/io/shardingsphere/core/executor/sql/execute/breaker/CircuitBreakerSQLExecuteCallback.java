@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.breaker;
+
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteUnitCallback;
+import io.shardingsphere.core.executor.sql.execute.breaker.DataSourceCircuitBreaker.Permit;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.Collection;
+
+/**
+ * SQL execute callback which executes under circuit breaker of data source.
+ *
+ * <p>It should wrap other callbacks, so rejected executions are not recorded in statistics of data source.
+ * Only timeouts, transient errors and connection errors are recorded as failures,
+ * other errors such as SQL syntax errors or constraint violations are responded by a healthy data source, and recorded as successes.</p>
+ *
+ * @author agent
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class CircuitBreakerSQLExecuteCallback<T> implements SQLExecuteUnitCallback<T> {
+    
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    
+    private final SQLExecuteCircuitBreaker circuitBreaker;
+    
+    private final SQLExecuteUnitCallback<T> sqlExecuteCallback;
+    
+    @Override
+    public T execute(final SQLExecuteUnit input) throws SQLException {
+        String dataSourceName = input.getRouteUnit().getDataSourceName();
+        Permit permit = circuitBreaker.acquire(dataSourceName);
+        long startNanos = System.nanoTime();
+        boolean success = true;
+        try {
+            return sqlExecuteCallback.execute(input);
+        } catch (final SQLException ex) {
+            success = !isDataSourceFailure(ex);
+            throw ex;
+        } finally {
+            circuitBreaker.release(dataSourceName, permit, success, System.nanoTime() - startNanos);
+        }
+    }
+    
+    @Override
+    public Collection<T> execute(final Collection<SQLExecuteUnit> inputs) throws SQLException {
+        if (inputs.isEmpty()) {
+            return sqlExecuteCallback.execute(inputs);
+        }
+        String dataSourceName = inputs.iterator().next().getRouteUnit().getDataSourceName();
+        Permit permit = circuitBreaker.acquire(dataSourceName);
+        long startNanos = System.nanoTime();
+        boolean success = true;
+        try {
+            return sqlExecuteCallback.execute(inputs);
+        } catch (final SQLException ex) {
+            success = !isDataSourceFailure(ex);
+            throw ex;
+        } finally {
+            circuitBreaker.release(dataSourceName, permit, success, (System.nanoTime() - startNanos) / inputs.size());
+        }
+    }
+    
+    private boolean isDataSourceFailure(final SQLException ex) {
+        return ex instanceof SQLTimeoutException || ex instanceof SQLTransientException || ex instanceof SQLNonTransientConnectionException
+                || null != ex.getSQLState() && ex.getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS);
+    }
+}
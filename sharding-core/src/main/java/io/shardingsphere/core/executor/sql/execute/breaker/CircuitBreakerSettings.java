@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.breaker;
+
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of data source circuit breakers.
+ *
+ * @author agent
+ */
+@AllArgsConstructor
+@Getter
+public final class CircuitBreakerSettings {
+    
+    private final int failureRateThreshold;
+    
+    private final long slowCallNanos;
+    
+    private final int slowCallRateThreshold;
+    
+    private final int minimumCalls;
+    
+    private final long windowNanos;
+    
+    private final long openNanos;
+    
+    private final int maxConcurrencyLimit;
+    
+    public CircuitBreakerSettings(final ShardingProperties shardingProperties) {
+        failureRateThreshold = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD);
+        slowCallNanos = TimeUnit.MILLISECONDS.toNanos(shardingProperties.<Long>getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_SLOW_CALL_MILLISECONDS));
+        slowCallRateThreshold = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_SLOW_CALL_RATE_THRESHOLD);
+        minimumCalls = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_MINIMUM_CALLS);
+        windowNanos = TimeUnit.MILLISECONDS.toNanos(shardingProperties.<Long>getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_WINDOW_MILLISECONDS));
+        openNanos = TimeUnit.MILLISECONDS.toNanos(shardingProperties.<Long>getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_OPEN_MILLISECONDS));
+        maxConcurrencyLimit = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_MAX_CONCURRENCY_LIMIT);
+    }
+    
+    /**
+     * Judge is circuit breaker enabled or not.
+     *
+     * @param shardingProperties sharding properties
+     * @return is circuit breaker enabled or not
+     */
+    public static boolean isEnabled(final ShardingProperties shardingProperties) {
+        return shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_CIRCUIT_BREAKER_ENABLED);
+    }
+}
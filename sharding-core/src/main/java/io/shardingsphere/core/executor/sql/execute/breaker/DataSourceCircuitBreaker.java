@@ -0,0 +1,261 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.breaker;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker and adaptive concurrency limit of a data source.
+ *
+ * <p>
+ * Circuit breaker opens when failure rate or slow call rate of executions in window exceeds threshold,
+ * and allows one probe execution after open time, which closes it if fast and successful, or opens it again.
+ * Concurrency limit follows additive increase and multiplicative decrease, it is decreased at most once per window,
+ * so a burst of failures completed together is treated as one congestion signal.
+ * Admission is checked without lock, outcomes are recorded under lock of this data source only.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DataSourceCircuitBreaker {
+    
+    private static final double DECREASE_RATIO = 0.9;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final CircuitBreakerSettings settings;
+    
+    @Getter
+    private volatile State state = State.CLOSED;
+    
+    private volatile long openedNanos;
+    
+    private final AtomicBoolean probing = new AtomicBoolean();
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double concurrencyLimit;
+    
+    private long concurrencyLimitDecreasedNanos;
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    private long windowStartNanos;
+    
+    private int callCount;
+    
+    private int failureCount;
+    
+    private int slowCallCount;
+    
+    public DataSourceCircuitBreaker(final String dataSourceName, final CircuitBreakerSettings settings) {
+        this.dataSourceName = dataSourceName;
+        this.settings = settings;
+        concurrencyLimit = settings.getMaxConcurrencyLimit();
+        windowStartNanos = System.nanoTime();
+        concurrencyLimitDecreasedNanos = windowStartNanos - settings.getWindowNanos();
+    }
+    
+    /**
+     * Judge whether executions are allowed.
+     *
+     * @return executions are allowed or not
+     */
+    public boolean isAvailable() {
+        return State.OPEN != state || System.nanoTime() - openedNanos >= settings.getOpenNanos();
+    }
+    
+    /**
+     * Try to acquire permit for execution.
+     *
+     * @return permit of execution
+     */
+    public Permit tryAcquire() {
+        if (!isAvailable()) {
+            rejectedCount.incrementAndGet();
+            return Permit.REJECTED;
+        }
+        boolean probe = State.CLOSED != state;
+        if (probe && !tryAcquireProbe()) {
+            rejectedCount.incrementAndGet();
+            return Permit.REJECTED;
+        }
+        if (!tryAcquireConcurrency()) {
+            if (probe) {
+                probing.set(false);
+            }
+            rejectedCount.incrementAndGet();
+            return Permit.REJECTED;
+        }
+        return probe ? Permit.PROBE : Permit.NORMAL;
+    }
+    
+    private boolean tryAcquireProbe() {
+        if (!probing.compareAndSet(false, true)) {
+            return false;
+        }
+        state = State.HALF_OPEN;
+        return true;
+    }
+    
+    private boolean tryAcquireConcurrency() {
+        while (true) {
+            int current = inFlightCount.get();
+            if (settings.getMaxConcurrencyLimit() > 0 && current >= (int) concurrencyLimit) {
+                return false;
+            }
+            if (inFlightCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Release permit and record outcome of execution.
+     *
+     * <p>Only outcome of probe execution changes state of half open circuit breaker, 
+     * outcomes of executions started before circuit breaker opened are not recorded.</p>
+     *
+     * @param permit permit of execution
+     * @param success execution is successful or not
+     * @param elapsedNanos elapsed time of execution in nanoseconds
+     */
+    public void release(final Permit permit, final boolean success, final long elapsedNanos) {
+        Preconditions.checkArgument(Permit.REJECTED != permit, "Can not release rejected permit.");
+        inFlightCount.decrementAndGet();
+        boolean healthy = success && (settings.getSlowCallNanos() <= 0 || elapsedNanos < settings.getSlowCallNanos());
+        synchronized (this) {
+            adjustConcurrencyLimit(healthy);
+            if (Permit.PROBE == permit) {
+                if (healthy) {
+                    close();
+                } else {
+                    open();
+                }
+                probing.set(false);
+                return;
+            }
+            if (State.CLOSED == state) {
+                record(success, healthy);
+            }
+        }
+    }
+    
+    private void adjustConcurrencyLimit(final boolean healthy) {
+        if (settings.getMaxConcurrencyLimit() <= 0) {
+            return;
+        }
+        if (healthy) {
+            concurrencyLimit = Math.min(settings.getMaxConcurrencyLimit(), concurrencyLimit + 1 / concurrencyLimit);
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        if (nowNanos - concurrencyLimitDecreasedNanos >= settings.getWindowNanos()) {
+            concurrencyLimit = Math.max(1, concurrencyLimit * DECREASE_RATIO);
+            concurrencyLimitDecreasedNanos = nowNanos;
+        }
+    }
+    
+    private void record(final boolean success, final boolean healthy) {
+        long nowNanos = System.nanoTime();
+        if (nowNanos - windowStartNanos >= settings.getWindowNanos()) {
+            resetWindow(nowNanos);
+        }
+        callCount++;
+        if (!success) {
+            failureCount++;
+        } else if (!healthy) {
+            slowCallCount++;
+        }
+        if (callCount >= settings.getMinimumCalls() && (isOverThreshold(failureCount, settings.getFailureRateThreshold())
+                || settings.getSlowCallNanos() > 0 && isOverThreshold(slowCallCount, settings.getSlowCallRateThreshold()))) {
+            open();
+        }
+    }
+    
+    private boolean isOverThreshold(final int count, final int thresholdPercentage) {
+        return count * 100L >= (long) thresholdPercentage * callCount;
+    }
+    
+    private void open() {
+        openedNanos = System.nanoTime();
+        state = State.OPEN;
+        resetWindow(openedNanos);
+    }
+    
+    private void close() {
+        state = State.CLOSED;
+        resetWindow(System.nanoTime());
+    }
+    
+    private void resetWindow(final long nowNanos) {
+        windowStartNanos = nowNanos;
+        callCount = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+    }
+    
+    /**
+     * Get current concurrency limit.
+     *
+     * @return current concurrency limit, 0 if concurrency is not limited
+     */
+    public int getConcurrencyLimit() {
+        return (int) concurrencyLimit;
+    }
+    
+    /**
+     * Get count of in-flight executions.
+     *
+     * @return count of in-flight executions
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get count of rejected executions.
+     *
+     * @return count of rejected executions
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+    
+    /**
+     * Permit of execution.
+     */
+    public enum Permit {
+        
+        REJECTED, NORMAL, PROBE
+    }
+    
+    /**
+     * State of circuit breaker.
+     */
+    public enum State {
+        
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
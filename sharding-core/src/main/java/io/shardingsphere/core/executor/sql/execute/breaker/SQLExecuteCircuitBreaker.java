@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.breaker;
+
+import io.shardingsphere.core.executor.sql.execute.breaker.DataSourceCircuitBreaker.Permit;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SQL execute circuit breaker.
+ *
+ * <p>
+ * Holds circuit breaker of each data source, executions routed to an unhealthy data source fail fast
+ * instead of occupying executor threads and connections until timeout.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SQLExecuteCircuitBreaker {
+    
+    private final CircuitBreakerSettings settings;
+    
+    private final ConcurrentMap<String, DataSourceCircuitBreaker> dataSourceCircuitBreakers = new ConcurrentHashMap<>();
+    
+    /**
+     * Check data source is available before acquiring connection.
+     *
+     * @param dataSourceName data source name
+     * @throws SQLException SQL exception if circuit breaker of data source is open
+     */
+    public void checkAvailable(final String dataSourceName) throws SQLException {
+        if (!getDataSourceCircuitBreaker(dataSourceName).isAvailable()) {
+            throw new SQLException(String.format("Execution on data source '%s' is rejected, circuit breaker is open.", dataSourceName));
+        }
+    }
+    
+    /**
+     * Acquire permit for execution on data source.
+     *
+     * @param dataSourceName data source name
+     * @return permit of execution
+     * @throws SQLException SQL exception if circuit breaker is open or concurrency limit is exceeded
+     */
+    public Permit acquire(final String dataSourceName) throws SQLException {
+        DataSourceCircuitBreaker dataSourceCircuitBreaker = getDataSourceCircuitBreaker(dataSourceName);
+        Permit result = dataSourceCircuitBreaker.tryAcquire();
+        if (Permit.REJECTED == result) {
+            throw new SQLException(String.format("Execution on data source '%s' is rejected, circuit breaker is %s, concurrency limit is %d.",
+                    dataSourceName, dataSourceCircuitBreaker.getState(), dataSourceCircuitBreaker.getConcurrencyLimit()));
+        }
+        return result;
+    }
+    
+    /**
+     * Release permit and record outcome of execution on data source.
+     *
+     * @param dataSourceName data source name
+     * @param permit permit of execution
+     * @param success execution is successful or not
+     * @param elapsedNanos elapsed time of execution in nanoseconds
+     */
+    public void release(final String dataSourceName, final Permit permit, final boolean success, final long elapsedNanos) {
+        getDataSourceCircuitBreaker(dataSourceName).release(permit, success, elapsedNanos);
+    }
+    
+    private DataSourceCircuitBreaker getDataSourceCircuitBreaker(final String dataSourceName) {
+        DataSourceCircuitBreaker result = dataSourceCircuitBreakers.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker(dataSourceName, settings);
+        result = dataSourceCircuitBreakers.putIfAbsent(dataSourceName, circuitBreaker);
+        return null == result ? circuitBreaker : result;
+    }
+    
+    /**
+     * Get circuit breakers of data sources.
+     *
+     * @return circuit breakers of data sources
+     */
+    public Collection<DataSourceCircuitBreaker> getDataSourceCircuitBreakers() {
+        return Collections.unmodifiableCollection(dataSourceCircuitBreakers.values());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.bulkhead;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulkhead permit acquired by query.
+ *
+ * <p>Permit is held by owner of connections, and released when connections of query released.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class BulkheadPermit {
+    
+    private final SQLExecuteBulkhead executeBulkhead;
+    
+    private final Map<String, Integer> dataSourcePermits;
+    
+    private final int globalPermits;
+    
+    private final AtomicBoolean released = new AtomicBoolean();
+    
+    /**
+     * Release permit, releasing more than once takes no effect.
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            executeBulkhead.release(dataSourcePermits, globalPermits);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.bulkhead;
+
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execute bulkhead which limits concurrent executions.
+ *
+ * <p>
+ * When bulkhead is saturated, executions wait in a bounded queue for permits in arrival order until max wait time elapsed.
+ * Executions are rejected at once when queue is full, and rejected after waiting when max wait time elapsed.
+ * Without queue, executions are rejected at once when bulkhead is saturated.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ExecuteBulkhead {
+    
+    @Getter
+    private final String name;
+    
+    @Getter
+    private final int maxConcurrency;
+    
+    private final int maxQueueSize;
+    
+    private final long maxWaitMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    
+    private final AtomicLong waitedCount = new AtomicLong();
+    
+    private final AtomicLong waitNanos = new AtomicLong();
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    public ExecuteBulkhead(final String name, final int maxConcurrency) {
+        this(name, maxConcurrency, 0, 0L);
+    }
+    
+    public ExecuteBulkhead(final String name, final int maxConcurrency, final int maxQueueSize, final long maxWaitMilliseconds) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitMilliseconds = maxWaitMilliseconds;
+        semaphore = new Semaphore(maxConcurrency, true);
+    }
+    
+    /**
+     * Try to acquire permits, wait in queue if bulkhead is saturated and queue is not full.
+     *
+     * @param permits count of permits
+     * @return acquired or not
+     */
+    public boolean tryAcquire(final int permits) {
+        if (!semaphore.hasQueuedThreads() && semaphore.tryAcquire(permits)) {
+            return true;
+        }
+        if (waitingCount.incrementAndGet() > maxQueueSize) {
+            waitingCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        boolean result = false;
+        long startNanos = System.nanoTime();
+        try {
+            result = semaphore.tryAcquire(permits, maxWaitMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitingCount.decrementAndGet();
+            waitedCount.incrementAndGet();
+            waitNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+        if (!result) {
+            rejectedCount.incrementAndGet();
+        }
+        return result;
+    }
+    
+    /**
+     * Release permits.
+     *
+     * @param permits count of permits
+     */
+    public void release(final int permits) {
+        semaphore.release(permits);
+    }
+    
+    /**
+     * Get count of permits held by executions.
+     *
+     * @return count of permits held by executions
+     */
+    public int getActiveCount() {
+        return maxConcurrency - semaphore.availablePermits();
+    }
+    
+    /**
+     * Get count of executions waiting in queue.
+     *
+     * @return count of executions waiting in queue
+     */
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+    
+    /**
+     * Get count of executions which waited in queue.
+     *
+     * @return count of executions which waited in queue
+     */
+    public long getWaitedCount() {
+        return waitedCount.get();
+    }
+    
+    /**
+     * Get total wait time of executions in queue.
+     *
+     * @return total wait time in milliseconds
+     */
+    public long getWaitMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+    
+    /**
+     * Get count of rejected executions.
+     *
+     * @return count of rejected executions
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.bulkhead;
+
+import io.shardingsphere.core.routing.RouteUnit;
+import lombok.Getter;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SQL execute bulkhead.
+ *
+ * <p>
+ * Limits connections held by queries on each data source and on all data sources,
+ * so a slow data source only degrades the queries which touch it.
+ * Permits of a query are acquired all or nothing before its connections are acquired, and held until its connections released.
+ * Query waits for permits in bounded queue of saturated bulkhead on caller thread, and is rejected if queue is full or max wait time elapsed,
+ * worker threads never wait for permits. Data sources are acquired in order of their names and global bulkhead is acquired at last,
+ * so waiting queries never wait for each other circularly.
+ * A query never acquires more permits than the whole bulkhead, so a wide query can always run when bulkhead is idle.
+ * </p>
+ *
+ * @author agent
+ */
+public final class SQLExecuteBulkhead {
+    
+    private static final String GLOBAL_BULKHEAD_NAME = "global";
+    
+    @Getter
+    private final int maxConcurrencyPerDataSource;
+    
+    private final int maxQueueSize;
+    
+    private final long maxWaitMilliseconds;
+    
+    private final ExecuteBulkhead globalBulkhead;
+    
+    private final ConcurrentMap<String, ExecuteBulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
+    public SQLExecuteBulkhead(final int maxConcurrency, final int maxConcurrencyPerDataSource) {
+        this(maxConcurrency, maxConcurrencyPerDataSource, 0, 0L);
+    }
+    
+    public SQLExecuteBulkhead(final int maxConcurrency, final int maxConcurrencyPerDataSource, final int maxQueueSize, final long maxWaitMilliseconds) {
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitMilliseconds = maxWaitMilliseconds;
+        globalBulkhead = maxConcurrency > 0 ? new ExecuteBulkhead(GLOBAL_BULKHEAD_NAME, maxConcurrency, maxQueueSize, maxWaitMilliseconds) : null;
+    }
+    
+    /**
+     * Judge is bulkhead enabled or not.
+     *
+     * @param maxConcurrency max concurrency of all data sources
+     * @param maxConcurrencyPerDataSource max concurrency of each data source
+     * @return is bulkhead enabled or not
+     */
+    public static boolean isEnabled(final int maxConcurrency, final int maxConcurrencyPerDataSource) {
+        return maxConcurrency > 0 || maxConcurrencyPerDataSource > 0;
+    }
+    
+    /**
+     * Acquire permits for route units, each route unit holds a separate connection.
+     *
+     * @param routeUnits route units
+     * @return bulkhead permit
+     * @throws SQLException SQL exception if bulkhead is saturated and permits can not be acquired in time
+     */
+    public BulkheadPermit acquire(final Collection<RouteUnit> routeUnits) throws SQLException {
+        Map<String, Integer> connectionSizes = new LinkedHashMap<>();
+        for (RouteUnit each : routeUnits) {
+            Integer connectionSize = connectionSizes.get(each.getDataSourceName());
+            connectionSizes.put(each.getDataSourceName(), null == connectionSize ? 1 : connectionSize + 1);
+        }
+        return acquire(connectionSizes);
+    }
+    
+    /**
+     * Acquire permits for connections of data sources.
+     *
+     * @param connectionSizes connection sizes, key is data source name, value is count of connections to be acquired
+     * @return bulkhead permit
+     * @throws SQLException SQL exception if bulkhead is saturated and permits can not be acquired in time
+     */
+    public BulkheadPermit acquire(final Map<String, Integer> connectionSizes) throws SQLException {
+        Map<String, Integer> dataSourcePermits = new LinkedHashMap<>(connectionSizes.size(), 1);
+        int globalPermits = 0;
+        for (Entry<String, Integer> entry : new TreeMap<>(connectionSizes).entrySet()) {
+            ExecuteBulkhead dataSourceBulkhead = getDataSourceBulkhead(entry.getKey());
+            if (null != dataSourceBulkhead) {
+                int permits = Math.min(entry.getValue(), maxConcurrencyPerDataSource);
+                if (!dataSourceBulkhead.tryAcquire(permits)) {
+                    release(dataSourcePermits, 0);
+                    throw new SQLException(String.format("Execution on data source '%s' is rejected, max concurrency %d is exceeded.", entry.getKey(), maxConcurrencyPerDataSource));
+                }
+                dataSourcePermits.put(entry.getKey(), permits);
+            }
+            globalPermits += entry.getValue();
+        }
+        if (null == globalBulkhead) {
+            return new BulkheadPermit(this, dataSourcePermits, 0);
+        }
+        globalPermits = Math.min(globalPermits, globalBulkhead.getMaxConcurrency());
+        if (!globalBulkhead.tryAcquire(globalPermits)) {
+            release(dataSourcePermits, 0);
+            throw new SQLException(String.format("Execution is rejected, global max concurrency %d is exceeded.", globalBulkhead.getMaxConcurrency()));
+        }
+        return new BulkheadPermit(this, dataSourcePermits, globalPermits);
+    }
+    
+    void release(final Map<String, Integer> dataSourcePermits, final int globalPermits) {
+        if (globalPermits > 0) {
+            globalBulkhead.release(globalPermits);
+        }
+        for (Entry<String, Integer> entry : dataSourcePermits.entrySet()) {
+            getDataSourceBulkhead(entry.getKey()).release(entry.getValue());
+        }
+    }
+    
+    private ExecuteBulkhead getDataSourceBulkhead(final String dataSourceName) {
+        if (maxConcurrencyPerDataSource <= 0) {
+            return null;
+        }
+        ExecuteBulkhead result = dataSourceBulkheads.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        ExecuteBulkhead bulkhead = new ExecuteBulkhead(dataSourceName, maxConcurrencyPerDataSource, maxQueueSize, maxWaitMilliseconds);
+        result = dataSourceBulkheads.putIfAbsent(dataSourceName, bulkhead);
+        return null == result ? bulkhead : result;
+    }
+    
+    /**
+     * Get bulkheads of data sources.
+     *
+     * @return bulkheads of data sources
+     */
+    public Collection<ExecuteBulkhead> getDataSourceBulkheads() {
+        return Collections.unmodifiableCollection(dataSourceBulkheads.values());
+    }
+    
+    /**
+     * Get global bulkhead.
+     *
+     * @return global bulkhead, {@code null} if global max concurrency is not limited
+     */
+    public ExecuteBulkhead getGlobalBulkhead() {
+        return globalBulkhead;
+    }
+}
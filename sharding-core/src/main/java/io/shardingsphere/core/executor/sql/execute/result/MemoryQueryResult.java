@@ -18,6 +18,7 @@
 package io.shardingsphere.core.executor.sql.execute.result;
 
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.io.InputStream;
 import java.sql.ResultSet;
@@ -43,12 +44,15 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final Map<String, Integer> columnLabelAndIndexMap;
     
+    private final List<Integer> columnTypes;
+    
     private final Iterator<List<Object>> resultData;
     
     private List<Object> currentRow;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
+        columnTypes = getColumnTypes(resultSet.getMetaData());
         resultData = getResultData(resultSet);
     }
     
@@ -60,6 +64,14 @@ public final class MemoryQueryResult implements QueryResult {
         return result;
     }
     
+    private List<Integer> getColumnTypes(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        List<Integer> result = new ArrayList<>(resultSetMetaData.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            result.add(resultSetMetaData.getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
     private Iterator<List<Object>> getResultData(final ResultSet resultSet) throws SQLException {
         Collection<List<Object>> result = new LinkedList<>();
         while (resultSet.next()) {
@@ -92,6 +104,36 @@ public final class MemoryQueryResult implements QueryResult {
         return currentRow.get(columnLabelAndIndexMap.get(columnLabel));
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.get(columnIndex - 1);
@@ -131,4 +173,9 @@ public final class MemoryQueryResult implements QueryResult {
         }
         throw new SQLException("Column index out of range", "9999");
     }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return columnTypes.get(columnIndex - 1);
+    }
 }
@@ -144,6 +144,36 @@ public final class StreamQueryResult implements QueryResult {
         return result;
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return resultSet.getInt(columnIndex);
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return resultSet.getInt(columnLabel);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return resultSet.getLong(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return resultSet.getLong(columnLabel);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return resultSet.getDouble(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return resultSet.getDouble(columnLabel);
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         if (Date.class == type) {
@@ -214,4 +244,9 @@ public final class StreamQueryResult implements QueryResult {
     public String getColumnLabel(final int columnIndex) throws SQLException {
         return resultSet.getMetaData().getColumnLabel(columnIndex);
     }
+    
+    @Override
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return resultSet.getMetaData().getColumnType(columnIndex);
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of data source.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DataSourceStatistics {
+    
+    private static final double EWMA_WEIGHT = 0.3;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final AtomicInteger activeCount = new AtomicInteger();
+    
+    private final AtomicLong ewmaLatencyNanos = new AtomicLong();
+    
+    @Getter
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    
+    private final AtomicLong memoryStrictlyCount = new AtomicLong();
+    
+    private final AtomicLong connectionStrictlyCount = new AtomicLong();
+    
+    /**
+     * Start execution.
+     *
+     * @return start time in nanoseconds
+     */
+    public long start() {
+        activeCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Finish execution.
+     *
+     * @param startNanos start time in nanoseconds which returned by {@link #start()}
+     */
+    public void finish(final long startNanos) {
+        activeCount.decrementAndGet();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        latencyHistogram.record(elapsedNanos);
+        updateEwmaLatency(elapsedNanos);
+    }
+    
+    private void updateEwmaLatency(final long elapsedNanos) {
+        while (true) {
+            long current = ewmaLatencyNanos.get();
+            long updated = 0L == current ? elapsedNanos : current + (long) ((elapsedNanos - current) * EWMA_WEIGHT);
+            if (ewmaLatencyNanos.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Get count of in-flight executions.
+     *
+     * @return count of in-flight executions
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latency.
+     *
+     * @return exponentially weighted moving average of latency in nanoseconds, 0 if nothing recorded
+     */
+    public long getEwmaLatencyNanos() {
+        return ewmaLatencyNanos.get();
+    }
+    
+    /**
+     * Record connection mode decided for a query.
+     *
+     * @param connectionMode connection mode
+     */
+    public void recordConnectionMode(final ConnectionMode connectionMode) {
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            memoryStrictlyCount.incrementAndGet();
+        } else {
+            connectionStrictlyCount.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Get count of queries decided as memory strictly.
+     *
+     * @return count of queries decided as memory strictly
+     */
+    public long getMemoryStrictlyCount() {
+        return memoryStrictlyCount.get();
+    }
+    
+    /**
+     * Get count of queries decided as connection strictly.
+     *
+     * @return count of queries decided as connection strictly
+     */
+    public long getConnectionStrictlyCount() {
+        return connectionStrictlyCount.get();
+    }
+}
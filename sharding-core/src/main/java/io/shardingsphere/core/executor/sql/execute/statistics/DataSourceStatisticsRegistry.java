@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data source statistics registry.
+ *
+ * <p>Registry is owned by sharding context, so statistics of data sources with same name in different sharding contexts are isolated.</p>
+ *
+ * @author agent
+ */
+public final class DataSourceStatisticsRegistry {
+    
+    private final ConcurrentMap<String, DataSourceStatistics> statisticsMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Get statistics of data source.
+     *
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public DataSourceStatistics getStatistics(final String dataSourceName) {
+        DataSourceStatistics result = statisticsMap.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        DataSourceStatistics statistics = new DataSourceStatistics(dataSourceName);
+        result = statisticsMap.putIfAbsent(dataSourceName, statistics);
+        return null == result ? statistics : result;
+    }
+    
+    /**
+     * Get statistics of all data sources.
+     *
+     * @return statistics of all data sources
+     */
+    public Collection<DataSourceStatistics> getAllStatistics() {
+        return Collections.unmodifiableCollection(statisticsMap.values());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram.
+ *
+ * <p>Buckets are power of two microseconds, bucket {@code n} holds latencies in {@code [2^(n-1), 2^n)} microseconds.</p>
+ *
+ * @author agent
+ */
+public final class LatencyHistogram {
+    
+    public static final int BUCKET_SIZE = 32;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_SIZE);
+    
+    private final AtomicLong sumMicros = new AtomicLong();
+    
+    /**
+     * Record latency.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     */
+    public void record(final long elapsedNanos) {
+        long elapsedMicros = elapsedNanos / 1000L;
+        buckets.incrementAndGet(getBucketIndex(elapsedMicros));
+        sumMicros.addAndGet(Math.max(0L, elapsedMicros));
+    }
+    
+    private int getBucketIndex(final long elapsedMicros) {
+        return elapsedMicros <= 0L ? 0 : Math.min(BUCKET_SIZE - 1, 64 - Long.numberOfLeadingZeros(elapsedMicros));
+    }
+    
+    /**
+     * Get recorded count.
+     *
+     * @return recorded count
+     */
+    public long getCount() {
+        long result = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            result += buckets.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * Get recorded count of bucket.
+     *
+     * @param bucketIndex bucket index, between 0 and {@code BUCKET_SIZE - 1}
+     * @return recorded count of bucket
+     */
+    public long getBucketCount(final int bucketIndex) {
+        return buckets.get(bucketIndex);
+    }
+    
+    /**
+     * Get upper bound of bucket.
+     *
+     * @param bucketIndex bucket index, between 0 and {@code BUCKET_SIZE - 1}
+     * @return upper bound of bucket in microseconds
+     */
+    public long getBucketUpperBoundMicros(final int bucketIndex) {
+        return 1L << bucketIndex;
+    }
+    
+    /**
+     * Get sum of recorded latencies.
+     *
+     * @return sum of recorded latencies in microseconds
+     */
+    public long getSumMicros() {
+        return sumMicros.get();
+    }
+    
+    /**
+     * Get upper bound of latency at percentile.
+     *
+     * @param percentile percentile, between 0 and 1
+     * @return upper bound of latency in microseconds, 0 if nothing recorded
+     */
+    public long getPercentileMicros(final double percentile) {
+        long count = getCount();
+        if (0L == count) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(count * percentile);
+        long accumulated = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            accumulated += buckets.get(i);
+            if (accumulated >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKET_SIZE - 1);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteUnitCallback;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * SQL execute callback which records execution statistics of data source.
+ *
+ * @author agent
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class StatisticsSQLExecuteCallback<T> implements SQLExecuteUnitCallback<T> {
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    private final SQLExecuteUnitCallback<T> sqlExecuteCallback;
+    
+    @Override
+    public T execute(final SQLExecuteUnit input) throws SQLException {
+        DataSourceStatistics dataSourceStatistics = statisticsRegistry.getStatistics(input.getRouteUnit().getDataSourceName());
+        long startNanos = dataSourceStatistics.start();
+        try {
+            return sqlExecuteCallback.execute(input);
+        } finally {
+            dataSourceStatistics.finish(startNanos);
+        }
+    }
+    
+    @Override
+    public Collection<T> execute(final Collection<SQLExecuteUnit> inputs) throws SQLException {
+        Collection<T> result = new LinkedList<>();
+        for (SQLExecuteUnit each : inputs) {
+            result.add(execute(each));
+        }
+        return result;
+    }
+}
@@ -17,7 +17,9 @@
 
 package io.shardingsphere.core.executor.sql.prepare;
 
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
 import io.shardingsphere.core.routing.RouteUnit;
 
 import java.sql.Connection;
@@ -30,6 +32,15 @@ import java.sql.SQLException;
  */
 public interface SQLExecutePrepareCallback {
     
+    /**
+     * Hold bulkhead permit acquired for connections of query.
+     *
+     * <p>Permit should be released when connections of query released.</p>
+     *
+     * @param bulkheadPermit bulkhead permit
+     */
+    void holdBulkheadPermit(BulkheadPermit bulkheadPermit);
+    
     /**
      * Get connection.
      * 
@@ -44,8 +55,9 @@ public interface SQLExecutePrepareCallback {
      * 
      * @param connection connection
      * @param routeUnit route unit
+     * @param connectionMode connection mode decided for data source of route unit
      * @return SQL execute unit
      * @throws SQLException SQL exception
      */
-    SQLExecuteUnit createSQLExecuteUnit(Connection connection, RouteUnit routeUnit) throws SQLException;
+    SQLExecuteUnit createSQLExecuteUnit(Connection connection, RouteUnit routeUnit, ConnectionMode connectionMode) throws SQLException;
 }
@@ -18,8 +18,12 @@
 package io.shardingsphere.core.executor.sql.prepare;
 
 import com.google.common.collect.Lists;
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLUnit;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +40,15 @@ import java.util.Map.Entry;
 /**
  * SQL execute prepare template.
  *
+ * <p>
+ * Queries are prepared by it in {@code CONNECTION_STRICTLY} mode only, connection mode is decided for each data source of each query.
+ * If route units of a data source fit in available connections, every route unit uses a separate connection with {@code MEMORY_STRICTLY},
+ * otherwise route units are partitioned to available connections with {@code CONNECTION_STRICTLY}.
+ * Available connections shrink from max connections size per query when the data source is saturated by in-flight executions.
+ * Connections are not acquired from data source whose circuit breaker is open.
+ * Bulkhead permits for all connections of query are acquired before any connection acquired, query is rejected at once if bulkhead is saturated.
+ * </p>
+ *
  * @author zhaojun
  * @author zhangliang
  */
@@ -44,6 +57,16 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final SQLExecuteBulkhead executeBulkhead;
+    
+    private final SQLExecuteCircuitBreaker circuitBreaker;
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null, null, null);
+    }
+    
     /**
      * Get execute unit groups.
      * 
@@ -54,13 +77,32 @@ public final class SQLExecutePrepareTemplate {
      */
     public Collection<ShardingExecuteGroup<SQLExecuteUnit>> getExecuteUnitGroups(final Collection<RouteUnit> routeUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         Map<String, List<SQLUnit>> sqlUnitGroups = getSQLUnitGroups(routeUnits);
+        Map<String, Integer> availableConnectionsSizes = getAvailableConnectionsSizes(sqlUnitGroups.keySet());
+        if (null != executeBulkhead) {
+            callback.holdBulkheadPermit(executeBulkhead.acquire(getConnectionsSizes(sqlUnitGroups, availableConnectionsSizes)));
+        }
         Collection<ShardingExecuteGroup<SQLExecuteUnit>> result = new LinkedList<>();
         for (Entry<String, List<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
-            result.addAll(getSQLExecuteGroups(entry.getKey(), entry.getValue(), callback));
+            result.addAll(getSQLExecuteGroups(entry.getKey(), entry.getValue(), availableConnectionsSizes.get(entry.getKey()), callback));
         }
         return result;
     }
     
+    /**
+     * Partition execute units of data source to available connections.
+     *
+     * <p>Execute units are partitioned to at most available connections of data source, which is decided as same as query.
+     * It is used by batch execution in both connection modes.</p>
+     *
+     * @param dataSourceName data source name
+     * @param executeUnits execute units of data source
+     * @param <T> class type of execute unit
+     * @return partitioned execute units
+     */
+    public <T> List<List<T>> partition(final String dataSourceName, final List<T> executeUnits) {
+        return Lists.partition(executeUnits, getDesiredPartitionSize(executeUnits.size(), getAvailableConnectionsSize(dataSourceName)));
+    }
+    
     private Map<String, List<SQLUnit>> getSQLUnitGroups(final Collection<RouteUnit> routeUnits) {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1);
         for (RouteUnit each : routeUnits) {
@@ -72,21 +114,57 @@ public final class SQLExecutePrepareTemplate {
         return result;
     }
     
-    private List<ShardingExecuteGroup<SQLExecuteUnit>> getSQLExecuteGroups(final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
+    private Map<String, Integer> getAvailableConnectionsSizes(final Collection<String> dataSourceNames) throws SQLException {
+        Map<String, Integer> result = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            if (null != circuitBreaker) {
+                circuitBreaker.checkAvailable(each);
+            }
+            result.put(each, getAvailableConnectionsSize(each));
+        }
+        return result;
+    }
+    
+    private int getAvailableConnectionsSize(final String dataSourceName) {
+        int activeCount = null == statisticsRegistry ? 0 : statisticsRegistry.getStatistics(dataSourceName).getActiveCount();
+        int result = Math.max(maxConnectionsSizePerQuery / (1 + activeCount / maxConnectionsSizePerQuery), 1);
+        return null == executeBulkhead || executeBulkhead.getMaxConcurrencyPerDataSource() <= 0 ? result : Math.min(result, executeBulkhead.getMaxConcurrencyPerDataSource());
+    }
+    
+    private Map<String, Integer> getConnectionsSizes(final Map<String, List<SQLUnit>> sqlUnitGroups, final Map<String, Integer> availableConnectionsSizes) {
+        Map<String, Integer> result = new LinkedHashMap<>(sqlUnitGroups.size(), 1);
+        for (Entry<String, List<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
+            int sqlUnitsSize = entry.getValue().size();
+            int desiredPartitionSize = getDesiredPartitionSize(sqlUnitsSize, availableConnectionsSizes.get(entry.getKey()));
+            result.put(entry.getKey(), (sqlUnitsSize + desiredPartitionSize - 1) / desiredPartitionSize);
+        }
+        return result;
+    }
+    
+    private int getDesiredPartitionSize(final int sqlUnitsSize, final int availableConnectionsSize) {
+        return (sqlUnitsSize + availableConnectionsSize - 1) / availableConnectionsSize;
+    }
+    
+    private List<ShardingExecuteGroup<SQLExecuteUnit>> getSQLExecuteGroups(
+            final String dataSourceName, final List<SQLUnit> sqlUnits, final int availableConnectionsSize, final SQLExecutePrepareCallback callback) throws SQLException {
         List<ShardingExecuteGroup<SQLExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(sqlUnits.size() / maxConnectionsSizePerQuery, 1);
+        ConnectionMode connectionMode = sqlUnits.size() <= availableConnectionsSize ? ConnectionMode.MEMORY_STRICTLY : ConnectionMode.CONNECTION_STRICTLY;
+        if (null != statisticsRegistry) {
+            statisticsRegistry.getStatistics(dataSourceName).recordConnectionMode(connectionMode);
+        }
+        int desiredPartitionSize = getDesiredPartitionSize(sqlUnits.size(), availableConnectionsSize);
         for (List<SQLUnit> each : Lists.partition(sqlUnits, desiredPartitionSize)) {
             // TODO get connection sync to prevent dead lock
-            result.add(getSQLExecuteGroup(callback.getConnection(dataSourceName), dataSourceName, each, callback));
+            result.add(getSQLExecuteGroup(callback.getConnection(dataSourceName), dataSourceName, each, connectionMode, callback));
         }
         return result;
     }
     
-    private ShardingExecuteGroup<SQLExecuteUnit> getSQLExecuteGroup(
-            final Connection connection, final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final SQLExecutePrepareCallback callback) throws SQLException {
+    private ShardingExecuteGroup<SQLExecuteUnit> getSQLExecuteGroup(final Connection connection, final String dataSourceName, 
+                                                                    final List<SQLUnit> sqlUnitGroup, final ConnectionMode connectionMode, final SQLExecutePrepareCallback callback) throws SQLException {
         List<SQLExecuteUnit> result = new LinkedList<>();
         for (SQLUnit each : sqlUnitGroup) {
-            result.add(callback.createSQLExecuteUnit(connection, new RouteUnit(dataSourceName, each)));
+            result.add(callback.createSQLExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode));
         }
         return new ShardingExecuteGroup<>(result);
     }
@@ -22,8 +22,11 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default distributed primary key generator.
@@ -43,10 +46,16 @@ import java.util.Date;
  * Call @{@code DefaultKeyGenerator.setWorkerId} to set.
  * </p>
  * 
+ * <p>
+ * Timestamp and sequence of last generated key are updated by CAS without lock.
+ * If sequence of current millisecond is used up or clock moves backwards,
+ * keys are borrowed from milliseconds ahead of clock within {@code maxTolerateTimeDifferenceMilliseconds} instead of waiting or failure.
+ * </p>
+ * 
  * @author gaohongtao
  */
 @Slf4j
-public final class DefaultKeyGenerator implements KeyGenerator {
+public final class DefaultKeyGenerator implements BatchKeyGenerator {
     
     public static final long EPOCH;
     
@@ -67,6 +76,8 @@ public final class DefaultKeyGenerator implements KeyGenerator {
     
     private static long workerId;
     
+    private static long maxTolerateTimeDifferenceMilliseconds = 10L;
+    
     static {
         Calendar calendar = Calendar.getInstance();
         calendar.set(2016, Calendar.NOVEMBER, 1);
@@ -77,9 +88,7 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         EPOCH = calendar.getTimeInMillis();
     }
     
-    private long sequence;
-    
-    private long lastTime;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong(-1L);
     
     /**
      * Set work process id.
@@ -91,34 +100,77 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         DefaultKeyGenerator.workerId = workerId;
     }
     
+    /**
+     * Set max tolerate time difference milliseconds.
+     *
+     * <p>Keys can be borrowed from milliseconds ahead of clock no more than it, 0 means waiting for clock.</p>
+     *
+     * @param maxTolerateTimeDifferenceMilliseconds max tolerate time difference milliseconds
+     */
+    public static void setMaxTolerateTimeDifferenceMilliseconds(final long maxTolerateTimeDifferenceMilliseconds) {
+        Preconditions.checkArgument(maxTolerateTimeDifferenceMilliseconds >= 0L);
+        DefaultKeyGenerator.maxTolerateTimeDifferenceMilliseconds = maxTolerateTimeDifferenceMilliseconds;
+    }
+    
     /**
      * Generate key.
      * 
      * @return key type is @{@link Long}.
      */
     @Override
-    public synchronized Number generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        Preconditions.checkState(lastTime <= currentMillis, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime, currentMillis);
-        if (lastTime == currentMillis) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    public Number generateKey() {
+        return createKey(allocate(1));
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param count count of keys
+     * @return keys type is @{@link Long}.
+     */
+    @Override
+    public List<Number> generateKeys(final int count) {
+        Preconditions.checkArgument(count >= 0);
+        List<Number> result = new ArrayList<>(count);
+        int remaining = count;
+        while (remaining > 0) {
+            int allocateCount = (int) Math.min(remaining, SEQUENCE_MASK + 1);
+            long lastAllocated = allocate(allocateCount);
+            for (long each = lastAllocated - allocateCount + 1; each <= lastAllocated; each++) {
+                result.add(createKey(each));
             }
-        } else {
-            sequence = 0;
+            remaining -= allocateCount;
         }
-        lastTime = currentMillis;
-        if (log.isDebugEnabled()) {
-            log.debug("{}-{}-{}", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(lastTime)), workerId, sequence);
+        return result;
+    }
+    
+    private long allocate(final int count) {
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long currentTime = timeService.getCurrentMillis() - EPOCH;
+            long lastTime = last >> SEQUENCE_BITS;
+            if (lastTime - currentTime > maxTolerateTimeDifferenceMilliseconds) {
+                throw new IllegalStateException(String.format(
+                        "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime + EPOCH, currentTime + EPOCH));
+            }
+            long first = Math.max(last + 1, currentTime << SEQUENCE_BITS);
+            long result = first + count - 1;
+            if ((result >> SEQUENCE_BITS) - currentTime > maxTolerateTimeDifferenceMilliseconds) {
+                Thread.yield();
+                continue;
+            }
+            if (lastTimeAndSequence.compareAndSet(last, result)) {
+                return result;
+            }
         }
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long time = timeService.getCurrentMillis();
-        while (time <= lastTime) {
-            time = timeService.getCurrentMillis();
+    private long createKey(final long timeAndSequence) {
+        long time = timeAndSequence >> SEQUENCE_BITS;
+        long sequence = timeAndSequence & SEQUENCE_MASK;
+        if (log.isDebugEnabled()) {
+            log.debug("{}-{}-{}", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(time + EPOCH)), workerId, sequence);
         }
-        return time;
+        return (time << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
 }
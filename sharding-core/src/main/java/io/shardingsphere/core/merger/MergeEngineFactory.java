@@ -17,8 +17,11 @@
 
 package io.shardingsphere.core.merger;
 
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.merger.dal.DALMergeEngine;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationOption;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
@@ -51,8 +54,31 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
                                           final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, DistinctAggregationOption.DEFAULT);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param shardingRule sharding rule
+     * @param queryResults query results
+     * @param sqlStatement SQL statement
+     * @param shardingTableMetaData sharding table meta Data
+     * @param shardingProperties sharding properties
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
+                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, final ShardingProperties shardingProperties) throws SQLException {
+        boolean approximate = shardingProperties.getValue(ShardingPropertiesConstant.AGGREGATION_DISTINCT_APPROXIMATE_ENABLED);
+        int maxInMemorySize = shardingProperties.getValue(ShardingPropertiesConstant.AGGREGATION_DISTINCT_MAX_IN_MEMORY_SIZE);
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, new DistinctAggregationOption(approximate, maxInMemorySize));
+    }
+    
+    private static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults, final SQLStatement sqlStatement, 
+                                           final ShardingTableMetaData shardingTableMetaData, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, distinctAggregationOption);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
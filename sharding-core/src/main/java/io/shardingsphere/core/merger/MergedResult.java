@@ -56,6 +56,60 @@ public interface MergedResult {
      */
     Object getValue(String columnLabel, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    int getInt(int columnIndex) throws SQLException;
+    
+    /**
+     * Get int value.
+     *
+     * @param columnLabel column label
+     * @return int value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    int getInt(String columnLabel) throws SQLException;
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    long getLong(int columnIndex) throws SQLException;
+    
+    /**
+     * Get long value.
+     *
+     * @param columnLabel column label
+     * @return long value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    long getLong(String columnLabel) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(int columnIndex) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnLabel column label
+     * @return double value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(String columnLabel) throws SQLException;
+    
     /**
      * Get calendar value.
      *
@@ -105,4 +159,11 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held for merging.
+     * 
+     * @throws SQLException SQL Exception
+     */
+    void close() throws SQLException;
 }
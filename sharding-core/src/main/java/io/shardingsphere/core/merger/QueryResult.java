@@ -53,6 +53,15 @@ public interface QueryResult {
      */
     String getColumnLabel(int columnIndex) throws SQLException;
     
+    /**
+     * Get column type.
+     *
+     * @param columnIndex column index
+     * @return column type, value of {@code java.sql.Types}
+     * @throws SQLException SQL Exception
+     */
+    int getColumnType(int columnIndex) throws SQLException;
+    
     /**
      * Get data value.
      *
@@ -73,6 +82,60 @@ public interface QueryResult {
      */
     Object getValue(String columnLabel, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    int getInt(int columnIndex) throws SQLException;
+    
+    /**
+     * Get int value.
+     *
+     * @param columnLabel column label
+     * @return int value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    int getInt(String columnLabel) throws SQLException;
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    long getLong(int columnIndex) throws SQLException;
+    
+    /**
+     * Get long value.
+     *
+     * @param columnLabel column label
+     * @return long value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    long getLong(String columnLabel) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(int columnIndex) throws SQLException;
+    
+    /**
+     * Get double value.
+     *
+     * @param columnLabel column label
+     * @return double value, 0 if value is SQL NULL
+     * @throws SQLException SQL Exception
+     */
+    double getDouble(String columnLabel) throws SQLException;
+    
     /**
      * Get calendar value.
      *
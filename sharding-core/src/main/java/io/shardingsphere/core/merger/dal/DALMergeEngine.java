@@ -26,6 +26,7 @@ import io.shardingsphere.core.merger.dal.show.ShowOtherMergedResult;
 import io.shardingsphere.core.merger.dal.show.ShowTableStatusMergedResult;
 import io.shardingsphere.core.merger.dal.show.ShowTablesMergedResult;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metrics.SQLStage;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowCreateTableStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTableStatusStatement;
@@ -56,18 +57,23 @@ public final class DALMergeEngine implements MergeEngine {
     
     @Override
     public MergedResult merge() throws SQLException {
-        if (dalStatement instanceof ShowDatabasesStatement) {
-            return new ShowDatabasesMergedResult();
+        long startNanos = System.nanoTime();
+        try {
+            if (dalStatement instanceof ShowDatabasesStatement) {
+                return new ShowDatabasesMergedResult();
+            }
+            if (dalStatement instanceof ShowTableStatusStatement) {
+                return new ShowTableStatusMergedResult(shardingRule, queryResults, shardingTableMetaData);
+            }
+            if (dalStatement instanceof ShowTablesStatement) {
+                return new ShowTablesMergedResult(shardingRule, queryResults, shardingTableMetaData);
+            }
+            if (dalStatement instanceof ShowCreateTableStatement) {
+                return new ShowCreateTableMergedResult(shardingRule, queryResults, shardingTableMetaData);
+            }
+            return new ShowOtherMergedResult(queryResults.get(0));
+        } finally {
+            SQLStage.MERGE.record(startNanos);
         }
-        if (dalStatement instanceof ShowTableStatusStatement) {
-            return new ShowTableStatusMergedResult(shardingRule, queryResults, shardingTableMetaData);
-        }
-        if (dalStatement instanceof ShowTablesStatement) {
-            return new ShowTablesMergedResult(shardingRule, queryResults, shardingTableMetaData);
-        }
-        if (dalStatement instanceof ShowCreateTableStatement) {
-            return new ShowCreateTableMergedResult(shardingRule, queryResults, shardingTableMetaData);
-        }
-        return new ShowOtherMergedResult(queryResults.get(0));
     }
 }
@@ -19,6 +19,7 @@ package io.shardingsphere.core.merger.dal.show;
 
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 import lombok.RequiredArgsConstructor;
 
 import java.io.InputStream;
@@ -70,6 +71,36 @@ public final class ShowDatabasesMergedResult implements MergedResult {
         return getValue(1, type);
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         throw new SQLFeatureNotSupportedException();
@@ -94,4 +125,8 @@ public final class ShowDatabasesMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() {
+    }
 }
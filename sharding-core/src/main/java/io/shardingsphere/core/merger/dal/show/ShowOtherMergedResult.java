@@ -51,6 +51,36 @@ public final class ShowOtherMergedResult implements MergedResult {
         return queryResult.getValue(columnLabel, type);
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return queryResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return queryResult.getInt(columnLabel);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return queryResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return queryResult.getLong(columnLabel);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return queryResult.getDouble(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return queryResult.getDouble(columnLabel);
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         throw new SQLFeatureNotSupportedException();
@@ -75,4 +105,8 @@ public final class ShowOtherMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() {
+    }
 }
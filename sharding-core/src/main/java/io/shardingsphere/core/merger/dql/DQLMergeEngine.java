@@ -23,11 +23,13 @@ import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationOption;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResult;
+import io.shardingsphere.core.metrics.SQLStage;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.util.SQLUtil;
@@ -35,6 +37,7 @@ import io.shardingsphere.core.util.SQLUtil;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 
 /**
@@ -48,11 +51,18 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final SelectStatement selectStatement;
     
+    private final DistinctAggregationOption distinctAggregationOption;
+    
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, DistinctAggregationOption.DEFAULT);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
         this.queryResults = queryResults;
         this.selectStatement = selectStatement;
+        this.distinctAggregationOption = distinctAggregationOption;
         columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
     }
     
@@ -61,21 +71,32 @@ public final class DQLMergeEngine implements MergeEngine {
         for (int i = 1; i <= queryResult.getColumnCount(); i++) {
             result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
         }
+        for (Entry<String, String> entry : selectStatement.getOriginalColumnLabels().entrySet()) {
+            String originalColumnLabel = SQLUtil.getExactlyValue(entry.getValue());
+            if (result.containsKey(entry.getKey()) && !result.containsKey(originalColumnLabel)) {
+                result.put(originalColumnLabel, result.get(entry.getKey()));
+            }
+        }
         return result;
     }
     
     @Override
     public MergedResult merge() throws SQLException {
-        selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        long startNanos = System.nanoTime();
+        try {
+            selectStatement.setIndexForItems(columnLabelIndexMap);
+            return decorate(build());
+        } finally {
+            SQLStage.MERGE.record(startNanos);
+        }
     }
     
     private MergedResult build() throws SQLException {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
-                return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement, distinctAggregationOption);
             } else {
-                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, distinctAggregationOption);
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
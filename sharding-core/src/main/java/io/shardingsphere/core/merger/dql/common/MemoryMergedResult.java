@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql.common;
 
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.util.NumberUtil;
 import io.shardingsphere.core.util.SQLUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -67,6 +68,36 @@ public abstract class MemoryMergedResult implements MergedResult {
         return result;
     }
     
+    @Override
+    public final int getInt(final int columnIndex) throws SQLException {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public final int getInt(final String columnLabel) throws SQLException {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) throws SQLException {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public final long getLong(final String columnLabel) throws SQLException {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) throws SQLException {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public final double getDouble(final String columnLabel) throws SQLException {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         // TODO implement with calendar
@@ -97,4 +128,8 @@ public abstract class MemoryMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+    }
 }
@@ -58,6 +58,48 @@ public abstract class StreamMergedResult implements MergedResult {
         return result;
     }
     
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        int result = getCurrentQueryResult().getInt(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        int result = getCurrentQueryResult().getInt(columnLabel);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        long result = getCurrentQueryResult().getLong(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        long result = getCurrentQueryResult().getLong(columnLabel);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        double result = getCurrentQueryResult().getDouble(columnIndex);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        double result = getCurrentQueryResult().getDouble(columnLabel);
+        wasNull = getCurrentQueryResult().wasNull();
+        return result;
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
         Object result = getCurrentQueryResult().getCalendarValue(columnIndex, type, calendar);
@@ -92,4 +134,8 @@ public abstract class StreamMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+    }
 }
@@ -17,14 +17,13 @@
 
 package io.shardingsphere.core.merger.dql.groupby;
 
-import com.google.common.base.Function;
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
-import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationContext;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationOption;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.SlotAggregationUnit;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
@@ -35,7 +34,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
@@ -46,84 +44,75 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final DistinctAggregationContext distinctAggregationContext;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, DistinctAggregationOption.DEFAULT);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatement selectStatement, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        distinctAggregationContext = new DistinctAggregationContext(distinctAggregationOption);
+        try {
+            memoryResultSetRows = init(queryResults);
+        } finally {
+            distinctAggregationContext.close();
+        }
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        Map<GroupByValue, Integer> groupSlots = new HashMap<>(1024);
+        List<MemoryQueryResultRow> result = new ArrayList<>(1024);
+        List<SlotAggregationUnit> aggregationUnits = null;
         for (QueryResult each : queryResults) {
             while (each.next()) {
+                if (null == aggregationUnits) {
+                    aggregationUnits = createAggregationUnits(each);
+                }
                 GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                Integer slot = groupSlots.get(groupByValue);
+                if (null == slot) {
+                    slot = result.size();
+                    groupSlots.put(groupByValue, slot);
+                    result.add(new MemoryQueryResultRow(each));
+                }
+                for (SlotAggregationUnit aggregationUnit : aggregationUnits) {
+                    aggregationUnit.merge(slot, each);
+                }
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
+        if (null != aggregationUnits) {
+            setAggregationValueToMemoryRows(result, aggregationUnits);
+        }
+        Collections.sort(result, new GroupByRowComparator(selectStatement));
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
         }
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
-        }
-    }
-    
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
+    private List<SlotAggregationUnit> createAggregationUnits(final QueryResult queryResult) throws SQLException {
+        List<SlotAggregationUnit> result = new ArrayList<>(selectStatement.getAggregationSelectItems().size());
         for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
-            }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            result.add(AggregationUnitFactory.createSlotAggregationUnit(each, queryResult, distinctAggregationContext));
         }
+        return result;
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private void setAggregationValueToMemoryRows(final List<MemoryQueryResultRow> memoryResultSetRows, final List<SlotAggregationUnit> aggregationUnits) {
+        List<AggregationSelectItem> aggregationSelectItems = new ArrayList<>(selectStatement.getAggregationSelectItems());
+        for (int slot = 0; slot < memoryResultSetRows.size(); slot++) {
+            for (int i = 0; i < aggregationSelectItems.size(); i++) {
+                memoryResultSetRows.get(slot).setCell(aggregationSelectItems.get(i).getIndex(), aggregationUnits.get(i).getResult(slot));
             }
         }
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
-        return result;
-    }
-    
     @Override
     public boolean next() {
         if (memoryResultSetRows.hasNext()) {
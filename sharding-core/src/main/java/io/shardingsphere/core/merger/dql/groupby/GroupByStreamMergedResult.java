@@ -23,9 +23,12 @@ import com.google.common.collect.Maps;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationContext;
+import io.shardingsphere.core.merger.dql.groupby.aggregation.DistinctAggregationOption;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.util.NumberUtil;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -46,15 +49,23 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final DistinctAggregationContext distinctAggregationContext;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, DistinctAggregationOption.DEFAULT);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatement selectStatement, final DistinctAggregationOption distinctAggregationOption) throws SQLException {
         super(queryResults, selectStatement.getOrderByItems());
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
+        distinctAggregationContext = new DistinctAggregationContext(distinctAggregationOption);
         currentRow = new ArrayList<>(labelAndIndexMap.size());
         currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
     }
@@ -68,8 +79,12 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         if (isFirstNext()) {
             super.next();
         }
-        if (aggregateCurrentGroupByRowAndNext()) {
-            currentGroupByValues = new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        try {
+            if (aggregateCurrentGroupByRowAndNext()) {
+                currentGroupByValues = new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+            }
+        } finally {
+            distinctAggregationContext.close();
         }
         return true;
     }
@@ -80,7 +95,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
             
             @Override
             public AggregationUnit apply(final AggregationSelectItem input) {
-                return AggregationUnitFactory.create(input.getType());
+                return AggregationUnitFactory.create(input, distinctAggregationContext);
             }
         });
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues())) {
@@ -138,6 +153,36 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return currentRow.get(labelAndIndexMap.get(columnLabel) - 1);
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.get(columnIndex - 1);
@@ -148,4 +193,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         Preconditions.checkState(labelAndIndexMap.containsKey(columnLabel), String.format("Can't find columnLabel: %s", columnLabel));
         return currentRow.get(labelAndIndexMap.get(columnLabel) - 1);
     }
+    
+    @Override
+    public void close() {
+        distinctAggregationContext.close();
+    }
 }
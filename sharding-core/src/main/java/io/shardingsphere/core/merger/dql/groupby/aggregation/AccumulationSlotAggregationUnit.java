@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Accumulation aggregation unit for group slots.
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public abstract class AccumulationSlotAggregationUnit implements SlotAggregationUnit {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final int columnIndex;
+    
+    @Override
+    public final void merge(final int slot, final QueryResult queryResult) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        if (null != value) {
+            accumulate(slot, value);
+        }
+    }
+    
+    protected abstract void accumulate(int slot, Object value);
+    
+    @Override
+    public abstract BigDecimal getResult(int slot);
+    
+    protected final int getCapacity(final int currentCapacity, final int slot) {
+        int result = currentCapacity;
+        while (result <= slot) {
+            result <<= 1;
+        }
+        return result;
+    }
+}
@@ -18,9 +18,14 @@
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
@@ -50,4 +55,66 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @param distinctAggregationContext context of distinct aggregation
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationSelectItem aggregationSelectItem, final DistinctAggregationContext distinctAggregationContext) {
+        return aggregationSelectItem.isDistinct() ? new DistinctAggregationUnit(aggregationSelectItem.getType(), distinctAggregationContext) : create(aggregationSelectItem.getType());
+    }
+    
+    /**
+     * Create aggregation unit instance for group slots.
+     * 
+     * <p>Type of accumulation is chosen from column type of query result.</p>
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @param queryResult query result
+     * @param distinctAggregationContext context of distinct aggregation
+     * @return aggregation unit instance for group slots
+     * @throws SQLException SQL exception
+     */
+    public static SlotAggregationUnit createSlotAggregationUnit(
+            final AggregationSelectItem aggregationSelectItem, final QueryResult queryResult, final DistinctAggregationContext distinctAggregationContext) throws SQLException {
+        if (aggregationSelectItem.isDistinct()) {
+            return new DistinctSlotAggregationUnit(aggregationSelectItem.getIndex(), aggregationSelectItem.getType(), distinctAggregationContext);
+        }
+        switch (aggregationSelectItem.getType()) {
+            case MAX:
+                return new ComparableSlotAggregationUnit(aggregationSelectItem.getIndex(), false);
+            case MIN:
+                return new ComparableSlotAggregationUnit(aggregationSelectItem.getIndex(), true);
+            case SUM:
+            case COUNT:
+                return createAccumulationSlotAggregationUnit(aggregationSelectItem, queryResult);
+            case AVG:
+                return new AverageSlotAggregationUnit(createAccumulationSlotAggregationUnit(aggregationSelectItem.getDerivedAggregationSelectItems().get(0), queryResult),
+                        createAccumulationSlotAggregationUnit(aggregationSelectItem.getDerivedAggregationSelectItems().get(1), queryResult));
+            default:
+                throw new UnsupportedOperationException(aggregationSelectItem.getType().name());
+        }
+    }
+    
+    private static AccumulationSlotAggregationUnit createAccumulationSlotAggregationUnit(final AggregationSelectItem aggregationSelectItem, final QueryResult queryResult) throws SQLException {
+        if (AggregationType.COUNT == aggregationSelectItem.getType()) {
+            return new LongAccumulationSlotAggregationUnit(aggregationSelectItem.getIndex());
+        }
+        switch (queryResult.getColumnType(aggregationSelectItem.getIndex())) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongAccumulationSlotAggregationUnit(aggregationSelectItem.getIndex());
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return new DoubleAccumulationSlotAggregationUnit(aggregationSelectItem.getIndex());
+            default:
+                return new DecimalAccumulationSlotAggregationUnit(aggregationSelectItem.getIndex());
+        }
+    }
 }
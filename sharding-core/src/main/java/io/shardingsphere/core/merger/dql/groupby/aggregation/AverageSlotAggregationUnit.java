@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Average aggregation unit for group slots.
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class AverageSlotAggregationUnit implements SlotAggregationUnit {
+    
+    private final AccumulationSlotAggregationUnit countUnit;
+    
+    private final AccumulationSlotAggregationUnit sumUnit;
+    
+    @Override
+    public void merge(final int slot, final QueryResult queryResult) throws SQLException {
+        countUnit.merge(slot, queryResult);
+        sumUnit.merge(slot, queryResult);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        BigDecimal count = countUnit.getResult(slot);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        return sumUnit.getResult(slot).divide(count, 4, BigDecimal.ROUND_HALF_UP);
+    }
+}
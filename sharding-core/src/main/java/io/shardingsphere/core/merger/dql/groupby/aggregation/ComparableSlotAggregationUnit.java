@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable aggregation unit for group slots.
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ComparableSlotAggregationUnit implements SlotAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] results = new Comparable<?>[AccumulationSlotAggregationUnit.INITIAL_CAPACITY];
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void merge(final int slot, final QueryResult queryResult) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        if (null == value) {
+            return;
+        }
+        Preconditions.checkState(value instanceof Comparable, "Aggregation value must implements Comparable");
+        if (slot >= results.length) {
+            results = Arrays.copyOf(results, Math.max(results.length << 1, slot + 1));
+        }
+        if (null == results[slot]) {
+            results[slot] = (Comparable<?>) value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(results[slot]);
+        if (asc && comparedValue < 0 || !asc && comparedValue > 0) {
+            results[slot] = (Comparable<?>) value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return slot < results.length ? results[slot] : null;
+    }
+}
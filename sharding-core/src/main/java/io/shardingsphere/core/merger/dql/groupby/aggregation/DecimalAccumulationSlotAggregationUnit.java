@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Accumulation aggregation unit for group slots with exact numeric values.
+ * 
+ * @author agent
+ */
+public final class DecimalAccumulationSlotAggregationUnit extends AccumulationSlotAggregationUnit {
+    
+    private BigDecimal[] results = new BigDecimal[INITIAL_CAPACITY];
+    
+    public DecimalAccumulationSlotAggregationUnit(final int columnIndex) {
+        super(columnIndex);
+    }
+    
+    @Override
+    protected void accumulate(final int slot, final Object value) {
+        if (slot >= results.length) {
+            results = Arrays.copyOf(results, getCapacity(results.length, slot));
+        }
+        BigDecimal decimalValue = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        results[slot] = null == results[slot] ? decimalValue : results[slot].add(decimalValue);
+    }
+    
+    @Override
+    public BigDecimal getResult(final int slot) {
+        return slot < results.length ? results[slot] : null;
+    }
+}
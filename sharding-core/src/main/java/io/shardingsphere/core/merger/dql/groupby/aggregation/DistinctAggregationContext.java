@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Context of distinct aggregation for a merged result.
+ * 
+ * <p>
+ * Distinct values of all groups and distinct aggregations share max in memory size of option,
+ * the largest distinct values in memory are spilled to disk once it is reached.
+ * Spilled files are deleted when context closed.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DistinctAggregationContext {
+    
+    @Getter
+    private final DistinctAggregationOption option;
+    
+    private final List<SpillableDistinctValues> distinctValuesList = new LinkedList<>();
+    
+    private final Set<File> spilledFiles = new LinkedHashSet<>();
+    
+    @Getter
+    private int inMemorySize;
+    
+    /**
+     * Create distinct values.
+     * 
+     * @param sumRequired sum of distinct values is required or not
+     * @return distinct values
+     */
+    public SpillableDistinctValues createDistinctValues(final boolean sumRequired) {
+        SpillableDistinctValues result = new SpillableDistinctValues(this, sumRequired);
+        distinctValuesList.add(result);
+        return result;
+    }
+    
+    void increaseInMemorySize() {
+        inMemorySize++;
+        if (inMemorySize >= option.getMaxInMemorySize()) {
+            spillLargestDistinctValues();
+        }
+    }
+    
+    void decreaseInMemorySize(final int size) {
+        inMemorySize -= size;
+    }
+    
+    private void spillLargestDistinctValues() {
+        SpillableDistinctValues largest = null;
+        for (SpillableDistinctValues each : distinctValuesList) {
+            if (null == largest || each.getInMemorySize() > largest.getInMemorySize()) {
+                largest = each;
+            }
+        }
+        if (null != largest && largest.getInMemorySize() > 0) {
+            largest.spill();
+        }
+    }
+    
+    void remove(final SpillableDistinctValues distinctValues) {
+        distinctValuesList.remove(distinctValues);
+    }
+    
+    File createSpilledFile() {
+        try {
+            File result = File.createTempFile("sharding-distinct-", ".tmp");
+            spilledFiles.add(result);
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    void deleteSpilledFile(final File file) {
+        spilledFiles.remove(file);
+        file.delete();
+    }
+    
+    /**
+     * Get count of spilled files not deleted.
+     * 
+     * @return count of spilled files not deleted
+     */
+    public int getSpilledFileCount() {
+        return spilledFiles.size();
+    }
+    
+    /**
+     * Close context.
+     * 
+     * <p>Distinct values not aggregated are discarded and all spilled files are deleted, context can be reused after closed.</p>
+     */
+    public void close() {
+        distinctValuesList.clear();
+        inMemorySize = 0;
+        Iterator<File> iterator = spilledFiles.iterator();
+        while (iterator.hasNext()) {
+            iterator.next().delete();
+            iterator.remove();
+        }
+    }
+}
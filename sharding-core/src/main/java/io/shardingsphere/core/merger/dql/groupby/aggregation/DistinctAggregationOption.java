@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Option of distinct aggregation.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DistinctAggregationOption {
+    
+    public static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+    
+    public static final DistinctAggregationOption DEFAULT = new DistinctAggregationOption(false, 100000);
+    
+    /**
+     * Estimate count of distinct values with sketch instead of exact counting.
+     */
+    private final boolean approximate;
+    
+    /**
+     * Max size of distinct values held in memory for all groups and distinct aggregations of a merged result, largest values beyond it are spilled to disk.
+     */
+    private final int maxInMemorySize;
+    
+    /**
+     * Max count of spilled files merged at once.
+     */
+    private final int maxMergeFanIn;
+    
+    public DistinctAggregationOption(final boolean approximate, final int maxInMemorySize) {
+        this(approximate, maxInMemorySize, DEFAULT_MAX_MERGE_FAN_IN);
+    }
+}
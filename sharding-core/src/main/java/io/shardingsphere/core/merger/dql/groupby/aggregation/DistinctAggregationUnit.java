@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.constant.AggregationType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Distinct aggregation unit.
+ * 
+ * <p>Count of distinct values is estimated by HyperLogLog sketch when approximate option enabled, otherwise values are deduplicated exactly.</p>
+ *
+ * @author agent
+ */
+public final class DistinctAggregationUnit implements AggregationUnit {
+    
+    private final AggregationType type;
+    
+    private final HyperLogLog sketch;
+    
+    private final SpillableDistinctValues distinctValues;
+    
+    private boolean merged;
+    
+    public DistinctAggregationUnit(final AggregationType type, final DistinctAggregationContext context) {
+        this.type = type;
+        if (AggregationType.COUNT == type && context.getOption().isApproximate()) {
+            sketch = new HyperLogLog();
+            distinctValues = null;
+        } else {
+            sketch = null;
+            distinctValues = context.createDistinctValues(AggregationType.COUNT != type);
+        }
+    }
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        merged = true;
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null == sketch) {
+            distinctValues.add(values.get(0));
+        } else {
+            sketch.offer(values.get(0));
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        if (null != sketch) {
+            return BigDecimal.valueOf(sketch.cardinality());
+        }
+        switch (type) {
+            case COUNT:
+                return BigDecimal.valueOf(distinctValues.getCount());
+            case SUM:
+                return distinctValues.getSum();
+            case AVG:
+                return getAverage();
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+    
+    private BigDecimal getAverage() {
+        long count = distinctValues.getCount();
+        return 0L == count ? null : distinctValues.getSum().divide(BigDecimal.valueOf(count), 4, BigDecimal.ROUND_HALF_UP);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Distinct aggregation unit for group slots.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DistinctSlotAggregationUnit implements SlotAggregationUnit {
+    
+    private final int columnIndex;
+    
+    private final AggregationType type;
+    
+    private final DistinctAggregationContext context;
+    
+    private final List<DistinctAggregationUnit> units = new ArrayList<>();
+    
+    @Override
+    public void merge(final int slot, final QueryResult queryResult) throws SQLException {
+        while (units.size() <= slot) {
+            units.add(new DistinctAggregationUnit(type, context));
+        }
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+        units.get(slot).merge(Collections.<Comparable<?>>singletonList((Comparable<?>) value));
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return slot < units.size() ? units.get(slot).getResult() : null;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Accumulation aggregation unit for group slots with approximate numeric values.
+ * 
+ * @author agent
+ */
+public final class DoubleAccumulationSlotAggregationUnit extends AccumulationSlotAggregationUnit {
+    
+    private double[] results = new double[INITIAL_CAPACITY];
+    
+    private boolean[] accumulated = new boolean[INITIAL_CAPACITY];
+    
+    public DoubleAccumulationSlotAggregationUnit(final int columnIndex) {
+        super(columnIndex);
+    }
+    
+    @Override
+    protected void accumulate(final int slot, final Object value) {
+        if (slot >= results.length) {
+            int capacity = getCapacity(results.length, slot);
+            results = Arrays.copyOf(results, capacity);
+            accumulated = Arrays.copyOf(accumulated, capacity);
+        }
+        accumulated[slot] = true;
+        results[slot] += value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+    }
+    
+    @Override
+    public BigDecimal getResult(final int slot) {
+        return slot < results.length && accumulated[slot] ? BigDecimal.valueOf(results[slot]) : null;
+    }
+}
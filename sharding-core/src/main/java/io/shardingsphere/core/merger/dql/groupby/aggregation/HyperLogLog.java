@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * HyperLogLog sketch to estimate count of distinct values.
+ * 
+ * <p>Standard error of estimation is about {@code 1.04 / sqrt(2 ^ precision)}, 0.81% for default precision.</p>
+ *
+ * @author agent
+ */
+public final class HyperLogLog {
+    
+    private static final int DEFAULT_PRECISION = 14;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int precision;
+    
+    private final byte[] registers;
+    
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+    
+    public HyperLogLog(final int precision) {
+        this.precision = precision;
+        registers = new byte[1 << precision];
+    }
+    
+    /**
+     * Offer value.
+     * 
+     * @param value value
+     */
+    public void offer(final Object value) {
+        long hash = HASH_FUNCTION.hashString(value.toString(), Charsets.UTF_8).asLong();
+        int registerIndex = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[registerIndex]) {
+            registers[registerIndex] = rank;
+        }
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     * 
+     * @return estimated count of distinct values
+     */
+    public long cardinality() {
+        int registerSize = registers.length;
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double estimate = getAlpha(registerSize) * registerSize * registerSize / sum;
+        if (estimate <= 2.5 * registerSize && zeroRegisterCount > 0) {
+            return Math.round(registerSize * Math.log((double) registerSize / zeroRegisterCount));
+        }
+        return Math.round(estimate);
+    }
+    
+    private double getAlpha(final int registerSize) {
+        switch (registerSize) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerSize);
+        }
+    }
+}
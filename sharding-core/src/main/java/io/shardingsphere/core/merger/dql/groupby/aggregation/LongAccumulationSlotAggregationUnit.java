@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Accumulation aggregation unit for group slots with integral values.
+ * 
+ * <p>Accumulate with primitive long, and switch to {@code BigDecimal} for the group slot once overflow.</p>
+ * 
+ * @author agent
+ */
+public final class LongAccumulationSlotAggregationUnit extends AccumulationSlotAggregationUnit {
+    
+    private long[] results = new long[INITIAL_CAPACITY];
+    
+    private boolean[] accumulated = new boolean[INITIAL_CAPACITY];
+    
+    private BigDecimal[] overflowResults;
+    
+    public LongAccumulationSlotAggregationUnit(final int columnIndex) {
+        super(columnIndex);
+    }
+    
+    @Override
+    protected void accumulate(final int slot, final Object value) {
+        ensureCapacity(slot);
+        accumulated[slot] = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            accumulate(slot, ((Number) value).longValue());
+        } else {
+            accumulateOverflow(slot, value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+        }
+    }
+    
+    private void accumulate(final int slot, final long value) {
+        if (null != overflowResults && null != overflowResults[slot]) {
+            overflowResults[slot] = overflowResults[slot].add(BigDecimal.valueOf(value));
+            return;
+        }
+        long result = results[slot] + value;
+        if (((results[slot] ^ result) & (value ^ result)) < 0) {
+            accumulateOverflow(slot, BigDecimal.valueOf(value));
+            return;
+        }
+        results[slot] = result;
+    }
+    
+    private void accumulateOverflow(final int slot, final BigDecimal value) {
+        if (null == overflowResults) {
+            overflowResults = new BigDecimal[results.length];
+        }
+        overflowResults[slot] = (null == overflowResults[slot] ? BigDecimal.valueOf(results[slot]) : overflowResults[slot]).add(value);
+    }
+    
+    private void ensureCapacity(final int slot) {
+        if (slot < results.length) {
+            return;
+        }
+        int capacity = getCapacity(results.length, slot);
+        results = Arrays.copyOf(results, capacity);
+        accumulated = Arrays.copyOf(accumulated, capacity);
+        if (null != overflowResults) {
+            overflowResults = Arrays.copyOf(overflowResults, capacity);
+        }
+    }
+    
+    @Override
+    public BigDecimal getResult(final int slot) {
+        if (slot >= results.length || !accumulated[slot]) {
+            return null;
+        }
+        return null != overflowResults && null != overflowResults[slot] ? overflowResults[slot] : BigDecimal.valueOf(results[slot]);
+    }
+}
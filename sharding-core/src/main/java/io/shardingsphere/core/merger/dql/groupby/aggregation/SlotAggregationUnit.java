@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Aggregation unit which holds aggregation states of all groups, state of each group is indexed by group slot.
+ * 
+ * @author agent
+ */
+public interface SlotAggregationUnit {
+    
+    /**
+     * Merge aggregation value of current row into group slot.
+     * 
+     * @param slot group slot
+     * @param queryResult query result which current row belongs to
+     * @throws SQLException SQL exception
+     */
+    void merge(int slot, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get aggregation result of group slot.
+     * 
+     * @param slot group slot
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int slot);
+}
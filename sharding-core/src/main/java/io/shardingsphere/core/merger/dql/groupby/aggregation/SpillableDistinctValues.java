@@ -0,0 +1,368 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.merger.dql.orderby.CompareUtil;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Distinct values which spill to disk.
+ * 
+ * <p>
+ * Values are deduplicated in memory, they are sorted and spilled to temporary file once max in memory size of context is reached and these values are the largest.
+ * Spilled files are merged with in memory values in order when aggregating, at most max merge fan in files are opened at once.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SpillableDistinctValues {
+    
+    private static final Comparator<Comparable<?>> VALUE_COMPARATOR = new Comparator<Comparable<?>>() {
+        
+        @Override
+        public int compare(final Comparable<?> o1, final Comparable<?> o2) {
+            return CompareUtil.compareTo(o1, o2, OrderDirection.ASC, OrderDirection.ASC);
+        }
+    };
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final DistinctAggregationContext context;
+    
+    private final boolean sumRequired;
+    
+    private final Set<Comparable<?>> inMemoryValues = new HashSet<>();
+    
+    private final List<File> spilledFiles = new LinkedList<>();
+    
+    private boolean aggregated;
+    
+    private long count;
+    
+    private BigDecimal sum;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value, null value is ignored
+     */
+    public void add(final Comparable<?> value) {
+        Preconditions.checkState(!aggregated, "Can not add value after distinct values aggregated.");
+        if (null != value && inMemoryValues.add(normalize(value))) {
+            context.increaseInMemorySize();
+        }
+    }
+    
+    private Comparable<?> normalize(final Comparable<?> value) {
+        if (!(value instanceof BigDecimal)) {
+            return value;
+        }
+        BigDecimal decimal = (BigDecimal) value;
+        return 0 == decimal.signum() ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+    }
+    
+    int getInMemorySize() {
+        return inMemoryValues.size();
+    }
+    
+    void spill() {
+        File file = context.createSpilledFile();
+        spilledFiles.add(file);
+        write(file, sort(inMemoryValues).iterator());
+        context.decreaseInMemorySize(inMemoryValues.size());
+        inMemoryValues.clear();
+    }
+    
+    private void write(final File file, final Iterator<Comparable<?>> sortedValues) {
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            int written = 0;
+            while (sortedValues.hasNext()) {
+                outputStream.writeObject(sortedValues.next());
+                if (0 == ++written % RESET_INTERVAL) {
+                    outputStream.reset();
+                }
+            }
+            outputStream.writeObject(null);
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    private List<Comparable<?>> sort(final Set<Comparable<?>> values) {
+        List<Comparable<?>> result = new ArrayList<>(values);
+        Collections.sort(result, VALUE_COMPARATOR);
+        return result;
+    }
+    
+    /**
+     * Judge values spilled to disk or not.
+     * 
+     * @return values spilled to disk or not
+     */
+    public boolean isSpilled() {
+        return !spilledFiles.isEmpty();
+    }
+    
+    /**
+     * Get count of distinct values.
+     * 
+     * @return count of distinct values
+     */
+    public long getCount() {
+        aggregate();
+        return count;
+    }
+    
+    /**
+     * Get sum of distinct values.
+     * 
+     * @return sum of distinct values, null if no value added
+     */
+    public BigDecimal getSum() {
+        Preconditions.checkState(sumRequired, "Sum of distinct values is not required.");
+        aggregate();
+        return sum;
+    }
+    
+    private void aggregate() {
+        if (aggregated) {
+            return;
+        }
+        aggregated = true;
+        try {
+            if (spilledFiles.isEmpty()) {
+                for (Comparable<?> each : inMemoryValues) {
+                    accumulate(each);
+                }
+            } else {
+                aggregateWithSpilledFiles();
+            }
+        } finally {
+            context.decreaseInMemorySize(inMemoryValues.size());
+            context.remove(this);
+            inMemoryValues.clear();
+            for (File each : spilledFiles) {
+                context.deleteSpilledFile(each);
+            }
+            spilledFiles.clear();
+        }
+    }
+    
+    private void aggregateWithSpilledFiles() {
+        int maxMergeFanIn = Math.max(2, context.getOption().getMaxMergeFanIn());
+        while (spilledFiles.size() >= maxMergeFanIn) {
+            mergeSpilledFiles(maxMergeFanIn);
+        }
+        List<ObjectInputStream> inputStreams = new ArrayList<>(spilledFiles.size());
+        try {
+            List<Iterator<Comparable<?>>> sortedValuesList = open(spilledFiles, inputStreams);
+            sortedValuesList.add(sort(inMemoryValues).iterator());
+            Iterator<Comparable<?>> distinctValues = new SortedDistinctValuesIterator(sortedValuesList);
+            while (distinctValues.hasNext()) {
+                accumulate(distinctValues.next());
+            }
+        } finally {
+            close(inputStreams);
+        }
+    }
+    
+    private void mergeSpilledFiles(final int maxMergeFanIn) {
+        List<File> mergingFiles = new ArrayList<>(spilledFiles.subList(0, maxMergeFanIn));
+        File mergedFile = context.createSpilledFile();
+        List<ObjectInputStream> inputStreams = new ArrayList<>(mergingFiles.size());
+        try {
+            write(mergedFile, new SortedDistinctValuesIterator(open(mergingFiles, inputStreams)));
+        } finally {
+            close(inputStreams);
+        }
+        spilledFiles.removeAll(mergingFiles);
+        spilledFiles.add(mergedFile);
+        for (File each : mergingFiles) {
+            context.deleteSpilledFile(each);
+        }
+    }
+    
+    private List<Iterator<Comparable<?>>> open(final List<File> files, final List<ObjectInputStream> inputStreams) {
+        List<Iterator<Comparable<?>>> result = new ArrayList<>(files.size() + 1);
+        try {
+            for (File each : files) {
+                ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(each)));
+                inputStreams.add(inputStream);
+                result.add(new SpilledValuesIterator(inputStream));
+            }
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+        return result;
+    }
+    
+    private void accumulate(final Comparable<?> value) {
+        count++;
+        if (sumRequired) {
+            sum = (null == sum ? BigDecimal.ZERO : sum).add(new BigDecimal(value.toString()));
+        }
+    }
+    
+    private void close(final List<ObjectInputStream> inputStreams) {
+        try {
+            for (ObjectInputStream each : inputStreams) {
+                each.close();
+            }
+        } catch (final IOException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledValuesIterator implements Iterator<Comparable<?>> {
+        
+        private final ObjectInputStream inputStream;
+        
+        private Comparable<?> next;
+        
+        private boolean finished;
+        
+        @Override
+        public boolean hasNext() {
+            if (null == next && !finished) {
+                try {
+                    next = (Comparable<?>) inputStream.readObject();
+                } catch (final IOException | ClassNotFoundException ex) {
+                    throw new ShardingException(ex);
+                }
+                finished = null == next;
+            }
+            return null != next;
+        }
+        
+        @Override
+        public Comparable<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Comparable<?> result = next;
+            next = null;
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+    }
+    
+    private static final class SortedDistinctValuesIterator implements Iterator<Comparable<?>> {
+        
+        private final PriorityQueue<SortedValuesCursor> cursors;
+        
+        private Comparable<?> previous;
+        
+        private Comparable<?> next;
+        
+        SortedDistinctValuesIterator(final List<Iterator<Comparable<?>>> sortedValuesList) {
+            cursors = new PriorityQueue<>(Math.max(1, sortedValuesList.size()));
+            for (Iterator<Comparable<?>> each : sortedValuesList) {
+                offer(new SortedValuesCursor(each));
+            }
+        }
+        
+        private void offer(final SortedValuesCursor cursor) {
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (null == next && !cursors.isEmpty()) {
+                SortedValuesCursor cursor = cursors.poll();
+                if (null == previous || 0 != VALUE_COMPARATOR.compare(previous, cursor.getCurrent())) {
+                    previous = cursor.getCurrent();
+                    next = previous;
+                }
+                offer(cursor);
+            }
+            return null != next;
+        }
+        
+        @Override
+        public Comparable<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Comparable<?> result = next;
+            next = null;
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedValuesCursor implements Comparable<SortedValuesCursor> {
+        
+        private final Iterator<Comparable<?>> values;
+        
+        private Comparable<?> current;
+        
+        boolean next() {
+            if (!values.hasNext()) {
+                return false;
+            }
+            current = values.next();
+            return true;
+        }
+        
+        Comparable<?> getCurrent() {
+            return current;
+        }
+        
+        @Override
+        public int compareTo(final SortedValuesCursor o) {
+            return VALUE_COMPARATOR.compare(current, o.current);
+        }
+    }
+}
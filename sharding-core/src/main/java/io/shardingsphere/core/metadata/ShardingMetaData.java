@@ -21,11 +21,13 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -42,7 +44,12 @@ public final class ShardingMetaData {
     
     public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule,
                             final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(dataSourceURLs, shardingRule, databaseType, executeEngine, connectionManager, maxConnectionsSizePerQuery, Collections.<String, TableMetaData>emptyMap());
+    }
+    
+    public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                            final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final Map<String, TableMetaData> loadedTableMetaDataMap) {
         dataSource = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
-        table = new ShardingTableMetaData(new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery).load(shardingRule));
+        table = new ShardingTableMetaData(new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery).load(shardingRule, loadedTableMetaDataMap));
     }
 }
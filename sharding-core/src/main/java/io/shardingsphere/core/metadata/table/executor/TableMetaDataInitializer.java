@@ -29,6 +29,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -57,35 +58,51 @@ public final class TableMetaDataInitializer {
      * @return all table meta data
      */
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) {
+        return load(shardingRule, Collections.<String, TableMetaData>emptyMap());
+    }
+    
+    /**
+     * Load table meta data which not loaded yet.
+     *
+     * @param shardingRule sharding rule
+     * @param loadedTableMetaDataMap loaded table meta data map, key is table name
+     * @return all table meta data
+     */
+    public Map<String, TableMetaData> load(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaDataMap) {
         Map<String, TableMetaData> result = new HashMap<>();
         try {
-            result.putAll(loadShardingTables(shardingRule));
-            result.putAll(loadDefaultTables(shardingRule));
+            result.putAll(loadShardingTables(shardingRule, loadedTableMetaDataMap));
+            result.putAll(loadDefaultTables(shardingRule, loadedTableMetaDataMap));
         } catch (final SQLException ex) {
             throw new ShardingException(ex);
         }
         return result;
     }
     
-    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
+    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaDataMap) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            result.put(each.getLogicTable(), load(each.getLogicTable(), shardingRule, loadedTableMetaDataMap));
         }
         return result;
     }
     
-    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
+    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaDataMap) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
         if (actualDefaultDataSourceName.isPresent()) {
             for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+                result.put(each, load(each, shardingRule, loadedTableMetaDataMap));
             }
         }
         return result;
     }
     
+    private TableMetaData load(final String tableName, final ShardingRule shardingRule, final Map<String, TableMetaData> loadedTableMetaDataMap) throws SQLException {
+        TableMetaData result = loadedTableMetaDataMap.get(tableName);
+        return null == result ? tableMetaDataLoader.load(tableName, shardingRule) : result;
+    }
+    
     private Collection<String> getAllTableNames(final String dataSourceName) throws SQLException {
         Collection<String> result = new LinkedHashSet<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName);
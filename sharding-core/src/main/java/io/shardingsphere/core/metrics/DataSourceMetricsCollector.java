@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Metrics collector for execution statistics of data sources.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DataSourceMetricsCollector implements MetricsCollector {
+    
+    private static final String ACTIVE_EXECUTIONS = "sharding_data_source_active_executions";
+    
+    private static final String EXECUTE_LATENCY = "sharding_data_source_execute_latency_microseconds";
+    
+    private static final String CONNECTION_MODE = "sharding_data_source_connection_mode_total";
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    @Override
+    public void collect(final MetricsTextWriter writer) {
+        for (DataSourceStatistics each : statisticsRegistry.getAllStatistics()) {
+            writer.writeGauge(ACTIVE_EXECUTIONS, "Count of in-flight executions of data source.", each.getActiveCount(), "data_source", each.getDataSourceName());
+        }
+        for (DataSourceStatistics each : statisticsRegistry.getAllStatistics()) {
+            writer.writeHistogram(EXECUTE_LATENCY, "Latency of execution on data source in microseconds.", each.getLatencyHistogram(), "data_source", each.getDataSourceName());
+        }
+        for (DataSourceStatistics each : statisticsRegistry.getAllStatistics()) {
+            writer.writeCounter(CONNECTION_MODE, "Count of queries by connection mode decided for data source.", 
+                    each.getMemoryStrictlyCount(), "data_source", each.getDataSourceName(), "connection_mode", ConnectionMode.MEMORY_STRICTLY.name());
+            writer.writeCounter(CONNECTION_MODE, "Count of queries by connection mode decided for data source.", 
+                    each.getConnectionStrictlyCount(), "data_source", each.getDataSourceName(), "connection_mode", ConnectionMode.CONNECTION_STRICTLY.name());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.breaker.DataSourceCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.ExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Metrics collector for saturation of execute engine, bulkheads and circuit breakers.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ExecutorMetricsCollector implements MetricsCollector {
+    
+    private final ShardingExecuteEngine executeEngine;
+    
+    private final SQLExecuteBulkhead executeBulkhead;
+    
+    private final SQLExecuteCircuitBreaker circuitBreaker;
+    
+    @Override
+    public void collect(final MetricsTextWriter writer) {
+        writer.writeGauge("sharding_executor_active_threads", "Count of executor threads which are executing tasks.", executeEngine.getActiveThreadCount());
+        writer.writeGauge("sharding_executor_queued_tasks", "Count of executor tasks which are waiting for threads.", executeEngine.getQueuedTaskCount());
+        if (null != circuitBreaker) {
+            collectCircuitBreakers(writer);
+        }
+        if (null == executeBulkhead) {
+            return;
+        }
+        Collection<ExecuteBulkhead> bulkheads = getBulkheads();
+        for (ExecuteBulkhead each : bulkheads) {
+            writer.writeGauge("sharding_bulkhead_active_connections", "Count of connections which hold bulkhead permits.", each.getActiveCount(), "bulkhead", each.getName());
+        }
+        for (ExecuteBulkhead each : bulkheads) {
+            writer.writeGauge("sharding_bulkhead_waiting_queries", "Count of queries which are waiting in bulkhead queue.", each.getWaitingCount(), "bulkhead", each.getName());
+        }
+        for (ExecuteBulkhead each : bulkheads) {
+            writer.writeCounter("sharding_bulkhead_waited_total", "Count of queries which waited in bulkhead queue.", each.getWaitedCount(), "bulkhead", each.getName());
+        }
+        for (ExecuteBulkhead each : bulkheads) {
+            writer.writeCounter("sharding_bulkhead_wait_milliseconds_total", "Total time of queries waited in bulkhead queue.", each.getWaitMilliseconds(), "bulkhead", each.getName());
+        }
+        for (ExecuteBulkhead each : bulkheads) {
+            writer.writeCounter("sharding_bulkhead_rejected_total", "Count of queries rejected by bulkhead.", each.getRejectedCount(), "bulkhead", each.getName());
+        }
+    }
+    
+    private void collectCircuitBreakers(final MetricsTextWriter writer) {
+        Collection<DataSourceCircuitBreaker> circuitBreakers = circuitBreaker.getDataSourceCircuitBreakers();
+        for (DataSourceCircuitBreaker each : circuitBreakers) {
+            writer.writeGauge("sharding_circuit_breaker_state", "State of circuit breaker, 0 is closed, 1 is open, 2 is half open.", each.getState().ordinal(), "data_source", each.getDataSourceName());
+        }
+        for (DataSourceCircuitBreaker each : circuitBreakers) {
+            writer.writeGauge("sharding_circuit_breaker_concurrency_limit", "Adaptive concurrency limit of data source.", each.getConcurrencyLimit(), "data_source", each.getDataSourceName());
+        }
+        for (DataSourceCircuitBreaker each : circuitBreakers) {
+            writer.writeGauge("sharding_circuit_breaker_in_flight_executions", "Count of in-flight executions of data source.", each.getInFlightCount(), "data_source", each.getDataSourceName());
+        }
+        for (DataSourceCircuitBreaker each : circuitBreakers) {
+            writer.writeCounter("sharding_circuit_breaker_rejected_total", "Count of executions rejected by circuit breaker.", each.getRejectedCount(), "data_source", each.getDataSourceName());
+        }
+    }
+    
+    private Collection<ExecuteBulkhead> getBulkheads() {
+        Collection<ExecuteBulkhead> result = new LinkedList<>();
+        if (null != executeBulkhead.getGlobalBulkhead()) {
+            result.add(executeBulkhead.getGlobalBulkhead());
+        }
+        result.addAll(executeBulkhead.getDataSourceBulkheads());
+        return result;
+    }
+}
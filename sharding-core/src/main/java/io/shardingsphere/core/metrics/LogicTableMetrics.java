@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.constant.SQLType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Metrics of statements routed by logic table.
+ *
+ * <p>Counters are cached by logic table and SQL type, so labels are formatted only once for each of them.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LogicTableMetrics {
+    
+    private static final ConcurrentMap<String, AtomicReferenceArray<AtomicLong>> STATEMENT_COUNTERS = new ConcurrentHashMap<>();
+    
+    /**
+     * Record statement routed for logic table.
+     *
+     * @param logicTableName logic table name
+     * @param sqlType SQL type
+     */
+    public static void recordStatement(final String logicTableName, final SQLType sqlType) {
+        getStatementCounter(logicTableName, sqlType).incrementAndGet();
+    }
+    
+    private static AtomicLong getStatementCounter(final String logicTableName, final SQLType sqlType) {
+        AtomicReferenceArray<AtomicLong> counters = STATEMENT_COUNTERS.get(logicTableName);
+        if (null == counters) {
+            AtomicReferenceArray<AtomicLong> newCounters = new AtomicReferenceArray<>(SQLType.values().length);
+            counters = STATEMENT_COUNTERS.putIfAbsent(logicTableName, newCounters);
+            if (null == counters) {
+                counters = newCounters;
+            }
+        }
+        AtomicLong result = counters.get(sqlType.ordinal());
+        if (null == result) {
+            result = MetricsRegistry.getInstance().getCounter(
+                    "sharding_logic_table_statements_total", "Count of routed statements by logic table.", "logic_table", logicTableName.toLowerCase(), "sql_type", sqlType.name());
+            counters.set(sqlType.ordinal(), result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metrics labels.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsLabels {
+    
+    /**
+     * Format labels to Prometheus text format.
+     *
+     * @param labels label names and values in pairs
+     * @return formatted labels without braces
+     */
+    public static String format(final String... labels) {
+        Preconditions.checkArgument(0 == labels.length % 2, "Labels should be names and values in pairs.");
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (0 != i) {
+                result.append(',');
+            }
+            result.append(labels[i]).append("=\"");
+            appendEscaped(result, null == labels[i + 1] ? "" : labels[i + 1]);
+            result.append('"');
+        }
+        return result.toString();
+    }
+    
+    private static void appendEscaped(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' == each || '"' == each) {
+                builder.append('\\').append(each);
+            } else if ('\n' == each) {
+                builder.append("\\n");
+            } else {
+                builder.append(each);
+            }
+        }
+    }
+}
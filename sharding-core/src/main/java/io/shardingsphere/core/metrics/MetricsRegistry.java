@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import com.google.common.base.Preconditions;
+import io.shardingsphere.core.executor.sql.execute.statistics.LatencyHistogram;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics registry.
+ *
+ * <p>
+ * Counters and histograms are updated on hot path without event bus, 
+ * collectors are called only when exporting to read metrics from live objects.
+ * </p>
+ *
+ * <p>
+ * Sharding-Proxy serves exported metrics via HTTP on {@code proxy.metrics.port}.
+ * Metrics of Sharding-JDBC are in same registry of JVM, application exports them by serving {@code MetricsRegistry.getInstance().export()}
+ * on its own HTTP endpoint, for example {@code /metrics} which Prometheus scrapes.
+ * </p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsRegistry {
+    
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    
+    private final ConcurrentMap<String, MetricsFamily> families = new ConcurrentSkipListMap<>();
+    
+    private final CopyOnWriteArrayList<MetricsCollector> collectors = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Get instance of metrics registry.
+     *
+     * @return instance of metrics registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create counter.
+     *
+     * @param name metrics name
+     * @param help help message
+     * @param labels label names and values in pairs
+     * @return counter
+     */
+    public AtomicLong getCounter(final String name, final String help, final String... labels) {
+        return (AtomicLong) getFamily(name, help, MetricsType.COUNTER).getOrCreateSample(MetricsLabels.format(labels));
+    }
+    
+    /**
+     * Get or create latency histogram.
+     *
+     * @param name metrics name
+     * @param help help message
+     * @param labels label names and values in pairs
+     * @return latency histogram
+     */
+    public LatencyHistogram getHistogram(final String name, final String help, final String... labels) {
+        return (LatencyHistogram) getFamily(name, help, MetricsType.HISTOGRAM).getOrCreateSample(MetricsLabels.format(labels));
+    }
+    
+    private MetricsFamily getFamily(final String name, final String help, final MetricsType type) {
+        MetricsFamily result = families.get(name);
+        if (null == result) {
+            MetricsFamily family = new MetricsFamily(help, type);
+            result = families.putIfAbsent(name, family);
+            if (null == result) {
+                result = family;
+            }
+        }
+        Preconditions.checkState(type == result.type, "Metrics `%s` has been registered as %s.", name, result.type);
+        return result;
+    }
+    
+    /**
+     * Register metrics collector.
+     *
+     * @param collector metrics collector
+     */
+    public void register(final MetricsCollector collector) {
+        collectors.addIfAbsent(collector);
+    }
+    
+    /**
+     * Unregister metrics collector.
+     *
+     * @param collector metrics collector
+     */
+    public void unregister(final MetricsCollector collector) {
+        collectors.remove(collector);
+    }
+    
+    /**
+     * Export metrics as Prometheus text format.
+     *
+     * <p>Content type of exported text is {@code text/plain; version=0.0.4}.</p>
+     *
+     * @return metrics in Prometheus text format
+     */
+    public String export() {
+        MetricsTextWriter result = new MetricsTextWriter();
+        for (Entry<String, MetricsFamily> entry : families.entrySet()) {
+            entry.getValue().write(entry.getKey(), result);
+        }
+        for (MetricsCollector each : collectors) {
+            each.collect(result);
+        }
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MetricsFamily {
+        
+        private final String help;
+        
+        private final MetricsType type;
+        
+        private final ConcurrentMap<String, Object> samples = new ConcurrentSkipListMap<>();
+        
+        private Object getOrCreateSample(final String formattedLabels) {
+            Object result = samples.get(formattedLabels);
+            if (null != result) {
+                return result;
+            }
+            Object sample = MetricsType.COUNTER == type ? new AtomicLong() : new LatencyHistogram();
+            result = samples.putIfAbsent(formattedLabels, sample);
+            return null == result ? sample : result;
+        }
+        
+        private void write(final String name, final MetricsTextWriter writer) {
+            for (Entry<String, Object> entry : samples.entrySet()) {
+                if (MetricsType.COUNTER == type) {
+                    writer.writeFormattedCounter(name, help, ((AtomicLong) entry.getValue()).get(), entry.getKey());
+                } else {
+                    writer.writeFormattedHistogram(name, help, (LatencyHistogram) entry.getValue(), entry.getKey());
+                }
+            }
+        }
+    }
+}
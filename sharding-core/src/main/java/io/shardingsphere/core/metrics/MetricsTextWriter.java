@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.LatencyHistogram;
+
+/**
+ * Metrics writer for Prometheus text format.
+ *
+ * @author agent
+ */
+public final class MetricsTextWriter {
+    
+    private final StringBuilder result = new StringBuilder(4096);
+    
+    private String lastName;
+    
+    /**
+     * Write counter.
+     *
+     * @param name metrics name
+     * @param help help message
+     * @param value value of counter
+     * @param labels label names and values in pairs
+     */
+    public void writeCounter(final String name, final String help, final long value, final String... labels) {
+        writeFormattedCounter(name, help, value, MetricsLabels.format(labels));
+    }
+    
+    void writeFormattedCounter(final String name, final String help, final long value, final String formattedLabels) {
+        writeHeader(name, help, MetricsType.COUNTER);
+        writeSample(name, "", formattedLabels, null, value);
+    }
+    
+    /**
+     * Write gauge.
+     *
+     * @param name metrics name
+     * @param help help message
+     * @param value value of gauge
+     * @param labels label names and values in pairs
+     */
+    public void writeGauge(final String name, final String help, final long value, final String... labels) {
+        writeHeader(name, help, MetricsType.GAUGE);
+        writeSample(name, "", MetricsLabels.format(labels), null, value);
+    }
+    
+    /**
+     * Write latency histogram.
+     *
+     * @param name metrics name
+     * @param help help message
+     * @param histogram latency histogram
+     * @param labels label names and values in pairs
+     */
+    public void writeHistogram(final String name, final String help, final LatencyHistogram histogram, final String... labels) {
+        writeFormattedHistogram(name, help, histogram, MetricsLabels.format(labels));
+    }
+    
+    void writeFormattedHistogram(final String name, final String help, final LatencyHistogram histogram, final String formattedLabels) {
+        writeHeader(name, help, MetricsType.HISTOGRAM);
+        long count = 0L;
+        for (int i = 0; i < LatencyHistogram.BUCKET_SIZE; i++) {
+            count += histogram.getBucketCount(i);
+            writeSample(name, "_bucket", formattedLabels, String.valueOf(histogram.getBucketUpperBoundMicros(i)), count);
+        }
+        writeSample(name, "_bucket", formattedLabels, "+Inf", count);
+        writeSample(name, "_sum", formattedLabels, null, histogram.getSumMicros());
+        writeSample(name, "_count", formattedLabels, null, count);
+    }
+    
+    private void writeHeader(final String name, final String help, final MetricsType type) {
+        if (name.equals(lastName)) {
+            return;
+        }
+        lastName = name;
+        result.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        result.append("# TYPE ").append(name).append(' ').append(type.name().toLowerCase()).append('\n');
+    }
+    
+    private void writeSample(final String name, final String suffix, final String formattedLabels, final String upperBound, final long value) {
+        result.append(name).append(suffix);
+        if (!formattedLabels.isEmpty() || null != upperBound) {
+            result.append('{').append(formattedLabels);
+            if (null != upperBound) {
+                result.append(formattedLabels.isEmpty() ? "" : ",").append("le=\"").append(upperBound).append('"');
+            }
+            result.append('}');
+        }
+        result.append(' ').append(value).append('\n');
+    }
+    
+    @Override
+    public String toString() {
+        return result.toString();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.LatencyHistogram;
+
+/**
+ * Stage of SQL processing with latency histogram.
+ *
+ * @author agent
+ */
+public enum SQLStage {
+    
+    PARSE, ROUTE, REWRITE, EXECUTE, MERGE;
+    
+    private final LatencyHistogram latencyHistogram = MetricsRegistry.getInstance().getHistogram(
+            "sharding_sql_stage_latency_microseconds", "Latency of SQL processing stage in microseconds.", "stage", name().toLowerCase());
+    
+    /**
+     * Record latency of stage.
+     *
+     * @param startNanos start time in nanoseconds
+     */
+    public void record(final long startNanos) {
+        latencyHistogram.record(System.nanoTime() - startNanos);
+    }
+}
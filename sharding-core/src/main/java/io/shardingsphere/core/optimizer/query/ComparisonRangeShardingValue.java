@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.optimizer.query;
+
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sharding value for range values which come from {@code <}, {@code <=}, {@code >} and {@code >=} only.
+ * 
+ * <p>Strategies which cannot shard range values route it to all available targets instead of throwing.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ComparisonRangeShardingValue implements ShardingValue {
+    
+    private final RangeShardingValue<?> rangeShardingValue;
+    
+    @Override
+    public String getLogicTableName() {
+        return rangeShardingValue.getLogicTableName();
+    }
+    
+    @Override
+    public String getColumnName() {
+        return rangeShardingValue.getColumnName();
+    }
+    
+    /**
+     * Judge whether range has both lower and upper bound.
+     * 
+     * @return range has both lower and upper bound or not
+     */
+    public boolean isBounded() {
+        return rangeShardingValue.getValueRange().hasLowerBound() && rangeShardingValue.getValueRange().hasUpperBound();
+    }
+}
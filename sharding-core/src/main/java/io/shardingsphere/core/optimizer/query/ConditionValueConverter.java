@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.optimizer.query;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Condition value converter.
+ *
+ * <p>Values of sharding column may be in different types, such as integer parameter compared with long literal.
+ * Integral values are converted into long, other numeric values are converted into big decimal, so that they can be compared with each other.
+ * Values of non-numeric different types, such as timestamp and string, can not be compared.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ConditionValueConverter {
+    
+    /**
+     * Convert condition values into comparable type.
+     *
+     * @param conditionValuesList condition values of conditions
+     * @return condition values in comparable type, absent if they can not be compared
+     */
+    static Optional<List<List<Comparable<?>>>> convert(final List<List<Comparable<?>>> conditionValuesList) {
+        Class<?> valueType = null;
+        boolean sameType = true;
+        boolean numeric = true;
+        boolean integral = true;
+        for (List<Comparable<?>> conditionValues : conditionValuesList) {
+            for (Comparable<?> each : conditionValues) {
+                if (null == each) {
+                    continue;
+                }
+                if (null == valueType) {
+                    valueType = each.getClass();
+                } else if (valueType != each.getClass()) {
+                    sameType = false;
+                }
+                numeric = numeric && each instanceof Number;
+                integral = integral && isIntegral(each);
+            }
+        }
+        if (sameType) {
+            return Optional.of(conditionValuesList);
+        }
+        if (!numeric) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(convert(conditionValuesList, integral));
+        } catch (final NumberFormatException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static List<List<Comparable<?>>> convert(final List<List<Comparable<?>>> conditionValuesList, final boolean integral) {
+        List<List<Comparable<?>>> result = new ArrayList<>(conditionValuesList.size());
+        for (List<Comparable<?>> conditionValues : conditionValuesList) {
+            List<Comparable<?>> values = new ArrayList<>(conditionValues.size());
+            for (Comparable<?> each : conditionValues) {
+                values.add(null == each ? null : convert((Number) each, integral));
+            }
+            result.add(values);
+        }
+        return result;
+    }
+    
+    private static Comparable<?> convert(final Number value, final boolean integral) {
+        return integral ? Long.valueOf(value.longValue()) : new BigDecimal(value.toString());
+    }
+}
@@ -17,13 +17,13 @@
 
 package io.shardingsphere.core.optimizer.query;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.constant.ShardingOperator;
-import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.optimizer.OptimizeEngine;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
@@ -42,6 +42,9 @@ import java.util.Map.Entry;
 /**
  * Query optimize engine.
  *
+ * <p>Values of sharding column in different numeric types are converted into common type before compared,
+ * sharding column is not used to prune routes if its values can not be compared.</p>
+ *
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -63,40 +66,62 @@ public final class QueryOptimizeEngine implements OptimizeEngine {
     private ShardingCondition optimize(final Map<Column, List<Condition>> conditionsMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, List<Condition>> entry : conditionsMap.entrySet()) {
-            try {
-                ShardingValue shardingValue = optimize(entry.getKey(), entry.getValue());
-                if (shardingValue instanceof AlwaysFalseShardingValue) {
-                    return new AlwaysFalseShardingCondition();
-                }
-                result.getShardingValues().add(shardingValue);
-            } catch (final ClassCastException ex) {
-                throw new ShardingException("Found different types for sharding value `%s`.", entry.getKey());
+            Optional<ShardingValue> shardingValue = optimizeIfComparable(entry.getKey(), entry.getValue());
+            if (!shardingValue.isPresent()) {
+                continue;
+            }
+            if (shardingValue.get() instanceof AlwaysFalseShardingValue) {
+                return new AlwaysFalseShardingCondition();
             }
+            result.getShardingValues().add(shardingValue.get());
         }
         return result;
     }
     
-    private ShardingValue optimize(final Column column, final List<Condition> conditions) {
+    private Optional<ShardingValue> optimizeIfComparable(final Column column, final List<Condition> conditions) {
+        List<List<Comparable<?>>> conditionValuesList = new ArrayList<>(conditions.size());
+        for (Condition each : conditions) {
+            conditionValuesList.add(each.getConditionValues(parameters));
+        }
+        Optional<List<List<Comparable<?>>>> comparableConditionValuesList = ConditionValueConverter.convert(conditionValuesList);
+        if (!comparableConditionValuesList.isPresent()) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(optimize(column, conditions, comparableConditionValuesList.get()));
+        } catch (final ClassCastException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private ShardingValue optimize(final Column column, final List<Condition> conditions, final List<List<Comparable<?>>> conditionValuesList) {
         List<Comparable<?>> listValue = null;
         Range<Comparable<?>> rangeValue = null;
-        for (Condition each : conditions) {
-            List<Comparable<?>> conditionValues = each.getConditionValues(parameters);
+        boolean containsBetween = false;
+        for (int i = 0; i < conditions.size(); i++) {
+            Condition each = conditions.get(i);
+            List<Comparable<?>> conditionValues = conditionValuesList.get(i);
             if (ShardingOperator.EQUAL == each.getOperator() || ShardingOperator.IN == each.getOperator()) {
                 listValue = optimize(conditionValues, listValue);
                 if (listValue.isEmpty()) {
                     return new AlwaysFalseShardingValue();
                 }
             }
-            if (ShardingOperator.BETWEEN == each.getOperator()) {
+            if (isRangeOperator(each.getOperator())) {
+                containsBetween = containsBetween || ShardingOperator.BETWEEN == each.getOperator();
                 try {
-                    rangeValue = optimize(Range.range(conditionValues.get(0), BoundType.CLOSED, conditionValues.get(1), BoundType.CLOSED), rangeValue);
+                    rangeValue = optimize(getRange(each.getOperator(), conditionValues), rangeValue);
                 } catch (final IllegalArgumentException ex) {
                     return new AlwaysFalseShardingValue();
                 }
+                if (rangeValue.isEmpty()) {
+                    return new AlwaysFalseShardingValue();
+                }
             }
         }
         if (null == listValue) {
-            return new RangeShardingValue<>(column.getTableName(), column.getName(), rangeValue);
+            RangeShardingValue<Comparable<?>> result = new RangeShardingValue<>(column.getTableName(), column.getName(), rangeValue);
+            return containsBetween ? result : new ComparisonRangeShardingValue(result);
         }
         if (null == rangeValue) {
             return new ListShardingValue<>(column.getTableName(), column.getName(), listValue);
@@ -105,6 +130,27 @@ public final class QueryOptimizeEngine implements OptimizeEngine {
         return listValue.isEmpty() ? new AlwaysFalseShardingValue() : new ListShardingValue<>(column.getTableName(), column.getName(), listValue);
     }
     
+    private boolean isRangeOperator(final ShardingOperator operator) {
+        return ShardingOperator.EQUAL != operator && ShardingOperator.IN != operator;
+    }
+    
+    private Range<Comparable<?>> getRange(final ShardingOperator operator, final List<Comparable<?>> conditionValues) {
+        switch (operator) {
+            case BETWEEN:
+                return Range.range(conditionValues.get(0), BoundType.CLOSED, conditionValues.get(1), BoundType.CLOSED);
+            case LESS_THAN:
+                return Range.<Comparable<?>>lessThan(conditionValues.get(0));
+            case LESS_THAN_OR_EQUAL:
+                return Range.<Comparable<?>>atMost(conditionValues.get(0));
+            case GREATER_THAN:
+                return Range.<Comparable<?>>greaterThan(conditionValues.get(0));
+            case GREATER_THAN_OR_EQUAL:
+                return Range.<Comparable<?>>atLeast(conditionValues.get(0));
+            default:
+                throw new UnsupportedOperationException(operator.getExpression());
+        }
+    }
+    
     private List<Comparable<?>> optimize(final List<Comparable<?>> value1, final List<Comparable<?>> value2) {
         if (null == value2) {
             return value1;
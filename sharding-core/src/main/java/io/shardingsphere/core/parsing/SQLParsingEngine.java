@@ -20,6 +20,8 @@ package io.shardingsphere.core.parsing;
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metrics.MetricsRegistry;
+import io.shardingsphere.core.metrics.SQLStage;
 import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.lexer.LexerEngine;
 import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
@@ -28,6 +30,8 @@ import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.RequiredArgsConstructor;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * SQL parsing engine.
  *
@@ -36,6 +40,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public final class SQLParsingEngine {
     
+    private static final AtomicLong CACHE_HIT_COUNTER = MetricsRegistry.getInstance().getCounter(
+            "sharding_parsing_cache_requests_total", "Count of parsing result cache requests.", "result", "hit");
+    
+    private static final AtomicLong CACHE_MISS_COUNTER = MetricsRegistry.getInstance().getCounter(
+            "sharding_parsing_cache_requests_total", "Count of parsing result cache requests.", "result", "miss");
+    
     private final DatabaseType dbType;
     
     private final String sql;
@@ -51,17 +61,26 @@ public final class SQLParsingEngine {
      * @return parsed SQL statement
      */
     public SQLStatement parse(final boolean useCache) {
-        Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(useCache);
-        if (cachedSQLStatement.isPresent()) {
-            return cachedSQLStatement.get();
-        }
-        LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
-        lexerEngine.nextToken();
-        SQLStatement result = SQLParserFactory.newInstance(dbType, lexerEngine.getCurrentToken().getType(), shardingRule, lexerEngine, shardingTableMetaData).parse();
-        if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
+        long startNanos = System.nanoTime();
+        try {
+            Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(useCache);
+            if (cachedSQLStatement.isPresent()) {
+                CACHE_HIT_COUNTER.incrementAndGet();
+                return cachedSQLStatement.get();
+            }
+            if (useCache) {
+                CACHE_MISS_COUNTER.incrementAndGet();
+            }
+            LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
+            lexerEngine.nextToken();
+            SQLStatement result = SQLParserFactory.newInstance(dbType, lexerEngine.getCurrentToken().getType(), shardingRule, lexerEngine, shardingTableMetaData).parse();
+            if (useCache) {
+                ParsingResultCache.getInstance().put(sql, result);
+            }
+            return result;
+        } finally {
+            SQLStage.PARSE.record(startNanos);
         }
-        return result;
     }
     
     private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
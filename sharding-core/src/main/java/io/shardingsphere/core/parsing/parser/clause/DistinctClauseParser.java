@@ -20,6 +20,7 @@ package io.shardingsphere.core.parsing.parser.clause;
 import io.shardingsphere.core.parsing.lexer.LexerEngine;
 import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Keyword;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
@@ -38,13 +39,18 @@ public abstract class DistinctClauseParser implements SQLClauseParser {
     
     /**
      * Parse distinct.
+     * 
+     * @param selectStatement select statement
      */
-    public final void parse() {
+    public final void parse(final SelectStatement selectStatement) {
         lexerEngine.skipAll(DefaultKeyword.ALL);
         Collection<Keyword> distinctKeywords = new LinkedList<>();
         distinctKeywords.add(DefaultKeyword.DISTINCT);
         distinctKeywords.addAll(Arrays.asList(getSynonymousKeywordsForDistinct()));
-        lexerEngine.unsupportedIfEqual(distinctKeywords.toArray(new Keyword[distinctKeywords.size()]));
+        if (lexerEngine.skipIfEqual(distinctKeywords.toArray(new Keyword[distinctKeywords.size()]))) {
+            lexerEngine.unsupportedIfEqual(DefaultKeyword.ON);
+            selectStatement.setDistinct(true);
+        }
     }
     
     protected abstract Keyword[] getSynonymousKeywordsForDistinct();
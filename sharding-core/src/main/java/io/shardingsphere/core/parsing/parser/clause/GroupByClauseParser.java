@@ -56,6 +56,7 @@ public abstract class GroupByClauseParser implements SQLClauseParser {
      */
     public final void parse(final SelectStatement selectStatement) {
         if (!lexerEngine.skipIfEqual(DefaultKeyword.GROUP)) {
+            selectStatement.setGroupByLastPosition(lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length());
             return;
         }
         lexerEngine.accept(DefaultKeyword.BY);
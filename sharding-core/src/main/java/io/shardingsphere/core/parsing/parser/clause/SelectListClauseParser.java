@@ -24,12 +24,15 @@ import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Keyword;
 import io.shardingsphere.core.parsing.lexer.token.Symbol;
 import io.shardingsphere.core.parsing.parser.clause.expression.AliasExpressionParser;
+import io.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.CommonSelectItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.SelectItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.StarSelectItem;
 import io.shardingsphere.core.parsing.parser.dialect.ExpressionParserFactory;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingUnsupportedException;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.AggregationDistinctToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.util.SQLUtil;
@@ -65,10 +68,11 @@ public abstract class SelectListClauseParser implements SQLClauseParser {
      */
     public void parse(final SelectStatement selectStatement, final List<SelectItem> items) {
         do {
-            selectStatement.getItems().add(parseSelectItem(selectStatement));
+            SelectItem selectItem = parseSelectItem(selectStatement);
+            selectStatement.getItems().add(selectItem);
+            items.add(selectItem);
         } while (lexerEngine.skipIfEqual(Symbol.COMMA));
         selectStatement.setSelectListLastPosition(lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length());
-        items.addAll(selectStatement.getItems());
     }
     
     private SelectItem parseSelectItem(final SelectStatement selectStatement) {
@@ -133,7 +137,7 @@ public abstract class SelectListClauseParser implements SQLClauseParser {
         }
         return new CommonSelectItem(SQLUtil.getExactlyValue(result
                 + parseRestSelectItem(selectStatement)), aliasExpressionParser.parseSelectItemAlias());
-        
+    
     }
     
     private boolean isAggregationSelectItem() {
@@ -142,8 +146,64 @@ public abstract class SelectListClauseParser implements SQLClauseParser {
     
     private SelectItem parseAggregationSelectItem(final SelectStatement selectStatement) {
         AggregationType aggregationType = AggregationType.valueOf(lexerEngine.getCurrentToken().getLiterals().toUpperCase());
+        int beginPosition = lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
         lexerEngine.nextToken();
-        return new AggregationSelectItem(aggregationType, lexerEngine.skipParentheses(selectStatement), aliasExpressionParser.parseSelectItemAlias());
+        int innerExpressionBeginPosition = lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
+        String innerExpression = lexerEngine.skipParentheses(selectStatement);
+        AggregationSelectItem result = new AggregationSelectItem(aggregationType, innerExpression, aliasExpressionParser.parseSelectItemAlias());
+        Optional<String> distinctExpression = getDistinctExpression(aggregationType, innerExpression);
+        if (distinctExpression.isPresent()) {
+            lexerEngine.unsupportedIfEqual(Symbol.getOperators());
+            result.setDistinctExpression(distinctExpression);
+            if (!result.getAlias().isPresent()) {
+                result.setDerivedAlias(Optional.of(DerivedColumn.AGGREGATION_DISTINCT_ALIAS.getDerivedColumnAlias(getDistinctAggregationSelectItemCount(selectStatement))));
+            }
+            String originalLiterals = lexerEngine.getInput().substring(beginPosition, innerExpressionBeginPosition + innerExpression.length());
+            result.setOriginalLiterals(Optional.of(originalLiterals));
+            selectStatement.getSqlTokens().add(new AggregationDistinctToken(beginPosition, originalLiterals, distinctExpression.get(), result.getDerivedAlias()));
+        }
+        return result;
+    }
+    
+    private Optional<String> getDistinctExpression(final AggregationType aggregationType, final String innerExpression) {
+        if (AggregationType.MAX == aggregationType || AggregationType.MIN == aggregationType || !innerExpression.endsWith(Symbol.RIGHT_PAREN.getLiterals())) {
+            return Optional.absent();
+        }
+        String expression = innerExpression.substring(1, innerExpression.length() - 1).trim();
+        String distinct = DefaultKeyword.DISTINCT.name();
+        if (expression.length() <= distinct.length() || !expression.substring(0, distinct.length()).equalsIgnoreCase(distinct)
+                || !Character.isWhitespace(expression.charAt(distinct.length())) && '(' != expression.charAt(distinct.length())) {
+            return Optional.absent();
+        }
+        String result = expression.substring(distinct.length()).trim();
+        if (containsTopLevelComma(result)) {
+            throw new SQLParsingUnsupportedException("Cannot support multiple columns for distinct aggregation.");
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean containsTopLevelComma(final String expression) {
+        int depth = 0;
+        for (char each : expression.toCharArray()) {
+            if ('(' == each) {
+                depth++;
+            } else if (')' == each) {
+                depth--;
+            } else if (',' == each && 0 == depth) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int getDistinctAggregationSelectItemCount(final SelectStatement selectStatement) {
+        int result = 0;
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            if (each.isDistinct()) {
+                result++;
+            }
+        }
+        return result;
     }
     
     private String parseRestSelectItem(final SelectStatement selectStatement) {
@@ -19,6 +19,7 @@ package io.shardingsphere.core.parsing.parser.clause;
 
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.ShardingOperator;
 import io.shardingsphere.core.parsing.lexer.LexerEngine;
 import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Keyword;
@@ -44,6 +45,7 @@ import io.shardingsphere.core.parsing.parser.expression.SQLPropertyExpression;
 import io.shardingsphere.core.parsing.parser.expression.SQLTextExpression;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.OffsetToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.rule.ShardingRule;
@@ -163,7 +165,7 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         Condition result;
         SQLExpression left = basicExpressionParser.parse(sqlStatement);
         if (lexerEngine.skipIfEqual(Symbol.EQ)) {
-            result = parseEqualCondition(shardingRule, sqlStatement, left);
+            result = parseCompareCondition(shardingRule, sqlStatement, left, ShardingOperator.EQUAL);
             return result;
         }
         if (lexerEngine.skipIfEqual(DefaultKeyword.IN)) {
@@ -193,9 +195,13 @@ public abstract class WhereClauseParser implements SQLClauseParser {
                 return result;
             }
         }
+        Optional<ShardingOperator> rangeOperator = skipRangeOperator();
+        if (rangeOperator.isPresent()) {
+            result = parseCompareCondition(shardingRule, sqlStatement, left, rangeOperator.get());
+            return result;
+        }
         List<Keyword> otherConditionOperators = new LinkedList<>(Arrays.asList(getCustomizedOtherConditionOperators()));
-        otherConditionOperators.addAll(
-                Arrays.asList(Symbol.LT, Symbol.LT_EQ, Symbol.GT, Symbol.GT_EQ, Symbol.LT_GT, Symbol.BANG_EQ, Symbol.BANG_GT, Symbol.BANG_LT, DefaultKeyword.LIKE, DefaultKeyword.IS));
+        otherConditionOperators.addAll(Arrays.asList(Symbol.LT_GT, Symbol.BANG_EQ, Symbol.BANG_GT, Symbol.BANG_LT, DefaultKeyword.LIKE, DefaultKeyword.IS));
         if (lexerEngine.skipIfEqual(otherConditionOperators.toArray(new Keyword[otherConditionOperators.size()]))) {
             lexerEngine.skipIfEqual(DefaultKeyword.NOT);
             parseOtherCondition(sqlStatement);
@@ -206,7 +212,23 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         return result;
     }
     
-    private Condition parseEqualCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left) {
+    private Optional<ShardingOperator> skipRangeOperator() {
+        if (lexerEngine.skipIfEqual(Symbol.LT)) {
+            return Optional.of(ShardingOperator.LESS_THAN);
+        }
+        if (lexerEngine.skipIfEqual(Symbol.LT_EQ)) {
+            return Optional.of(ShardingOperator.LESS_THAN_OR_EQUAL);
+        }
+        if (lexerEngine.skipIfEqual(Symbol.GT)) {
+            return Optional.of(ShardingOperator.GREATER_THAN);
+        }
+        if (lexerEngine.skipIfEqual(Symbol.GT_EQ)) {
+            return Optional.of(ShardingOperator.GREATER_THAN_OR_EQUAL);
+        }
+        return Optional.absent();
+    }
+    
+    private Condition parseCompareCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left, final ShardingOperator operator) {
         SQLExpression right = basicExpressionParser.parse(sqlStatement);
         // TODO if have more tables, and cannot find column belong to, should not add to condition, should parse binding table rule.
         if (!sqlStatement.getTables().isSingleTable() && !(left instanceof SQLPropertyExpression)) {
@@ -215,16 +237,19 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         if (right instanceof SQLNumberExpression || right instanceof SQLTextExpression || right instanceof SQLPlaceholderExpression) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
             if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
-                return new Condition(column.get(), right);
+                return new Condition(column.get(), operator, right);
             }
         }
         return new NullCondition();
     }
     
     private Condition parseInCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left) {
+        int beginPosition = lexerEngine.getCurrentToken().getEndPosition();
         lexerEngine.accept(Symbol.LEFT_PAREN);
         boolean hasComplexExpression = false;
         List<SQLExpression> rights = new LinkedList<>();
+        List<String> rightLiterals = new LinkedList<>();
+        int valueBeginPosition = beginPosition;
         do {
             SQLExpression right = basicExpressionParser.parse(sqlStatement);
             rights.add(right);
@@ -232,7 +257,10 @@ public abstract class WhereClauseParser implements SQLClauseParser {
                 hasComplexExpression = true;
             }
             skipsDoubleColon();
+            rightLiterals.add(lexerEngine.getInput().substring(valueBeginPosition, getCurrentTokenBeginPosition()).trim());
+            valueBeginPosition = lexerEngine.getCurrentToken().getEndPosition();
         } while (lexerEngine.skipIfEqual(Symbol.COMMA));
+        int endPosition = getCurrentTokenBeginPosition();
         lexerEngine.accept(Symbol.RIGHT_PAREN);
         if (!sqlStatement.getTables().isSingleTable() && !(left instanceof SQLPropertyExpression)) {
             return new NullCondition();
@@ -240,12 +268,20 @@ public abstract class WhereClauseParser implements SQLClauseParser {
         if (!hasComplexExpression) {
             Optional<Column> column = find(sqlStatement.getTables(), left);
             if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
+                InValuesToken inValuesToken = new InValuesToken(beginPosition, endPosition, column.get());
+                inValuesToken.getValues().addAll(rights);
+                inValuesToken.getValueLiterals().addAll(rightLiterals);
+                sqlStatement.getSqlTokens().add(inValuesToken);
                 return new Condition(column.get(), rights);
             }
         }
         return new NullCondition();
     }
     
+    private int getCurrentTokenBeginPosition() {
+        return lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
+    }
+    
     private Condition parseBetweenCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left) {
         boolean hasComplexExpression = false;
         List<SQLExpression> rights = new LinkedList<>();
@@ -31,7 +31,8 @@ public enum DerivedColumn {
     AVG_COUNT_ALIAS("AVG_DERIVED_COUNT_"), 
     AVG_SUM_ALIAS("AVG_DERIVED_SUM_"), 
     ORDER_BY_ALIAS("ORDER_BY_DERIVED_"), 
-    GROUP_BY_ALIAS("GROUP_BY_DERIVED_");
+    GROUP_BY_ALIAS("GROUP_BY_DERIVED_"), 
+    AGGREGATION_DISTINCT_ALIAS("AGGREGATION_DISTINCT_DERIVED_");
     
     private final String pattern;
     
@@ -48,12 +49,14 @@ public enum DerivedColumn {
     /**
      * Judge is derived column or not.
      * 
+     * <p>Alias of distinct aggregation replaces the aggregation itself, so it is visible and not judged as derived column.</p>
+     * 
      * @param columnName column name to be judged
      * @return is derived column or not
      */
     public static boolean isDerivedColumn(final String columnName) {
         for (DerivedColumn each : DerivedColumn.values()) {
-            if (columnName.startsWith(each.pattern)) {
+            if (AGGREGATION_DISTINCT_ALIAS != each && columnName.startsWith(each.pattern)) {
                 return true;
             }
         }
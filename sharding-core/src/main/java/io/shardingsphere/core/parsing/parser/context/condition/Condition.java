@@ -66,7 +66,11 @@ public class Condition {
     }
     
     public Condition(final Column column, final SQLExpression sqlExpression) {
-        this(column, ShardingOperator.EQUAL);
+        this(column, ShardingOperator.EQUAL, sqlExpression);
+    }
+    
+    public Condition(final Column column, final ShardingOperator operator, final SQLExpression sqlExpression) {
+        this(column, operator);
         init(sqlExpression, 0);
     }
     
@@ -111,6 +115,14 @@ public class Condition {
                 return new ListShardingValue<>(column.getTableName(), column.getName(), conditionValues);
             case BETWEEN:
                 return new RangeShardingValue<>(column.getTableName(), column.getName(), Range.range(conditionValues.get(0), BoundType.CLOSED, conditionValues.get(1), BoundType.CLOSED));
+            case LESS_THAN:
+                return new RangeShardingValue<>(column.getTableName(), column.getName(), Range.<Comparable<?>>lessThan(conditionValues.get(0)));
+            case LESS_THAN_OR_EQUAL:
+                return new RangeShardingValue<>(column.getTableName(), column.getName(), Range.<Comparable<?>>atMost(conditionValues.get(0)));
+            case GREATER_THAN:
+                return new RangeShardingValue<>(column.getTableName(), column.getName(), Range.<Comparable<?>>greaterThan(conditionValues.get(0)));
+            case GREATER_THAN_OR_EQUAL:
+                return new RangeShardingValue<>(column.getTableName(), column.getName(), Range.<Comparable<?>>atLeast(conditionValues.get(0)));
             default:
                 throw new UnsupportedOperationException(operator.getExpression());
         }
@@ -51,17 +51,49 @@ public final class AggregationSelectItem implements SelectItem {
     @Setter
     private int index = -1;
     
+    @Setter
+    private Optional<String> distinctExpression = Optional.absent();
+    
+    @Setter
+    private Optional<String> derivedAlias = Optional.absent();
+    
+    @Setter
+    private Optional<String> originalLiterals = Optional.absent();
+    
     @Override
     public String getExpression() {
         return SQLUtil.getExactlyValue(type.name() + innerExpression);
     }
     
+    /**
+     * Judge is distinct aggregation or not.
+     *
+     * @return is distinct aggregation or not
+     */
+    public boolean isDistinct() {
+        return distinctExpression.isPresent();
+    }
+    
     /**
      * Get column label.
      *
      * @return column label
      */
     public String getColumnLabel() {
-        return alias.isPresent() ? alias.get() : getExpression();
+        if (alias.isPresent()) {
+            return alias.get();
+        }
+        return derivedAlias.isPresent() ? derivedAlias.get() : getExpression();
+    }
+    
+    /**
+     * Get original column label.
+     * 
+     * <p>Original column label is the aggregation literals written in SQL if column label is derived, which is the column label returned without rewrite.</p>
+     *
+     * @return original column label
+     */
+    public String getOriginalColumnLabel() {
+        return derivedAlias.isPresent() && originalLiterals.isPresent() ? originalLiterals.get() : getColumnLabel();
     }
 }
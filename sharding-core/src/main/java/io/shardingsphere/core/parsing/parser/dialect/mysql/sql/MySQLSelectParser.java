@@ -45,7 +45,7 @@ public final class MySQLSelectParser extends AbstractSelectParser {
     
     @Override
     protected void parseInternal(final SelectStatement selectStatement) {
-        parseDistinct();
+        parseDistinct(selectStatement);
         parseSelectOption();
         parseSelectList(selectStatement, getItems());
         parseFrom(selectStatement);
@@ -45,7 +45,7 @@ public final class SQLServerSelectParser extends AbstractSelectParser {
     
     @Override
     protected void parseInternal(final SelectStatement selectStatement) {
-        parseDistinct();
+        parseDistinct(selectStatement);
         parseTop(selectStatement);
         parseSelectList(selectStatement, getItems());
         parseFrom(selectStatement);
@@ -20,6 +20,7 @@ package io.shardingsphere.core.parsing.parser.sql.dql.select;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.parsing.lexer.LexerEngine;
 import io.shardingsphere.core.parsing.lexer.token.Assist;
@@ -32,6 +33,7 @@ import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelec
 import io.shardingsphere.core.parsing.parser.context.selectitem.SelectItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.StarSelectItem;
 import io.shardingsphere.core.parsing.parser.context.table.Table;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingUnsupportedException;
 import io.shardingsphere.core.parsing.parser.sql.SQLParser;
 import io.shardingsphere.core.parsing.parser.token.ItemsToken;
 import io.shardingsphere.core.parsing.parser.token.OrderByToken;
@@ -40,6 +42,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -66,8 +70,14 @@ public abstract class AbstractSelectParser implements SQLParser {
     public final SelectStatement parse() {
         SelectStatement result = parseInternal();
         if (result.containsSubQuery()) {
+            if (result.isDistinct()) {
+                throw new SQLParsingUnsupportedException(DefaultKeyword.DISTINCT);
+            }
             result = result.mergeSubQueryStatement();
         }
+        if (result.isDistinct()) {
+            appendDistinctGroupByItems(result);
+        }
         // TODO move to rewrite
         appendDerivedColumns(result);
         appendDerivedOrderBy(result);
@@ -83,8 +93,8 @@ public abstract class AbstractSelectParser implements SQLParser {
     
     protected abstract void parseInternal(SelectStatement selectStatement);
     
-    protected final void parseDistinct() {
-        selectClauseParserFacade.getDistinctClauseParser().parse();
+    protected final void parseDistinct(final SelectStatement selectStatement) {
+        selectClauseParserFacade.getDistinctClauseParser().parse(selectStatement);
     }
     
     protected final void parseSelectList(final SelectStatement selectStatement, final List<SelectItem> items) {
@@ -128,6 +138,48 @@ public abstract class AbstractSelectParser implements SQLParser {
         selectClauseParserFacade.getSelectRestClauseParser().parse();
     }
     
+    private void appendDistinctGroupByItems(final SelectStatement selectStatement) {
+        if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty() || items.size() != selectStatement.getItems().size()) {
+            throw new SQLParsingUnsupportedException(DefaultKeyword.DISTINCT);
+        }
+        for (SelectItem each : items) {
+            if (each instanceof StarSelectItem) {
+                throw new SQLParsingUnsupportedException(DefaultKeyword.DISTINCT);
+            }
+        }
+        if (isOrderByAllDistinctItems(selectStatement)) {
+            selectStatement.getGroupByItems().addAll(selectStatement.getOrderByItems());
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            selectStatement.getGroupByItems().add(new OrderItem(i + 1, OrderDirection.ASC, OrderDirection.ASC));
+        }
+    }
+    
+    private boolean isOrderByAllDistinctItems(final SelectStatement selectStatement) {
+        Collection<Integer> orderedIndexes = new HashSet<>(items.size(), 1);
+        for (OrderItem each : selectStatement.getOrderByItems()) {
+            int index = findDistinctItemIndex(each);
+            if (-1 == index) {
+                throw new SQLParsingUnsupportedException("Cannot support order by item which is not in distinct select items.");
+            }
+            orderedIndexes.add(index);
+        }
+        return selectStatement.getOrderByItems().size() == items.size() && orderedIndexes.size() == items.size();
+    }
+    
+    private int findDistinctItemIndex(final OrderItem orderItem) {
+        if (orderItem.isIndex()) {
+            return orderItem.getIndex() > 0 && orderItem.getIndex() <= items.size() ? orderItem.getIndex() - 1 : -1;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (isSameAlias(items.get(i), orderItem) || isSameQualifiedName(items.get(i), orderItem)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     private void appendDerivedColumns(final SelectStatement selectStatement) {
         ItemsToken itemsToken = new ItemsToken(selectStatement.getSelectListLastPosition());
         appendAvgDerivedColumns(itemsToken, selectStatement);
@@ -136,12 +188,30 @@ public abstract class AbstractSelectParser implements SQLParser {
         if (!itemsToken.getItems().isEmpty()) {
             selectStatement.getSqlTokens().add(itemsToken);
         }
+        appendDistinctAggregationGroupBy(selectStatement);
+    }
+    
+    private void appendDistinctAggregationGroupBy(final SelectStatement selectStatement) {
+        ItemsToken itemsToken = new ItemsToken(selectStatement.getGroupByLastPosition());
+        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+            if (each.isDistinct()) {
+                itemsToken.getItems().add(each.getDistinctExpression().get() + " ");
+            }
+        }
+        if (itemsToken.getItems().isEmpty()) {
+            return;
+        }
+        if (selectStatement.getGroupByItems().isEmpty()) {
+            itemsToken.setFirstOfItemsSpecial(true);
+            itemsToken.getItems().set(0, " " + DefaultKeyword.GROUP + " " + DefaultKeyword.BY + " " + itemsToken.getItems().get(0));
+        }
+        selectStatement.getSqlTokens().add(itemsToken);
     }
     
     private void appendAvgDerivedColumns(final ItemsToken itemsToken, final SelectStatement selectStatement) {
         int derivedColumnOffset = 0;
         for (SelectItem each : selectStatement.getItems()) {
-            if (!(each instanceof AggregationSelectItem) || AggregationType.AVG != ((AggregationSelectItem) each).getType()) {
+            if (!(each instanceof AggregationSelectItem) || AggregationType.AVG != ((AggregationSelectItem) each).getType() || ((AggregationSelectItem) each).isDistinct()) {
                 continue;
             }
             AggregationSelectItem avgItem = (AggregationSelectItem) each;
@@ -41,6 +41,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Select statement.
@@ -52,6 +53,8 @@ import java.util.Set;
 @ToString(callSuper = true)
 public final class SelectStatement extends DQLStatement {
     
+    private boolean distinct;
+    
     private boolean containStar;
     
     private int selectListLastPosition;
@@ -161,6 +164,35 @@ public final class SelectStatement extends DQLStatement {
         return Optional.absent();
     }
     
+    /**
+     * Judge has distinct aggregation select item or not.
+     *
+     * @return has distinct aggregation select item or not
+     */
+    public boolean hasDistinctAggregationSelectItem() {
+        for (AggregationSelectItem each : getAggregationSelectItems()) {
+            if (each.isDistinct()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get original column labels of select items which column labels are derived.
+     *
+     * @return map for derived column label and original column label
+     */
+    public Map<String, String> getOriginalColumnLabels() {
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (AggregationSelectItem each : getAggregationSelectItems()) {
+            if (each.getDerivedAlias().isPresent()) {
+                result.put(each.getDerivedAlias().get(), each.getOriginalColumnLabel());
+            }
+        }
+        return result;
+    }
+    
     /**
      * Adjust group by and order by sequence is same or not.
      *
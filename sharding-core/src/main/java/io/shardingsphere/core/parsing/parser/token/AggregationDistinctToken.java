@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.parser.token;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Aggregation distinct token.
+ * 
+ * <p>Distinct aggregation is rewritten to its distinct column, distinct values are aggregated by merger.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class AggregationDistinctToken implements SQLToken {
+    
+    private final int beginPosition;
+    
+    private final String originalLiterals;
+    
+    private final String columnName;
+    
+    private final Optional<String> derivedAlias;
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
+import io.shardingsphere.core.rewrite.placeholder.InValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
@@ -32,7 +33,9 @@ import io.shardingsphere.core.rule.DataNode;
 import io.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +98,7 @@ public final class SQLBuilder {
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         StringBuilder result = new StringBuilder();
         List<Object> insertParameters = new LinkedList<>();
+        Collection<Integer> excludedParameterIndexes = new HashSet<>();
         for (Object each : segments) {
             if (!(each instanceof ShardingPlaceholder)) {
                 result.append(each);
@@ -110,14 +114,30 @@ public final class SQLBuilder {
                 appendIndexPlaceholder((IndexPlaceholder) each, actualTableName, result);
             } else if (each instanceof InsertValuesPlaceholder) {
                 appendInsertValuesPlaceholder(tableUnit, insertParameters, (InsertValuesPlaceholder) each, result);
+            } else if (each instanceof InValuesPlaceholder) {
+                appendInValuesPlaceholder(tableUnit, (InValuesPlaceholder) each, actualTableName, excludedParameterIndexes, result);
             } else {
                 result.append(each);
             }
         }
-        List<List<Object>> parameterSets = insertParameters.isEmpty() ? new ArrayList<>(Collections.singleton(parameters)) : new ArrayList<>(Collections.singleton(insertParameters));
+        List<List<Object>> parameterSets = insertParameters.isEmpty()
+                ? new ArrayList<>(Collections.singleton(getParameters(excludedParameterIndexes))) : new ArrayList<>(Collections.singleton(insertParameters));
         return new SQLUnit(result.toString(), parameterSets);
     }
     
+    private List<Object> getParameters(final Collection<Integer> excludedParameterIndexes) {
+        if (excludedParameterIndexes.isEmpty()) {
+            return parameters;
+        }
+        List<Object> result = new ArrayList<>(parameters.size() - excludedParameterIndexes.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!excludedParameterIndexes.contains(i)) {
+                result.add(parameters.get(i));
+            }
+        }
+        return result;
+    }
+    
     private void appendTablePlaceholder(final TablePlaceholder tablePlaceholder, final String actualTableName, final StringBuilder stringBuilder) {
         final String logicTableName = tablePlaceholder.getLogicTableName();
         final String originalLiterals = tablePlaceholder.getOriginalLiterals();
@@ -142,6 +162,36 @@ public final class SQLBuilder {
         }
     }
     
+    private void appendInValuesPlaceholder(final TableUnit tableUnit, final InValuesPlaceholder inValuesPlaceholder, final String actualTableName,
+                                           final Collection<Integer> excludedParameterIndexes, final StringBuilder stringBuilder) {
+        Collection<Comparable<?>> routedValues = null == actualTableName ? null : inValuesPlaceholder.getDataNodeValues().get(new DataNode(tableUnit.getDataSourceName(), actualTableName));
+        if (null == routedValues || !isRoutedAny(inValuesPlaceholder.getValues(), routedValues)) {
+            stringBuilder.append(inValuesPlaceholder);
+            return;
+        }
+        int count = 0;
+        for (int i = 0; i < inValuesPlaceholder.getValues().size(); i++) {
+            if (routedValues.contains(inValuesPlaceholder.getValues().get(i))) {
+                if (0 != count) {
+                    stringBuilder.append(", ");
+                }
+                stringBuilder.append(inValuesPlaceholder.getValueLiterals().get(i));
+                count++;
+            } else if (-1 != inValuesPlaceholder.getParameterIndexes().get(i)) {
+                excludedParameterIndexes.add(inValuesPlaceholder.getParameterIndexes().get(i));
+            }
+        }
+    }
+    
+    private boolean isRoutedAny(final List<Comparable<?>> values, final Collection<Comparable<?>> routedValues) {
+        for (Comparable<?> each : values) {
+            if (routedValues.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private void appendInsertValuesPlaceholder(final TableUnit tableUnit, final List<Object> parameters, final InsertValuesPlaceholder insertValuesPlaceholder, final StringBuilder stringBuilder) {
         List<String> expressions = new LinkedList<>();
         for (ShardingCondition each : insertValuesPlaceholder.getShardingConditions().getShardingConditions()) {
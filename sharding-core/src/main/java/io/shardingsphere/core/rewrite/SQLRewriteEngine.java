@@ -19,14 +19,22 @@ package io.shardingsphere.core.rewrite;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Strings;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.AggregationDistinctToken;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.IndexToken;
 import io.shardingsphere.core.parsing.parser.token.InsertColumnToken;
 import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
@@ -38,23 +46,33 @@ import io.shardingsphere.core.parsing.parser.token.SQLToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.rewrite.placeholder.InValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
 import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.strategy.BatchShardingStrategy;
+import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.BindingTableRule;
+import io.shardingsphere.core.rule.DataNode;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
 import io.shardingsphere.core.util.SQLUtil;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * SQL rewrite engine.
@@ -138,6 +156,10 @@ public final class SQLRewriteEngine {
                 appendOrderByToken(result, count, sqlTokens);
             } else if (each instanceof InsertColumnToken) {
                 appendSymbolToken(result, (InsertColumnToken) each, count, sqlTokens);
+            } else if (each instanceof InValuesToken) {
+                appendInValuesPlaceholder(result, (InValuesToken) each, count, sqlTokens);
+            } else if (each instanceof AggregationDistinctToken) {
+                appendAggregationDistinctToken(result, (AggregationDistinctToken) each, count, sqlTokens);
             }
             count++;
         }
@@ -199,7 +221,8 @@ public final class SQLRewriteEngine {
         Limit limit = selectStatement.getLimit();
         if (!isRewrite) {
             sqlBuilder.appendLiterals(String.valueOf(rowCountToken.getRowCount()));
-        } else if ((!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems()) {
+        } else if ((!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty())
+                && (!selectStatement.isSameGroupByAndOrderByItems() || selectStatement.hasDistinctAggregationSelectItem())) {
             sqlBuilder.appendLiterals(String.valueOf(Integer.MAX_VALUE));
         } else {
             sqlBuilder.appendLiterals(String.valueOf(limit.isNeedRewriteRowCount() ? rowCountToken.getRowCount() + limit.getOffsetValue() : rowCountToken.getRowCount()));
@@ -234,11 +257,90 @@ public final class SQLRewriteEngine {
         appendRest(sqlBuilder, count, sqlTokens, beginPosition);
     }
     
+    private void appendAggregationDistinctToken(final SQLBuilder sqlBuilder, final AggregationDistinctToken aggregationDistinctToken, final int count, final List<SQLToken> sqlTokens) {
+        sqlBuilder.appendLiterals(aggregationDistinctToken.getColumnName());
+        if (aggregationDistinctToken.getDerivedAlias().isPresent()) {
+            sqlBuilder.appendLiterals(" AS " + aggregationDistinctToken.getDerivedAlias().get());
+        }
+        int beginPosition = aggregationDistinctToken.getBeginPosition() + aggregationDistinctToken.getOriginalLiterals().length();
+        appendRest(sqlBuilder, count, sqlTokens, beginPosition);
+    }
+    
     private void appendSymbolToken(final SQLBuilder sqlBuilder, final InsertColumnToken insertColumnToken, final int count, final List<SQLToken> sqlTokens) {
         sqlBuilder.appendLiterals(insertColumnToken.getColumnName());
         appendRest(sqlBuilder, count, sqlTokens, insertColumnToken.getBeginPosition());
     }
     
+    private void appendInValuesPlaceholder(final SQLBuilder sqlBuilder, final InValuesToken inValuesToken, final int count, final List<SQLToken> sqlTokens) {
+        Optional<InValuesPlaceholder> inValuesPlaceholder = createInValuesPlaceholder(inValuesToken);
+        if (!inValuesPlaceholder.isPresent()) {
+            appendRest(sqlBuilder, count, sqlTokens, inValuesToken.getBeginPosition());
+            return;
+        }
+        sqlBuilder.appendPlaceholder(inValuesPlaceholder.get());
+        appendRest(sqlBuilder, count, sqlTokens, inValuesToken.getEndPosition());
+    }
+    
+    private Optional<InValuesPlaceholder> createInValuesPlaceholder(final InValuesToken inValuesToken) {
+        Column column = inValuesToken.getColumn();
+        Optional<TableRule> tableRule = shardingRule.tryFindTableRuleByLogicTable(column.getTableName());
+        if (HintManagerHolder.isUseShardingHint() || !tableRule.isPresent()) {
+            return Optional.absent();
+        }
+        List<Comparable<?>> values = new ArrayList<>(new Condition(column, inValuesToken.getValues()).getConditionValues(parameters));
+        Optional<Map<DataNode, Collection<Comparable<?>>>> dataNodeValues = routeInValues(tableRule.get(), column, values);
+        if (!dataNodeValues.isPresent()) {
+            return Optional.absent();
+        }
+        List<Integer> parameterIndexes = new ArrayList<>(values.size());
+        for (SQLExpression each : inValuesToken.getValues()) {
+            parameterIndexes.add(each instanceof SQLPlaceholderExpression ? ((SQLPlaceholderExpression) each).getIndex() : -1);
+        }
+        return Optional.of(new InValuesPlaceholder(
+                column.getTableName().toLowerCase(), new ArrayList<>(inValuesToken.getValueLiterals()), values, parameterIndexes, dataNodeValues.get()));
+    }
+    
+    private Optional<Map<DataNode, Collection<Comparable<?>>>> routeInValues(final TableRule tableRule, final Column column, final List<Comparable<?>> values) {
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
+        boolean isDatabaseRoutable = isInValuesRoutable(databaseShardingStrategy, column);
+        boolean isTableRoutable = isInValuesRoutable(tableShardingStrategy, column);
+        if (!isDatabaseRoutable && !isTableRoutable) {
+            return Optional.absent();
+        }
+        Map<String, Collection<Comparable<?>>> databaseValues = isDatabaseRoutable
+                ? doBatchSharding(databaseShardingStrategy, tableRule.getActualDatasourceNames(), column, values) : Collections.<String, Collection<Comparable<?>>>emptyMap();
+        Map<DataNode, Collection<Comparable<?>>> result = new HashMap<>();
+        for (Entry<String, List<DataNode>> entry : tableRule.getDataNodeGroups().entrySet()) {
+            Collection<Comparable<?>> dataSourceValues = isDatabaseRoutable ? getRoutedValues(databaseValues, entry.getKey()) : new HashSet<>(values);
+            Map<String, Collection<Comparable<?>>> tableValues = isTableRoutable && !dataSourceValues.isEmpty()
+                    ? doBatchSharding(tableShardingStrategy, tableRule.getActualTableNames(entry.getKey()), column, dataSourceValues) : Collections.<String, Collection<Comparable<?>>>emptyMap();
+            for (DataNode each : entry.getValue()) {
+                result.put(each, isTableRoutable ? getRoutedValues(tableValues, each.getTableName()) : dataSourceValues);
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isInValuesRoutable(final ShardingStrategy shardingStrategy, final Column column) {
+        return shardingStrategy instanceof BatchShardingStrategy
+                && 1 == shardingStrategy.getShardingColumns().size() && shardingStrategy.getShardingColumns().iterator().next().equalsIgnoreCase(column.getName());
+    }
+    
+    private Map<String, Collection<Comparable<?>>> doBatchSharding(
+            final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final Column column, final Collection<Comparable<?>> values) {
+        Map<String, Collection<Comparable<?>>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        ListShardingValue<Comparable<?>> shardingValue = new ListShardingValue<>(column.getTableName(), column.getName(), values);
+        for (Entry<String, Collection<Comparable<?>>> entry : ((BatchShardingStrategy) shardingStrategy).doBatchSharding(availableTargetNames, shardingValue).entrySet()) {
+            result.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Collection<Comparable<?>> getRoutedValues(final Map<String, Collection<Comparable<?>>> routedValues, final String targetName) {
+        return routedValues.containsKey(targetName) ? routedValues.get(targetName) : Collections.<Comparable<?>>emptySet();
+    }
+    
     private void appendRest(final SQLBuilder sqlBuilder, final int count, final List<SQLToken> sqlTokens, final int beginPosition) {
         int endPosition = sqlTokens.size() - 1 == count ? originalSQL.length() : sqlTokens.get(count + 1).getBeginPosition();
         sqlBuilder.appendLiterals(originalSQL.substring(beginPosition, endPosition));
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.rewrite.placeholder;
+
+import com.google.common.base.Joiner;
+import io.shardingsphere.core.rule.DataNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In values placeholder for rewrite.
+ * 
+ * <p>Only the values which routed to current data node are kept in rewritten SQL.
+ * All values are kept if none of them routed to current data node, such as data node routed by other conditions,
+ * because an empty list can not be written, and replacing it with {@code NULL} changes result when the predicate is negated.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class InValuesPlaceholder implements ShardingPlaceholder {
+    
+    private final String logicTableName;
+    
+    private final List<String> valueLiterals;
+    
+    private final List<Comparable<?>> values;
+    
+    private final List<Integer> parameterIndexes;
+    
+    private final Map<DataNode, Collection<Comparable<?>>> dataNodeValues;
+    
+    @Override
+    public String toString() {
+        return Joiner.on(", ").join(valueLiterals);
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -46,15 +47,32 @@ public final class PreparedStatementRoutingEngine {
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
                                           final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        this(logicSQL, shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DatabaseType databaseType, 
+                                          final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, final DataSourceStatisticsRegistry statisticsRegistry) {
         this.logicSQL = logicSQL;
         shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
-        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules(), statisticsRegistry);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final SQLStatement sqlStatement, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
+                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        this(logicSQL, sqlStatement, shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final SQLStatement sqlStatement, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
+                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                          final DataSourceStatisticsRegistry statisticsRegistry) {
+        this(logicSQL, shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, statisticsRegistry);
+        this.sqlStatement = sqlStatement;
     }
     
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL if it is not parsed in advance, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -42,8 +43,13 @@ public final class StatementRoutingEngine {
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
                                   final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        this(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, null);
+    }
+    
+    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DatabaseType databaseType, final boolean showSQL, 
+                                  final ShardingDataSourceMetaData shardingDataSourceMetaData, final DataSourceStatisticsRegistry statisticsRegistry) {
         shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
-        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules(), statisticsRegistry);
     }
     
     /**
@@ -18,13 +18,13 @@
 package io.shardingsphere.core.routing.router.masterslave;
 
 import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -41,6 +41,12 @@ public final class MasterSlaveRouter {
     
     private final boolean showSQL;
     
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public MasterSlaveRouter(final MasterSlaveRule masterSlaveRule, final boolean showSQL) {
+        this(masterSlaveRule, showSQL, null);
+    }
+    
     /**
      * Route Master slave.
      *
@@ -61,8 +67,7 @@ public final class MasterSlaveRouter {
             MasterVisitedManager.setMasterVisited();
             return Collections.singletonList(masterSlaveRule.getMasterDataSourceName());
         }
-        return Collections.singletonList(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())));
+        return Collections.singletonList(ReadDataSourceSelector.select(masterSlaveRule, statisticsRegistry));
     }
     
     private boolean isMasterRoute(final SQLType sqlType) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave;
+
+import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.StatisticsBasedMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionManager;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Read data source selector of master-slave rule.
+ *
+ * <p>Slave data sources which have not caught up with written position of current thread are skipped,
+ * and master data source is selected if none caught up.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReadDataSourceSelector {
+    
+    /**
+     * Select data source for read.
+     *
+     * @param masterSlaveRule master-slave rule
+     * @param statisticsRegistry data source statistics registry, {@code null} if statistics disabled
+     * @return data source name for read
+     */
+    static String select(final MasterSlaveRule masterSlaveRule, final DataSourceStatisticsRegistry statisticsRegistry) {
+        List<String> slaveDataSourceNames = ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(masterSlaveRule);
+        if (slaveDataSourceNames.isEmpty()) {
+            return masterSlaveRule.getMasterDataSourceName();
+        }
+        MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm = masterSlaveRule.getLoadBalanceAlgorithm();
+        if (null != statisticsRegistry && loadBalanceAlgorithm instanceof StatisticsBasedMasterSlaveLoadBalanceAlgorithm) {
+            return ((StatisticsBasedMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getDataSource(
+                    masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames, statisticsRegistry);
+        }
+        return loadBalanceAlgorithm.getDataSource(masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), slaveDataSourceNames);
+    }
+}
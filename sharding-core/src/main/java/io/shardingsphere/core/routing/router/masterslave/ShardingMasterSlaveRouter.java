@@ -18,13 +18,13 @@
 package io.shardingsphere.core.routing.router.masterslave;
 
 import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 
@@ -38,6 +38,12 @@ public final class ShardingMasterSlaveRouter {
     
     private final Collection<MasterSlaveRule> masterSlaveRules;
     
+    private final DataSourceStatisticsRegistry statisticsRegistry;
+    
+    public ShardingMasterSlaveRouter(final Collection<MasterSlaveRule> masterSlaveRules) {
+        this(masterSlaveRules, null);
+    }
+    
     /**
      * Route Master slave after sharding.
      * 
@@ -63,8 +69,7 @@ public final class ShardingMasterSlaveRouter {
                 MasterVisitedManager.setMasterVisited();
                 toBeAdded.add(new RouteUnit(masterSlaveRule.getMasterDataSourceName(), each.getSqlUnit()));
             } else {
-                toBeAdded.add(new RouteUnit(masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                        masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames())), each.getSqlUnit()));
+                toBeAdded.add(new RouteUnit(ReadDataSourceSelector.select(masterSlaveRule, statisticsRegistry), each.getSqlUnit()));
             }
         }
         sqlRouteResult.getRouteUnits().removeAll(toBeRemoved);
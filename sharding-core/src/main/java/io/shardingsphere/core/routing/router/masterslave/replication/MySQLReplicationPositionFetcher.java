@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import com.google.common.base.Strings;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication position fetcher for MySQL binlog.
+ *
+ * @author agent
+ */
+public final class MySQLReplicationPositionFetcher implements ReplicationPositionFetcher {
+    
+    @Override
+    public ReplicationPosition fetchMasterPosition(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW MASTER STATUS")) {
+            return resultSet.next() ? newReplicationPosition(resultSet.getString("File"), resultSet.getLong("Position")) : null;
+        }
+    }
+    
+    @Override
+    public ReplicationPosition fetchSlavePosition(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next() || !"Yes".equalsIgnoreCase(resultSet.getString("Slave_SQL_Running"))) {
+                return null;
+            }
+            return newReplicationPosition(resultSet.getString("Relay_Master_Log_File"), resultSet.getLong("Exec_Master_Log_Pos"));
+        }
+    }
+    
+    private ReplicationPosition newReplicationPosition(final String logFile, final long logPosition) {
+        return Strings.isNullOrEmpty(logFile) ? null : new ReplicationPosition(logFile, logPosition);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>Poll replayed positions of slave data sources in background, and capture written positions of master data sources after commit.</p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private final ReplicationPositionFetcher replicationPositionFetcher;
+    
+    private final Collection<MasterSlaveRule> masterSlaveRules;
+    
+    private final Map<String, DataSource> slaveDataSourceMap = new LinkedHashMap<>();
+    
+    private final ScheduledExecutorService scheduledExecutorService;
+    
+    public ReplicationLagMonitor(final DatabaseType databaseType, final Collection<MasterSlaveRule> masterSlaveRules, final Map<String, DataSource> dataSourceMap, final long pollIntervalMilliseconds) {
+        replicationPositionFetcher = ReplicationPositionFetcherFactory.newInstance(databaseType);
+        this.masterSlaveRules = masterSlaveRules;
+        for (MasterSlaveRule each : masterSlaveRules) {
+            for (String slaveDataSourceName : each.getSlaveDataSourceNames()) {
+                if (dataSourceMap.containsKey(slaveDataSourceName)) {
+                    slaveDataSourceMap.put(slaveDataSourceName, dataSourceMap.get(slaveDataSourceName));
+                }
+            }
+        }
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Replication-Lag-Monitor-%d"));
+        scheduledExecutorService.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                pollReplayedPositions();
+            }
+        }, 0L, pollIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void pollReplayedPositions() {
+        for (Entry<String, DataSource> entry : slaveDataSourceMap.entrySet()) {
+            ReplicationPosition replayedPosition;
+            try (Connection connection = entry.getValue().getConnection()) {
+                replayedPosition = replicationPositionFetcher.fetchSlavePosition(connection);
+            } catch (final SQLException ex) {
+                replayedPosition = null;
+                log.warn(String.format("Cannot fetch replayed position of slave data source '%s'", entry.getKey()), ex);
+            }
+            setReplayedPosition(entry.getKey(), replayedPosition);
+        }
+    }
+    
+    private void setReplayedPosition(final String slaveDataSourceName, final ReplicationPosition replayedPosition) {
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (each.getSlaveDataSourceNames().contains(slaveDataSourceName)) {
+                each.getReplicationPositionRegistry().setReplayedPosition(slaveDataSourceName, replayedPosition);
+            }
+        }
+    }
+    
+    /**
+     * Judge whether data source is master data source.
+     *
+     * @param dataSourceName data source name
+     * @return is master data source or not
+     */
+    public boolean isMasterDataSource(final String dataSourceName) {
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (each.getMasterDataSourceName().equals(dataSourceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Record written position of master data source into current thread.
+     *
+     * @param masterDataSourceName master data source name
+     * @param connection committed connection of master data source
+     * @return recorded or not
+     * @throws SQLException SQL exception
+     */
+    public boolean recordWrittenPosition(final String masterDataSourceName, final Connection connection) throws SQLException {
+        ReplicationPosition writtenPosition = replicationPositionFetcher.fetchMasterPosition(connection);
+        if (null == writtenPosition) {
+            return false;
+        }
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (each.getMasterDataSourceName().equals(masterDataSourceName)) {
+                ReplicationPositionManager.setWrittenPosition(each, writtenPosition);
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdownNow();
+        for (MasterSlaveRule each : masterSlaveRules) {
+            each.getReplicationPositionRegistry().clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Replication position, coordinates of master's replication log.
+ * 
+ * <p>Log files are ordered by numeric sequence suffix, so {@code mysql-bin.1000000} follows {@code mysql-bin.999999}.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ReplicationPosition implements Comparable<ReplicationPosition> {
+    
+    private final String logFile;
+    
+    private final long logPosition;
+    
+    @Override
+    public int compareTo(final ReplicationPosition o) {
+        int result = compareLogFile(logFile, o.logFile);
+        return 0 == result ? Long.compare(logPosition, o.logPosition) : result;
+    }
+    
+    private static int compareLogFile(final String logFile, final String otherLogFile) {
+        int separatorIndex = logFile.lastIndexOf('.');
+        int otherSeparatorIndex = otherLogFile.lastIndexOf('.');
+        if (!isSequenceSuffix(logFile, separatorIndex) || !isSequenceSuffix(otherLogFile, otherSeparatorIndex)) {
+            return logFile.compareTo(otherLogFile);
+        }
+        int result = logFile.substring(0, separatorIndex).compareTo(otherLogFile.substring(0, otherSeparatorIndex));
+        return 0 == result ? Long.compare(Long.parseLong(logFile.substring(separatorIndex + 1)), Long.parseLong(otherLogFile.substring(otherSeparatorIndex + 1))) : result;
+    }
+    
+    private static boolean isSequenceSuffix(final String logFile, final int separatorIndex) {
+        int length = logFile.length() - separatorIndex - 1;
+        if (separatorIndex < 0 || 0 == length || length > 18) {
+            return false;
+        }
+        for (int i = separatorIndex + 1; i < logFile.length(); i++) {
+            if (!Character.isDigit(logFile.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication position fetcher.
+ *
+ * @author agent
+ */
+public interface ReplicationPositionFetcher {
+    
+    /**
+     * Fetch current written position of master data source.
+     * 
+     * @param connection connection of master data source
+     * @return written position, {@code null} if replication log is disabled
+     * @throws SQLException SQL exception
+     */
+    ReplicationPosition fetchMasterPosition(Connection connection) throws SQLException;
+    
+    /**
+     * Fetch master's position which slave data source replayed to.
+     *
+     * @param connection connection of slave data source
+     * @return replayed position, {@code null} if replication is not running
+     * @throws SQLException SQL exception
+     */
+    ReplicationPosition fetchSlavePosition(Connection connection) throws SQLException;
+}
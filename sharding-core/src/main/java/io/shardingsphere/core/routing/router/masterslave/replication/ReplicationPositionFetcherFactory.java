@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.exception.ShardingConfigurationException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replication position fetcher factory.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationPositionFetcherFactory {
+    
+    /**
+     * Judge whether replication position is supported for database type.
+     *
+     * @param databaseType database type
+     * @return supported or not
+     */
+    public static boolean isSupported(final DatabaseType databaseType) {
+        return DatabaseType.MySQL == databaseType;
+    }
+    
+    /**
+     * Check whether replication position is supported for database type.
+     *
+     * @param databaseType database type
+     * @throws ShardingConfigurationException if replication position is not supported for database type
+     */
+    public static void checkSupported(final DatabaseType databaseType) {
+        if (!isSupported(databaseType)) {
+            throw new ShardingConfigurationException("Cannot support read your writes for database [%s], please disable '%s'.", 
+                    databaseType, ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED.getKey());
+        }
+    }
+    
+    /**
+     * Create new instance of replication position fetcher.
+     *
+     * @param databaseType database type
+     * @return replication position fetcher
+     */
+    public static ReplicationPositionFetcher newInstance(final DatabaseType databaseType) {
+        checkSupported(databaseType);
+        return new MySQLReplicationPositionFetcher();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Written replication position manager.
+ * 
+ * <p>Trace positions written to master data sources in current thread, reads are routed to slave data sources which replayed to these positions only.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicationPositionManager {
+    
+    private static final ThreadLocal<Map<MasterSlaveRule, ReplicationPosition>> WRITTEN_POSITIONS = new ThreadLocal<>();
+    
+    /**
+     * Set written position of master data source in current thread.
+     *
+     * @param masterSlaveRule master-slave rule of master data source
+     * @param writtenPosition written position
+     */
+    public static void setWrittenPosition(final MasterSlaveRule masterSlaveRule, final ReplicationPosition writtenPosition) {
+        Map<MasterSlaveRule, ReplicationPosition> writtenPositions = WRITTEN_POSITIONS.get();
+        if (null == writtenPositions) {
+            writtenPositions = new HashMap<>();
+            WRITTEN_POSITIONS.set(writtenPositions);
+        }
+        writtenPositions.put(masterSlaveRule, writtenPosition);
+    }
+    
+    /**
+     * Get written position of master data source in current thread.
+     *
+     * @param masterSlaveRule master-slave rule of master data source
+     * @return written position, {@code null} if nothing written
+     */
+    public static ReplicationPosition getWrittenPosition(final MasterSlaveRule masterSlaveRule) {
+        Map<MasterSlaveRule, ReplicationPosition> writtenPositions = WRITTEN_POSITIONS.get();
+        return null == writtenPositions ? null : writtenPositions.get(masterSlaveRule);
+    }
+    
+    /**
+     * Get all written positions in current thread.
+     *
+     * <p>Used to keep written positions by session whose commands may run on different threads.</p>
+     *
+     * @return written positions of master-slave rules
+     */
+    public static Map<MasterSlaveRule, ReplicationPosition> getWrittenPositions() {
+        Map<MasterSlaveRule, ReplicationPosition> writtenPositions = WRITTEN_POSITIONS.get();
+        return null == writtenPositions ? Collections.<MasterSlaveRule, ReplicationPosition>emptyMap() : new HashMap<>(writtenPositions);
+    }
+    
+    /**
+     * Set all written positions into current thread.
+     *
+     * @param writtenPositions written positions of master-slave rules
+     */
+    public static void setWrittenPositions(final Map<MasterSlaveRule, ReplicationPosition> writtenPositions) {
+        if (writtenPositions.isEmpty()) {
+            WRITTEN_POSITIONS.remove();
+        } else {
+            WRITTEN_POSITIONS.set(new HashMap<>(writtenPositions));
+        }
+    }
+    
+    /**
+     * Get slave data source names which replayed to written position of master data source in current thread.
+     *
+     * @param masterSlaveRule master-slave rule
+     * @return slave data source names which caught up, all of slave data source names if nothing written
+     */
+    public static List<String> getCaughtUpSlaveDataSourceNames(final MasterSlaveRule masterSlaveRule) {
+        ReplicationPosition writtenPosition = getWrittenPosition(masterSlaveRule);
+        if (null == writtenPosition) {
+            return masterSlaveRule.getSlaveDataSourceNames();
+        }
+        List<String> result = new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames().size());
+        for (String each : masterSlaveRule.getSlaveDataSourceNames()) {
+            ReplicationPosition replayedPosition = masterSlaveRule.getReplicationPositionRegistry().getReplayedPosition(each);
+            if (null != replayedPosition && replayedPosition.compareTo(writtenPosition) >= 0) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear written positions.
+     */
+    public static void clear() {
+        WRITTEN_POSITIONS.remove();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of master's positions which slave data sources replayed to.
+ *
+ * <p>Registry is owned by master-slave rule, so slave data sources with same name in different master-slave rules do not overwrite each other.</p>
+ *
+ * @author agent
+ */
+public final class ReplicationPositionRegistry {
+    
+    private final ConcurrentMap<String, ReplicationPosition> replayedPositions = new ConcurrentHashMap<>();
+    
+    /**
+     * Get replayed position of slave data source.
+     *
+     * @param slaveDataSourceName slave data source name
+     * @return replayed position, {@code null} if unknown
+     */
+    public ReplicationPosition getReplayedPosition(final String slaveDataSourceName) {
+        return replayedPositions.get(slaveDataSourceName);
+    }
+    
+    /**
+     * Set replayed position of slave data source.
+     *
+     * @param slaveDataSourceName slave data source name
+     * @param replayedPosition replayed position, {@code null} if unknown
+     */
+    public void setReplayedPosition(final String slaveDataSourceName, final ReplicationPosition replayedPosition) {
+        if (null == replayedPosition) {
+            replayedPositions.remove(slaveDataSourceName);
+        } else {
+            replayedPositions.put(slaveDataSourceName, replayedPosition);
+        }
+    }
+    
+    /**
+     * Clear replayed positions.
+     */
+    public void clear() {
+        replayedPositions.clear();
+    }
+}
@@ -25,6 +25,8 @@ import io.shardingsphere.core.event.parsing.ParsingFinishEvent;
 import io.shardingsphere.core.event.parsing.ParsingStartEvent;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metrics.LogicTableMetrics;
+import io.shardingsphere.core.metrics.SQLStage;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
@@ -104,6 +106,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        long startNanos = System.nanoTime();
         GeneratedKey generatedKey = null;
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
@@ -114,6 +117,9 @@ public final class ParsingSQLRouter implements ShardingRouter {
             setGeneratedKeys(result, generatedKey);
         }
         RoutingResult routingResult = route(sqlStatement, shardingConditions);
+        SQLStage.ROUTE.record(startNanos);
+        recordLogicTableMetrics(sqlStatement);
+        long rewriteStartNanos = System.nanoTime();
         SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
@@ -123,12 +129,19 @@ public final class ParsingSQLRouter implements ShardingRouter {
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
         }
+        SQLStage.REWRITE.record(rewriteStartNanos);
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
         }
         return result;
     }
     
+    private void recordLogicTableMetrics(final SQLStatement sqlStatement) {
+        for (String each : sqlStatement.getTables().getTableNames()) {
+            LogicTableMetrics.recordStatement(each, sqlStatement.getType());
+        }
+    }
+    
     private RoutingResult route(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         RoutingEngine routingEngine;
@@ -180,9 +193,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
         Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
         if (generateKeyColumn.isPresent()) {
             result = new GeneratedKey(generateKeyColumn.get());
-            for (int i = 0; i < insertStatement.getInsertValues().getInsertValues().size(); i++) {
-                result.getGeneratedKeys().add(shardingRule.generateKey(logicTableName));
-            }
+            result.getGeneratedKeys().addAll(shardingRule.generateKeys(logicTableName, insertStatement.getInsertValues().getInsertValues().size()));
         }
         return result;
     }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy;
+
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Sharding strategy which shards list values of single sharding column in batch.
+ * 
+ * @author agent
+ */
+public interface BatchShardingStrategy extends ShardingStrategy {
+    
+    /**
+     * Sharding values in batch and group them by target.
+     *
+     * @param availableTargetNames available data sources or tables's names
+     * @param shardingValue sharding values
+     * @return map of data source or table's name and sharding values routed to it
+     */
+    Map<String, Collection<Comparable<?>>> doBatchSharding(Collection<String> availableTargetNames, ListShardingValue<?> shardingValue);
+}
@@ -18,15 +18,25 @@
 package io.shardingsphere.core.routing.strategy;
 
 import io.shardingsphere.core.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ConsistentHashShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.IntervalShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ModShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.ShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.StandardShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.VolumeRangeShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.complex.ComplexShardingStrategy;
 import io.shardingsphere.core.routing.strategy.hint.HintShardingStrategy;
 import io.shardingsphere.core.routing.strategy.inline.InlineShardingStrategy;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.routing.strategy.standard.StandardShardingStrategy;
+import io.shardingsphere.core.routing.strategy.standard.builtin.AbstractSuffixShardingAlgorithm;
+import io.shardingsphere.core.routing.strategy.standard.builtin.ConsistentHashShardingAlgorithm;
+import io.shardingsphere.core.routing.strategy.standard.builtin.HashModShardingAlgorithm;
+import io.shardingsphere.core.routing.strategy.standard.builtin.IntervalShardingAlgorithm;
+import io.shardingsphere.core.routing.strategy.standard.builtin.ModShardingAlgorithm;
+import io.shardingsphere.core.routing.strategy.standard.builtin.VolumeRangeShardingAlgorithm;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -57,6 +67,27 @@ public final class ShardingStrategyFactory {
         if (shardingStrategyConfig instanceof HintShardingStrategyConfiguration) {
             return new HintShardingStrategy((HintShardingStrategyConfiguration) shardingStrategyConfig);
         }
+        if (shardingStrategyConfig instanceof ModShardingStrategyConfiguration) {
+            ModShardingStrategyConfiguration config = (ModShardingStrategyConfiguration) shardingStrategyConfig;
+            return newStandardShardingStrategy(config.getShardingColumn(), 
+                    config.isHash() ? new HashModShardingAlgorithm(config.getShardingCount()) : new ModShardingAlgorithm(config.getShardingCount()));
+        }
+        if (shardingStrategyConfig instanceof ConsistentHashShardingStrategyConfiguration) {
+            ConsistentHashShardingStrategyConfiguration config = (ConsistentHashShardingStrategyConfiguration) shardingStrategyConfig;
+            return newStandardShardingStrategy(config.getShardingColumn(), new ConsistentHashShardingAlgorithm(config.getShardingCount()));
+        }
+        if (shardingStrategyConfig instanceof VolumeRangeShardingStrategyConfiguration) {
+            VolumeRangeShardingStrategyConfiguration config = (VolumeRangeShardingStrategyConfiguration) shardingStrategyConfig;
+            return newStandardShardingStrategy(config.getShardingColumn(), new VolumeRangeShardingAlgorithm(config.getLowerBound(), config.getShardingVolume()));
+        }
+        if (shardingStrategyConfig instanceof IntervalShardingStrategyConfiguration) {
+            IntervalShardingStrategyConfiguration config = (IntervalShardingStrategyConfiguration) shardingStrategyConfig;
+            return newStandardShardingStrategy(config.getShardingColumn(), new IntervalShardingAlgorithm(config.getIntervalUnit(), config.getDatetimePattern()));
+        }
         return new NoneShardingStrategy();
     }
+    
+    private static ShardingStrategy newStandardShardingStrategy(final String shardingColumn, final AbstractSuffixShardingAlgorithm shardingAlgorithm) {
+        return new StandardShardingStrategy(new StandardShardingStrategyConfiguration(shardingColumn, shardingAlgorithm, shardingAlgorithm));
+    }
 }
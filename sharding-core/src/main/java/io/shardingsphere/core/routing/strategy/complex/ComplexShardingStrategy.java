@@ -21,11 +21,13 @@ import com.google.common.base.Preconditions;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.complex.ComplexKeysShardingAlgorithm;
 import io.shardingsphere.core.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.optimizer.query.ComparisonRangeShardingValue;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
 import lombok.Getter;
 
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.TreeSet;
 
 /**
@@ -50,9 +52,23 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
-        Collection<String> shardingResult = shardingAlgorithm.doSharding(availableTargetNames, shardingValues);
+        Collection<ShardingValue> complexShardingValues = getComplexShardingValues(shardingValues);
+        if (complexShardingValues.isEmpty()) {
+            return availableTargetNames;
+        }
+        Collection<String> shardingResult = shardingAlgorithm.doSharding(availableTargetNames, complexShardingValues);
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
         return result;
     }
+    
+    private Collection<ShardingValue> getComplexShardingValues(final Collection<ShardingValue> shardingValues) {
+        Collection<ShardingValue> result = new LinkedList<>();
+        for (ShardingValue each : shardingValues) {
+            if (!(each instanceof ComparisonRangeShardingValue)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
 }
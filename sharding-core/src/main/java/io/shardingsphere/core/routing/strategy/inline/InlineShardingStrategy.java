@@ -21,16 +21,16 @@ import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
 import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
-import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
-import io.shardingsphere.core.routing.strategy.ShardingStrategy;
+import io.shardingsphere.core.optimizer.query.ComparisonRangeShardingValue;
+import io.shardingsphere.core.routing.strategy.BatchShardingStrategy;
 import io.shardingsphere.core.util.InlineExpressionParser;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -38,7 +38,7 @@ import java.util.TreeSet;
  * 
  * @author zhangliang
  */
-public final class InlineShardingStrategy implements ShardingStrategy {
+public final class InlineShardingStrategy implements BatchShardingStrategy {
     
     private final String shardingColumn;
     
@@ -55,37 +55,29 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
         ShardingValue shardingValue = shardingValues.iterator().next();
-        Preconditions.checkState(shardingValue instanceof ListShardingValue, "Inline strategy cannot support range sharding.");
-        Collection<String> shardingResult = doSharding((ListShardingValue) shardingValue);
+        Preconditions.checkState(shardingValue instanceof ListShardingValue || shardingValue instanceof ComparisonRangeShardingValue, "Inline strategy cannot support range sharding.");
+        Collection<String> shardingResult = shardingValue instanceof ListShardingValue ? doBatchSharding(availableTargetNames, (ListShardingValue<?>) shardingValue).keySet() : availableTargetNames;
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
         return result;
     }
     
-    private Collection<String> doSharding(final ListShardingValue shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
-        }
-        return result;
-    }
-    
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListShardingValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
+    @Override
+    public Map<String, Collection<Comparable<?>>> doBatchSharding(final Collection<String> availableTargetNames, final ListShardingValue<?> shardingValue) {
+        Closure<?> shardingClosure = closure.rehydrate(new Expando(), null, null);
+        shardingClosure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        Map<String, Collection<Comparable<?>>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+            shardingClosure.setProperty(shardingValue.getColumnName(), each);
+            String target = shardingClosure.call().toString();
+            if (!result.containsKey(target)) {
+                result.put(target, new LinkedList<Comparable<?>>());
+            }
+            result.get(target).add(each);
         }
         return result;
     }
     
-    private String execute(final PreciseShardingValue shardingValue) {
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return result.call().toString();
-    }
-    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -22,15 +22,18 @@ import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.standard.BatchPreciseShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.sharding.standard.PreciseShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.sharding.standard.RangeShardingAlgorithm;
+import io.shardingsphere.core.api.algorithm.sharding.standard.UnboundedRangeShardingAlgorithm;
 import io.shardingsphere.core.api.config.strategy.StandardShardingStrategyConfiguration;
-import io.shardingsphere.core.routing.strategy.ShardingStrategy;
+import io.shardingsphere.core.optimizer.query.ComparisonRangeShardingValue;
+import io.shardingsphere.core.routing.strategy.BatchShardingStrategy;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -38,7 +41,7 @@ import java.util.TreeSet;
  * 
  * @author zhangliang
  */
-public final class StandardShardingStrategy implements ShardingStrategy {
+public final class StandardShardingStrategy implements BatchShardingStrategy {
     
     private final String shardingColumn;
     
@@ -57,8 +60,14 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<ShardingValue> shardingValues) {
         ShardingValue shardingValue = shardingValues.iterator().next();
-        Collection<String> shardingResult = shardingValue instanceof ListShardingValue
-                ? doSharding(availableTargetNames, (ListShardingValue) shardingValue) : doSharding(availableTargetNames, (RangeShardingValue) shardingValue);
+        Collection<String> shardingResult;
+        if (shardingValue instanceof ListShardingValue) {
+            shardingResult = doBatchSharding(availableTargetNames, (ListShardingValue<?>) shardingValue).keySet();
+        } else if (shardingValue instanceof ComparisonRangeShardingValue) {
+            shardingResult = doComparisonSharding(availableTargetNames, (ComparisonRangeShardingValue) shardingValue);
+        } else {
+            shardingResult = doSharding(availableTargetNames, (RangeShardingValue) shardingValue);
+        }
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(shardingResult);
         return result;
@@ -73,22 +82,29 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     }
     
     @SuppressWarnings("unchecked")
-    private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingValue<?> shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            String target = preciseShardingAlgorithm.doSharding(availableTargetNames, each);
-            if (null != target) {
-                result.add(target);
-            }
+    private Collection<String> doComparisonSharding(final Collection<String> availableTargetNames, final ComparisonRangeShardingValue shardingValue) {
+        if (null == rangeShardingAlgorithm || !shardingValue.isBounded() && !(rangeShardingAlgorithm instanceof UnboundedRangeShardingAlgorithm)) {
+            return availableTargetNames;
         }
-        return result;
+        return rangeShardingAlgorithm.doSharding(availableTargetNames, shardingValue.getRangeShardingValue());
     }
     
     @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListShardingValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
+    @Override
+    public Map<String, Collection<Comparable<?>>> doBatchSharding(final Collection<String> availableTargetNames, final ListShardingValue<?> shardingValue) {
+        if (preciseShardingAlgorithm instanceof BatchPreciseShardingAlgorithm) {
+            return ((BatchPreciseShardingAlgorithm) preciseShardingAlgorithm).doBatchSharding(availableTargetNames, shardingValue);
+        }
+        Map<String, Collection<Comparable<?>>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+            String target = preciseShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+            if (null == target) {
+                continue;
+            }
+            if (!result.containsKey(target)) {
+                result.put(target, new LinkedList<Comparable<?>>());
+            }
+            result.get(target).add(each);
         }
         return result;
     }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.standard.BatchPreciseShardingAlgorithm;
+import io.shardingsphere.core.api.algorithm.sharding.standard.UnboundedRangeShardingAlgorithm;
+import io.shardingsphere.core.exception.ShardingException;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Sharding algorithm which calculates numeric suffix of target name.
+ * 
+ * <p>
+ * Names of available targets should be composed of same prefix and numeric suffix without leading zero, such as {@code t_order_0} or {@code t_order_201808}.
+ * Target of precise value is located by suffix directly, targets of range value are located by enumerating at most as many suffixes as available targets.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class AbstractSuffixShardingAlgorithm implements BatchPreciseShardingAlgorithm<Comparable<?>>, UnboundedRangeShardingAlgorithm<Comparable<?>> {
+    
+    private static final BigDecimal LONG_MIN_VALUE = BigDecimal.valueOf(Long.MIN_VALUE);
+    
+    private static final BigDecimal LONG_MAX_VALUE = BigDecimal.valueOf(Long.MAX_VALUE);
+    
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        if (availableTargetNames.isEmpty()) {
+            return null;
+        }
+        String result = getPrefix(availableTargetNames) + getSuffix(shardingValue.getValue());
+        return availableTargetNames.contains(result) ? result : null;
+    }
+    
+    @Override
+    public final Map<String, Collection<Comparable<?>>> doBatchSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        Map<String, Collection<Comparable<?>>> result = new LinkedHashMap<>();
+        if (availableTargetNames.isEmpty()) {
+            return result;
+        }
+        String prefix = getPrefix(availableTargetNames);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            String targetName = prefix + getSuffix(each);
+            if (!availableTargetNames.contains(targetName)) {
+                continue;
+            }
+            if (!result.containsKey(targetName)) {
+                result.put(targetName, new LinkedList<Comparable<?>>());
+            }
+            result.get(targetName).add(each);
+        }
+        return result;
+    }
+    
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        if (availableTargetNames.isEmpty()) {
+            return availableTargetNames;
+        }
+        Optional<Collection<Long>> suffixes = getSuffixes(shardingValue.getValueRange(), availableTargetNames.size());
+        return suffixes.isPresent() ? getTargetNames(availableTargetNames, suffixes.get()) : getTargetNames(availableTargetNames, getSuffixRange(shardingValue.getValueRange()));
+    }
+    
+    private String getPrefix(final Collection<String> availableTargetNames) {
+        String targetName = availableTargetNames.iterator().next();
+        return targetName.substring(0, getSuffixIndex(targetName));
+    }
+    
+    private int getSuffixIndex(final String targetName) {
+        int result = targetName.length();
+        while (result > 0 && Character.isDigit(targetName.charAt(result - 1))) {
+            result--;
+        }
+        return result;
+    }
+    
+    private Collection<String> getTargetNames(final Collection<String> availableTargetNames, final Collection<Long> suffixes) {
+        String prefix = getPrefix(availableTargetNames);
+        Collection<String> result = new LinkedHashSet<>(suffixes.size(), 1);
+        for (long each : suffixes) {
+            String targetName = prefix + each;
+            if (availableTargetNames.contains(targetName)) {
+                result.add(targetName);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getTargetNames(final Collection<String> availableTargetNames, final Range<Long> suffixRange) {
+        if (!suffixRange.hasLowerBound() && !suffixRange.hasUpperBound()) {
+            return availableTargetNames;
+        }
+        Collection<String> result = new LinkedList<>();
+        for (String each : availableTargetNames) {
+            int suffixIndex = getSuffixIndex(each);
+            if (suffixIndex < each.length() && suffixRange.contains(Long.parseLong(each.substring(suffixIndex)))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get suffix range of value range for algorithms which suffix increases with sharding value.
+     * 
+     * @param valueRange value range
+     * @return suffix range
+     */
+    protected final Range<Long> getMonotonicSuffixRange(final Range<Comparable<?>> valueRange) {
+        if (valueRange.hasLowerBound() && valueRange.hasUpperBound()) {
+            return Range.closed(getSuffix(valueRange.lowerEndpoint()), getSuffix(valueRange.upperEndpoint()));
+        }
+        if (valueRange.hasLowerBound()) {
+            return Range.atLeast(getSuffix(valueRange.lowerEndpoint()));
+        }
+        if (valueRange.hasUpperBound()) {
+            return Range.atMost(getSuffix(valueRange.upperEndpoint()));
+        }
+        return Range.all();
+    }
+    
+    /**
+     * Convert sharding value to long.
+     * 
+     * @param value sharding value
+     * @return long value
+     * @throws ShardingException if sharding value is not an integral number
+     */
+    protected final long toLong(final Comparable<?> value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return new BigDecimal(value.toString()).longValueExact();
+        } catch (final NumberFormatException | ArithmeticException ex) {
+            throw new ShardingException("Sharding value `%s` of %s is not an integral number, please use hash sharding for sharding column which values are not integral.", 
+                    value, getClass().getSimpleName());
+        }
+    }
+    
+    /**
+     * Get hash of sharding value.
+     * 
+     * <p>Integral values of any numeric type hash to their long value, so {@code 5}, {@code 5L} and {@code 5.0} hash to the same value.
+     * Other values hash by their string form, which is stable across JVMs.</p>
+     * 
+     * @param value sharding value
+     * @return hash of sharding value
+     */
+    protected final long getHash(final Comparable<?> value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number) {
+            return getHash((Number) value);
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        return value.toString().hashCode();
+    }
+    
+    private long getHash(final Number value) {
+        BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(value.toString()).stripTrailingZeros();
+        } catch (final NumberFormatException ex) {
+            return value.toString().hashCode();
+        }
+        return isLongValue(decimal) ? decimal.longValueExact() : decimal.toPlainString().hashCode();
+    }
+    
+    private boolean isLongValue(final BigDecimal decimal) {
+        return decimal.scale() <= 0 && decimal.compareTo(LONG_MIN_VALUE) >= 0 && decimal.compareTo(LONG_MAX_VALUE) <= 0;
+    }
+    
+    /**
+     * Get floor modulus of value, which is never negative for positive divisor.
+     * 
+     * @param value value
+     * @param divisor positive divisor
+     * @return floor modulus
+     */
+    protected static long floorMod(final long value, final int divisor) {
+        long result = value % divisor;
+        return result < 0 ? result + divisor : result;
+    }
+    
+    /**
+     * Get suffix of target name for sharding value.
+     * 
+     * @param value sharding value
+     * @return suffix of target name
+     */
+    protected abstract long getSuffix(Comparable<?> value);
+    
+    /**
+     * Enumerate suffixes of target names for value range.
+     * 
+     * @param valueRange value range
+     * @param maxSize max size of suffixes
+     * @return suffixes of target names, absent if value range is unbounded or contains more than max size suffixes
+     */
+    protected abstract Optional<Collection<Long>> getSuffixes(Range<Comparable<?>> valueRange, int maxSize);
+    
+    /**
+     * Get suffix range to filter target names when suffixes cannot be enumerated.
+     * 
+     * @param valueRange value range
+     * @return suffix range, {@code Range.all()} if all targets are possible
+     */
+    protected abstract Range<Long> getSuffixRange(Range<Comparable<?>> valueRange);
+}
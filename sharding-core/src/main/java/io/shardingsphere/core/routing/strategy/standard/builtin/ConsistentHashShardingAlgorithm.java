@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.Collection;
+
+/**
+ * Sharding algorithm which suffix is consistent hash of sharding value.
+ * 
+ * <p>
+ * Jump consistent hash is used, so when sharding count increases from {@code n} to {@code n + 1},
+ * only {@code 1 / (n + 1)} of sharding values move and all of them move to the new target.
+ * Hash breaks order of sharding values, so range value is always routed to all targets.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ConsistentHashShardingAlgorithm extends AbstractSuffixShardingAlgorithm {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int shardingCount;
+    
+    public ConsistentHashShardingAlgorithm(final int shardingCount) {
+        Preconditions.checkArgument(shardingCount > 0, "Sharding count must be positive.");
+        this.shardingCount = shardingCount;
+    }
+    
+    @Override
+    protected long getSuffix(final Comparable<?> value) {
+        return Hashing.consistentHash(HASH_FUNCTION.hashLong(getHash(value)), shardingCount);
+    }
+    
+    @Override
+    protected Optional<Collection<Long>> getSuffixes(final Range<Comparable<?>> valueRange, final int maxSize) {
+        return Optional.absent();
+    }
+    
+    @Override
+    protected Range<Long> getSuffixRange(final Range<Comparable<?>> valueRange) {
+        return Range.all();
+    }
+}
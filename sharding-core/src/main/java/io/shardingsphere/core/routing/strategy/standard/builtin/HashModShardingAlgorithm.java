@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+import java.util.Collection;
+
+/**
+ * Sharding algorithm which suffix is hash code of sharding value modulo sharding count.
+ * 
+ * <p>Hash breaks order of sharding values, so range value is always routed to all targets.</p>
+ * 
+ * <p>Integral values of any numeric type hash to their long value, so {@code 5}, {@code 5L} and {@code 5.0} are routed to the same target.
+ * Other values hash by their string form, which is stable across JVMs.</p>
+ *
+ * @author agent
+ */
+public final class HashModShardingAlgorithm extends AbstractSuffixShardingAlgorithm {
+    
+    private final int shardingCount;
+    
+    public HashModShardingAlgorithm(final int shardingCount) {
+        Preconditions.checkArgument(shardingCount > 0, "Sharding count must be positive.");
+        this.shardingCount = shardingCount;
+    }
+    
+    @Override
+    protected long getSuffix(final Comparable<?> value) {
+        return floorMod(getHash(value), shardingCount);
+    }
+    
+    @Override
+    protected Optional<Collection<Long>> getSuffixes(final Range<Comparable<?>> valueRange, final int maxSize) {
+        return Optional.absent();
+    }
+    
+    @Override
+    protected Range<Long> getSuffixRange(final Range<Comparable<?>> valueRange) {
+        return Range.all();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import io.shardingsphere.core.constant.IntervalUnit;
+import io.shardingsphere.core.exception.ShardingException;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Sharding algorithm which splits time based sharding values by day, month or year.
+ * 
+ * <p>Suffix is formatted as {@code yyyyMMdd}, {@code yyyyMM} or {@code yyyy} according to interval unit.
+ * Sharding value can be {@link Date} or text formatted by date time pattern.</p>
+ *
+ * @author agent
+ */
+public final class IntervalShardingAlgorithm extends AbstractSuffixShardingAlgorithm {
+    
+    private final IntervalUnit intervalUnit;
+    
+    private final String datetimePattern;
+    
+    public IntervalShardingAlgorithm(final IntervalUnit intervalUnit, final String datetimePattern) {
+        Preconditions.checkNotNull(intervalUnit, "Interval unit cannot be null.");
+        Preconditions.checkNotNull(datetimePattern, "Date time pattern cannot be null.");
+        this.intervalUnit = intervalUnit;
+        this.datetimePattern = datetimePattern;
+    }
+    
+    @Override
+    protected long getSuffix(final Comparable<?> value) {
+        return getSuffix(toCalendar(value));
+    }
+    
+    private long getSuffix(final Calendar calendar) {
+        long year = calendar.get(Calendar.YEAR);
+        long month = calendar.get(Calendar.MONTH) + 1;
+        switch (intervalUnit) {
+            case YEAR:
+                return year;
+            case MONTH:
+                return year * 100 + month;
+            default:
+                return (year * 100 + month) * 100 + calendar.get(Calendar.DAY_OF_MONTH);
+        }
+    }
+    
+    private Calendar toCalendar(final Comparable<?> value) {
+        Calendar result = Calendar.getInstance();
+        if (value instanceof Date) {
+            result.setTime((Date) value);
+            return result;
+        }
+        try {
+            result.setTime(new SimpleDateFormat(datetimePattern).parse(value.toString()));
+        } catch (final ParseException ex) {
+            throw new ShardingException("Cannot parse sharding value `%s` with pattern `%s`.", value, datetimePattern);
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<Collection<Long>> getSuffixes(final Range<Comparable<?>> valueRange, final int maxSize) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return Optional.absent();
+        }
+        Calendar calendar = toCalendar(valueRange.lowerEndpoint());
+        long upper = getSuffix(valueRange.upperEndpoint());
+        Collection<Long> result = new ArrayList<>();
+        for (long suffix = getSuffix(calendar); suffix <= upper; suffix = getSuffix(calendar)) {
+            if (result.size() >= maxSize) {
+                return Optional.absent();
+            }
+            result.add(suffix);
+            calendar.add(intervalUnit.getCalendarField(), 1);
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    protected Range<Long> getSuffixRange(final Range<Comparable<?>> valueRange) {
+        return getMonotonicSuffixRange(valueRange);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Sharding algorithm which suffix is sharding value modulo sharding count.
+ *
+ * @author agent
+ */
+public final class ModShardingAlgorithm extends AbstractSuffixShardingAlgorithm {
+    
+    private final int shardingCount;
+    
+    public ModShardingAlgorithm(final int shardingCount) {
+        Preconditions.checkArgument(shardingCount > 0, "Sharding count must be positive.");
+        this.shardingCount = shardingCount;
+    }
+    
+    @Override
+    protected long getSuffix(final Comparable<?> value) {
+        return floorMod(toLong(value), shardingCount);
+    }
+    
+    @Override
+    protected Optional<Collection<Long>> getSuffixes(final Range<Comparable<?>> valueRange, final int maxSize) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return Optional.absent();
+        }
+        long lower = toLong(valueRange.lowerEndpoint());
+        long upper = toLong(valueRange.upperEndpoint());
+        long span = upper - lower;
+        if (span < 0 || span >= Math.min(shardingCount, maxSize)) {
+            return Optional.absent();
+        }
+        Collection<Long> result = new LinkedHashSet<>((int) span + 1, 1);
+        for (long i = lower; i <= upper; i++) {
+            result.add(getSuffix(i));
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    protected Range<Long> getSuffixRange(final Range<Comparable<?>> valueRange) {
+        return Range.all();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Sharding algorithm which splits numeric sharding values into continuous ranges of same volume.
+ * 
+ * <p>Suffix is {@code (value - lowerBound) / shardingVolume} rounded down, such as values {@code [0, 1000)} to suffix 0 and {@code [1000, 2000)} to suffix 1 for volume 1000.</p>
+ *
+ * @author agent
+ */
+public final class VolumeRangeShardingAlgorithm extends AbstractSuffixShardingAlgorithm {
+    
+    private final long lowerBound;
+    
+    private final long shardingVolume;
+    
+    public VolumeRangeShardingAlgorithm(final long lowerBound, final long shardingVolume) {
+        Preconditions.checkArgument(shardingVolume > 0, "Sharding volume must be positive.");
+        this.lowerBound = lowerBound;
+        this.shardingVolume = shardingVolume;
+    }
+    
+    @Override
+    protected long getSuffix(final Comparable<?> value) {
+        long offset = toLong(value) - lowerBound;
+        long result = offset / shardingVolume;
+        return offset < 0 && 0 != offset % shardingVolume ? result - 1 : result;
+    }
+    
+    @Override
+    protected Optional<Collection<Long>> getSuffixes(final Range<Comparable<?>> valueRange, final int maxSize) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return Optional.absent();
+        }
+        long lower = getSuffix(valueRange.lowerEndpoint());
+        long upper = getSuffix(valueRange.upperEndpoint());
+        if (upper - lower < 0 || upper - lower >= maxSize) {
+            return Optional.absent();
+        }
+        Collection<Long> result = new ArrayList<>((int) (upper - lower) + 1);
+        for (long i = lower; i <= upper; i++) {
+            result.add(i);
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    protected Range<Long> getSuffixRange(final Range<Comparable<?>> valueRange) {
+        return getMonotonicSuffixRange(valueRange);
+    }
+}
@@ -19,12 +19,15 @@ package io.shardingsphere.core.routing.type.standard;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.hint.ShardingKey;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
+import io.shardingsphere.core.routing.strategy.BatchShardingStrategy;
+import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.RoutingTable;
@@ -37,9 +40,13 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Standard routing engine.
@@ -75,6 +82,8 @@ public final class StandardRoutingEngine implements RoutingEngine {
         } else {
             if (shardingConditions.getShardingConditions().isEmpty()) {
                 routedDataNodes.addAll(route(tableRule, Collections.<ShardingValue>emptyList(), Collections.<ShardingValue>emptyList()));
+            } else if (isBatchRoutable(tableRule, databaseShardingColumns, tableShardingColumns)) {
+                routedDataNodes.addAll(routeInBatch(tableRule, databaseShardingColumns, tableShardingColumns));
             } else {
                 for (ShardingCondition each : shardingConditions.getShardingConditions()) {
                     List<ShardingValue> databaseShardingValues = getShardingValues(databaseShardingColumns, each);
@@ -99,6 +108,111 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
+    private boolean isBatchRoutable(final TableRule tableRule, final Collection<String> databaseShardingColumns, final Collection<String> tableShardingColumns) {
+        if (shardingConditions.getShardingConditions().size() < 2 || !isBatchShardingStrategy(shardingRule.getDatabaseShardingStrategy(tableRule), databaseShardingColumns)
+                || !isBatchShardingStrategy(shardingRule.getTableShardingStrategy(tableRule), tableShardingColumns)) {
+            return false;
+        }
+        for (ShardingCondition each : shardingConditions.getShardingConditions()) {
+            if (!(each instanceof InsertShardingCondition) || !isSingleValue(getShardingValues(databaseShardingColumns, each)) || !isSingleValue(getShardingValues(tableShardingColumns, each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isBatchShardingStrategy(final ShardingStrategy shardingStrategy, final Collection<String> shardingColumns) {
+        return shardingColumns.isEmpty() || shardingStrategy instanceof BatchShardingStrategy;
+    }
+    
+    private boolean isSingleValue(final List<ShardingValue> shardingValues) {
+        return shardingValues.isEmpty() || 1 == shardingValues.size() && shardingValues.get(0) instanceof ListShardingValue && 1 == ((ListShardingValue<?>) shardingValues.get(0)).getValues().size();
+    }
+    
+    private Collection<DataNode> routeInBatch(final TableRule tableRule, final Collection<String> databaseShardingColumns, final Collection<String> tableShardingColumns) {
+        List<ShardingCondition> conditions = shardingConditions.getShardingConditions();
+        List<List<ShardingValue>> databaseShardingValues = new ArrayList<>(conditions.size());
+        List<List<ShardingValue>> tableShardingValues = new ArrayList<>(conditions.size());
+        for (ShardingCondition each : conditions) {
+            databaseShardingValues.add(getShardingValues(databaseShardingColumns, each));
+            tableShardingValues.add(getShardingValues(tableShardingColumns, each));
+        }
+        List<Collection<String>> routedDataSources = routeInBatch(
+                shardingRule.getDatabaseShardingStrategy(tableRule), tableRule.getActualDatasourceNames(), databaseShardingValues, "no database route info");
+        Map<String, List<Integer>> conditionIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            for (String each : routedDataSources.get(i)) {
+                if (!conditionIndexes.containsKey(each)) {
+                    conditionIndexes.put(each, new ArrayList<Integer>());
+                }
+                conditionIndexes.get(each).add(i);
+            }
+        }
+        Map<String, Map<Integer, Collection<String>>> routedTables = new HashMap<>(conditionIndexes.size(), 1);
+        for (Entry<String, List<Integer>> entry : conditionIndexes.entrySet()) {
+            List<List<ShardingValue>> currentTableShardingValues = new ArrayList<>(entry.getValue().size());
+            for (int each : entry.getValue()) {
+                currentTableShardingValues.add(tableShardingValues.get(each));
+            }
+            List<Collection<String>> currentRoutedTables = routeInBatch(
+                    shardingRule.getTableShardingStrategy(tableRule), tableRule.getActualTableNames(entry.getKey()), currentTableShardingValues, "no table route info");
+            Map<Integer, Collection<String>> routedTablesOfDataSource = new HashMap<>(entry.getValue().size(), 1);
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                Preconditions.checkState(!currentRoutedTables.get(i).isEmpty(), "no table route info");
+                routedTablesOfDataSource.put(entry.getValue().get(i), currentRoutedTables.get(i));
+            }
+            routedTables.put(entry.getKey(), routedTablesOfDataSource);
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            Collection<DataNode> dataNodes = new LinkedList<>();
+            for (String each : routedDataSources.get(i)) {
+                for (String table : routedTables.get(each).get(i)) {
+                    dataNodes.add(new DataNode(each, table));
+                }
+            }
+            ((InsertShardingCondition) conditions.get(i)).getDataNodes().addAll(dataNodes);
+            result.addAll(dataNodes);
+        }
+        return result;
+    }
+    
+    private List<Collection<String>> routeInBatch(
+            final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final List<List<ShardingValue>> shardingValues, final String errorMessage) {
+        ListShardingValue<?> mergedShardingValue = mergeShardingValues(shardingValues);
+        Map<Comparable<?>, String> routedTargets = new HashMap<>();
+        if (null != mergedShardingValue) {
+            for (Entry<String, Collection<Comparable<?>>> entry : ((BatchShardingStrategy) shardingStrategy).doBatchSharding(availableTargetNames, mergedShardingValue).entrySet()) {
+                for (Comparable<?> each : entry.getValue()) {
+                    routedTargets.put(each, entry.getKey());
+                }
+            }
+        }
+        List<Collection<String>> result = new ArrayList<>(shardingValues.size());
+        for (List<ShardingValue> each : shardingValues) {
+            if (each.isEmpty()) {
+                result.add(availableTargetNames);
+                continue;
+            }
+            String routedTarget = routedTargets.get(((ListShardingValue<?>) each.get(0)).getValues().iterator().next());
+            Preconditions.checkState(null != routedTarget, errorMessage);
+            result.add(Collections.singletonList(routedTarget));
+        }
+        return result;
+    }
+    
+    private ListShardingValue<?> mergeShardingValues(final List<List<ShardingValue>> shardingValues) {
+        ListShardingValue<?> shardingValue = null;
+        Collection<Comparable<?>> values = new ArrayList<>(shardingValues.size());
+        for (List<ShardingValue> each : shardingValues) {
+            if (!each.isEmpty()) {
+                shardingValue = (ListShardingValue<?>) each.get(0);
+                values.addAll(shardingValue.getValues());
+            }
+        }
+        return null == shardingValue ? null : new ListShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), values);
+    }
+    
     private List<ShardingValue> getDatabaseShardingValuesFromHint(final Collection<String> shardingColumns) {
         List<ShardingValue> result = new ArrayList<>(shardingColumns.size());
         for (String each : shardingColumns) {
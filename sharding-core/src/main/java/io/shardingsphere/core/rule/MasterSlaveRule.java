@@ -18,12 +18,14 @@
 package io.shardingsphere.core.rule;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionRegistry;
 import lombok.Getter;
 
-import java.util.Collection;
+import java.util.List;
 
 /**
  * Databases and tables master-slave rule configuration.
@@ -38,10 +40,12 @@ public final class MasterSlaveRule {
     
     private final String masterDataSourceName;
     
-    private final Collection<String> slaveDataSourceNames;
+    private final List<String> slaveDataSourceNames;
     
     private final MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm;
     
+    private final ReplicationPositionRegistry replicationPositionRegistry = new ReplicationPositionRegistry();
+    
     public MasterSlaveRule(final MasterSlaveRuleConfiguration config) {
         Preconditions.checkNotNull(config.getName(), "Master-slave rule name cannot be null.");
         Preconditions.checkNotNull(config.getMasterDataSourceName(), "Master data source name cannot be null.");
@@ -49,7 +53,7 @@ public final class MasterSlaveRule {
         Preconditions.checkState(!config.getSlaveDataSourceNames().isEmpty(), "Slave data source names cannot be empty.");
         name = config.getName();
         masterDataSourceName = config.getMasterDataSourceName();
-        slaveDataSourceNames = config.getSlaveDataSourceNames();
+        slaveDataSourceNames = ImmutableList.copyOf(config.getSlaveDataSourceNames());
         loadBalanceAlgorithm = null == config.getLoadBalanceAlgorithm() ? MasterSlaveLoadBalanceAlgorithmType.getDefaultAlgorithmType().getAlgorithm() : config.getLoadBalanceAlgorithm();
     }
     
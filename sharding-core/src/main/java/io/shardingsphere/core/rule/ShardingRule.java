@@ -25,6 +25,7 @@ import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.keygen.BatchKeyGenerator;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
 import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
@@ -34,6 +35,7 @@ import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -270,14 +272,34 @@ public final class ShardingRule {
      * @return generated key
      */
     public Number generateKey(final String logicTableName) {
+        return getKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public List<Number> generateKeys(final String logicTableName, final int count) {
+        KeyGenerator keyGenerator = getKeyGenerator(logicTableName);
+        if (keyGenerator instanceof BatchKeyGenerator) {
+            return ((BatchKeyGenerator) keyGenerator).generateKeys(count);
+        }
+        List<Number> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(keyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    private KeyGenerator getKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        if (null != tableRule.get().getKeyGenerator()) {
-            return tableRule.get().getKeyGenerator().generateKey();
-        }
-        return defaultKeyGenerator.generateKey();
+        return null == tableRule.get().getKeyGenerator() ? defaultKeyGenerator : tableRule.get().getKeyGenerator();
     }
     
     /**
@@ -78,4 +78,43 @@ public final class NumberUtil {
         }
         return result;
     }
+    
+    /**
+     * Get int value of object.
+     *
+     * @param value value to be converted
+     * @return int value, 0 if value is null
+     */
+    public static int getIntValue(final Object value) {
+        if (null == value) {
+            return 0;
+        }
+        return value instanceof Number ? ((Number) value).intValue() : new BigDecimal(value.toString()).intValue();
+    }
+    
+    /**
+     * Get long value of object.
+     *
+     * @param value value to be converted
+     * @return long value, 0 if value is null
+     */
+    public static long getLongValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        return value instanceof Number ? ((Number) value).longValue() : new BigDecimal(value.toString()).longValue();
+    }
+    
+    /**
+     * Get double value of object.
+     *
+     * @param value value to be converted
+     * @return double value, 0 if value is null
+     */
+    public static double getDoubleValue(final Object value) {
+        if (null == value) {
+            return 0D;
+        }
+        return value instanceof Number ? ((Number) value).doubleValue() : new BigDecimal(value.toString()).doubleValue();
+    }
 }
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.yaml;
 
 import io.shardingsphere.core.yaml.masterslave.YamlMasterSlaveRuleConfiguration;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheConfiguration;
 import io.shardingsphere.core.yaml.sharding.YamlShardingRuleConfiguration;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,4 +35,6 @@ public final class YamlRuleConfiguration {
     private YamlShardingRuleConfiguration shardingRule;
     
     private YamlMasterSlaveRuleConfiguration masterSlaveRule;
+    
+    private YamlQueryResultCacheConfiguration queryResultCache;
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.core.yaml.masterslave;
 import com.google.common.base.Strings;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
+import io.shardingsphere.core.api.algorithm.masterslave.WeightedMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import lombok.Getter;
@@ -28,6 +29,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +37,8 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Master-slave rule configuration for yaml.
  *
+ * <p>Weights of slave data sources are configured by {@code loadBalanceWeights} if load balance algorithm type is {@code WEIGHTED}.</p>
+ *
  * @author caohao
  * @author panjuan
  */
@@ -53,6 +57,8 @@ public class YamlMasterSlaveRuleConfiguration {
     
     private String loadBalanceAlgorithmClassName;
     
+    private Map<String, Integer> loadBalanceWeights = new LinkedHashMap<>();
+    
     private Map<String, Object> configMap = new ConcurrentHashMap<>();
     
     private Properties props = new Properties();
@@ -61,7 +67,12 @@ public class YamlMasterSlaveRuleConfiguration {
         name = masterSlaveRuleConfiguration.getName();
         masterDataSourceName = masterSlaveRuleConfiguration.getMasterDataSourceName();
         slaveDataSourceNames = masterSlaveRuleConfiguration.getSlaveDataSourceNames();
-        loadBalanceAlgorithmClassName = null == masterSlaveRuleConfiguration.getLoadBalanceAlgorithm() ? null : masterSlaveRuleConfiguration.getLoadBalanceAlgorithm().getClass().getName();
+        if (masterSlaveRuleConfiguration.getLoadBalanceAlgorithm() instanceof WeightedMasterSlaveLoadBalanceAlgorithm) {
+            loadBalanceAlgorithmType = MasterSlaveLoadBalanceAlgorithmType.WEIGHTED;
+            loadBalanceWeights = new LinkedHashMap<>(((WeightedMasterSlaveLoadBalanceAlgorithm) masterSlaveRuleConfiguration.getLoadBalanceAlgorithm()).getWeights());
+        } else {
+            loadBalanceAlgorithmClassName = null == masterSlaveRuleConfiguration.getLoadBalanceAlgorithm() ? null : masterSlaveRuleConfiguration.getLoadBalanceAlgorithm().getClass().getName();
+        }
         this.configMap = configMap;
         this.props = props;
     }
@@ -75,6 +86,8 @@ public class YamlMasterSlaveRuleConfiguration {
         MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm = null;
         if (!Strings.isNullOrEmpty(loadBalanceAlgorithmClassName)) {
             loadBalanceAlgorithm = newInstance(loadBalanceAlgorithmClassName);
+        } else if (MasterSlaveLoadBalanceAlgorithmType.WEIGHTED == loadBalanceAlgorithmType) {
+            loadBalanceAlgorithm = new WeightedMasterSlaveLoadBalanceAlgorithm(loadBalanceWeights);
         } else if (null != loadBalanceAlgorithmType) {
             loadBalanceAlgorithm = loadBalanceAlgorithmType.getAlgorithm();
         }
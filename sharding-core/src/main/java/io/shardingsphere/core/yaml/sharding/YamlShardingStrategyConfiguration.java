@@ -23,17 +23,25 @@ import io.shardingsphere.core.api.algorithm.sharding.hint.HintShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.sharding.standard.PreciseShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.sharding.standard.RangeShardingAlgorithm;
 import io.shardingsphere.core.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ConsistentHashShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.IntervalShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ModShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.NoneShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.ShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.StandardShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.VolumeRangeShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingAlgorithmFactory;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlConsistentHashShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlModShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlVolumeRangeShardingStrategyConfiguration;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -59,6 +67,14 @@ public class YamlShardingStrategyConfiguration {
     
     private YamlNoneShardingStrategyConfiguration none;
     
+    private YamlModShardingStrategyConfiguration mod;
+    
+    private YamlConsistentHashShardingStrategyConfiguration consistentHash;
+    
+    private YamlVolumeRangeShardingStrategyConfiguration volumeRange;
+    
+    private YamlIntervalShardingStrategyConfiguration interval;
+    
     public YamlShardingStrategyConfiguration(final ShardingStrategyConfiguration shardingStrategyConfiguration) {
         if (shardingStrategyConfiguration instanceof StandardShardingStrategyConfiguration) {
             standard = new YamlStandardShardingStrategyConfiguration();
@@ -84,6 +100,33 @@ public class YamlShardingStrategyConfiguration {
             inline.setShardingColumn(config.getShardingColumn());
             inline.setAlgorithmExpression(config.getAlgorithmExpression());
         }
+        if (shardingStrategyConfiguration instanceof ModShardingStrategyConfiguration) {
+            mod = new YamlModShardingStrategyConfiguration();
+            ModShardingStrategyConfiguration config = (ModShardingStrategyConfiguration) shardingStrategyConfiguration;
+            mod.setShardingColumn(config.getShardingColumn());
+            mod.setShardingCount(config.getShardingCount());
+            mod.setHash(config.isHash());
+        }
+        if (shardingStrategyConfiguration instanceof ConsistentHashShardingStrategyConfiguration) {
+            consistentHash = new YamlConsistentHashShardingStrategyConfiguration();
+            ConsistentHashShardingStrategyConfiguration config = (ConsistentHashShardingStrategyConfiguration) shardingStrategyConfiguration;
+            consistentHash.setShardingColumn(config.getShardingColumn());
+            consistentHash.setShardingCount(config.getShardingCount());
+        }
+        if (shardingStrategyConfiguration instanceof VolumeRangeShardingStrategyConfiguration) {
+            volumeRange = new YamlVolumeRangeShardingStrategyConfiguration();
+            VolumeRangeShardingStrategyConfiguration config = (VolumeRangeShardingStrategyConfiguration) shardingStrategyConfiguration;
+            volumeRange.setShardingColumn(config.getShardingColumn());
+            volumeRange.setLowerBound(config.getLowerBound());
+            volumeRange.setShardingVolume(config.getShardingVolume());
+        }
+        if (shardingStrategyConfiguration instanceof IntervalShardingStrategyConfiguration) {
+            interval = new YamlIntervalShardingStrategyConfiguration();
+            IntervalShardingStrategyConfiguration config = (IntervalShardingStrategyConfiguration) shardingStrategyConfiguration;
+            interval.setShardingColumn(config.getShardingColumn());
+            interval.setIntervalUnit(config.getIntervalUnit());
+            interval.setDatetimePattern(config.getDatetimePattern());
+        }
     }
     
     /**
@@ -104,7 +147,7 @@ public class YamlShardingStrategyConfiguration {
                         ShardingAlgorithmFactory.newInstance(standard.getPreciseAlgorithmClassName(), PreciseShardingAlgorithm.class),
                         ShardingAlgorithmFactory.newInstance(standard.getRangeAlgorithmClassName(), RangeShardingAlgorithm.class));
             }
-            
+        
         }
         if (null != complex) {
             shardingStrategyConfigCount++;
@@ -122,6 +165,22 @@ public class YamlShardingStrategyConfiguration {
             shardingStrategyConfigCount++;
             result = new NoneShardingStrategyConfiguration();
         }
+        if (null != mod) {
+            shardingStrategyConfigCount++;
+            result = new ModShardingStrategyConfiguration(mod.getShardingColumn(), mod.getShardingCount(), mod.isHash());
+        }
+        if (null != consistentHash) {
+            shardingStrategyConfigCount++;
+            result = new ConsistentHashShardingStrategyConfiguration(consistentHash.getShardingColumn(), consistentHash.getShardingCount());
+        }
+        if (null != volumeRange) {
+            shardingStrategyConfigCount++;
+            result = new VolumeRangeShardingStrategyConfiguration(volumeRange.getShardingColumn(), volumeRange.getLowerBound(), volumeRange.getShardingVolume());
+        }
+        if (null != interval) {
+            shardingStrategyConfigCount++;
+            result = new IntervalShardingStrategyConfiguration(interval.getShardingColumn(), interval.getIntervalUnit(), interval.getDatetimePattern());
+        }
         Preconditions.checkArgument(shardingStrategyConfigCount <= 1, "Only allowed 0 or 1 sharding strategy configuration.");
         return result;
     }
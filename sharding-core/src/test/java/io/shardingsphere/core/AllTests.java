@@ -23,6 +23,7 @@ import io.shardingsphere.core.executor.AllExecutorTests;
 import io.shardingsphere.core.hint.AllHintTests;
 import io.shardingsphere.core.merger.AllMergerTests;
 import io.shardingsphere.core.metadata.AllMetaDataTests;
+import io.shardingsphere.core.metrics.AllMetricsTests;
 import io.shardingsphere.core.optimizer.AllOptimizerTests;
 import io.shardingsphere.core.parsing.AllParsingTests;
 import io.shardingsphere.core.rewrite.AllRewriteTests;
@@ -45,6 +46,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AllRoutingTests.class,
         AllExecutorTests.class, 
         AllMergerTests.class, 
+        AllMetricsTests.class, 
         AllHintTests.class, 
         AllYamlTests.class
     })
@@ -18,8 +18,11 @@
 package io.shardingsphere.core.api;
 
 import io.shardingsphere.core.api.algorithm.common.ShardingStrategyTest;
+import io.shardingsphere.core.api.algorithm.masterslave.LatencyAwareMasterSlaveLoadBalanceAlgorithmTest;
+import io.shardingsphere.core.api.algorithm.masterslave.LeastActiveMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RandomMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithmTest;
+import io.shardingsphere.core.api.algorithm.masterslave.WeightedMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.sharding.DatabaseShardingStrategyTest;
 import io.shardingsphere.core.api.algorithm.table.TableShardingStrategyTest;
 import org.junit.runner.RunWith;
@@ -32,6 +35,9 @@ import org.junit.runners.Suite;
         TableShardingStrategyTest.class, 
         RoundRobinMasterSlaveLoadBalanceAlgorithmTest.class, 
         RandomMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LeastActiveMasterSlaveLoadBalanceAlgorithmTest.class, 
+        LatencyAwareMasterSlaveLoadBalanceAlgorithmTest.class, 
+        WeightedMasterSlaveLoadBalanceAlgorithmTest.class, 
         HintManagerTest.class
     })
 public final class AllApiTests {
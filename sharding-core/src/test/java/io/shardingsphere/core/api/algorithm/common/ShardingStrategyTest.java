@@ -22,18 +22,26 @@ import com.google.common.collect.Sets;
 import io.shardingsphere.core.api.algorithm.fixture.TestComplexKeysShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.fixture.TestPreciseShardingAlgorithm;
 import io.shardingsphere.core.api.algorithm.fixture.TestRangeShardingAlgorithm;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.StandardShardingStrategyConfiguration;
+import io.shardingsphere.core.fixture.RangeOrderShardingAlgorithm;
+import io.shardingsphere.core.optimizer.query.ComparisonRangeShardingValue;
 import io.shardingsphere.core.routing.strategy.complex.ComplexShardingStrategy;
+import io.shardingsphere.core.routing.strategy.inline.InlineShardingStrategy;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.routing.strategy.standard.StandardShardingStrategy;
+import io.shardingsphere.core.routing.strategy.standard.builtin.VolumeRangeShardingAlgorithm;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -55,10 +63,83 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
     
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertDoShardingForBetweenWithoutRangeShardingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
+        strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(1, 3))));
+    }
+    
+    @Test
+    public void assertDoShardingForComparisonWithoutRangeShardingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.greaterThan(1)))), is(targets));
+    }
+    
+    @Test
+    public void assertDoShardingForUnboundedComparisonWithBoundedRangeShardingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm(), new RangeOrderShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.greaterThan(1)))), is(targets));
+    }
+    
+    @Test
+    public void assertDoShardingForBoundedComparisonWithBoundedRangeShardingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm(), new RangeOrderShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.closedOpen(1, 2)))), 
+                is((Collection<String>) Sets.newHashSet("1")));
+    }
+    
+    @Test
+    public void assertDoShardingForUnboundedComparisonWithUnboundedRangeShardingAlgorithm() {
+        Collection<String> targets = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm(), new VolumeRangeShardingAlgorithm(1000L, 100L)));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.<Comparable<?>>greaterThan(1250)))), 
+                is((Collection<String>) Sets.newHashSet("t_order_2", "t_order_3")));
+    }
+    
+    @Test
+    public void assertDoShardingForComparisonWithInlineStrategy() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.lessThan(1)))), is(targets));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDoShardingForBetweenWithInlineStrategy() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new RangeShardingValue<>("logicTable", "column", Range.closed(1, 3))));
+    }
+    
+    @Test
+    public void assertDoBatchShardingWithStandardStrategy() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new TestPreciseShardingAlgorithm()));
+        Map<String, Collection<Comparable<?>>> actual = strategy.doBatchSharding(targets, new ListShardingValue<>("logicTable", "column", Arrays.asList("1", "3", "1")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("1"), is((Collection<Comparable<?>>) Arrays.<Comparable<?>>asList("1", "1")));
+        assertThat(actual.get("3"), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList("3")));
+    }
+    
+    @Test
+    public void assertDoBatchShardingWithInlineStrategy() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        Map<String, Collection<Comparable<?>>> actual = strategy.doBatchSharding(targets, new ListShardingValue<>("logicTable", "column", Arrays.asList(1, 2, 3)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order_0"), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList(2)));
+        assertThat(actual.get("t_order_1"), is((Collection<Comparable<?>>) Arrays.<Comparable<?>>asList(1, 3)));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new TestComplexKeysShardingAlgorithm()));
         assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(new PreciseShardingValue<>("logicTable", "column", "1"))), 
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForComparisonWithComplexStrategy() {
+        ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column", new TestComplexKeysShardingAlgorithm()));
+        assertThat(strategy.doSharding(targets, Collections.<ShardingValue>singletonList(createComparisonShardingValue(Range.lessThan(1)))), is(targets));
+    }
+    
+    private <T extends Comparable<?>> ComparisonRangeShardingValue createComparisonShardingValue(final Range<T> range) {
+        return new ComparisonRangeShardingValue(new RangeShardingValue<>("logicTable", "column", range));
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareMasterSlaveLoadBalanceAlgorithm latencyAwareMasterSlaveLoadBalanceAlgorithm = new LatencyAwareMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSource() {
+        String masterDataSourceName = "latency_aware_ds_master";
+        String slaveDataSourceName1 = "latency_aware_ds_slave_1";
+        String slaveDataSourceName2 = "latency_aware_ds_slave_2";
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        statisticsRegistry.getStatistics(slaveDataSourceName1).finish(statisticsRegistry.getStatistics(slaveDataSourceName1).start() - TimeUnit.SECONDS.toNanos(1L));
+        statisticsRegistry.getStatistics(slaveDataSourceName2).finish(statisticsRegistry.getStatistics(slaveDataSourceName2).start() - TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames, statisticsRegistry), is(slaveDataSourceName2));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames, statisticsRegistry), is(slaveDataSourceName2));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSeedLatency() {
+        String masterDataSourceName = "latency_aware_seed_ds_master";
+        String slaveDataSourceName1 = "latency_aware_seed_ds_slave_1";
+        String slaveDataSourceName2 = "latency_aware_seed_ds_slave_2";
+        String slaveDataSourceName3 = "latency_aware_seed_ds_slave_3";
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2, slaveDataSourceName3);
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        statisticsRegistry.getStatistics(slaveDataSourceName1).finish(statisticsRegistry.getStatistics(slaveDataSourceName1).start() - TimeUnit.MILLISECONDS.toNanos(10L));
+        statisticsRegistry.getStatistics(slaveDataSourceName2).finish(statisticsRegistry.getStatistics(slaveDataSourceName2).start() - TimeUnit.MILLISECONDS.toNanos(30L));
+        statisticsRegistry.getStatistics(slaveDataSourceName3).start();
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames, statisticsRegistry), is(slaveDataSourceName1));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutStatistics() {
+        List<String> slaveDataSourceNames = Arrays.asList("latency_aware_ds_slave_1", "latency_aware_ds_slave_2");
+        assertTrue(slaveDataSourceNames.contains(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "latency_aware_ds_master", slaveDataSourceNames)));
+    }
+}
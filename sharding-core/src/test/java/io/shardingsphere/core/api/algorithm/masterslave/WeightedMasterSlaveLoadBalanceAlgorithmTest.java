@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.masterslave;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class WeightedMasterSlaveLoadBalanceAlgorithmTest {
+    
+    @Test
+    public void assertGetDataSource() {
+        String masterDataSourceName = "test_ds_master";
+        String slaveDataSourceName1 = "test_ds_slave_1";
+        String slaveDataSourceName2 = "test_ds_slave_2";
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        Map<String, Integer> weights = new HashMap<>(2, 1);
+        weights.put(slaveDataSourceName1, 0);
+        weights.put(slaveDataSourceName2, 3);
+        WeightedMasterSlaveLoadBalanceAlgorithm weightedMasterSlaveLoadBalanceAlgorithm = new WeightedMasterSlaveLoadBalanceAlgorithm(weights);
+        assertThat(weightedMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+        assertThat(weightedMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", masterDataSourceName, slaveDataSourceNames), is(slaveDataSourceName2));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetDataSourceWithoutPositiveWeight() {
+        Map<String, Integer> weights = new HashMap<>(1, 1);
+        weights.put("test_ds_slave_1", 0);
+        new WeightedMasterSlaveLoadBalanceAlgorithm(weights).getDataSource("ds", "test_ds_master", Arrays.asList("test_ds_slave_1"));
+    }
+}
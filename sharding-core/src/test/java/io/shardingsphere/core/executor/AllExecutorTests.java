@@ -17,11 +17,22 @@
 
 package io.shardingsphere.core.executor;
 
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreakerTest;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkheadTest;
+import io.shardingsphere.core.executor.sql.execute.statistics.StatisticsSQLExecuteCallbackTest;
+import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplateTest;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
-@Suite.SuiteClasses(ExecutorExceptionHandlerTest.class)
+@Suite.SuiteClasses({
+        ShardingExecuteEngineTest.class,
+        ExecutorExceptionHandlerTest.class,
+        SQLExecutePrepareTemplateTest.class,
+        SQLExecuteBulkheadTest.class,
+        SQLExecuteCircuitBreakerTest.class,
+        StatisticsSQLExecuteCallbackTest.class
+})
 public final class AllExecutorTests {
 }
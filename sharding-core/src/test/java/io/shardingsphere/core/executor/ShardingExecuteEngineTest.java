@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ShardingExecuteEngineTest {
+    
+    private final CountDownLatch blockingLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch blockedLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch cancelledLatch = new CountDownLatch(1);
+    
+    private final Collection<Integer> executedInputs = new CopyOnWriteArrayList<>();
+    
+    private final Collection<Integer> cancelledInputs = new CopyOnWriteArrayList<>();
+    
+    private ShardingExecuteEngine shardingExecuteEngine;
+    
+    @After
+    public void tearDown() {
+        blockingLatch.countDown();
+        shardingExecuteEngine.close();
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteWithoutBlockingCaller() throws InterruptedException, ExecutionException, TimeoutException {
+        shardingExecuteEngine = new ShardingExecuteEngine(0);
+        List<ListenableFuture<Collection<Integer>>> actual = shardingExecuteEngine.asyncGroupExecute(createInputGroups(1, 2), createCallback(false), createCancelCallback(), 0L);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1).get(5L, TimeUnit.SECONDS), is((Collection<Integer>) Collections.singletonList(2)));
+        assertFalse(actual.get(0).isDone());
+        blockingLatch.countDown();
+        assertThat(actual.get(0).get(5L, TimeUnit.SECONDS), is((Collection<Integer>) Collections.singletonList(1)));
+        assertTrue(cancelledInputs.isEmpty());
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteCancelStartedGroupsWhenFailure() throws InterruptedException {
+        shardingExecuteEngine = new ShardingExecuteEngine(0);
+        List<ListenableFuture<Collection<Integer>>> actual = shardingExecuteEngine.asyncGroupExecute(createInputGroups(1, 2), createCallback(true), createCancelCallback(), 0L);
+        try {
+            actual.get(1).get();
+            fail("Expected ExecutionException");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+        assertTrue(cancelledLatch.await(5L, TimeUnit.SECONDS));
+        assertTrue(actual.get(0).isCancelled());
+        assertThat(cancelledInputs, is((Collection<Integer>) Collections.singletonList(1)));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteCancelWhenDeadlineExceeded() throws InterruptedException, ExecutionException {
+        shardingExecuteEngine = new ShardingExecuteEngine(1);
+        List<ListenableFuture<Collection<Integer>>> actual = shardingExecuteEngine.asyncGroupExecute(createInputGroups(1, 2), createCallback(false), createCancelCallback(), 200L);
+        for (ListenableFuture<Collection<Integer>> each : actual) {
+            try {
+                each.get();
+                fail("Expected CancellationException");
+            } catch (final CancellationException ignored) {
+            }
+        }
+        assertTrue(cancelledLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(cancelledInputs, is((Collection<Integer>) Collections.singletonList(1)));
+        blockingLatch.countDown();
+        Thread.sleep(100L);
+        assertThat(executedInputs, is((Collection<Integer>) Collections.singletonList(1)));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteWithEmptyInputGroups() {
+        shardingExecuteEngine = new ShardingExecuteEngine(0);
+        assertTrue(shardingExecuteEngine.asyncGroupExecute(Collections.<ShardingExecuteGroup<Integer>>emptyList(), createCallback(false), createCancelCallback(), 0L).isEmpty());
+    }
+    
+    private Collection<ShardingExecuteGroup<Integer>> createInputGroups(final Integer... inputs) {
+        Collection<ShardingExecuteGroup<Integer>> result = new ArrayList<>(inputs.length);
+        for (Integer each : Arrays.asList(inputs)) {
+            result.add(new ShardingExecuteGroup<>(Collections.singletonList(each)));
+        }
+        return result;
+    }
+    
+    private ShardingGroupExecuteCallback<Integer, Integer> createCallback(final boolean isFailedWhenNotBlocked) {
+        return new ShardingGroupExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<Integer> inputs) throws SQLException {
+                executedInputs.addAll(inputs);
+                try {
+                    if (inputs.contains(1)) {
+                        blockedLatch.countDown();
+                        blockingLatch.await();
+                    } else if (isFailedWhenNotBlocked) {
+                        blockedLatch.await();
+                        throw new SQLException("failed");
+                    }
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return inputs;
+            }
+        };
+    }
+    
+    private ShardingGroupCancelCallback<Integer> createCancelCallback() {
+        return new ShardingGroupCancelCallback<Integer>() {
+            
+            @Override
+            public void cancel(final Collection<Integer> inputs) {
+                cancelledInputs.addAll(inputs);
+                cancelledLatch.countDown();
+                blockingLatch.countDown();
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.breaker;
+
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteUnitCallback;
+import io.shardingsphere.core.executor.sql.execute.breaker.DataSourceCircuitBreaker.Permit;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecuteCircuitBreakerTest {
+    
+    private static final long SLOW_CALL_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    @Test
+    public void assertOpenWhenFailureRateExceeded() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(50, 0L, 50, 4, WINDOW_NANOS, WINDOW_NANOS, 0));
+        execute(circuitBreaker, true, 0L);
+        execute(circuitBreaker, true, 0L);
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.CLOSED));
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.OPEN));
+        assertFalse(circuitBreaker.isAvailable());
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.REJECTED));
+        assertThat(circuitBreaker.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertOpenWhenSlowCallRateExceeded() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(50, SLOW_CALL_NANOS, 50, 2, WINDOW_NANOS, WINDOW_NANOS, 0));
+        execute(circuitBreaker, true, 0L);
+        execute(circuitBreaker, true, SLOW_CALL_NANOS);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.OPEN));
+    }
+    
+    @Test
+    public void assertCloseAfterSuccessfulProbe() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, 0L, 0));
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.OPEN));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.PROBE));
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.HALF_OPEN));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.REJECTED));
+        circuitBreaker.release(Permit.PROBE, true, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.CLOSED));
+    }
+    
+    @Test
+    public void assertIgnoreExecutionStartedBeforeOpenWhenHalfOpen() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, 0L, 0));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.NORMAL));
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.PROBE));
+        circuitBreaker.release(Permit.NORMAL, true, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.HALF_OPEN));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.REJECTED));
+        circuitBreaker.release(Permit.PROBE, false, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.OPEN));
+    }
+    
+    @Test
+    public void assertReopenAfterFailedProbe() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, 0L, 0));
+        execute(circuitBreaker, false, 0L);
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.getState(), is(DataSourceCircuitBreaker.State.OPEN));
+    }
+    
+    @Test
+    public void assertAdaptiveConcurrencyLimit() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(100, 0L, 100, 100, WINDOW_NANOS, WINDOW_NANOS, 2));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.NORMAL));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.NORMAL));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.REJECTED));
+        circuitBreaker.release(Permit.NORMAL, false, 0L);
+        assertThat(circuitBreaker.getConcurrencyLimit(), is(1));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.REJECTED));
+        circuitBreaker.release(Permit.NORMAL, true, 0L);
+        assertThat(circuitBreaker.getInFlightCount(), is(0));
+        assertThat(circuitBreaker.tryAcquire(), is(Permit.NORMAL));
+        circuitBreaker.release(Permit.NORMAL, true, 0L);
+        assertThat(circuitBreaker.getConcurrencyLimit(), is(2));
+    }
+    
+    @Test
+    public void assertDecreaseConcurrencyLimitOncePerWindow() {
+        DataSourceCircuitBreaker circuitBreaker = new DataSourceCircuitBreaker("ds_0", new CircuitBreakerSettings(100, 0L, 100, 100, WINDOW_NANOS, WINDOW_NANOS, 10));
+        execute(circuitBreaker, false, 0L);
+        execute(circuitBreaker, false, 0L);
+        execute(circuitBreaker, false, 0L);
+        assertThat(circuitBreaker.getConcurrencyLimit(), is(9));
+    }
+    
+    @Test
+    public void assertNotRecordFailureOfHealthyDataSource() throws SQLException {
+        SQLExecuteCircuitBreaker circuitBreaker = new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, WINDOW_NANOS, 0));
+        executeWithException(circuitBreaker, new SQLSyntaxErrorException("You have an error in your SQL syntax", "42000"));
+        executeWithException(circuitBreaker, new SQLException("Duplicate entry", "23000"));
+        circuitBreaker.checkAvailable("ds_0");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertRecordTimeoutFailure() throws SQLException {
+        SQLExecuteCircuitBreaker circuitBreaker = new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, WINDOW_NANOS, 0));
+        executeWithException(circuitBreaker, new SQLTimeoutException("Query execution was interrupted"));
+        circuitBreaker.checkAvailable("ds_0");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertRecordConnectionFailure() throws SQLException {
+        SQLExecuteCircuitBreaker circuitBreaker = new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, WINDOW_NANOS, 0));
+        executeWithException(circuitBreaker, new SQLException("Communications link failure", "08S01"));
+        circuitBreaker.checkAvailable("ds_0");
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCheckAvailableWhenOpen() throws SQLException {
+        SQLExecuteCircuitBreaker circuitBreaker = new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(50, 0L, 50, 1, WINDOW_NANOS, WINDOW_NANOS, 0));
+        circuitBreaker.release("ds_0", circuitBreaker.acquire("ds_0"), false, 0L);
+        circuitBreaker.checkAvailable("ds_1");
+        circuitBreaker.checkAvailable("ds_0");
+    }
+    
+    private void execute(final DataSourceCircuitBreaker circuitBreaker, final boolean success, final long elapsedNanos) {
+        Permit permit = circuitBreaker.tryAcquire();
+        assertThat(permit, not(Permit.REJECTED));
+        circuitBreaker.release(permit, success, elapsedNanos);
+    }
+    
+    private void executeWithException(final SQLExecuteCircuitBreaker circuitBreaker, final SQLException exception) {
+        SQLExecuteUnit executeUnit = mock(SQLExecuteUnit.class);
+        when(executeUnit.getRouteUnit()).thenReturn(new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList())));
+        SQLExecuteUnitCallback<Integer> callback = new SQLExecuteUnitCallback<Integer>() {
+            
+            @Override
+            public Integer execute(final SQLExecuteUnit input) throws SQLException {
+                throw exception;
+            }
+            
+            @Override
+            public Collection<Integer> execute(final Collection<SQLExecuteUnit> inputs) throws SQLException {
+                throw exception;
+            }
+        };
+        try {
+            new CircuitBreakerSQLExecuteCallback<>(circuitBreaker, callback).execute(executeUnit);
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(exception));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.bulkhead;
+
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class SQLExecuteBulkheadTest {
+    
+    @Test
+    public void assertIsEnabled() {
+        assertFalse(SQLExecuteBulkhead.isEnabled(0, 0));
+        assertTrue(SQLExecuteBulkhead.isEnabled(1, 0));
+        assertTrue(SQLExecuteBulkhead.isEnabled(0, 1));
+    }
+    
+    @Test
+    public void assertAcquireAndRelease() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(4, 2);
+        BulkheadPermit permit = executeBulkhead.acquire(createConnectionSizes(2, 1));
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(3));
+        assertThat(executeBulkhead.getDataSourceBulkheads().size(), is(2));
+        permit.release();
+        permit.release();
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(0));
+        for (ExecuteBulkhead each : executeBulkhead.getDataSourceBulkheads()) {
+            assertThat(each.getActiveCount(), is(0));
+            assertThat(each.getRejectedCount(), is(0L));
+        }
+    }
+    
+    @Test
+    public void assertAcquireWithRouteUnits() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(0, 3);
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            routeUnits.add(new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_" + i, Collections.<List<Object>>emptyList())));
+        }
+        executeBulkhead.acquire(routeUnits);
+        assertThat(executeBulkhead.getDataSourceBulkheads().iterator().next().getActiveCount(), is(2));
+    }
+    
+    @Test
+    public void assertAcquireNotMoreThanMaxConcurrency() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(3, 2);
+        executeBulkhead.acquire(createConnectionSizes(5, 5));
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(3));
+        for (ExecuteBulkhead each : executeBulkhead.getDataSourceBulkheads()) {
+            assertThat(each.getActiveCount(), is(2));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAcquireRejectedByDataSourceBulkhead() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(0, 1);
+        executeBulkhead.acquire(createConnectionSizes(1, 1));
+        executeBulkhead.acquire(createConnectionSizes(1, 0));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAcquireRejectedByGlobalBulkhead() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(2, 2);
+        executeBulkhead.acquire(createConnectionSizes(1, 0));
+        executeBulkhead.acquire(createConnectionSizes(1, 1));
+    }
+    
+    @Test
+    public void assertReleaseAcquiredPermitsWhenRejected() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(0, 1);
+        BulkheadPermit permit = executeBulkhead.acquire(createConnectionSizes(0, 1));
+        try {
+            executeBulkhead.acquire(createConnectionSizes(1, 1));
+            fail("Expected SQLException");
+        } catch (final SQLException ignored) {
+        }
+        for (ExecuteBulkhead each : executeBulkhead.getDataSourceBulkheads()) {
+            assertThat(each.getActiveCount(), is("ds_0".equals(each.getName()) ? 0 : 1));
+        }
+        permit.release();
+        executeBulkhead.acquire(createConnectionSizes(1, 1));
+    }
+    
+    @Test
+    public void assertTryAcquireRejected() {
+        ExecuteBulkhead executeBulkhead = new ExecuteBulkhead("ds_0", 2);
+        assertTrue(executeBulkhead.tryAcquire(1));
+        assertFalse(executeBulkhead.tryAcquire(2));
+        assertThat(executeBulkhead.getRejectedCount(), is(1L));
+        assertThat(executeBulkhead.getActiveCount(), is(1));
+        executeBulkhead.release(1);
+        assertTrue(executeBulkhead.tryAcquire(2));
+    }
+    
+    @Test
+    public void assertTryAcquireAfterWaitingInQueue() throws InterruptedException {
+        final ExecuteBulkhead executeBulkhead = new ExecuteBulkhead("ds_0", 1, 1, 10000L);
+        assertTrue(executeBulkhead.tryAcquire(1));
+        Thread releaseThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                while (0 == executeBulkhead.getWaitingCount()) {
+                    Thread.yield();
+                }
+                executeBulkhead.release(1);
+            }
+        });
+        releaseThread.start();
+        assertTrue(executeBulkhead.tryAcquire(1));
+        releaseThread.join();
+        assertThat(executeBulkhead.getWaitedCount(), is(1L));
+        assertThat(executeBulkhead.getWaitingCount(), is(0));
+        assertThat(executeBulkhead.getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertTryAcquireRejectedAfterMaxWaitTime() {
+        ExecuteBulkhead executeBulkhead = new ExecuteBulkhead("ds_0", 1, 1, 10L);
+        assertTrue(executeBulkhead.tryAcquire(1));
+        assertFalse(executeBulkhead.tryAcquire(1));
+        assertThat(executeBulkhead.getWaitedCount(), is(1L));
+        assertThat(executeBulkhead.getWaitingCount(), is(0));
+        assertThat(executeBulkhead.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertAcquireAfterWaitingForDataSourceBulkhead() throws SQLException, InterruptedException {
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(0, 1, 1, 10000L);
+        final BulkheadPermit permit = executeBulkhead.acquire(createConnectionSizes(1, 0));
+        Thread releaseThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50L);
+                } catch (final InterruptedException ignored) {
+                }
+                permit.release();
+            }
+        });
+        releaseThread.start();
+        executeBulkhead.acquire(createConnectionSizes(1, 1));
+        releaseThread.join();
+        for (ExecuteBulkhead each : executeBulkhead.getDataSourceBulkheads()) {
+            assertThat(each.getActiveCount(), is(1));
+        }
+    }
+    
+    private Map<String, Integer> createConnectionSizes(final int ds0ConnectionSize, final int ds1ConnectionSize) {
+        Map<String, Integer> result = new LinkedHashMap<>(2, 1);
+        if (ds0ConnectionSize > 0) {
+            result.put("ds_0", ds0ConnectionSize);
+        }
+        if (ds1ConnectionSize > 0) {
+            result.put("ds_1", ds1ConnectionSize);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.statistics;
+
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.SQLExecuteUnitCallback;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StatisticsSQLExecuteCallbackTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteRecordedInOwnRegistryOnly() throws SQLException {
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        DataSourceStatisticsRegistry otherStatisticsRegistry = new DataSourceStatisticsRegistry();
+        SQLExecuteUnitCallback<Integer> sqlExecuteCallback = mock(SQLExecuteUnitCallback.class);
+        SQLExecuteUnit sqlExecuteUnit = createSQLExecuteUnit();
+        when(sqlExecuteCallback.execute(sqlExecuteUnit)).thenReturn(1);
+        StatisticsSQLExecuteCallback<Integer> actual = new StatisticsSQLExecuteCallback<>(statisticsRegistry, sqlExecuteCallback);
+        assertThat(actual.execute(sqlExecuteUnit), is(1));
+        assertThat(actual.execute(Arrays.asList(sqlExecuteUnit, sqlExecuteUnit)).size(), is(2));
+        DataSourceStatistics statistics = statisticsRegistry.getStatistics("ds_0");
+        assertThat(statistics.getLatencyHistogram().getCount(), is(3L));
+        assertThat(statistics.getActiveCount(), is(0));
+        assertTrue(otherStatisticsRegistry.getAllStatistics().isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertExecuteFinishedWhenFailed() throws SQLException {
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        SQLExecuteUnitCallback<Integer> sqlExecuteCallback = mock(SQLExecuteUnitCallback.class);
+        SQLExecuteUnit sqlExecuteUnit = createSQLExecuteUnit();
+        when(sqlExecuteCallback.execute(sqlExecuteUnit)).thenThrow(new SQLException("test"));
+        try {
+            new StatisticsSQLExecuteCallback<>(statisticsRegistry, sqlExecuteCallback).execute(sqlExecuteUnit);
+        } catch (final SQLException ignored) {
+        }
+        assertThat(statisticsRegistry.getStatistics("ds_0").getActiveCount(), is(0));
+        assertThat(statisticsRegistry.getStatistics("ds_0").getLatencyHistogram().getCount(), is(1L));
+    }
+    
+    private SQLExecuteUnit createSQLExecuteUnit() {
+        SQLExecuteUnit result = mock(SQLExecuteUnit.class);
+        when(result.getRouteUnit()).thenReturn(new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList())));
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.executor.ShardingExecuteGroup;
+import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecutePrepareTemplateTest {
+    
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithMemoryStrictly() throws SQLException {
+        String dataSourceName = "prepare_memory_strictly_ds";
+        SQLExecutePrepareCallback callback = mockCallback();
+        long memoryStrictlyCount = statisticsRegistry.getStatistics(dataSourceName).getMemoryStrictlyCount();
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(2, null, null, statisticsRegistry).getExecuteUnitGroups(createRouteUnits(dataSourceName, 2), callback);
+        assertThat(actual.size(), is(2));
+        for (ShardingExecuteGroup<SQLExecuteUnit> each : actual) {
+            assertThat(each.getInputs().size(), is(1));
+        }
+        verify(callback, times(2)).getConnection(dataSourceName);
+        verify(callback, times(2)).createSQLExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.MEMORY_STRICTLY));
+        assertThat(statisticsRegistry.getStatistics(dataSourceName).getMemoryStrictlyCount(), is(memoryStrictlyCount + 1));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithConnectionStrictly() throws SQLException {
+        String dataSourceName = "prepare_connection_strictly_ds";
+        SQLExecutePrepareCallback callback = mockCallback();
+        long connectionStrictlyCount = statisticsRegistry.getStatistics(dataSourceName).getConnectionStrictlyCount();
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(2, null, null, statisticsRegistry).getExecuteUnitGroups(createRouteUnits(dataSourceName, 5), callback);
+        List<Integer> actualGroupSizes = new ArrayList<>(actual.size());
+        for (ShardingExecuteGroup<SQLExecuteUnit> each : actual) {
+            actualGroupSizes.add(each.getInputs().size());
+        }
+        assertThat(actualGroupSizes.size(), is(2));
+        assertThat(actualGroupSizes.get(0), is(3));
+        assertThat(actualGroupSizes.get(1), is(2));
+        verify(callback, times(5)).createSQLExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(statisticsRegistry.getStatistics(dataSourceName).getConnectionStrictlyCount(), is(connectionStrictlyCount + 1));
+    }
+    
+    @Test
+    public void assertPartition() {
+        List<List<Integer>> actual = new SQLExecutePrepareTemplate(2, null, null, statisticsRegistry).partition("prepare_partition_ds", Arrays.asList(1, 2, 3, 4, 5));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.asList(1, 2, 3)));
+        assertThat(actual.get(1), is(Arrays.asList(4, 5)));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWhenDataSourceSaturated() throws SQLException {
+        String dataSourceName = "prepare_saturated_ds";
+        DataSourceStatistics dataSourceStatistics = statisticsRegistry.getStatistics(dataSourceName);
+        List<Long> startNanosList = new LinkedList<>();
+        for (int i = 0; i < 2; i++) {
+            startNanosList.add(dataSourceStatistics.start());
+        }
+        try {
+            SQLExecutePrepareCallback callback = mockCallback();
+            Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(2, null, null, statisticsRegistry).getExecuteUnitGroups(createRouteUnits(dataSourceName, 2), callback);
+            assertThat(actual.size(), is(1));
+            verify(callback, times(2)).createSQLExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.CONNECTION_STRICTLY));
+        } finally {
+            for (long each : startNanosList) {
+                dataSourceStatistics.finish(each);
+            }
+        }
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsWithBulkhead() throws SQLException {
+        String dataSourceName = "prepare_bulkhead_ds";
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(0, 2);
+        SQLExecutePrepareCallback callback = mockCallback();
+        Collection<ShardingExecuteGroup<SQLExecuteUnit>> actual = new SQLExecutePrepareTemplate(4, executeBulkhead, null, statisticsRegistry).getExecuteUnitGroups(createRouteUnits(dataSourceName, 5), callback);
+        assertThat(actual.size(), is(2));
+        verify(callback).holdBulkheadPermit(any(BulkheadPermit.class));
+        verify(callback, times(2)).getConnection(dataSourceName);
+        assertThat(executeBulkhead.getDataSourceBulkheads().iterator().next().getActiveCount(), is(2));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupsRejectedByBulkheadBeforeConnectionsAcquired() throws SQLException {
+        String dataSourceName = "prepare_bulkhead_rejected_ds";
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(2, 0);
+        BulkheadPermit heldPermit = executeBulkhead.acquire(createRouteUnits(dataSourceName, 1));
+        SQLExecutePrepareCallback callback = mockCallback();
+        try {
+            new SQLExecutePrepareTemplate(2, executeBulkhead, null, statisticsRegistry).getExecuteUnitGroups(createRouteUnits(dataSourceName, 2), callback);
+            fail("Expected SQLException");
+        } catch (final SQLException ignored) {
+        }
+        verify(callback, never()).getConnection(anyString());
+        heldPermit.release();
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(0));
+    }
+    
+    private SQLExecutePrepareCallback mockCallback() throws SQLException {
+        SQLExecutePrepareCallback result = mock(SQLExecutePrepareCallback.class);
+        when(result.getConnection(anyString())).thenReturn(mock(Connection.class));
+        when(result.createSQLExecuteUnit(any(Connection.class), any(RouteUnit.class), any(ConnectionMode.class))).thenReturn(mock(SQLExecuteUnit.class));
+        return result;
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String dataSourceName, final int size) {
+        Collection<RouteUnit> result = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(new RouteUnit(dataSourceName, new SQLUnit("SELECT * FROM t_order_" + i, Collections.<List<Object>>emptyList())));
+        }
+        return result;
+    }
+}
@@ -18,10 +18,12 @@
 package io.shardingsphere.core.keygen;
 
 import io.shardingsphere.core.keygen.fixture.FixedTimeService;
+import io.shardingsphere.core.keygen.fixture.SteppedTimeService;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -30,6 +32,7 @@ import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DefaultKeyGeneratorTest {
     
@@ -69,6 +72,40 @@ public final class DefaultKeyGeneratorTest {
         return result;
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        DefaultKeyGenerator.setTimeService(new FixedTimeService(1));
+        List<Number> actual = new DefaultKeyGenerator().generateKeys((1 << 12) + 2);
+        assertThat(actual.size(), is((1 << 12) + 2));
+        assertThat(actual.get(0).longValue(), is(0L));
+        assertThat(actual.get((1 << 12) - 1).longValue(), is((1L << 12L) - 1));
+        assertThat(actual.get(1 << 12).longValue(), is(1L << 22));
+        assertThat(actual.get((1 << 12) + 1).longValue(), is((1L << 22) + 1));
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenClockMovesBackwardsWithinTolerance() {
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        DefaultKeyGenerator.setTimeService(new SteppedTimeService(DefaultKeyGenerator.EPOCH + 10L, DefaultKeyGenerator.EPOCH + 5L));
+        long first = keyGenerator.generateKey().longValue();
+        long second = keyGenerator.generateKey().longValue();
+        assertTrue(second > first);
+        assertThat(second >> 22, is(10L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyFailureWhenClockMovesBackwardsBeyondTolerance() {
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        DefaultKeyGenerator.setTimeService(new SteppedTimeService(DefaultKeyGenerator.EPOCH + 20L, DefaultKeyGenerator.EPOCH + 5L));
+        keyGenerator.generateKey();
+        keyGenerator.generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetMaxTolerateTimeDifferenceMillisecondsFailureWhenNegative() {
+        DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds(-1L);
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenNegative() {
         DefaultKeyGenerator.setWorkerId(-1L);
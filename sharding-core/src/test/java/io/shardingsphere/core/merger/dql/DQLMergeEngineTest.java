@@ -38,6 +38,7 @@ import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -45,7 +46,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -255,4 +258,26 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    @Test
+    public void assertGetValueWithOriginalColumnLabelOfDistinctAggregation() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1, 1, 2);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("AGGREGATION_DISTINCT_DERIVED_0");
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(DISTINCT user_id)", Optional.<String>absent());
+        aggregationSelectItem.setDistinctExpression(Optional.of("user_id"));
+        aggregationSelectItem.setDerivedAlias(Optional.of("AGGREGATION_DISTINCT_DERIVED_0"));
+        aggregationSelectItem.setOriginalLiterals(Optional.of("COUNT(DISTINCT user_id)"));
+        selectStatement.getItems().add(aggregationSelectItem);
+        mergeEngine = new DQLMergeEngine(Collections.<QueryResult>singletonList(new TestQueryResult(resultSet)), selectStatement);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue("COUNT(DISTINCT user_id)", Object.class), is((Object) new BigDecimal(2)));
+        assertThat(actual.getValue("AGGREGATION_DISTINCT_DERIVED_0", Object.class), is((Object) new BigDecimal(2)));
+        actual.close();
+    }
 }
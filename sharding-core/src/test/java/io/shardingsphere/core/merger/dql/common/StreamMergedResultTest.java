@@ -240,6 +240,42 @@ public final class StreamMergedResultTest {
         assertThat((double) streamMergedResult.getValue("label", double.class), is(1D));
     }
     
+    @Test
+    public void assertGetIntWithColumnIndex() throws SQLException {
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(streamMergedResult.getInt(1), is(1));
+    }
+    
+    @Test
+    public void assertGetIntWithColumnLabel() throws SQLException {
+        when(resultSet.getInt("label")).thenReturn(1);
+        assertThat(streamMergedResult.getInt("label"), is(1));
+    }
+    
+    @Test
+    public void assertGetLongWithColumnIndex() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(streamMergedResult.getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetLongWithColumnLabel() throws SQLException {
+        when(resultSet.getLong("label")).thenReturn(1L);
+        assertThat(streamMergedResult.getLong("label"), is(1L));
+    }
+    
+    @Test
+    public void assertGetDoubleWithColumnIndex() throws SQLException {
+        when(resultSet.getDouble(1)).thenReturn(1D);
+        assertThat(streamMergedResult.getDouble(1), is(1D));
+    }
+    
+    @Test
+    public void assertGetDoubleWithColumnLabel() throws SQLException {
+        when(resultSet.getDouble("label")).thenReturn(1D);
+        assertThat(streamMergedResult.getDouble("label"), is(1D));
+    }
+    
     @Test
     public void assertGetValueWithColumnLabelWithString() throws SQLException {
         when(resultSet.getString("label")).thenReturn("1");
@@ -17,11 +17,19 @@
 
 package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -41,4 +49,42 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateDistinctAggregationUnit() {
+        AggregationSelectItem distinctSelectItem = createAggregationSelectItem(AggregationType.COUNT, 1);
+        distinctSelectItem.setDistinctExpression(Optional.of("num"));
+        assertThat(AggregationUnitFactory.create(distinctSelectItem, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(DistinctAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationSelectItem(AggregationType.COUNT, 1), new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateDistinctSlotAggregationUnit() throws SQLException {
+        AggregationSelectItem distinctSelectItem = createAggregationSelectItem(AggregationType.SUM, 1);
+        distinctSelectItem.setDistinctExpression(Optional.of("num"));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(distinctSelectItem, mock(QueryResult.class), new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(DistinctSlotAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateSlotAggregationUnit() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(queryResult.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(queryResult.getColumnType(3)).thenReturn(Types.DECIMAL);
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(createAggregationSelectItem(AggregationType.MAX, 1), queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(ComparableSlotAggregationUnit.class));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(createAggregationSelectItem(AggregationType.SUM, 1), queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(LongAccumulationSlotAggregationUnit.class));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(createAggregationSelectItem(AggregationType.SUM, 2), queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(DoubleAccumulationSlotAggregationUnit.class));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(createAggregationSelectItem(AggregationType.SUM, 3), queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(DecimalAccumulationSlotAggregationUnit.class));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(createAggregationSelectItem(AggregationType.COUNT, 3), queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(LongAccumulationSlotAggregationUnit.class));
+        AggregationSelectItem averageSelectItem = createAggregationSelectItem(AggregationType.AVG, 4);
+        averageSelectItem.getDerivedAggregationSelectItems().add(createAggregationSelectItem(AggregationType.COUNT, 1));
+        averageSelectItem.getDerivedAggregationSelectItems().add(createAggregationSelectItem(AggregationType.SUM, 3));
+        assertThat(AggregationUnitFactory.createSlotAggregationUnit(averageSelectItem, queryResult, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT)), instanceOf(AverageSlotAggregationUnit.class));
+    }
+    
+    private AggregationSelectItem createAggregationSelectItem(final AggregationType type, final int index) {
+        AggregationSelectItem result = new AggregationSelectItem(type, "(num)", Optional.<String>absent());
+        result.setIndex(index);
+        return result;
+    }
 }
@@ -25,7 +25,16 @@ import org.junit.runners.Suite;
         AggregationUnitFactoryTest.class, 
         ComparableAggregationUnitTest.class, 
         AccumulationAggregationUnitTest.class, 
-        AverageAggregationUnitTest.class
+        AverageAggregationUnitTest.class, 
+        LongAccumulationSlotAggregationUnitTest.class, 
+        DoubleAccumulationSlotAggregationUnitTest.class, 
+        DecimalAccumulationSlotAggregationUnitTest.class, 
+        AverageSlotAggregationUnitTest.class, 
+        ComparableSlotAggregationUnitTest.class, 
+        DistinctAggregationUnitTest.class, 
+        DistinctSlotAggregationUnitTest.class, 
+        SpillableDistinctValuesTest.class, 
+        HyperLogLogTest.class
     })
 public final class AllAggregationTests {
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.constant.AggregationType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctAggregationUnitTest {
+    
+    @Test
+    public void assertCountDistinct() {
+        DistinctAggregationUnit unit = createMergedUnit(AggregationType.COUNT, DistinctAggregationOption.DEFAULT, Arrays.<Comparable<?>>asList(1, 2, 2, 3, null, 1));
+        assertThat(unit.getResult(), is((Comparable) new BigDecimal(3)));
+    }
+    
+    @Test
+    public void assertSumDistinct() {
+        DistinctAggregationUnit unit = createMergedUnit(AggregationType.SUM, DistinctAggregationOption.DEFAULT, Arrays.<Comparable<?>>asList(1, 2, 2, 3, null, 1));
+        assertThat(unit.getResult(), is((Comparable) new BigDecimal(6)));
+    }
+    
+    @Test
+    public void assertAverageDistinct() {
+        DistinctAggregationUnit unit = createMergedUnit(AggregationType.AVG, DistinctAggregationOption.DEFAULT, Arrays.<Comparable<?>>asList(1, 2, 2, 4, null, 1));
+        assertThat(unit.getResult(), is((Comparable) new BigDecimal("2.3333")));
+    }
+    
+    @Test
+    public void assertSumDistinctWithoutValue() {
+        DistinctAggregationUnit unit = createMergedUnit(AggregationType.SUM, DistinctAggregationOption.DEFAULT, Collections.<Comparable<?>>singletonList(null));
+        assertNull(unit.getResult());
+    }
+    
+    @Test
+    public void assertCountDistinctWithSpilledValues() {
+        DistinctAggregationUnit unit = createMergedUnit(AggregationType.COUNT, new DistinctAggregationOption(false, 2), Arrays.<Comparable<?>>asList(5, 1, 2, 2, 3, 1, 4, 5, 5));
+        assertThat(unit.getResult(), is((Comparable) new BigDecimal(5)));
+    }
+    
+    @Test
+    public void assertCountDistinctApproximately() {
+        DistinctAggregationUnit unit = new DistinctAggregationUnit(AggregationType.COUNT, new DistinctAggregationContext(new DistinctAggregationOption(true, 2)));
+        for (int i = 0; i < 10000; i++) {
+            unit.merge(Collections.<Comparable<?>>singletonList(i % 1000));
+        }
+        long actual = ((BigDecimal) unit.getResult()).longValue();
+        assertTrue(actual > 950 && actual < 1050);
+    }
+    
+    private DistinctAggregationUnit createMergedUnit(final AggregationType type, final DistinctAggregationOption option, final List<Comparable<?>> values) {
+        DistinctAggregationUnit result = new DistinctAggregationUnit(type, new DistinctAggregationContext(option));
+        for (Comparable<?> each : values) {
+            result.merge(Collections.<Comparable<?>>singletonList(each));
+        }
+        return result;
+    }
+}
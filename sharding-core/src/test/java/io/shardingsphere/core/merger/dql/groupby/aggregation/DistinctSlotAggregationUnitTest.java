@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DistinctSlotAggregationUnitTest {
+    
+    @Test
+    public void assertCountDistinct() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 1, 2, null, 1, 1);
+        DistinctSlotAggregationUnit unit = new DistinctSlotAggregationUnit(1, AggregationType.COUNT, new DistinctAggregationContext(DistinctAggregationOption.DEFAULT));
+        unit.merge(0, queryResult);
+        unit.merge(0, queryResult);
+        unit.merge(0, queryResult);
+        unit.merge(0, queryResult);
+        unit.merge(2, queryResult);
+        unit.merge(2, queryResult);
+        assertThat(unit.getResult(0), is((Comparable) new BigDecimal(2)));
+        assertThat(unit.getResult(2), is((Comparable) new BigDecimal(1)));
+        assertNull(unit.getResult(1));
+        assertNull(unit.getResult(10));
+    }
+}
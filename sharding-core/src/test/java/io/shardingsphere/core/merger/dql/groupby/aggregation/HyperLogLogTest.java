@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityWithoutValue() {
+        assertThat(new HyperLogLog().cardinality(), is(0L));
+    }
+    
+    @Test
+    public void assertCardinalityWithSmallRange() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 300; i++) {
+            sketch.offer(i % 100);
+        }
+        long actual = sketch.cardinality();
+        assertTrue(actual >= 98 && actual <= 102);
+    }
+    
+    @Test
+    public void assertCardinalityWithLargeRange() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 1000000; i++) {
+            sketch.offer("value_" + i);
+        }
+        long actual = sketch.cardinality();
+        assertTrue(actual > 970000 && actual < 1030000);
+    }
+}
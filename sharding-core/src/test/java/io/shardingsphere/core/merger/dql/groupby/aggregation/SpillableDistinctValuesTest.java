@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillableDistinctValuesTest {
+    
+    @Test
+    public void assertAggregateInMemory() {
+        SpillableDistinctValues distinctValues = createDistinctValues(10, true);
+        distinctValues.add(1);
+        distinctValues.add(2);
+        distinctValues.add(2);
+        distinctValues.add(null);
+        assertFalse(distinctValues.isSpilled());
+        assertThat(distinctValues.getCount(), is(2L));
+        assertThat(distinctValues.getSum(), is(new BigDecimal(3)));
+    }
+    
+    @Test
+    public void assertAggregateWithSpilledValues() {
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(false, 3));
+        SpillableDistinctValues distinctValues = context.createDistinctValues(true);
+        for (int i = 0; i < 100; i++) {
+            distinctValues.add(i % 10);
+        }
+        assertTrue(distinctValues.isSpilled());
+        assertThat(distinctValues.getCount(), is(10L));
+        assertThat(distinctValues.getSum(), is(new BigDecimal(45)));
+        assertFalse(distinctValues.isSpilled());
+        assertThat(context.getSpilledFileCount(), is(0));
+        assertThat(context.getInMemorySize(), is(0));
+    }
+    
+    @Test
+    public void assertAggregateWithBoundedMergeFanIn() {
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(false, 2, 2));
+        SpillableDistinctValues distinctValues = context.createDistinctValues(true);
+        for (int i = 0; i < 1000; i++) {
+            distinctValues.add(i % 100);
+        }
+        assertThat(context.getSpilledFileCount(), is(500));
+        assertThat(distinctValues.getCount(), is(100L));
+        assertThat(distinctValues.getSum(), is(new BigDecimal(4950)));
+        assertThat(context.getSpilledFileCount(), is(0));
+    }
+    
+    @Test
+    public void assertSpillLargestValuesOfContext() {
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(false, 4));
+        SpillableDistinctValues largest = context.createDistinctValues(false);
+        SpillableDistinctValues smallest = context.createDistinctValues(false);
+        largest.add(1);
+        largest.add(2);
+        smallest.add(1);
+        assertFalse(largest.isSpilled());
+        largest.add(3);
+        assertTrue(largest.isSpilled());
+        assertFalse(smallest.isSpilled());
+        assertThat(context.getInMemorySize(), is(1));
+        assertThat(largest.getCount(), is(3L));
+        assertThat(smallest.getCount(), is(1L));
+        assertThat(context.getInMemorySize(), is(0));
+    }
+    
+    @Test
+    public void assertDeleteSpilledFilesWhenContextClosed() {
+        DistinctAggregationContext context = new DistinctAggregationContext(new DistinctAggregationOption(false, 2));
+        SpillableDistinctValues distinctValues = context.createDistinctValues(false);
+        for (int i = 0; i < 10; i++) {
+            distinctValues.add(i);
+        }
+        assertThat(context.getSpilledFileCount(), is(5));
+        context.close();
+        assertThat(context.getSpilledFileCount(), is(0));
+        assertThat(context.getInMemorySize(), is(0));
+    }
+    
+    @Test
+    public void assertAggregateDecimalValuesWithDifferentScale() {
+        SpillableDistinctValues distinctValues = createDistinctValues(10, true);
+        distinctValues.add(new BigDecimal("1"));
+        distinctValues.add(new BigDecimal("1.0"));
+        distinctValues.add(new BigDecimal("1.00"));
+        distinctValues.add(new BigDecimal("0.00"));
+        distinctValues.add(BigDecimal.ZERO);
+        assertThat(distinctValues.getCount(), is(2L));
+        assertThat(distinctValues.getSum(), is(BigDecimal.ONE));
+    }
+    
+    @Test
+    public void assertAggregateWithoutValue() {
+        SpillableDistinctValues distinctValues = createDistinctValues(3, true);
+        assertThat(distinctValues.getCount(), is(0L));
+        assertNull(distinctValues.getSum());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetSumWithoutRequired() {
+        createDistinctValues(3, false).getSum();
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertAddAfterAggregated() {
+        SpillableDistinctValues distinctValues = createDistinctValues(3, false);
+        distinctValues.getCount();
+        distinctValues.add(1);
+    }
+    
+    private SpillableDistinctValues createDistinctValues(final int maxInMemorySize, final boolean sumRequired) {
+        return new DistinctAggregationContext(new DistinctAggregationOption(false, maxInMemorySize)).createDistinctValues(sumRequired);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.constant.SQLType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LogicTableMetricsTest {
+    
+    @Test
+    public void assertRecordStatement() {
+        long dqlCount = getStatementCounter(SQLType.DQL);
+        long dmlCount = getStatementCounter(SQLType.DML);
+        LogicTableMetrics.recordStatement("t_metrics", SQLType.DQL);
+        LogicTableMetrics.recordStatement("T_METRICS", SQLType.DQL);
+        LogicTableMetrics.recordStatement("t_metrics", SQLType.DML);
+        assertThat(getStatementCounter(SQLType.DQL) - dqlCount, is(2L));
+        assertThat(getStatementCounter(SQLType.DML) - dmlCount, is(1L));
+    }
+    
+    private long getStatementCounter(final SQLType sqlType) {
+        return MetricsRegistry.getInstance().getCounter(
+                "sharding_logic_table_statements_total", "Count of routed statements by logic table.", "logic_table", "t_metrics", "sql_type", sqlType.name()).get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatistics;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
+import io.shardingsphere.core.executor.sql.execute.statistics.LatencyHistogram;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class MetricsRegistryTest {
+    
+    @Test
+    public void assertGetCounterWithSameLabels() {
+        assertThat(MetricsRegistry.getInstance().getCounter("test_same_counter_total", "Test.", "key", "value"), 
+                sameInstance(MetricsRegistry.getInstance().getCounter("test_same_counter_total", "Test.", "key", "value")));
+    }
+    
+    @Test
+    public void assertGetCounterWithDifferentLabels() {
+        assertThat(MetricsRegistry.getInstance().getCounter("test_different_counter_total", "Test.", "key", "value_0"), 
+                not(sameInstance(MetricsRegistry.getInstance().getCounter("test_different_counter_total", "Test.", "key", "value_1"))));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetHistogramWithCounterName() {
+        MetricsRegistry.getInstance().getCounter("test_conflict_total", "Test.");
+        MetricsRegistry.getInstance().getHistogram("test_conflict_total", "Test.");
+    }
+    
+    @Test
+    public void assertExportCounter() {
+        long count = MetricsRegistry.getInstance().getCounter("test_export_counter_total", "Test counter.", "key", "value").addAndGet(3L);
+        String actual = MetricsRegistry.getInstance().export();
+        assertThat(actual, containsString("# HELP test_export_counter_total Test counter.\n# TYPE test_export_counter_total counter\n"));
+        assertThat(actual, containsString("test_export_counter_total{key=\"value\"} " + count + "\n"));
+    }
+    
+    @Test
+    public void assertExportHistogram() {
+        LatencyHistogram histogram = MetricsRegistry.getInstance().getHistogram("test_export_latency_microseconds", "Test histogram.");
+        histogram.record(3000L);
+        long count = histogram.getCount();
+        String actual = MetricsRegistry.getInstance().export();
+        assertThat(actual, containsString("# TYPE test_export_latency_microseconds histogram\n"));
+        assertThat(actual, containsString("test_export_latency_microseconds_bucket{le=\"2\"} 0\n"));
+        assertThat(actual, containsString("test_export_latency_microseconds_bucket{le=\"4\"} " + count + "\n"));
+        assertThat(actual, containsString("test_export_latency_microseconds_bucket{le=\"+Inf\"} " + count + "\n"));
+        assertThat(actual, containsString("test_export_latency_microseconds_sum " + count * 3 + "\n"));
+        assertThat(actual, containsString("test_export_latency_microseconds_count " + count + "\n"));
+    }
+    
+    @Test
+    public void assertExportWithCollector() {
+        MetricsCollector collector = new MetricsCollector() {
+            
+            @Override
+            public void collect(final MetricsTextWriter writer) {
+                writer.writeGauge("test_collector_gauge", "Test gauge.", 5L, "key", "value");
+            }
+        };
+        MetricsRegistry.getInstance().register(collector);
+        assertThat(MetricsRegistry.getInstance().export(), containsString("test_collector_gauge{key=\"value\"} 5\n"));
+        MetricsRegistry.getInstance().unregister(collector);
+        assertThat(MetricsRegistry.getInstance().export(), not(containsString("test_collector_gauge")));
+    }
+    
+    @Test
+    public void assertExportDataSourceStatistics() {
+        DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+        DataSourceStatistics statistics = statisticsRegistry.getStatistics("test_metrics_ds");
+        statistics.finish(statistics.start());
+        DataSourceMetricsCollector collector = new DataSourceMetricsCollector(statisticsRegistry);
+        MetricsRegistry.getInstance().register(collector);
+        try {
+            String actual = MetricsRegistry.getInstance().export();
+            assertThat(actual, containsString("sharding_data_source_active_executions{data_source=\"test_metrics_ds\"} 0\n"));
+            assertThat(actual, containsString("sharding_data_source_execute_latency_microseconds_count{data_source=\"test_metrics_ds\"} 1\n"));
+        } finally {
+            MetricsRegistry.getInstance().unregister(collector);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MetricsTextWriterTest {
+    
+    @Test
+    public void assertWriteSameNameOnlyOnceHeader() {
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.writeGauge("test_gauge", "Test gauge.", 1L, "key", "value_0");
+        writer.writeGauge("test_gauge", "Test gauge.", 2L, "key", "value_1");
+        assertThat(writer.toString(), is("# HELP test_gauge Test gauge.\n# TYPE test_gauge gauge\ntest_gauge{key=\"value_0\"} 1\ntest_gauge{key=\"value_1\"} 2\n"));
+    }
+    
+    @Test
+    public void assertWriteWithoutLabels() {
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.writeCounter("test_total", "Test counter.", 1L);
+        assertThat(writer.toString(), is("# HELP test_total Test counter.\n# TYPE test_total counter\ntest_total 1\n"));
+    }
+    
+    @Test
+    public void assertWriteWithEscapedLabelValue() {
+        MetricsTextWriter writer = new MetricsTextWriter();
+        writer.writeCounter("test_total", "Test counter.", 1L, "key", "a\"b\\c\nd");
+        assertThat(writer.toString(), is("# HELP test_total Test counter.\n# TYPE test_total counter\ntest_total{key=\"a\\\"b\\\\c\\nd\"} 1\n"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertWriteWithOddLabels() {
+        new MetricsTextWriter().writeCounter("test_total", "Test counter.", 1L, "key");
+    }
+}
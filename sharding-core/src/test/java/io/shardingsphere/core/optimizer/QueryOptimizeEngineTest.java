@@ -17,12 +17,15 @@
 
 package io.shardingsphere.core.optimizer;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.constant.ShardingOperator;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.optimizer.query.ComparisonRangeShardingValue;
 import io.shardingsphere.core.optimizer.query.QueryOptimizeEngine;
 import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
@@ -30,13 +33,18 @@ import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.condition.OrCondition;
 import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
 import io.shardingsphere.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLTextExpression;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -139,4 +147,143 @@ public final class QueryOptimizeEngineTest {
         assertThat(values.size(), is(2));
         assertTrue(values.containsAll(Arrays.asList(1, 2)));
     }
+    
+    @Test
+    public void assertOptimizeAlwaysFalseOpenRangeConditions() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), ShardingOperator.LESS_THAN, new SQLNumberExpression(5));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN_OR_EQUAL, new SQLNumberExpression(5));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.emptyList()).optimize();
+        assertTrue(shardingConditions.isAlwaysFalse());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeOpenRangeConditions() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(1));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.LESS_THAN_OR_EQUAL, new SQLNumberExpression(10));
+        Condition condition3 = new Condition(new Column("column", "tbl"), new SQLNumberExpression(5), new SQLNumberExpression(20));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        andCondition.getConditions().add(condition3);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.emptyList()).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        Range<Comparable<?>> values = ((RangeShardingValue<Comparable<?>>) shardingValue).getValueRange();
+        assertThat(values.lowerEndpoint(), CoreMatchers.<Comparable>is(5));
+        assertThat(values.lowerBoundType(), is(BoundType.CLOSED));
+        assertThat(values.upperEndpoint(), CoreMatchers.<Comparable>is(10));
+        assertThat(values.upperBoundType(), is(BoundType.CLOSED));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListConditionsAndOpenRangeConditions() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(2), new SQLNumberExpression(3)));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(1));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.emptyList()).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        Collection<Comparable<?>> values = ((ListShardingValue<Comparable<?>>) shardingValue).getValues();
+        assertThat(values.size(), is(2));
+        assertTrue(values.containsAll(Arrays.asList(2, 3)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeComparisonConditions() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(1));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN_OR_EQUAL, new SQLNumberExpression(5));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.emptyList()).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        assertThat(shardingValue, instanceOf(ComparisonRangeShardingValue.class));
+        assertFalse(((ComparisonRangeShardingValue) shardingValue).isBounded());
+        Range<Comparable<?>> values = ((RangeShardingValue<Comparable<?>>) ((ComparisonRangeShardingValue) shardingValue).getRangeShardingValue()).getValueRange();
+        assertThat(values.lowerEndpoint(), CoreMatchers.<Comparable>is(5));
+        assertThat(values.lowerBoundType(), is(BoundType.CLOSED));
+        assertFalse(values.hasUpperBound());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeRangeConditionsWithIntegerAndLong() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN, new SQLNumberExpression(1));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.LESS_THAN_OR_EQUAL, new SQLPlaceholderExpression(0));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.<Object>singletonList(10L)).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        Range<Comparable<?>> values = ((RangeShardingValue<Comparable<?>>) ((ComparisonRangeShardingValue) shardingValue).getRangeShardingValue()).getValueRange();
+        assertThat(values.lowerEndpoint(), CoreMatchers.<Comparable>is(1L));
+        assertThat(values.upperEndpoint(), CoreMatchers.<Comparable>is(10L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListConditionsWithIntegerAndLong() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(2)));
+        Condition condition2 = new Condition(new Column("column", "tbl"), new SQLPlaceholderExpression(0));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.<Object>singletonList(2L)).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        Collection<Comparable<?>> values = ((ListShardingValue<Comparable<?>>) shardingValue).getValues();
+        assertThat(values.size(), is(1));
+        assertTrue(values.contains(2L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeBetweenConditionsWithIntegerAndDecimal() {
+        Condition condition = new Condition(new Column("column", "tbl"), new SQLNumberExpression(1), new SQLNumberExpression(new BigDecimal("2.5")));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.emptyList()).optimize();
+        ShardingValue shardingValue = shardingConditions.getShardingConditions().get(0).getShardingValues().get(0);
+        Range<Comparable<?>> values = ((RangeShardingValue<Comparable<?>>) shardingValue).getValueRange();
+        assertThat(values.lowerEndpoint(), CoreMatchers.<Comparable>is(new BigDecimal("1")));
+        assertThat(values.upperEndpoint(), CoreMatchers.<Comparable>is(new BigDecimal("2.5")));
+    }
+    
+    @Test
+    public void assertOptimizeRangeConditionsWithTimestampAndString() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), ShardingOperator.GREATER_THAN_OR_EQUAL, new SQLPlaceholderExpression(0));
+        Condition condition2 = new Condition(new Column("column", "tbl"), ShardingOperator.LESS_THAN, new SQLTextExpression("2018-02-01 00:00:00"));
+        AndCondition andCondition = new AndCondition();
+        andCondition.getConditions().add(condition1);
+        andCondition.getConditions().add(condition2);
+        OrCondition orCondition = new OrCondition();
+        orCondition.getAndConditions().add(andCondition);
+        ShardingConditions shardingConditions = new QueryOptimizeEngine(orCondition, Collections.<Object>singletonList(Timestamp.valueOf("2018-01-01 00:00:00"))).optimize();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        assertTrue(shardingConditions.getShardingConditions().get(0).getShardingValues().isEmpty());
+    }
 }
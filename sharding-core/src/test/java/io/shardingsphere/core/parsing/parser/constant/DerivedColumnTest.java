@@ -32,6 +32,7 @@ public final class DerivedColumnTest {
         assertThat(DerivedColumn.AVG_SUM_ALIAS.getDerivedColumnAlias(1), is("AVG_DERIVED_SUM_1"));
         assertThat(DerivedColumn.ORDER_BY_ALIAS.getDerivedColumnAlias(0), is("ORDER_BY_DERIVED_0"));
         assertThat(DerivedColumn.GROUP_BY_ALIAS.getDerivedColumnAlias(1), is("GROUP_BY_DERIVED_1"));
+        assertThat(DerivedColumn.AGGREGATION_DISTINCT_ALIAS.getDerivedColumnAlias(0), is("AGGREGATION_DISTINCT_DERIVED_0"));
     }
     
     @Test
@@ -45,5 +46,6 @@ public final class DerivedColumnTest {
     @Test
     public void assertIsNotDerivedColumn() {
         assertFalse(DerivedColumn.isDerivedColumn("OTHER_DERIVED_COLUMN_0"));
+        assertFalse(DerivedColumn.isDerivedColumn("AGGREGATION_DISTINCT_DERIVED_0"));
     }
 }
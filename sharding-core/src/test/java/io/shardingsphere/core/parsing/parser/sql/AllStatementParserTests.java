@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         SelectStatementTest.class, 
+        SelectStatementParserTest.class, 
         InsertStatementParserTest.class,
         UpdateStatementParserTest.class
     })
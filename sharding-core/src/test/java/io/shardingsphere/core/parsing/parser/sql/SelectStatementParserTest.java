@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.parser.sql;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingUnsupportedException;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.AggregationDistinctToken;
+import io.shardingsphere.core.parsing.parser.token.ItemsToken;
+import io.shardingsphere.core.parsing.parser.token.SQLToken;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SelectStatementParserTest extends AbstractStatementParserTest {
+    
+    @Test
+    public void assertParseDistinct() {
+        SelectStatement actual = parse("SELECT DISTINCT field1, field2 FROM TABLE_XXX");
+        assertTrue(actual.isDistinct());
+        assertThat(actual.getGroupByItems().size(), is(2));
+        assertThat(actual.getGroupByItems().get(0).getIndex(), is(1));
+        assertThat(actual.getGroupByItems().get(1).getIndex(), is(2));
+        assertTrue(actual.isSameGroupByAndOrderByItems());
+    }
+    
+    @Test
+    public void assertParseDistinctWithOrderBy() {
+        SelectStatement actual = parse("SELECT DISTINCT field1, field2 FROM TABLE_XXX ORDER BY field2 DESC, field1");
+        assertTrue(actual.isDistinct());
+        assertThat(actual.getGroupByItems().size(), is(2));
+        assertThat(actual.getGroupByItems().get(0).getName().get(), is("field2"));
+        assertThat(actual.getGroupByItems().get(1).getName().get(), is("field1"));
+        assertTrue(actual.isSameGroupByAndOrderByItems());
+    }
+    
+    @Test(expected = SQLParsingUnsupportedException.class)
+    public void assertParseDistinctWithStar() {
+        parse("SELECT DISTINCT * FROM TABLE_XXX");
+    }
+    
+    @Test(expected = SQLParsingUnsupportedException.class)
+    public void assertParseDistinctWithGroupBy() {
+        parse("SELECT DISTINCT field1 FROM TABLE_XXX GROUP BY field1");
+    }
+    
+    @Test
+    public void assertParseAggregationDistinct() {
+        SelectStatement actual = parse("SELECT COUNT(DISTINCT field1) FROM TABLE_XXX");
+        assertFalse(actual.isDistinct());
+        assertTrue(actual.hasDistinctAggregationSelectItem());
+        AggregationSelectItem aggregationSelectItem = actual.getAggregationSelectItems().get(0);
+        assertThat(aggregationSelectItem.getDistinctExpression().get(), is("field1"));
+        assertThat(aggregationSelectItem.getColumnLabel(), is("AGGREGATION_DISTINCT_DERIVED_0"));
+        AggregationDistinctToken aggregationDistinctToken = null;
+        ItemsToken itemsToken = null;
+        for (SQLToken each : actual.getSqlTokens()) {
+            if (each instanceof AggregationDistinctToken) {
+                aggregationDistinctToken = (AggregationDistinctToken) each;
+            } else if (each instanceof ItemsToken) {
+                itemsToken = (ItemsToken) each;
+            }
+        }
+        assertThat(aggregationDistinctToken.getBeginPosition(), is(7));
+        assertThat(aggregationDistinctToken.getOriginalLiterals(), is("COUNT(DISTINCT field1)"));
+        assertThat(aggregationDistinctToken.getDerivedAlias().get(), is("AGGREGATION_DISTINCT_DERIVED_0"));
+        assertThat(itemsToken.getBeginPosition(), is(44));
+        assertThat(itemsToken.getItems().get(0), is(" GROUP BY field1 "));
+    }
+    
+    @Test
+    public void assertGetOriginalColumnLabels() {
+        SelectStatement actual = parse("SELECT COUNT(DISTINCT field1), SUM(DISTINCT field2) AS sum_field2 FROM TABLE_XXX");
+        assertThat(actual.getOriginalColumnLabels().size(), is(1));
+        assertThat(actual.getOriginalColumnLabels().get("aggregation_distinct_derived_0"), is("COUNT(DISTINCT field1)"));
+    }
+    
+    @Test(expected = SQLParsingUnsupportedException.class)
+    public void assertParseAggregationDistinctWithMultipleColumns() {
+        parse("SELECT COUNT(DISTINCT field1, field2) FROM TABLE_XXX");
+    }
+    
+    private SelectStatement parse(final String sql) {
+        return (SelectStatement) new SQLParsingEngine(DatabaseType.MySQL, sql, createShardingRule(), null).parse(false);
+    }
+}
@@ -23,6 +23,7 @@ import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.ShardingOperator;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
@@ -38,7 +39,6 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
-import static org.junit.Assert.assertTrue;
 
 public final class UpdateStatementParserTest extends AbstractStatementParserTest {
     
@@ -118,8 +118,14 @@ public final class UpdateStatementParserTest extends AbstractStatementParserTest
     private void assertUpdateStatementWitOr(final DMLStatement updateStatement) {
         assertThat(updateStatement.getTables().find("TABLE_XXX").get().getName(), is("TABLE_XXX"));
         assertThat(updateStatement.getTables().find("TABLE_XXX").get().getAlias().get(), is("xxx"));
-        assertTrue(updateStatement.getConditions().getOrCondition().getAndConditions().isEmpty());
-
+        List<AndCondition> andConditions = updateStatement.getConditions().getOrCondition().getAndConditions();
+        assertThat(andConditions.size(), is(2));
+        assertThat(andConditions.get(0).getConditions().size(), is(2));
+        assertThat(andConditions.get(0).getConditions().get(0).getOperator(), is(ShardingOperator.LESS_THAN));
+        assertThat(andConditions.get(0).getConditions().get(1).getOperator(), is(ShardingOperator.GREATER_THAN));
+        assertThat(andConditions.get(1).getConditions().size(), is(2));
+        assertThat(andConditions.get(1).getConditions().get(0).getOperator(), is(ShardingOperator.LESS_THAN));
+        assertThat(andConditions.get(1).getConditions().get(1).getOperator(), is(ShardingOperator.EQUAL));
     }
     
     @Test
@@ -19,6 +19,10 @@ package io.shardingsphere.core.rewrite;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.AggregationType;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -26,13 +30,20 @@ import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.context.table.Table;
+import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.AggregationDistinctToken;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.IndexToken;
 import io.shardingsphere.core.parsing.parser.token.InsertColumnToken;
 import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
@@ -42,6 +53,7 @@ import io.shardingsphere.core.parsing.parser.token.OrderByToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.DataNode;
@@ -412,6 +424,39 @@ public final class SQLRewriteEngineTest {
                 "SELECT x.id, x.name FROM table_1 x GROUP BY x.id, x.name DESC ORDER BY id ASC,name DESC "));
     }
     
+    @Test
+    public void assertRewriteForAggregationDistinct() {
+        selectStatement.setGroupByLastPosition(43);
+        selectStatement.getSqlTokens().add(new AggregationDistinctToken(7, "COUNT(DISTINCT x.age)", "x.age", Optional.of("AGGREGATION_DISTINCT_DERIVED_0")));
+        selectStatement.getSqlTokens().add(new TableToken(34, 0, "table_x"));
+        ItemsToken itemsToken = new ItemsToken(43);
+        itemsToken.setFirstOfItemsSpecial(true);
+        itemsToken.getItems().add(" GROUP BY x.age ");
+        selectStatement.getSqlTokens().add(itemsToken);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT COUNT(DISTINCT x.age) FROM table_x x", DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is(
+                "SELECT x.age AS AGGREGATION_DISTINCT_DERIVED_0 FROM table_1 x GROUP BY x.age "));
+    }
+    
+    @Test
+    public void assertRewriteForLimitWithAggregationDistinct() {
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(DISTINCT x.age)", Optional.of("c"));
+        aggregationSelectItem.setDistinctExpression(Optional.of("x.age"));
+        selectStatement.getItems().add(aggregationSelectItem);
+        selectStatement.getGroupByItems().add(new OrderItem("x", "name", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("x", "name", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        selectStatement.setLimit(new Limit(DatabaseType.MySQL));
+        selectStatement.getLimit().setOffset(new LimitValue(2, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(3, -1, false));
+        selectStatement.getSqlTokens().add(new TableToken(47, 0, "table_x"));
+        selectStatement.getSqlTokens().add(new OffsetToken(79, 2));
+        selectStatement.getSqlTokens().add(new RowCountToken(82, 3));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, 
+                "SELECT x.name, COUNT(DISTINCT x.age) AS c FROM table_x x GROUP BY x.name LIMIT 2, 3", DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(null, tableTokens, null, shardingDataSourceMetaData).getSql(), is(
+                "SELECT x.name, COUNT(DISTINCT x.age) AS c FROM table_1 x GROUP BY x.name LIMIT 0, 2147483647"));
+    }
+    
     @Test
     public void assertGenerateSQL() {
         List<Object> parameters = new ArrayList<>(2);
@@ -562,4 +607,60 @@ public final class SQLRewriteEngineTest {
         SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "DELETE FROM `sharding_db`.`table_x` WHERE user_id=1", DatabaseType.MySQL, dmlStatement, null, Collections.emptyList());
         assertThat(rewriteEngine.rewrite(false).toSQL(null, tableTokens, shardingRule, shardingDataSourceMetaData).getSql(), is("DELETE FROM `table_1` WHERE user_id=1"));
     }
+    
+    @Test
+    public void assertRewriteForInValuesOfShardingColumn() {
+        SQLRewriteEngine rewriteEngine = createRewriteEngineForInValues(Arrays.<Object>asList(0, 1));
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(false);
+        SQLUnit actualOfTable0 = rewriteEngine.generateSQL(createTableUnitForInValues("t_order_0"), sqlBuilder, null);
+        assertThat(actualOfTable0.getSql(), is("SELECT * FROM t_order_0 WHERE order_id IN (?, 2)"));
+        assertThat(actualOfTable0.getParameterSets().get(0), is(Collections.<Object>singletonList(0)));
+        SQLUnit actualOfTable1 = rewriteEngine.generateSQL(createTableUnitForInValues("t_order_1"), sqlBuilder, null);
+        assertThat(actualOfTable1.getSql(), is("SELECT * FROM t_order_1 WHERE order_id IN (?, 3)"));
+        assertThat(actualOfTable1.getParameterSets().get(0), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertRewriteForInValuesWithoutRoutedValue() {
+        SQLRewriteEngine rewriteEngine = createRewriteEngineForInValues(Arrays.<Object>asList(0, 4));
+        SQLUnit actual = rewriteEngine.generateSQL(createTableUnitForInValues("t_order_1"), rewriteEngine.rewrite(false), null);
+        assertThat(actual.getSql(), is("SELECT * FROM t_order_1 WHERE order_id IN (3)"));
+        assertThat(actual.getParameterSets().get(0), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertRewriteForInValuesWithoutAnyValueRoutedToTable() {
+        SQLRewriteEngine rewriteEngine = createRewriteEngineForInValues("SELECT * FROM t_order WHERE order_id IN (?, ?)",
+                Arrays.<SQLExpression>asList(new SQLPlaceholderExpression(0), new SQLPlaceholderExpression(1)), Arrays.asList("?", "?"), Arrays.<Object>asList(0, 2));
+        SQLUnit actual = rewriteEngine.generateSQL(createTableUnitForInValues("t_order_1"), rewriteEngine.rewrite(false), null);
+        assertThat(actual.getSql(), is("SELECT * FROM t_order_1 WHERE order_id IN (?, ?)"));
+        assertThat(actual.getParameterSets().get(0), is(Arrays.<Object>asList(0, 2)));
+    }
+    
+    private SQLRewriteEngine createRewriteEngineForInValues(final List<Object> parameters) {
+        return createRewriteEngineForInValues("SELECT * FROM t_order WHERE order_id IN (?, 2, ?, 3)", Arrays.<SQLExpression>asList(
+                new SQLPlaceholderExpression(0), new SQLNumberExpression(2), new SQLPlaceholderExpression(1), new SQLNumberExpression(3)), Arrays.asList("?", "2", "?", "3"), parameters);
+    }
+    
+    private SQLRewriteEngine createRewriteEngineForInValues(final String sql, final List<SQLExpression> values, final List<String> valueLiterals, final List<Object> parameters) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("db${0..1}.t_order_${0..1}");
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        selectStatement.getSqlTokens().add(new TableToken(14, 0, "t_order"));
+        InValuesToken inValuesToken = new InValuesToken(41, sql.length() - 1, new Column("order_id", "t_order"));
+        inValuesToken.getValues().addAll(values);
+        inValuesToken.getValueLiterals().addAll(valueLiterals);
+        selectStatement.getSqlTokens().add(inValuesToken);
+        return new SQLRewriteEngine(new ShardingRule(shardingRuleConfig, Arrays.asList("db0", "db1")),
+                sql, DatabaseType.MySQL, selectStatement, null, parameters);
+    }
+    
+    private TableUnit createTableUnitForInValues(final String actualTableName) {
+        TableUnit result = new TableUnit("db0");
+        result.getRoutingTables().add(new RoutingTable("t_order", actualTableName));
+        return result;
+    }
 }
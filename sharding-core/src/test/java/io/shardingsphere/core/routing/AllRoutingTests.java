@@ -18,13 +18,31 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionFetcherFactoryTest;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionManagerTest;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionTest;
+import io.shardingsphere.core.routing.strategy.standard.builtin.ConsistentHashShardingAlgorithmTest;
+import io.shardingsphere.core.routing.strategy.standard.builtin.HashModShardingAlgorithmTest;
+import io.shardingsphere.core.routing.strategy.standard.builtin.IntervalShardingAlgorithmTest;
+import io.shardingsphere.core.routing.strategy.standard.builtin.ModShardingAlgorithmTest;
+import io.shardingsphere.core.routing.strategy.standard.builtin.VolumeRangeShardingAlgorithmTest;
+import io.shardingsphere.core.routing.type.standard.StandardRoutingEngineTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DatabaseTest.class,
-        DatabaseHintSQLRouterTest.class
+        DatabaseHintSQLRouterTest.class,
+        ReplicationPositionTest.class,
+        ReplicationPositionManagerTest.class,
+        ReplicationPositionFetcherFactoryTest.class,
+        ModShardingAlgorithmTest.class,
+        HashModShardingAlgorithmTest.class,
+        ConsistentHashShardingAlgorithmTest.class,
+        VolumeRangeShardingAlgorithmTest.class,
+        IntervalShardingAlgorithmTest.class,
+        StandardRoutingEngineTest.class
 })
 public final class AllRoutingTests {
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingConfigurationException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicationPositionFetcherFactoryTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(ReplicationPositionFetcherFactory.isSupported(DatabaseType.MySQL));
+        assertFalse(ReplicationPositionFetcherFactory.isSupported(DatabaseType.H2));
+    }
+    
+    @Test
+    public void assertNewInstanceForMySQL() {
+        assertThat(ReplicationPositionFetcherFactory.newInstance(DatabaseType.MySQL), instanceOf(MySQLReplicationPositionFetcher.class));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertNewInstanceForUnsupportedDatabase() {
+        ReplicationPositionFetcherFactory.newInstance(DatabaseType.PostgreSQL);
+    }
+}
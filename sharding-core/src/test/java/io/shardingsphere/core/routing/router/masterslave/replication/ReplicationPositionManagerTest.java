@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicationPositionManagerTest {
+    
+    private final List<String> slaveDataSourceNames = Arrays.asList("replication_ds_slave_0", "replication_ds_slave_1");
+    
+    private final MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("replication_ds", "replication_ds_master", slaveDataSourceNames));
+    
+    @After
+    public void tearDown() {
+        ReplicationPositionManager.clear();
+    }
+    
+    @Test
+    public void assertGetCaughtUpSlaveDataSourceNamesWithoutWrittenPosition() {
+        assertSame(ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(masterSlaveRule), masterSlaveRule.getSlaveDataSourceNames());
+    }
+    
+    @Test
+    public void assertGetCaughtUpSlaveDataSourceNamesWithWrittenPosition() {
+        ReplicationPositionManager.setWrittenPosition(masterSlaveRule, new ReplicationPosition("mysql-bin.000002", 100L));
+        masterSlaveRule.getReplicationPositionRegistry().setReplayedPosition("replication_ds_slave_0", new ReplicationPosition("mysql-bin.000001", 500L));
+        masterSlaveRule.getReplicationPositionRegistry().setReplayedPosition("replication_ds_slave_1", new ReplicationPosition("mysql-bin.000002", 100L));
+        assertThat(ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(masterSlaveRule), is(Collections.singletonList("replication_ds_slave_1")));
+    }
+    
+    @Test
+    public void assertGetCaughtUpSlaveDataSourceNamesWithoutReplayedPosition() {
+        ReplicationPositionManager.setWrittenPosition(masterSlaveRule, new ReplicationPosition("mysql-bin.000002", 100L));
+        assertTrue(ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(masterSlaveRule).isEmpty());
+    }
+    
+    @Test
+    public void assertGetCaughtUpSlaveDataSourceNamesWithSameSlaveNameInOtherRule() {
+        MasterSlaveRule otherMasterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("replication_ds", "replication_ds_master", slaveDataSourceNames));
+        ReplicationPositionManager.setWrittenPosition(masterSlaveRule, new ReplicationPosition("mysql-bin.000002", 100L));
+        otherMasterSlaveRule.getReplicationPositionRegistry().setReplayedPosition("replication_ds_slave_0", new ReplicationPosition("mysql-bin.000002", 100L));
+        assertTrue(ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(masterSlaveRule).isEmpty());
+        assertSame(ReplicationPositionManager.getCaughtUpSlaveDataSourceNames(otherMasterSlaveRule), otherMasterSlaveRule.getSlaveDataSourceNames());
+    }
+    
+    @Test
+    public void assertCloseReplicationLagMonitorClearsOwnRulesOnly() {
+        MasterSlaveRule otherMasterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("replication_ds", "replication_ds_master", slaveDataSourceNames));
+        masterSlaveRule.getReplicationPositionRegistry().setReplayedPosition("replication_ds_slave_0", new ReplicationPosition("mysql-bin.000002", 100L));
+        otherMasterSlaveRule.getReplicationPositionRegistry().setReplayedPosition("replication_ds_slave_0", new ReplicationPosition("mysql-bin.000002", 100L));
+        new ReplicationLagMonitor(DatabaseType.MySQL, Collections.singletonList(masterSlaveRule), Collections.<String, DataSource>emptyMap(), 1000L).close();
+        assertNull(masterSlaveRule.getReplicationPositionRegistry().getReplayedPosition("replication_ds_slave_0"));
+        assertThat(otherMasterSlaveRule.getReplicationPositionRegistry().getReplayedPosition("replication_ds_slave_0"), is(new ReplicationPosition("mysql-bin.000002", 100L)));
+    }
+    
+    @Test
+    public void assertGetAndSetWrittenPositions() {
+        ReplicationPositionManager.setWrittenPosition(masterSlaveRule, new ReplicationPosition("mysql-bin.000002", 100L));
+        ReplicationPositionManager.setWrittenPositions(ReplicationPositionManager.getWrittenPositions());
+        assertThat(ReplicationPositionManager.getWrittenPosition(masterSlaveRule), is(new ReplicationPosition("mysql-bin.000002", 100L)));
+    }
+    
+    @Test
+    public void assertClear() {
+        ReplicationPositionManager.setWrittenPosition(masterSlaveRule, new ReplicationPosition("mysql-bin.000002", 100L));
+        ReplicationPositionManager.clear();
+        assertNull(ReplicationPositionManager.getWrittenPosition(masterSlaveRule));
+        assertTrue(ReplicationPositionManager.getWrittenPositions().isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.masterslave.replication;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReplicationPositionTest {
+    
+    @Test
+    public void assertCompareToWithSameLogFile() {
+        assertTrue(new ReplicationPosition("mysql-bin.000002", 100L).compareTo(new ReplicationPosition("mysql-bin.000002", 200L)) < 0);
+        assertThat(new ReplicationPosition("mysql-bin.000002", 100L).compareTo(new ReplicationPosition("mysql-bin.000002", 100L)), is(0));
+    }
+    
+    @Test
+    public void assertCompareToWithDifferentLogFile() {
+        assertTrue(new ReplicationPosition("mysql-bin.000002", 100L).compareTo(new ReplicationPosition("mysql-bin.000001", 500L)) > 0);
+    }
+    
+    @Test
+    public void assertCompareToWithLogFileSequenceOverflow() {
+        assertTrue(new ReplicationPosition("mysql-bin.1000000", 4L).compareTo(new ReplicationPosition("mysql-bin.999999", 500L)) > 0);
+        assertTrue(new ReplicationPosition("mysql-bin.999999", 500L).compareTo(new ReplicationPosition("mysql-bin.1000000", 4L)) < 0);
+    }
+    
+    @Test
+    public void assertCompareToWithoutLogFileSequence() {
+        assertTrue(new ReplicationPosition("mysql-bin", 100L).compareTo(new ReplicationPosition("mysql-bin.000001", 100L)) < 0);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = createAvailableTargetNames(4);
+    
+    @Test
+    public void assertPreciseDoShardingWithSameValueOfDifferentTypes() {
+        ConsistentHashShardingAlgorithm shardingAlgorithm = new ConsistentHashShardingAlgorithm(4);
+        String expected = doSharding(shardingAlgorithm, availableTargetNames, 5L);
+        assertThat(doSharding(shardingAlgorithm, availableTargetNames, 5), is(expected));
+        assertThat(doSharding(shardingAlgorithm, availableTargetNames, new BigDecimal("5.00")), is(expected));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingOnlyMovesValuesToNewTarget() {
+        ConsistentHashShardingAlgorithm shardingAlgorithm = new ConsistentHashShardingAlgorithm(4);
+        ConsistentHashShardingAlgorithm expandedShardingAlgorithm = new ConsistentHashShardingAlgorithm(5);
+        Collection<String> expandedTargetNames = createAvailableTargetNames(5);
+        int movedCount = 0;
+        for (long i = 0; i < 1000; i++) {
+            String before = doSharding(shardingAlgorithm, availableTargetNames, i);
+            String after = doSharding(expandedShardingAlgorithm, expandedTargetNames, i);
+            if (!before.equals(after)) {
+                assertThat(after, is("t_order_4"));
+                movedCount++;
+            }
+        }
+        assertTrue(movedCount > 100 && movedCount < 300);
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        ConsistentHashShardingAlgorithm shardingAlgorithm = new ConsistentHashShardingAlgorithm(4);
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>closed(1, 2))), is(availableTargetNames));
+    }
+    
+    private String doSharding(final ConsistentHashShardingAlgorithm shardingAlgorithm, final Collection<String> availableTargetNames, final Comparable<?> value) {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", value));
+    }
+    
+    private static Collection<String> createAvailableTargetNames(final int count) {
+        Collection<String> result = new LinkedHashSet<>(count, 1);
+        for (int i = 0; i < count; i++) {
+            result.add("t_order_" + i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HashModShardingAlgorithmTest {
+    
+    private final HashModShardingAlgorithm shardingAlgorithm = new HashModShardingAlgorithm(3);
+    
+    private final Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "ds_2"));
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_name", "a")), is("ds_" + "a".hashCode() % 3));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithIntegralValues() {
+        assertThat(doSharding(5), is("ds_2"));
+        assertThat(doSharding(5L), is("ds_2"));
+        assertThat(doSharding(new BigDecimal("5")), is("ds_2"));
+        assertThat(doSharding(new BigDecimal("5.00")), is("ds_2"));
+        assertThat(doSharding(BigInteger.valueOf(5L)), is("ds_2"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithNegativeValues() {
+        assertThat(doSharding(-5), is("ds_1"));
+        assertThat(doSharding(-5L), is("ds_1"));
+        assertThat(doSharding(new BigDecimal("-5")), is("ds_1"));
+        assertThat(doSharding(Long.MIN_VALUE), is("ds_1"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithStringValue() {
+        assertThat(doSharding("5"), is("ds_" + "5".hashCode() % 3));
+        assertThat(doSharding("shardingsphere"), is("ds_1"));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "user_name", Range.<Comparable<?>>closed("a", "b"))), is(availableTargetNames));
+    }
+    
+    private String doSharding(final Comparable<?> value) {
+        return shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", value));
+    }
+}
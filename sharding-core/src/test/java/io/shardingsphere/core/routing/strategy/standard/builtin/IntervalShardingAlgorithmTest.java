@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.constant.IntervalUnit;
+import io.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class IntervalShardingAlgorithmTest {
+    
+    private final Collection<String> monthTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_201801", "t_order_201802", "t_order_201803", "t_order_201804"));
+    
+    @Test
+    public void assertPreciseDoShardingByMonth() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm(IntervalUnit.MONTH, "yyyy-MM-dd HH:mm:ss");
+        assertThat(shardingAlgorithm.doSharding(monthTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-02-28 23:59:59")), is("t_order_201802"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingByDayWithDate() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm(IntervalUnit.DAY, "yyyy-MM-dd");
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2018, Calendar.AUGUST, 9);
+        Collection<String> availableTargetNames = Arrays.asList("ds_20180808", "ds_20180809");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", calendar.getTime())), is("ds_20180809"));
+    }
+    
+    @Test
+    public void assertRangeDoShardingByMonth() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm(IntervalUnit.MONTH, "yyyy-MM-dd");
+        Collection<String> actual = shardingAlgorithm.doSharding(monthTargetNames, new RangeShardingValue<>("t_order", "create_time", Range.<Comparable<?>>closed("2018-01-31", "2018-03-01")));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201801", "t_order_201802", "t_order_201803"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingByYearWithOpenRange() {
+        IntervalShardingAlgorithm shardingAlgorithm = new IntervalShardingAlgorithm(IntervalUnit.YEAR, "yyyy-MM-dd");
+        Collection<String> availableTargetNames = Arrays.asList("t_order_2016", "t_order_2017", "t_order_2018");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", Range.<Comparable<?>>atLeast("2017-06-01")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.containsAll(Arrays.asList("t_order_2017", "t_order_2018")), is(true));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertPreciseDoShardingWithInvalidValue() {
+        new IntervalShardingAlgorithm(IntervalUnit.DAY, "yyyy-MM-dd").doSharding(monthTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "invalid"));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ModShardingAlgorithmTest {
+    
+    private final ModShardingAlgorithm shardingAlgorithm = new ModShardingAlgorithm(4);
+    
+    private final Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"));
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 6)), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -1L)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithIntegralValues() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "6")), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", new BigDecimal("6.00"))), is("t_order_2"));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertPreciseDoShardingWithNonNumericValue() {
+        shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "abc"));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertPreciseDoShardingWithFractionalValue() {
+        shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", new BigDecimal("6.5")));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithoutAvailableTarget() {
+        assertNull(new ModShardingAlgorithm(8).doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 5)));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>closed(3, 4)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_3", "t_order_0"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithWideRange() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>closed(1, 100))), is(availableTargetNames));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>atLeast(1))), is(availableTargetNames));
+    }
+}
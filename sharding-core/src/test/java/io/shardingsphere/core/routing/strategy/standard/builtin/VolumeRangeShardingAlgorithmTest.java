@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.standard.builtin;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class VolumeRangeShardingAlgorithmTest {
+    
+    private final VolumeRangeShardingAlgorithm shardingAlgorithm = new VolumeRangeShardingAlgorithm(1000L, 100L);
+    
+    private final Collection<String> availableTargetNames = new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"));
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1000)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1399L)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingOutOfBound() {
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 999)));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1400)));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>closed(1150, 1250)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithOpenRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>greaterThan(1250)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.containsAll(Arrays.asList("t_order_2", "t_order_3")), is(true));
+    }
+    
+    @Test
+    public void assertRangeDoShardingOutOfBound() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>lessThan(500)));
+        assertThat(actual, is((Collection<String>) Collections.<String>emptyList()));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.type.standard;
+
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
+import io.shardingsphere.core.routing.type.RoutingResult;
+import io.shardingsphere.core.rule.DataNode;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StandardRoutingEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds0", "ds1"));
+    }
+    
+    @Test
+    public void assertRouteMultipleInsertValuesInBatch() {
+        List<ShardingCondition> shardingConditions = new ArrayList<>(4);
+        shardingConditions.add(createInsertShardingCondition(1, 10));
+        shardingConditions.add(createInsertShardingCondition(2, 11));
+        shardingConditions.add(createInsertShardingCondition(3, 13));
+        shardingConditions.add(createInsertShardingCondition(4, 14));
+        RoutingResult actual = new StandardRoutingEngine(shardingRule, "t_order", new ShardingConditions(shardingConditions)).route();
+        assertThat(actual.getTableUnits().getTableUnits().size(), is(4));
+        assertThat(((InsertShardingCondition) shardingConditions.get(0)).getDataNodes(), is(Collections.singletonList(new DataNode("ds1", "t_order_0"))));
+        assertThat(((InsertShardingCondition) shardingConditions.get(1)).getDataNodes(), is(Collections.singletonList(new DataNode("ds0", "t_order_1"))));
+        assertThat(((InsertShardingCondition) shardingConditions.get(2)).getDataNodes(), is(Collections.singletonList(new DataNode("ds1", "t_order_1"))));
+        assertThat(((InsertShardingCondition) shardingConditions.get(3)).getDataNodes(), is(Collections.singletonList(new DataNode("ds0", "t_order_0"))));
+    }
+    
+    @Test
+    public void assertRouteMultipleInsertValuesWithoutDatabaseShardingValue() {
+        InsertShardingCondition shardingCondition1 = new InsertShardingCondition("(10)", Collections.emptyList());
+        shardingCondition1.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.<Comparable<?>>singletonList(10)));
+        InsertShardingCondition shardingCondition2 = new InsertShardingCondition("(11)", Collections.emptyList());
+        shardingCondition2.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.<Comparable<?>>singletonList(11)));
+        RoutingResult actual = new StandardRoutingEngine(shardingRule, "t_order", new ShardingConditions(Arrays.<ShardingCondition>asList(shardingCondition1, shardingCondition2))).route();
+        assertThat(actual.getTableUnits().getTableUnits().size(), is(4));
+        assertThat(shardingCondition1.getDataNodes(), is(Arrays.asList(new DataNode("ds0", "t_order_0"), new DataNode("ds1", "t_order_0"))));
+        assertThat(shardingCondition2.getDataNodes(), is(Arrays.asList(new DataNode("ds0", "t_order_1"), new DataNode("ds1", "t_order_1"))));
+    }
+    
+    private InsertShardingCondition createInsertShardingCondition(final int userId, final int orderId) {
+        InsertShardingCondition result = new InsertShardingCondition(String.format("(%d, %d)", userId, orderId), Collections.emptyList());
+        result.getShardingValues().add(new ListShardingValue<>("t_order", "user_id", Collections.<Comparable<?>>singletonList(userId)));
+        result.getShardingValues().add(new ListShardingValue<>("t_order", "order_id", Collections.<Comparable<?>>singletonList(orderId)));
+        return result;
+    }
+}
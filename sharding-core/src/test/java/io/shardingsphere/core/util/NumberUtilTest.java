@@ -20,6 +20,7 @@ package io.shardingsphere.core.util;
 import io.shardingsphere.core.exception.ShardingException;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -93,4 +94,25 @@ public final class NumberUtilTest {
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MIN_VALUE + 1), 10), is((Number) (Long.MIN_VALUE + 1)));
         assertThat(NumberUtil.getExactlyNumber(String.valueOf(Long.MAX_VALUE - 1), 10), is((Number) (Long.MAX_VALUE - 1)));
     }
+    
+    @Test
+    public void assertGetIntValue() {
+        assertThat(NumberUtil.getIntValue(null), is(0));
+        assertThat(NumberUtil.getIntValue(1L), is(1));
+        assertThat(NumberUtil.getIntValue("1"), is(1));
+    }
+    
+    @Test
+    public void assertGetLongValue() {
+        assertThat(NumberUtil.getLongValue(null), is(0L));
+        assertThat(NumberUtil.getLongValue(1), is(1L));
+        assertThat(NumberUtil.getLongValue("1"), is(1L));
+    }
+    
+    @Test
+    public void assertGetDoubleValue() {
+        assertThat(NumberUtil.getDoubleValue(null), is(0D));
+        assertThat(NumberUtil.getDoubleValue(new BigDecimal("1.5")), is(1.5D));
+        assertThat(NumberUtil.getDoubleValue("1.5"), is(1.5D));
+    }
 }
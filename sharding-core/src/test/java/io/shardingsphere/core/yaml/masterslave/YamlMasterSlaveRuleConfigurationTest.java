@@ -19,12 +19,16 @@ package io.shardingsphere.core.yaml.masterslave;
 
 import io.shardingsphere.core.api.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmType;
 import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithm;
+import io.shardingsphere.core.api.algorithm.masterslave.WeightedMasterSlaveLoadBalanceAlgorithm;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +55,28 @@ public final class YamlMasterSlaveRuleConfigurationTest {
         assertThat(actual.getLoadBalanceAlgorithm(), instanceOf(RoundRobinMasterSlaveLoadBalanceAlgorithm.class));
     }
     
+    @Test
+    public void assertGetMasterSlaveRuleConfigurationWithWeightedLoadBalanceAlgorithmType() {
+        YamlMasterSlaveRuleConfiguration yamlConfig = createYamlMasterSlaveRuleConfig();
+        yamlConfig.setLoadBalanceAlgorithmType(MasterSlaveLoadBalanceAlgorithmType.WEIGHTED);
+        yamlConfig.setLoadBalanceWeights(Collections.singletonMap("slave_ds_0", 0));
+        MasterSlaveRuleConfiguration actual = yamlConfig.getMasterSlaveRuleConfiguration();
+        assertMasterSlaveRuleConfig(actual);
+        assertThat(actual.getLoadBalanceAlgorithm(), instanceOf(WeightedMasterSlaveLoadBalanceAlgorithm.class));
+        assertThat(actual.getLoadBalanceAlgorithm().getDataSource("master_slave_ds", "master_ds", Arrays.asList("slave_ds_0", "slave_ds_1")), is("slave_ds_1"));
+    }
+    
+    @Test
+    public void assertNewYamlMasterSlaveRuleConfigurationWithWeightedLoadBalanceAlgorithm() {
+        Map<String, Integer> weights = Collections.singletonMap("slave_ds_0", 3);
+        MasterSlaveRuleConfiguration config = new MasterSlaveRuleConfiguration(
+                "master_slave_ds", "master_ds", Arrays.asList("slave_ds_0", "slave_ds_1"), new WeightedMasterSlaveLoadBalanceAlgorithm(weights));
+        YamlMasterSlaveRuleConfiguration actual = new YamlMasterSlaveRuleConfiguration(config, Collections.<String, Object>emptyMap(), new Properties());
+        assertThat(actual.getLoadBalanceAlgorithmType(), is(MasterSlaveLoadBalanceAlgorithmType.WEIGHTED));
+        assertNull(actual.getLoadBalanceAlgorithmClassName());
+        assertThat(actual.getLoadBalanceWeights(), is(weights));
+    }
+    
     @Test
     public void assertGetMasterSlaveRuleConfigurationWithoutLoadBalanceAlgorithm() {
         YamlMasterSlaveRuleConfiguration yamlConfig = createYamlMasterSlaveRuleConfig();
@@ -18,25 +18,35 @@
 package io.shardingsphere.core.yaml.sharding;
 
 import io.shardingsphere.core.api.config.strategy.ComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ConsistentHashShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.IntervalShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.ModShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.NoneShardingStrategyConfiguration;
 import io.shardingsphere.core.api.config.strategy.StandardShardingStrategyConfiguration;
+import io.shardingsphere.core.api.config.strategy.VolumeRangeShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.IntervalUnit;
 import io.shardingsphere.core.fixture.ComplexOrderShardingAlgorithm;
 import io.shardingsphere.core.fixture.OrderDatabaseHintShardingAlgorithm;
 import io.shardingsphere.core.fixture.PreciseOrderShardingAlgorithm;
 import io.shardingsphere.core.fixture.RangeOrderShardingAlgorithm;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlComplexShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlConsistentHashShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlModShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import io.shardingsphere.core.yaml.sharding.strategy.YamlStandardShardingStrategyConfiguration;
+import io.shardingsphere.core.yaml.sharding.strategy.YamlVolumeRangeShardingStrategyConfiguration;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class YamlShardingStrategyConfigurationTest {
     
@@ -56,7 +66,7 @@ public final class YamlShardingStrategyConfigurationTest {
     }
     
     private void assertStandardShardingStrategyConfig(final StandardShardingStrategyConfiguration actual) {
-
+        
         assertThat(actual.getShardingColumn(), is("order_id"));
         assertThat(actual.getPreciseShardingAlgorithm(), instanceOf(PreciseOrderShardingAlgorithm.class));
         assertThat(actual.getRangeShardingAlgorithm(), instanceOf(RangeOrderShardingAlgorithm.class));
@@ -133,6 +143,80 @@ public final class YamlShardingStrategyConfigurationTest {
         assertThat(actual, instanceOf(NoneShardingStrategyConfiguration.class));
     }
     
+    @Test
+    public void assertBuildWithMod() {
+        assertModShardingStrategyConfig((ModShardingStrategyConfiguration) createModShardingStrategyConfig().build());
+    }
+    
+    private YamlShardingStrategyConfiguration createModShardingStrategyConfig() {
+        YamlModShardingStrategyConfiguration modShardingStrategyConfig = new YamlModShardingStrategyConfiguration();
+        modShardingStrategyConfig.setShardingColumn("order_id");
+        modShardingStrategyConfig.setShardingCount(4);
+        modShardingStrategyConfig.setHash(true);
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setMod(modShardingStrategyConfig);
+        return result;
+    }
+    
+    private void assertModShardingStrategyConfig(final ModShardingStrategyConfiguration actual) {
+        assertThat(actual.getShardingColumn(), is("order_id"));
+        assertThat(actual.getShardingCount(), is(4));
+        assertTrue(actual.isHash());
+    }
+    
+    @Test
+    public void assertBuildWithConsistentHash() {
+        YamlConsistentHashShardingStrategyConfiguration consistentHashShardingStrategyConfig = new YamlConsistentHashShardingStrategyConfiguration();
+        consistentHashShardingStrategyConfig.setShardingColumn("user_id");
+        consistentHashShardingStrategyConfig.setShardingCount(8);
+        YamlShardingStrategyConfiguration yamlShardingStrategyConfig = new YamlShardingStrategyConfiguration();
+        yamlShardingStrategyConfig.setConsistentHash(consistentHashShardingStrategyConfig);
+        ConsistentHashShardingStrategyConfiguration actual = (ConsistentHashShardingStrategyConfiguration) yamlShardingStrategyConfig.build();
+        assertThat(actual.getShardingColumn(), is("user_id"));
+        assertThat(actual.getShardingCount(), is(8));
+    }
+    
+    @Test
+    public void assertBuildWithVolumeRange() {
+        assertVolumeRangeShardingStrategyConfig((VolumeRangeShardingStrategyConfiguration) createVolumeRangeShardingStrategyConfig().build());
+    }
+    
+    private YamlShardingStrategyConfiguration createVolumeRangeShardingStrategyConfig() {
+        YamlVolumeRangeShardingStrategyConfiguration volumeRangeShardingStrategyConfig = new YamlVolumeRangeShardingStrategyConfiguration();
+        volumeRangeShardingStrategyConfig.setShardingColumn("order_id");
+        volumeRangeShardingStrategyConfig.setLowerBound(1000L);
+        volumeRangeShardingStrategyConfig.setShardingVolume(100L);
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setVolumeRange(volumeRangeShardingStrategyConfig);
+        return result;
+    }
+    
+    private void assertVolumeRangeShardingStrategyConfig(final VolumeRangeShardingStrategyConfiguration actual) {
+        assertThat(actual.getShardingColumn(), is("order_id"));
+        assertThat(actual.getLowerBound(), is(1000L));
+        assertThat(actual.getShardingVolume(), is(100L));
+    }
+    
+    @Test
+    public void assertBuildWithInterval() {
+        assertIntervalShardingStrategyConfig((IntervalShardingStrategyConfiguration) createIntervalShardingStrategyConfig().build());
+    }
+    
+    private YamlShardingStrategyConfiguration createIntervalShardingStrategyConfig() {
+        YamlIntervalShardingStrategyConfiguration intervalShardingStrategyConfig = new YamlIntervalShardingStrategyConfiguration();
+        intervalShardingStrategyConfig.setShardingColumn("create_time");
+        intervalShardingStrategyConfig.setIntervalUnit(IntervalUnit.MONTH);
+        YamlShardingStrategyConfiguration result = new YamlShardingStrategyConfiguration();
+        result.setInterval(intervalShardingStrategyConfig);
+        return result;
+    }
+    
+    private void assertIntervalShardingStrategyConfig(final IntervalShardingStrategyConfiguration actual) {
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getIntervalUnit(), is(IntervalUnit.MONTH));
+        assertThat(actual.getDatetimePattern(), is("yyyy-MM-dd HH:mm:ss"));
+    }
+    
     @Test
     public void assertBuildWithNull() {
         assertNull(new YamlShardingStrategyConfiguration().build());
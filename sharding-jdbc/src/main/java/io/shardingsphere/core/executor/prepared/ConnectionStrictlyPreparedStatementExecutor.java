@@ -50,4 +50,10 @@ public final class ConnectionStrictlyPreparedStatementExecutor extends PreparedS
     protected <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
         return executeTemplate.executeGroup((Collection) executeGroups, executeCallback);
     }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    protected <T> List<T> executeQueryCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
+        return executeTemplate.executeGroupCancellable((Collection) executeGroups, executeCallback);
+    }
 }
@@ -48,4 +48,9 @@ public final class MemoryStrictlyPreparedStatementExecutor extends PreparedState
     protected <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
         return executeTemplate.execute(preparedStatementExecuteUnits, executeCallback);
     }
+    
+    @Override
+    protected <T> List<T> executeQueryCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
+        return executeTemplate.executeCancellable(preparedStatementExecuteUnits, executeCallback);
+    }
 }
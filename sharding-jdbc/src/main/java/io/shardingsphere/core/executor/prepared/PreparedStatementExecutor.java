@@ -61,7 +61,7 @@ public abstract class PreparedStatementExecutor {
                 return ((PreparedStatement) sqlExecuteUnit.getStatement()).executeQuery();
             }
         };
-        return executeCallback(executeCallback);
+        return executeQueryCallback(executeCallback);
     }
     
     /**
@@ -116,4 +116,6 @@ public abstract class PreparedStatementExecutor {
     }
     
     protected abstract <T> List<T> executeCallback(SQLExecuteCallback<T> executeCallback) throws SQLException;
+    
+    protected abstract <T> List<T> executeQueryCallback(SQLExecuteCallback<T> executeCallback) throws SQLException;
 }
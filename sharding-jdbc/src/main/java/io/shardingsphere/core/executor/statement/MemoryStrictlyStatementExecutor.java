@@ -48,4 +48,9 @@ public final class MemoryStrictlyStatementExecutor extends StatementExecutor {
     protected <T> List<T> executeCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
         return executeTemplate.execute(statementExecuteUnits, executeCallback);
     }
+    
+    @Override
+    protected <T> List<T> executeQueryCallback(final SQLExecuteCallback<T> executeCallback) throws SQLException {
+        return executeTemplate.executeCancellable(statementExecuteUnits, executeCallback);
+    }
 }
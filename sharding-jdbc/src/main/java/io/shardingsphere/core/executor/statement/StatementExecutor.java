@@ -62,7 +62,7 @@ public abstract class StatementExecutor {
                 return sqlExecuteUnit.getStatement().executeQuery(sqlExecuteUnit.getRouteUnit().getSqlUnit().getSql());
             }
         };
-        return executeCallback(executeCallback);
+        return executeQueryCallback(executeCallback);
     }
     
     /**
@@ -240,6 +240,8 @@ public abstract class StatementExecutor {
     
     protected abstract <T> List<T> executeCallback(SQLExecuteCallback<T> executeCallback) throws SQLException;
     
+    protected abstract <T> List<T> executeQueryCallback(SQLExecuteCallback<T> executeCallback) throws SQLException;
+    
     private interface Updater {
         
         int executeUpdate(Statement statement, String sql) throws SQLException;
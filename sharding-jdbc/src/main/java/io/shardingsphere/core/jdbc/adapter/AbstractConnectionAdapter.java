@@ -37,8 +37,11 @@ import io.shardingsphere.core.jdbc.adapter.executor.ForceExecuteTemplate;
 import io.shardingsphere.core.jdbc.unsupported.AbstractUnsupportedOperationConnection;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaDataFactory;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionManager;
 import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -54,6 +57,7 @@ import java.util.Map;
  * @author zhangliang
  */
 @RequiredArgsConstructor
+@Slf4j
 public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOperationConnection {
     
     private final DatabaseType databaseType;
@@ -109,6 +113,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     protected abstract Map<String, DataSource> getDataSourceMap();
     
+    protected abstract ReplicationLagMonitor getReplicationLagMonitor();
+    
     protected final void removeCache(final Connection connection) {
         cachedConnections.values().remove(connection);
     }
@@ -145,11 +151,45 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
                     connection.commit();
                 }
             });
+            recordWrittenPositions();
         } else if (TransactionType.XA == TransactionTypeHolder.get()) {
             ShardingEventBusInstance.getInstance().post(new XATransactionEvent(TransactionOperationType.COMMIT));
         }
     }
     
+    /**
+     * Record written replication positions if auto commit.
+     * 
+     * <p>Should be called before route, so that reads after auto committed writes can be routed to slave data sources which caught up.</p>
+     */
+    public final void recordAutoCommitWrittenPositions() {
+        if (autoCommit) {
+            recordWrittenPositions();
+        }
+    }
+    
+    private void recordWrittenPositions() {
+        ReplicationLagMonitor replicationLagMonitor = getReplicationLagMonitor();
+        if (null == replicationLagMonitor || !MasterVisitedManager.isMasterVisited()) {
+            return;
+        }
+        for (Map.Entry<String, Connection> entry : cachedConnections.entrySet()) {
+            if (replicationLagMonitor.isMasterDataSource(entry.getKey()) && !recordWrittenPosition(replicationLagMonitor, entry.getKey(), entry.getValue())) {
+                return;
+            }
+        }
+        MasterVisitedManager.clear();
+    }
+    
+    private boolean recordWrittenPosition(final ReplicationLagMonitor replicationLagMonitor, final String masterDataSourceName, final Connection connection) {
+        try {
+            return replicationLagMonitor.recordWrittenPosition(masterDataSourceName, connection);
+        } catch (final SQLException ex) {
+            log.warn(String.format("Cannot fetch written position of master data source '%s', route reads to master data source", masterDataSourceName), ex);
+            return false;
+        }
+    }
+    
     @Override
     public final void rollback() throws SQLException {
         if (TransactionType.LOCAL == TransactionTypeHolder.get()) {
@@ -173,6 +213,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         closed = true;
         HintManagerHolder.clear();
         MasterVisitedManager.clear();
+        ReplicationPositionManager.clear();
         TransactionTypeHolder.clear();
         forceExecuteTemplateForClose.execute(cachedConnections.entrySet(), new ForceExecuteCallback<Map.Entry<String, Connection>>() {
             
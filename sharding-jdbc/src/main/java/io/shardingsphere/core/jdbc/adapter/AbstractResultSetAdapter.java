@@ -31,6 +31,8 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Adapter for {@code ResultSet}.
@@ -46,28 +48,36 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Getter
     private final Statement statement;
     
+    private final Map<String, String> originalColumnLabels;
+    
     private boolean closed;
     
     private final ForceExecuteTemplate<ResultSet> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
-    public AbstractResultSetAdapter(final List<ResultSet> resultSets, final Statement statement) {
+    public AbstractResultSetAdapter(final List<ResultSet> resultSets, final Statement statement, final Map<String, String> originalColumnLabels) {
         Preconditions.checkArgument(!resultSets.isEmpty());
         this.resultSets = resultSets;
         this.statement = statement;
+        this.originalColumnLabels = originalColumnLabels;
     }
     
     @Override
     public final ResultSetMetaData getMetaData() throws SQLException {
-        return new ShardingResultSetMetaData(resultSets.get(0).getMetaData());
+        return new ShardingResultSetMetaData(resultSets.get(0).getMetaData(), originalColumnLabels);
     }
     
     @Override
     public final int findColumn(final String columnLabel) throws SQLException {
+        for (Entry<String, String> entry : originalColumnLabels.entrySet()) {
+            if (entry.getValue().equalsIgnoreCase(columnLabel)) {
+                return resultSets.get(0).findColumn(entry.getKey());
+            }
+        }
         return resultSets.get(0).findColumn(columnLabel);
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
             
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.jdbc.adapter;
 
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
 import io.shardingsphere.core.jdbc.adapter.executor.ForceExecuteCallback;
 import io.shardingsphere.core.jdbc.adapter.executor.ForceExecuteTemplate;
 import io.shardingsphere.core.jdbc.unsupported.AbstractUnsupportedOperationStatement;
@@ -44,6 +45,8 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private int fetchSize;
     
+    private BulkheadPermit bulkheadPermit;
+    
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
     @SuppressWarnings("unchecked")
@@ -52,7 +55,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         closed = true;
         try {
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
-        
+                
                 @Override
                 public void execute(final Statement statement) throws SQLException {
                     statement.close();
@@ -60,6 +63,19 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
             });
         } finally {
             getRoutedStatements().clear();
+            releaseBulkheadPermit();
+        }
+    }
+    
+    protected final void holdBulkheadPermit(final BulkheadPermit bulkheadPermit) {
+        releaseBulkheadPermit();
+        this.bulkheadPermit = bulkheadPermit;
+    }
+    
+    protected final void releaseBulkheadPermit() {
+        if (null != bulkheadPermit) {
+            bulkheadPermit.release();
+            bulkheadPermit = null;
         }
     }
     
@@ -123,7 +139,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     @Override
     public final void cancel() throws SQLException {
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
-        
+            
             @Override
             public void execute(final Statement statement) throws SQLException {
                 statement.cancel();
@@ -214,7 +230,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void setQueryTimeout(final int seconds) throws SQLException {
         recordMethodInvocation(targetClass, "setQueryTimeout", new Class[] {int.class}, new Object[] {seconds});
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
-        
+            
             @Override
             public void execute(final Statement statement) throws SQLException {
                 statement.setQueryTimeout(seconds);
@@ -17,18 +17,31 @@
 
 package io.shardingsphere.core.jdbc.core;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.core.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.metrics.DataSourceMetricsCollector;
+import io.shardingsphere.core.metrics.MetricsRegistry;
+import io.shardingsphere.core.rule.DataNode;
+import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -48,6 +61,15 @@ public final class ShardingContext implements AutoCloseable {
     
     private ShardingExecuteEngine executeEngine;
     
+    private SQLExecuteBulkhead executeBulkhead;
+    
+    private SQLExecuteCircuitBreaker circuitBreaker;
+    
+    private DataSourceStatisticsRegistry statisticsRegistry;
+    
+    @Getter(AccessLevel.NONE)
+    private DataSourceMetricsCollector dataSourceMetricsCollector;
+    
     private ShardingMetaData metaData;
     
     private ConnectionMode connectionMode;
@@ -56,15 +78,36 @@ public final class ShardingContext implements AutoCloseable {
     
     private boolean showSQL;
     
-    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, 
-                           final ShardingExecuteEngine executeEngine, final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
-        init(dataSourceMap, shardingRule, databaseType, executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL);
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                           final SQLExecuteBulkhead executeBulkhead, final SQLExecuteCircuitBreaker circuitBreaker, 
+                           final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
+        init(dataSourceMap, shardingRule, databaseType, executeEngine, executeBulkhead, circuitBreaker, connectionMode, maxConnectionsSizePerQuery, showSQL);
+    }
+    
+    private ShardingContext(final ShardingContext originalContext, final ShardingRule shardingRule, final ShardingMetaData metaData) {
+        this.shardingRule = shardingRule;
+        this.metaData = metaData;
+        executeEngine = originalContext.executeEngine;
+        executeBulkhead = originalContext.executeBulkhead;
+        circuitBreaker = originalContext.circuitBreaker;
+        statisticsRegistry = originalContext.statisticsRegistry;
+        dataSourceMetricsCollector = originalContext.dataSourceMetricsCollector;
+        databaseType = originalContext.databaseType;
+        connectionMode = originalContext.connectionMode;
+        maxConnectionsSizePerQuery = originalContext.maxConnectionsSizePerQuery;
+        showSQL = originalContext.showSQL;
     }
     
-    private void init(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, 
-                      final ShardingExecuteEngine executeEngine, final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
+    private void init(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                      final SQLExecuteBulkhead executeBulkhead, final SQLExecuteCircuitBreaker circuitBreaker, 
+                      final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery, final boolean showSQL) {
         this.shardingRule = shardingRule;
         this.executeEngine = executeEngine;
+        this.executeBulkhead = executeBulkhead;
+        this.circuitBreaker = circuitBreaker;
+        statisticsRegistry = new DataSourceStatisticsRegistry();
+        dataSourceMetricsCollector = new DataSourceMetricsCollector(statisticsRegistry);
+        MetricsRegistry.getInstance().register(dataSourceMetricsCollector);
         this.databaseType = databaseType;
         this.connectionMode = connectionMode;
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
@@ -88,8 +131,69 @@ public final class ShardingContext implements AutoCloseable {
         }
     }
     
+    /**
+     * Renew sharding context with new sharding rule.
+     * 
+     * <p>Execute engine, execute bulkhead, circuit breaker and statistics of data sources are shared with original context, 
+     * table meta data are reused if actual data nodes and data sources of table are not changed.</p>
+     * 
+     * @param dataSourceMap data source map
+     * @param shardingRule new sharding rule
+     * @param changedDataSourceNames names of data sources which are added or changed
+     * @return renewed sharding context
+     */
+    public ShardingContext renew(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Collection<String> changedDataSourceNames) {
+        ShardingMetaData renewedMetaData = new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, 
+                new JDBCTableMetaDataConnectionManager(dataSourceMap), maxConnectionsSizePerQuery, getUnchangedTableMetaDataMap(shardingRule, changedDataSourceNames));
+        return new ShardingContext(this, shardingRule, renewedMetaData);
+    }
+    
+    private Map<String, TableMetaData> getUnchangedTableMetaDataMap(final ShardingRule renewedShardingRule, final Collection<String> changedDataSourceNames) {
+        Map<String, TableMetaData> result = new HashMap<>();
+        for (Entry<String, TableMetaData> entry : metaData.getTable().getTableMetaDataMap().entrySet()) {
+            if (isUnchangedTable(entry.getKey(), renewedShardingRule, changedDataSourceNames)) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private boolean isUnchangedTable(final String tableName, final ShardingRule renewedShardingRule, final Collection<String> changedDataSourceNames) {
+        Optional<TableRule> originalTableRule = shardingRule.tryFindTableRuleByLogicTable(tableName);
+        Optional<TableRule> renewedTableRule = renewedShardingRule.tryFindTableRuleByLogicTable(tableName);
+        if (originalTableRule.isPresent() != renewedTableRule.isPresent()) {
+            return false;
+        }
+        if (!renewedTableRule.isPresent()) {
+            Optional<String> defaultDataSourceName = renewedShardingRule.findActualDefaultDataSourceName();
+            return defaultDataSourceName.isPresent() && defaultDataSourceName.equals(shardingRule.findActualDefaultDataSourceName()) && !changedDataSourceNames.contains(defaultDataSourceName.get());
+        }
+        if (!originalTableRule.get().getActualDataNodes().equals(renewedTableRule.get().getActualDataNodes())) {
+            return false;
+        }
+        for (DataNode each : renewedTableRule.get().getActualDataNodes()) {
+            if (isChangedDataSource(each.getDataSourceName(), renewedShardingRule, changedDataSourceNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isChangedDataSource(final String dataSourceName, final ShardingRule renewedShardingRule, final Collection<String> changedDataSourceNames) {
+        if (changedDataSourceNames.contains(dataSourceName)) {
+            return true;
+        }
+        for (MasterSlaveRule each : renewedShardingRule.getMasterSlaveRules()) {
+            if (each.getName().equals(dataSourceName)) {
+                return changedDataSourceNames.contains(each.getMasterDataSourceName());
+            }
+        }
+        return false;
+    }
+    
     @Override
     public void close() {
+        MetricsRegistry.getInstance().unregister(dataSourceMetricsCollector);
         executeEngine.close();
     }
 }
@@ -21,6 +21,7 @@ import io.shardingsphere.core.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.core.jdbc.core.datasource.MasterSlaveDataSource;
 import io.shardingsphere.core.jdbc.core.statement.MasterSlavePreparedStatement;
 import io.shardingsphere.core.jdbc.core.statement.MasterSlaveStatement;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
 import lombok.Getter;
 
 import javax.sql.DataSource;
@@ -50,6 +51,11 @@ public final class MasterSlaveConnection extends AbstractConnectionAdapter {
         return masterSlaveDataSource.getDataSourceMap();
     }
     
+    @Override
+    protected ReplicationLagMonitor getReplicationLagMonitor() {
+        return masterSlaveDataSource.getReplicationLagMonitor();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         return getConnection(masterSlaveDataSource.getMasterSlaveRule().getMasterDataSourceName()).getMetaData();
@@ -23,6 +23,7 @@ import io.shardingsphere.core.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.jdbc.core.statement.ShardingPreparedStatement;
 import io.shardingsphere.core.jdbc.core.statement.ShardingStatement;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.Getter;
 
@@ -71,6 +72,11 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         return shardingDataSource.getDataSourceMap();
     }
     
+    @Override
+    protected ReplicationLagMonitor getReplicationLagMonitor() {
+        return shardingDataSource.getReplicationLagMonitor();
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         Collection<MasterSlaveRule> masterSlaveRules = shardingDataSource.getShardingContext().getShardingRule().getMasterSlaveRules();
@@ -23,6 +23,8 @@ import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.core.jdbc.core.connection.MasterSlaveConnection;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionFetcherFactory;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import lombok.Getter;
 
@@ -31,6 +33,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -51,6 +54,8 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter implements
     
     private final ShardingProperties shardingProperties;
     
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRuleConfiguration masterSlaveRuleConfig,
                                  final Map<String, Object> configMap, final Properties props) throws SQLException {
         super(getAllDataSources(dataSourceMap, masterSlaveRuleConfig.getMasterDataSourceName(), masterSlaveRuleConfig.getSlaveDataSourceNames()));
@@ -60,6 +65,7 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter implements
         this.dataSourceMap = dataSourceMap;
         this.masterSlaveRule = new MasterSlaveRule(masterSlaveRuleConfig);
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        replicationLagMonitor = createReplicationLagMonitor();
     }
     
     public MasterSlaveDataSource(final Map<String, DataSource> dataSourceMap, final MasterSlaveRule masterSlaveRule,
@@ -71,6 +77,17 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter implements
         this.dataSourceMap = dataSourceMap;
         this.masterSlaveRule = masterSlaveRule;
         this.shardingProperties = props;
+        replicationLagMonitor = createReplicationLagMonitor();
+    }
+    
+    private ReplicationLagMonitor createReplicationLagMonitor() {
+        boolean readYourWritesEnabled = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED);
+        if (!readYourWritesEnabled) {
+            return null;
+        }
+        ReplicationPositionFetcherFactory.checkSupported(getDatabaseType());
+        long pollIntervalMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_POLL_INTERVAL_MILLISECONDS);
+        return new ReplicationLagMonitor(getDatabaseType(), Collections.singletonList(masterSlaveRule), dataSourceMap, pollIntervalMilliseconds);
     }
     
     private static Collection<DataSource> getAllDataSources(final Map<String, DataSource> dataSourceMap, final String masterDataSourceName, final Collection<String> slaveDataSourceNames) {
@@ -113,6 +130,9 @@ public class MasterSlaveDataSource extends AbstractDataSourceAdapter implements
     
     @Override
     public final void close() {
+        if (null != replicationLagMonitor) {
+            replicationLagMonitor.close();
+        }
         closeOriginalDataSources();
     }
     
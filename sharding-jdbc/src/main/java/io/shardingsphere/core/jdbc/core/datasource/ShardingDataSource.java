@@ -24,9 +24,14 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.breaker.CircuitBreakerSettings;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
 import io.shardingsphere.core.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionFetcherFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
@@ -52,6 +57,8 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     
     private final ShardingProperties shardingProperties;
     
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
         this(dataSourceMap, shardingRule, new ConcurrentHashMap<String, Object>(), new Properties());
     }
@@ -64,7 +71,9 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
         }
         this.dataSourceMap = dataSourceMap;
         this.shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        checkReadYourWritesSupported();
         this.shardingContext = getShardingContext(dataSourceMap, shardingRule);
+        replicationLagMonitor = createReplicationLagMonitor();
     }
     
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext, final ShardingProperties shardingProperties, final DatabaseType databaseType) {
@@ -72,6 +81,14 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
         this.dataSourceMap = dataSourceMap;
         this.shardingContext = shardingContext;
         this.shardingProperties = shardingProperties;
+        checkReadYourWritesSupported();
+        replicationLagMonitor = createReplicationLagMonitor();
+    }
+    
+    private void checkReadYourWritesSupported() {
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED)) {
+            ReplicationPositionFetcherFactory.checkSupported(getDatabaseType());
+        }
     }
     
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
@@ -86,7 +103,31 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
         ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(executorSize);
         ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         int maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executeEngine, connectionMode, maxConnectionsSizePerQuery, showSQL);
+        return new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executeEngine, createExecuteBulkhead(), createCircuitBreaker(), connectionMode, maxConnectionsSizePerQuery, showSQL);
+    }
+    
+    private SQLExecuteBulkhead createExecuteBulkhead() {
+        int maxConcurrency = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY);
+        int maxConcurrencyPerDataSource = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE);
+        if (!SQLExecuteBulkhead.isEnabled(maxConcurrency, maxConcurrencyPerDataSource)) {
+            return null;
+        }
+        int maxQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_SIZE);
+        long maxQueueWaitMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_WAIT_MILLISECONDS);
+        return new SQLExecuteBulkhead(maxConcurrency, maxConcurrencyPerDataSource, maxQueueSize, maxQueueWaitMilliseconds);
+    }
+    
+    private SQLExecuteCircuitBreaker createCircuitBreaker() {
+        return CircuitBreakerSettings.isEnabled(shardingProperties) ? new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(shardingProperties)) : null;
+    }
+    
+    private ReplicationLagMonitor createReplicationLagMonitor() {
+        boolean readYourWritesEnabled = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED);
+        if (!readYourWritesEnabled || shardingContext.getShardingRule().getMasterSlaveRules().isEmpty()) {
+            return null;
+        }
+        long pollIntervalMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_POLL_INTERVAL_MILLISECONDS);
+        return new ReplicationLagMonitor(getDatabaseType(), shardingContext.getShardingRule().getMasterSlaveRules(), dataSourceMap, pollIntervalMilliseconds);
     }
     
     @Override
@@ -96,6 +137,9 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
     
     @Override
     public final void close() {
+        if (null != replicationLagMonitor) {
+            replicationLagMonitor.close();
+        }
         closeOriginalDataSources();
         shardingContext.close();
     }
@@ -24,16 +24,36 @@ import lombok.RequiredArgsConstructor;
 import java.math.BigDecimal;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * ResultSet utility class.
  * 
  * @author gaohongtao
+ * @author zhangliang
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ResultSetUtil {
     
+    private static final Map<Class<?>, Object> NULL_VALUES = new HashMap<>(8, 1);
+    
+    private static final Set<Class<?>> INTEGRAL_TYPES = new HashSet<Class<?>>(Arrays.asList(Byte.class, Short.class, Integer.class, Long.class));
+    
+    static {
+        NULL_VALUES.put(boolean.class, false);
+        NULL_VALUES.put(byte.class, (byte) 0);
+        NULL_VALUES.put(short.class, (short) 0);
+        NULL_VALUES.put(int.class, 0);
+        NULL_VALUES.put(long.class, 0L);
+        NULL_VALUES.put(float.class, 0F);
+        NULL_VALUES.put(double.class, 0D);
+    }
+    
     /**
      * Convert value via expected class type.
      * 
@@ -62,63 +82,52 @@ public final class ResultSetUtil {
     }
     
     private static Object convertNullValue(final Class<?> convertType) {
-        switch (convertType.getName()) {
-            case "boolean":
-                return false;
-            case "byte":
-                return (byte) 0;
-            case "short":
-                return (short) 0;
-            case "int":
-                return 0;
-            case "long":
-                return 0L;
-            case "float":
-                return 0F;
-            case "double":
-                return 0D;
-            default:
-                return null;
-        }
+        return NULL_VALUES.get(convertType);
     }
     
     private static Object convertNumberValue(final Object value, final Class<?> convertType) {
         Number number = (Number) value;
-        switch (convertType.getName()) {
-            case "byte":
-                return number.byteValue();
-            case "short":
-                return number.shortValue();
-            case "int":
-                return number.intValue();
-            case "long":
-                return number.longValue();
-            case "double":
-                return number.doubleValue();
-            case "float":
-                return number.floatValue();
-            case "java.math.BigDecimal":
-                return new BigDecimal(number.toString());
-            case "java.lang.Object":
-                return value;
-            case "java.lang.String":
-                return value.toString();
-            default:
-                throw new ShardingException("Unsupported data type:%s", convertType);
+        if (int.class == convertType) {
+            return number.intValue();
+        }
+        if (long.class == convertType) {
+            return number.longValue();
+        }
+        if (double.class == convertType) {
+            return number.doubleValue();
+        }
+        if (float.class == convertType) {
+            return number.floatValue();
+        }
+        if (short.class == convertType) {
+            return number.shortValue();
         }
+        if (byte.class == convertType) {
+            return number.byteValue();
+        }
+        if (BigDecimal.class == convertType) {
+            return INTEGRAL_TYPES.contains(number.getClass()) ? BigDecimal.valueOf(number.longValue()) : new BigDecimal(number.toString());
+        }
+        if (Object.class == convertType) {
+            return value;
+        }
+        if (String.class == convertType) {
+            return value.toString();
+        }
+        throw new ShardingException("Unsupported data type:%s", convertType);
     }
     
     private static Object convertDateValue(final Object value, final Class<?> convertType) {
         Date date = (Date) value;
-        switch (convertType.getName()) {
-            case "java.sql.Date":
-                return new java.sql.Date(date.getTime());
-            case "java.sql.Time":
-                return new Time(date.getTime());
-            case "java.sql.Timestamp":
-                return new Timestamp(date.getTime());
-            default:
-                throw new ShardingException("Unsupported Date type:%s", convertType);
+        if (Timestamp.class == convertType) {
+            return new Timestamp(date.getTime());
+        }
+        if (java.sql.Date.class == convertType) {
+            return new java.sql.Date(date.getTime());
+        }
+        if (Time.class == convertType) {
+            return new Time(date.getTime());
         }
+        throw new ShardingException("Unsupported Date type:%s", convertType);
     }
 }
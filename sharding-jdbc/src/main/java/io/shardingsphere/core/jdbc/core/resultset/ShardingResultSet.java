@@ -19,6 +19,8 @@ package io.shardingsphere.core.jdbc.core.resultset;
 
 import io.shardingsphere.core.jdbc.adapter.AbstractResultSetAdapter;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -34,7 +36,9 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Result that support sharding.
@@ -46,10 +50,27 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     private final MergedResult mergeResultSet;
     
     public ShardingResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement) {
-        super(resultSets, statement);
+        this(resultSets, mergeResultSet, statement, Collections.<String, String>emptyMap());
+    }
+    
+    public ShardingResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final SQLStatement sqlStatement) {
+        this(resultSets, mergeResultSet, statement, sqlStatement instanceof SelectStatement ? ((SelectStatement) sqlStatement).getOriginalColumnLabels() : Collections.<String, String>emptyMap());
+    }
+    
+    private ShardingResultSet(final List<ResultSet> resultSets, final MergedResult mergeResultSet, final Statement statement, final Map<String, String> originalColumnLabels) {
+        super(resultSets, statement, originalColumnLabels);
         this.mergeResultSet = mergeResultSet;
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergeResultSet.next();
@@ -92,22 +113,22 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, int.class), int.class);
+        return mergeResultSet.getInt(columnIndex);
     }
     
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-        return (int) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, int.class), int.class);
+        return mergeResultSet.getInt(columnLabel);
     }
     
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, long.class), long.class);
+        return mergeResultSet.getLong(columnIndex);
     }
     
     @Override
     public long getLong(final String columnLabel) throws SQLException {
-        return (long) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, long.class), long.class);
+        return mergeResultSet.getLong(columnLabel);
     }
     
     @Override
@@ -122,12 +143,12 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, double.class), double.class);
+        return mergeResultSet.getDouble(columnIndex);
     }
     
     @Override
     public double getDouble(final String columnLabel) throws SQLException {
-        return (double) ResultSetUtil.convertValue(mergeResultSet.getValue(columnLabel, double.class), double.class);
+        return mergeResultSet.getDouble(columnLabel);
     }
     
     @Override
@@ -209,7 +230,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
         return (Time) ResultSetUtil.convertValue(mergeResultSet.getCalendarValue(columnLabel, Time.class, cal), Time.class);
     }
-            
+    
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
         return (Timestamp) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, Timestamp.class), Timestamp.class);
@@ -284,7 +305,7 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
     public Clob getClob(final int columnIndex) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnIndex, Clob.class);
     }
-        
+    
     @Override
     public Clob getClob(final String columnLabel) throws SQLException {
         return (Clob) mergeResultSet.getValue(columnLabel, Clob.class);
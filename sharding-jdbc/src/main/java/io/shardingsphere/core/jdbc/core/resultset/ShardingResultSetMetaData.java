@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * Sharding result set meta data.
@@ -34,6 +35,8 @@ public final class ShardingResultSetMetaData extends WrapperAdapter implements R
     
     private final ResultSetMetaData resultSetMetaData;
     
+    private final Map<String, String> originalColumnLabels;
+    
     @Override
     public int getColumnCount() throws SQLException {
         int result = 0;
@@ -82,12 +85,14 @@ public final class ShardingResultSetMetaData extends WrapperAdapter implements R
     
     @Override
     public String getColumnLabel(final int column) throws SQLException {
-        return resultSetMetaData.getColumnLabel(column);
+        String result = resultSetMetaData.getColumnLabel(column);
+        return originalColumnLabels.containsKey(result) ? originalColumnLabels.get(result) : result;
     }
     
     @Override
     public String getColumnName(final int column) throws SQLException {
-        return resultSetMetaData.getColumnName(column);
+        String columnLabel = resultSetMetaData.getColumnLabel(column);
+        return originalColumnLabels.containsKey(columnLabel) ? originalColumnLabels.get(columnLabel) : resultSetMetaData.getColumnName(column);
     }
     
     @Override
@@ -56,7 +56,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
             final MasterSlaveConnection connection, final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
         }
@@ -65,7 +65,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int autoGeneratedKeys) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
         }
@@ -74,7 +74,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int[] columnIndexes) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
         }
@@ -83,12 +83,17 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final String[] columnNames) throws SQLException {
         this.connection = connection;
         masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
         }
     }
     
+    private Collection<String> route(final String sql) throws SQLException {
+        connection.recordAutoCommitWrittenPositions();
+        return masterSlaveRouter.route(sql);
+    }
+    
     @Override
     public ResultSet executeQuery() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support executeQuery for DDL");
@@ -69,7 +69,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     
     @Override
     public ResultSet executeQuery(final String sql) throws SQLException {
-        Collection<String> dataSourceNames = masterSlaveRouter.route(sql);
+        Collection<String> dataSourceNames = route(sql);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
         Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
@@ -79,7 +79,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql);
@@ -90,7 +90,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, autoGeneratedKeys);
@@ -101,7 +101,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, columnIndexes);
@@ -112,7 +112,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
         int result = 0;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result += statement.executeUpdate(sql, columnNames);
@@ -123,7 +123,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public boolean execute(final String sql) throws SQLException {
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result = statement.execute(sql);
@@ -134,7 +134,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result = statement.execute(sql, autoGeneratedKeys);
@@ -145,7 +145,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result = statement.execute(sql, columnIndexes);
@@ -156,7 +156,7 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
     @Override
     public boolean execute(final String sql, final String[] columnNames) throws SQLException {
         boolean result = false;
-        for (String each : masterSlaveRouter.route(sql)) {
+        for (String each : route(sql)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
             result = statement.execute(sql, columnNames);
@@ -164,6 +164,11 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         return result;
     }
     
+    private Collection<String> route(final String sql) throws SQLException {
+        connection.recordAutoCommitWrittenPositions();
+        return masterSlaveRouter.route(sql);
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Preconditions.checkState(1 == routedStatements.size());
@@ -20,7 +20,6 @@ package io.shardingsphere.core.jdbc.core.statement;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterators;
-import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
@@ -34,6 +33,9 @@ import io.shardingsphere.core.executor.prepared.PreparedStatementExecuteUnit;
 import io.shardingsphere.core.executor.prepared.PreparedStatementExecutor;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
@@ -67,9 +69,11 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -97,6 +101,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<Statement> memoryQueryStatements = new HashSet<>();
+    
     private final String sql;
     
     private int batchCount;
@@ -133,20 +140,22 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(),
-            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource());
+            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(),
+            shardingContext.getMetaData().getDataSource(), shardingContext.getStatisticsRegistry());
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         routedStatements.clear();
+        releaseBulkheadPermit();
         ResultSet result;
         try {
             sqlRoute();
             List<ResultSet> resultSets = getPreparedStatementExecutor().executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
+            result = new ShardingResultSet(resultSets, mergeEngine.merge(), this, routeResult.getSqlStatement());
         } finally {
             clearBatch();
         }
@@ -157,11 +166,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
         List<QueryResult> result = new ArrayList<>(resultSets.size());
         for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
-                result.add(new StreamQueryResult(each));
-            } else {
-                result.add(new MemoryQueryResult(each));
-            }
+            result.add(memoryQueryStatements.contains(each.getStatement()) ? new MemoryQueryResult(each) : new StreamQueryResult(each));
         }
         return result;
     }
@@ -169,6 +174,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public int executeUpdate() throws SQLException {
         routedStatements.clear();
+        releaseBulkheadPermit();
         try {
             sqlRoute();
             return getPreparedStatementExecutor().executeUpdate();
@@ -181,6 +187,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     @Override
     public boolean execute() throws SQLException {
         routedStatements.clear();
+        releaseBulkheadPermit();
         try {
             sqlRoute();
             return getPreparedStatementExecutor().execute();
@@ -235,13 +242,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
-    private void sqlRoute() {
+    private void sqlRoute() throws SQLException {
+        connection.recordAutoCommitWrittenPositions();
         routeResult = routingEngine.route(getParameters());
     }
     
     private PreparedStatementExecutor getPreparedStatementExecutor() throws SQLException {
         DatabaseType databaseType = connection.getShardingDataSource().getShardingContext().getDatabaseType();
-        SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
+        SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(
+            connection.getShardingDataSource().getShardingContext().getExecuteEngine(), 
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
         if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
             return new MemoryStrictlyPreparedStatementExecutor(databaseType, routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForMemoryStrictly());
         }
@@ -250,6 +260,16 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private Collection<PreparedStatementExecuteUnit> getExecuteUnitsForMemoryStrictly() throws SQLException {
         Collection<PreparedStatementExecuteUnit> result = new LinkedList<>();
+        SQLExecuteCircuitBreaker circuitBreaker = connection.getShardingDataSource().getShardingContext().getCircuitBreaker();
+        if (null != circuitBreaker) {
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                circuitBreaker.checkAvailable(each.getDataSourceName());
+            }
+        }
+        SQLExecuteBulkhead executeBulkhead = connection.getShardingDataSource().getShardingContext().getExecuteBulkhead();
+        if (null != executeBulkhead) {
+            holdBulkheadPermit(executeBulkhead.acquire(routeResult.getRouteUnits()));
+        }
         for (RouteUnit each : routeResult.getRouteUnits()) {
             result.add(getPreparedStatementExecuteUnit(connection.getConnection(each.getDataSourceName()), each));
         }
@@ -258,17 +278,29 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @SuppressWarnings("unchecked")
     private Collection<ShardingExecuteGroup<PreparedStatementExecuteUnit>> getExecuteUnitsForConnectionStrictly() throws SQLException {
-        SQLExecutePrepareTemplate sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery());
+        memoryQueryStatements.clear();
+        SQLExecutePrepareTemplate sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(
+                connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery(), connection.getShardingDataSource().getShardingContext().getExecuteBulkhead(), 
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
         return (Collection) sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new SQLExecutePrepareCallback() {
             
+            @Override
+            public void holdBulkheadPermit(final BulkheadPermit bulkheadPermit) {
+                ShardingPreparedStatement.this.holdBulkheadPermit(bulkheadPermit);
+            }
+            
             @Override
             public Connection getConnection(final String dataSourceName) throws SQLException {
                 return ShardingPreparedStatement.this.connection.getConnection(dataSourceName);
             }
             
             @Override
-            public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit) throws SQLException {
-                return getPreparedStatementExecuteUnit(connection, routeUnit);
+            public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
+                PreparedStatementExecuteUnit result = getPreparedStatementExecuteUnit(connection, routeUnit);
+                if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+                    memoryQueryStatements.add(result.getStatement());
+                }
+                return result;
             }
         });
     }
@@ -304,8 +336,12 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public int[] executeBatch() throws SQLException {
+        SQLExecuteBulkhead executeBulkhead = connection.getShardingDataSource().getShardingContext().getExecuteBulkhead();
+        BulkheadPermit bulkheadPermit = null == executeBulkhead ? null : executeBulkhead.acquire(getBatchRouteUnits());
         try {
-            SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
+            SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(
+                connection.getShardingDataSource().getShardingContext().getExecuteEngine(), 
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
             if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
                 return new MemoryStrictlyBatchPreparedStatementExecutor(connection.getShardingDataSource().getShardingContext().getDatabaseType(),
                     routeResult.getSqlStatement().getType(), batchCount, sqlExecuteTemplate, batchStatementUnits).executeBatch();
@@ -313,15 +349,28 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             return new ConnectionStrictlyBatchPreparedStatementExecutor(connection.getShardingDataSource().getShardingContext().getDatabaseType(),
                 routeResult.getSqlStatement().getType(), batchCount, sqlExecuteTemplate, partitionBatchPreparedStatementUnitGroups()).executeBatch();
         } finally {
+            if (null != bulkheadPermit) {
+                bulkheadPermit.release();
+            }
             clearBatch();
         }
     }
     
+    private Collection<RouteUnit> getBatchRouteUnits() {
+        Collection<RouteUnit> result = new LinkedList<>();
+        for (BatchPreparedStatementExecuteUnit each : batchStatementUnits) {
+            result.add(each.getRouteUnit());
+        }
+        return result;
+    }
+    
     private List<List<BatchPreparedStatementExecuteUnit>> partitionBatchPreparedStatementUnitGroups() {
+        SQLExecutePrepareTemplate sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(
+                connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery(), connection.getShardingDataSource().getShardingContext().getExecuteBulkhead(),
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
         List<List<BatchPreparedStatementExecuteUnit>> result = new LinkedList<>();
-        for (List<BatchPreparedStatementExecuteUnit> each : getBatchPreparedStatementUnitGroups().values()) {
-            int desiredPartitionSize = Math.max(each.size() / connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery(), 1);
-            result.addAll(Lists.partition(each, desiredPartitionSize));
+        for (Entry<String, List<BatchPreparedStatementExecuteUnit>> entry : getBatchPreparedStatementUnitGroups().entrySet()) {
+            result.addAll(sqlExecutePrepareTemplate.partition(entry.getKey(), entry.getValue()));
         }
         return result;
     }
@@ -376,8 +425,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
-            currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
+            currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this, routeResult.getSqlStatement());
         }
         return currentResultSet;
     }
@@ -24,6 +24,9 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
@@ -59,6 +62,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -84,6 +88,9 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private final Collection<Statement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<Statement> memoryQueryStatements = new HashSet<>();
+    
     @Getter(AccessLevel.NONE)
     private boolean returnGeneratedKeys;
     
@@ -118,8 +125,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             List<ResultSet> resultSets = getStatementExecutor().executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), getQueryResults(resultSets),
-                routeResult.getSqlStatement(), connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
+                routeResult.getSqlStatement(), connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
+            result = new ShardingResultSet(resultSets, mergeEngine.merge(), this, routeResult.getSqlStatement());
         } finally {
             currentResultSet = null;
         }
@@ -130,11 +137,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
         List<QueryResult> result = new ArrayList<>(resultSets.size());
         for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
-                result.add(new StreamQueryResult(each));
-            } else {
-                result.add(new MemoryQueryResult(each));
-            }
+            result.add(memoryQueryStatements.contains(each.getStatement()) ? new MemoryQueryResult(each) : new StreamQueryResult(each));
         }
         return result;
     }
@@ -241,7 +244,9 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private StatementExecutor getStatementExecutor() throws SQLException {
         DatabaseType databaseType = connection.getShardingDataSource().getShardingContext().getDatabaseType();
-        SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(connection.getShardingDataSource().getShardingContext().getExecuteEngine());
+        SQLExecuteTemplate sqlExecuteTemplate = new SQLExecuteTemplate(
+            connection.getShardingDataSource().getShardingContext().getExecuteEngine(), 
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
         if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingDataSource().getShardingContext().getConnectionMode()) {
             return new MemoryStrictlyStatementExecutor(databaseType, routeResult.getSqlStatement().getType(), sqlExecuteTemplate, getExecuteUnitsForMemoryStrictly());
         }
@@ -250,6 +255,16 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private Collection<StatementExecuteUnit> getExecuteUnitsForMemoryStrictly() throws SQLException {
         Collection<StatementExecuteUnit> result = new LinkedList<>();
+        SQLExecuteCircuitBreaker circuitBreaker = connection.getShardingDataSource().getShardingContext().getCircuitBreaker();
+        if (null != circuitBreaker) {
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                circuitBreaker.checkAvailable(each.getDataSourceName());
+            }
+        }
+        SQLExecuteBulkhead executeBulkhead = connection.getShardingDataSource().getShardingContext().getExecuteBulkhead();
+        if (null != executeBulkhead) {
+            holdBulkheadPermit(executeBulkhead.acquire(routeResult.getRouteUnits()));
+        }
         for (RouteUnit each : routeResult.getRouteUnits()) {
             result.add(getStatementExecuteUnit(connection.getConnection(each.getDataSourceName()), each));
         }
@@ -258,17 +273,29 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     @SuppressWarnings("unchecked")
     private Collection<ShardingExecuteGroup<StatementExecuteUnit>> getExecuteUnitsForConnectionStrictly() throws SQLException {
-        SQLExecutePrepareTemplate sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery());
+        memoryQueryStatements.clear();
+        SQLExecutePrepareTemplate sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(
+                connection.getShardingDataSource().getShardingContext().getMaxConnectionsSizePerQuery(), connection.getShardingDataSource().getShardingContext().getExecuteBulkhead(), 
+                connection.getShardingDataSource().getShardingContext().getCircuitBreaker(), connection.getShardingDataSource().getShardingContext().getStatisticsRegistry());
         return (Collection) sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new SQLExecutePrepareCallback() {
             
+            @Override
+            public void holdBulkheadPermit(final BulkheadPermit bulkheadPermit) {
+                ShardingStatement.this.holdBulkheadPermit(bulkheadPermit);
+            }
+            
             @Override
             public Connection getConnection(final String dataSourceName) throws SQLException {
                 return ShardingStatement.this.connection.getConnection(dataSourceName);
             }
             
             @Override
-            public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit) throws SQLException {
-                return getStatementExecuteUnit(connection, routeUnit);
+            public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
+                StatementExecuteUnit result = getStatementExecuteUnit(connection, routeUnit);
+                if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+                    memoryQueryStatements.add(result.getStatement());
+                }
+                return result;
             }
         });
     }
@@ -285,12 +312,15 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             each.close();
         }
         routedStatements.clear();
+        releaseBulkheadPermit();
     }
     
-    private void sqlRoute(final String sql) {
+    private void sqlRoute(final String sql) throws SQLException {
+        connection.recordAutoCommitWrittenPositions();
         ShardingContext shardingContext = connection.getShardingDataSource().getShardingContext();
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(),
-            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource()).route(sql);
+            shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(),
+            shardingContext.getMetaData().getDataSource(), shardingContext.getStatisticsRegistry()).route(sql);
     }
     
     // TODO refresh table meta data by SQL parse result
@@ -343,8 +373,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                 connection.getShardingDataSource().getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(),
-                connection.getShardingDataSource().getShardingContext().getMetaData().getTable());
-            currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
+                connection.getShardingDataSource().getShardingContext().getMetaData().getTable(), connection.getShardingDataSource().getShardingProperties());
+            currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this, routeResult.getSqlStatement());
         }
         return currentResultSet;
     }
@@ -20,6 +20,8 @@ package io.shardingsphere.core.jdbc.core.datasource;
 import io.shardingsphere.core.api.MasterSlaveDataSourceFactory;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.fixture.TestDataSource;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.jdbc.core.connection.MasterSlaveConnection;
@@ -151,6 +153,16 @@ public final class MasterSlaveDataSourceTest {
         assertThat(masterSlaveDataSource.getConnection(), instanceOf(MasterSlaveConnection.class));
     }
     
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertCreateWithReadYourWritesForUnsupportedDatabase() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("test_ds_master", masterDataSource);
+        dataSourceMap.put("test_ds_slave", slaveDataSource);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED.getKey(), Boolean.TRUE.toString());
+        new MasterSlaveDataSource(dataSourceMap, new MasterSlaveRuleConfiguration("test_ds", "test_ds_master", Collections.singletonList("test_ds_slave")), Collections.<String, Object>emptyMap(), props);
+    }
+
 //    @Test
 //    public void assertResetDMLFlag() {
 //        assertThat(masterSlaveDataSource.getDataSourceName(SQLType.DML).getDataSourceName(), is(masterDataSource));
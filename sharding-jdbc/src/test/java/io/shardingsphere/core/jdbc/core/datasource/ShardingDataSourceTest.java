@@ -23,6 +23,7 @@ import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
@@ -41,6 +42,9 @@ import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
@@ -144,6 +148,27 @@ public final class ShardingDataSourceTest {
         assertThat(createShardingDataSource(dataSourceMap).getConnection().getConnection("ds"), is(dataSource.getConnection()));
     }
     
+    @Test
+    public void assertRenewShardingContextWithUnchangedDataSources() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("ds", mockDataSource("H2"));
+        ShardingContext originalContext = createShardingDataSource(dataSourceMap).getShardingContext();
+        ShardingContext actual = originalContext.renew(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()), Collections.<String>emptyList());
+        assertThat(actual.getExecuteEngine(), is(originalContext.getExecuteEngine()));
+        assertThat(actual.getMetaData().getTable().getTableMetaDataMap().get("logictable"), sameInstance(originalContext.getMetaData().getTable().getTableMetaDataMap().get("logictable")));
+    }
+    
+    @Test
+    public void assertRenewShardingContextWithChangedDataSources() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("ds", mockDataSource("H2"));
+        ShardingContext originalContext = createShardingDataSource(dataSourceMap).getShardingContext();
+        ShardingContext actual = originalContext.renew(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()), Collections.singletonList("ds"));
+        assertThat(actual.getExecuteEngine(), is(originalContext.getExecuteEngine()));
+        assertNotNull(actual.getMetaData().getTable().getTableMetaDataMap().get("logictable"));
+        assertThat(actual.getMetaData().getTable().getTableMetaDataMap().get("logictable"), not(sameInstance(originalContext.getMetaData().getTable().getTableMetaDataMap().get("logictable"))));
+    }
+    
     private ShardingDataSource createShardingDataSource(final Map<String, DataSource> dataSourceMap) throws SQLException {
         return new ShardingDataSource(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()));
     }
@@ -17,7 +17,11 @@
 
 package io.shardingsphere.core.jdbc.core.resultset;
 
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.AggregationType;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +37,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Statement;
@@ -46,6 +51,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -70,6 +76,36 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingResultSet.isClosed());
+    }
+    
+    @Test
+    public void assertGetMetaDataAndFindColumnWithOriginalColumnLabel() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("AGGREGATION_DISTINCT_DERIVED_0");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("user_id");
+        when(resultSetMetaData.getColumnName(2)).thenReturn("user_id");
+        when(resultSet.findColumn("AGGREGATION_DISTINCT_DERIVED_0")).thenReturn(1);
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(DISTINCT order_id)", Optional.<String>absent());
+        aggregationSelectItem.setDistinctExpression(Optional.of("order_id"));
+        aggregationSelectItem.setDerivedAlias(Optional.of("AGGREGATION_DISTINCT_DERIVED_0"));
+        aggregationSelectItem.setOriginalLiterals(Optional.of("COUNT(DISTINCT order_id)"));
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getItems().add(aggregationSelectItem);
+        ShardingResultSet actual = new ShardingResultSet(Collections.singletonList(resultSet), mergeResultSet, statement, selectStatement);
+        assertThat(actual.getMetaData().getColumnLabel(1), is("COUNT(DISTINCT order_id)"));
+        assertThat(actual.getMetaData().getColumnName(1), is("COUNT(DISTINCT order_id)"));
+        assertThat(actual.getMetaData().getColumnLabel(2), is("user_id"));
+        assertThat(actual.getMetaData().getColumnName(2), is("user_id"));
+        assertThat(actual.findColumn("count(distinct order_id)"), is(1));
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
@@ -113,25 +149,25 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetIntWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, int.class)).thenReturn(1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingResultSet.getInt(1), is(1));
     }
     
     @Test
     public void assertGetIntWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", int.class)).thenReturn((short) 1);
+        when(mergeResultSet.getInt("label")).thenReturn(1);
         assertThat(shardingResultSet.getInt("label"), is(1));
     }
     
     @Test
     public void assertGetLongWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingResultSet.getLong(1), is(1L));
     }
     
     @Test
     public void assertGetLongWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong("label")).thenReturn(1L);
         assertThat(shardingResultSet.getLong("label"), is(1L));
     }
     
@@ -149,13 +185,13 @@ public final class ShardingResultSetTest {
     
     @Test
     public void assertGetDoubleWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, double.class)).thenReturn(1D);
+        when(mergeResultSet.getDouble(1)).thenReturn(1D);
         assertThat(shardingResultSet.getDouble(1), is(1D));
     }
     
     @Test
     public void assertGetDoubleWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue("label", double.class)).thenReturn(1D);
+        when(mergeResultSet.getDouble("label")).thenReturn(1D);
         assertThat(shardingResultSet.getDouble("label"), is(1D));
     }
     
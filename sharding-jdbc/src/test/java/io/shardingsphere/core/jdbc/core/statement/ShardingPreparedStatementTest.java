@@ -222,4 +222,38 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
             assertThat(result.length, is(0));
         }
     }
+    
+    @Test
+    public void assertExecuteQueryWithUnboundedComparisonOnShardingColumns() throws SQLException {
+        try (
+            Connection connection = getShardingDataSource().getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM t_order WHERE user_id >= ? AND order_id > ?")) {
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 1100);
+            assertThat(getCount(preparedStatement), is(1));
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryWithBoundedComparisonOnShardingColumns() throws SQLException {
+        try (
+            Connection connection = getShardingDataSource().getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM t_order WHERE user_id > ? AND user_id <= ? AND order_id >= ? AND order_id < ?")) {
+            preparedStatement.setInt(1, 9);
+            preparedStatement.setInt(2, 10);
+            preparedStatement.setInt(3, 1000);
+            preparedStatement.setInt(4, 1001);
+            assertThat(getCount(preparedStatement), is(1));
+        }
+    }
+    
+    private int getCount(final PreparedStatement preparedStatement) throws SQLException {
+        int result = 0;
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result += resultSet.getInt(1);
+            }
+        }
+        return result;
+    }
 }
@@ -24,6 +24,7 @@ import io.shardingsphere.jdbc.orchestration.internal.OrchestrationFacade;
 import io.shardingsphere.jdbc.orchestration.internal.event.state.CircuitStateEventBusEvent;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -41,7 +42,8 @@ public abstract class AbstractOrchestrationDataSource extends AbstractDataSource
     
     private final OrchestrationFacade orchestrationFacade;
     
-    private final Map<String, DataSource> dataSourceMap;
+    @Setter(AccessLevel.PROTECTED)
+    private volatile Map<String, DataSource> dataSourceMap;
     
     private boolean isCircuitBreak;
     
@@ -105,6 +105,13 @@ public class OrchestrationMasterSlaveDataSource extends AbstractOrchestrationDat
     @Subscribe
     public void renew(final DisabledStateEventBusEvent disabledStateEventBusEvent) throws SQLException {
         Map<String, DataSource> newDataSourceMap = getAvailableDataSourceMap(disabledStateEventBusEvent.getDisabledDataSourceNames());
+        closeReplicationLagMonitor();
         dataSource = new MasterSlaveDataSource(newDataSourceMap, dataSource.getMasterSlaveRule(), new LinkedHashMap<String, Object>(), dataSource.getShardingProperties());
     }
+    
+    private void closeReplicationLagMonitor() {
+        if (null != dataSource.getReplicationLagMonitor()) {
+            dataSource.getReplicationLagMonitor().close();
+        }
+    }
 }
@@ -21,6 +21,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.core.api.ConfigMapContext;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.jdbc.orchestration.config.OrchestrationConfiguration;
@@ -29,12 +31,17 @@ import io.shardingsphere.jdbc.orchestration.internal.circuit.datasource.CircuitB
 import io.shardingsphere.jdbc.orchestration.internal.config.ConfigurationService;
 import io.shardingsphere.jdbc.orchestration.internal.event.config.ShardingConfigurationEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.event.state.DisabledStateEventBusEvent;
+import io.shardingsphere.jdbc.orchestration.internal.yaml.converter.DataSourceConverter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Orchestration sharding datasource.
@@ -43,7 +50,7 @@ import java.util.Map;
  */
 public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSource {
     
-    private ShardingDataSource dataSource;
+    private volatile ShardingDataSource dataSource;
     
     public OrchestrationShardingDataSource(final ShardingDataSource shardingDataSource, final OrchestrationConfiguration orchestrationConfig) throws SQLException {
         super(new OrchestrationFacade(orchestrationConfig), shardingDataSource.getDataSourceMap());
@@ -56,8 +63,7 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
         ConfigurationService configService = getOrchestrationFacade().getConfigService();
         ShardingRuleConfiguration shardingRuleConfig = configService.loadShardingRuleConfiguration();
         Preconditions.checkNotNull(shardingRuleConfig, "Missing the sharding rule configuration on register center");
-        dataSource = new ShardingDataSource(configService.loadDataSourceMap(),
-                new ShardingRule(shardingRuleConfig, configService.loadDataSourceMap().keySet()), configService.loadShardingConfigMap(), configService.loadShardingProperties());
+        dataSource = new ShardingDataSource(getDataSourceMap(), new ShardingRule(shardingRuleConfig, getDataSourceMap().keySet()), configService.loadShardingConfigMap(), configService.loadShardingProperties());
         initOrchestrationFacade(dataSource);
     }
     
@@ -82,13 +88,62 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     
     /**
      * Renew sharding data source.
+     * 
+     * <p>
+     * Data sources whose configuration are unchanged are reused, added or changed data sources are opened, removed or changed data sources are closed after draining.
+     * If sharding properties are unchanged, execute engine and unaffected table meta data are reused, and only sharding rule is swapped,
+     * otherwise sharding context is created and the original one is closed.
+     * </p>
      *
      * @param shardingEvent sharding configuration event bus event.
      * @throws SQLException sql exception
      */
     @Subscribe
-    public void renew(final ShardingConfigurationEventBusEvent shardingEvent) throws SQLException {
-        dataSource = new ShardingDataSource(shardingEvent.getDataSourceMap(), shardingEvent.getShardingRule(), new LinkedHashMap<String, Object>(), shardingEvent.getProps());
+    public synchronized void renew(final ShardingConfigurationEventBusEvent shardingEvent) throws SQLException {
+        Map<String, DataSource> originalDataSourceMap = getDataSourceMap();
+        Map<String, DataSource> renewedDataSourceMap = new LinkedHashMap<>(shardingEvent.getDataSourceMap().size(), 1);
+        Collection<String> changedDataSourceNames = new LinkedList<>();
+        Collection<DataSource> retiredDataSources = new LinkedList<>();
+        for (Entry<String, DataSource> entry : shardingEvent.getDataSourceMap().entrySet()) {
+            DataSource originalDataSource = originalDataSourceMap.get(entry.getKey());
+            if (null != originalDataSource && isSameConfiguration(originalDataSource, entry.getValue())) {
+                renewedDataSourceMap.put(entry.getKey(), originalDataSource);
+                continue;
+            }
+            renewedDataSourceMap.put(entry.getKey(), entry.getValue());
+            changedDataSourceNames.add(entry.getKey());
+            if (null != originalDataSource) {
+                retiredDataSources.add(originalDataSource);
+            }
+        }
+        for (Entry<String, DataSource> entry : originalDataSourceMap.entrySet()) {
+            if (!renewedDataSourceMap.containsKey(entry.getKey())) {
+                retiredDataSources.add(entry.getValue());
+            }
+        }
+        setDataSourceMap(renewedDataSourceMap);
+        ShardingDataSource originalShardingDataSource = dataSource;
+        Map<String, DataSource> availableDataSourceMap = getAvailableDataSourceMap(shardingEvent.getDisabledDataSourceNames());
+        closeReplicationLagMonitor();
+        if (shardingEvent.getProps().equals(originalShardingDataSource.getShardingProperties().getProps())) {
+            dataSource = renewShardingDataSource(availableDataSourceMap, shardingEvent, changedDataSourceNames);
+        } else {
+            dataSource = new ShardingDataSource(availableDataSourceMap, shardingEvent.getShardingRule(), new LinkedHashMap<String, Object>(), shardingEvent.getProps());
+            originalShardingDataSource.getShardingContext().close();
+        }
+        long drainingSeconds = dataSource.getShardingProperties().getValue(ShardingPropertiesConstant.ORCHESTRATION_RETIRED_DATA_SOURCE_DRAINING_SECONDS);
+        RetiredDataSourceCloser.close(retiredDataSources, drainingSeconds);
+    }
+    
+    private boolean isSameConfiguration(final DataSource originalDataSource, final DataSource renewedDataSource) {
+        return originalDataSource.getClass() == renewedDataSource.getClass() && DataSourceConverter.dataSourceMapToYaml(Collections.singletonMap("", originalDataSource))
+                .equals(DataSourceConverter.dataSourceMapToYaml(Collections.singletonMap("", renewedDataSource)));
+    }
+    
+    private ShardingDataSource renewShardingDataSource(
+            final Map<String, DataSource> availableDataSourceMap, final ShardingConfigurationEventBusEvent shardingEvent, final Collection<String> changedDataSourceNames) throws SQLException {
+        ShardingContext shardingContext = dataSource.getShardingContext().renew(availableDataSourceMap, shardingEvent.getShardingRule(), changedDataSourceNames);
+        return new ShardingDataSource(availableDataSourceMap, shardingContext, dataSource.getShardingProperties(), dataSource.getDatabaseType());
     }
     
     /**
@@ -97,9 +152,16 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
      * @param disabledStateEventBusEvent jdbc disabled event bus event
      */
     @Subscribe
-    public void renew(final DisabledStateEventBusEvent disabledStateEventBusEvent) {
+    public synchronized void renew(final DisabledStateEventBusEvent disabledStateEventBusEvent) {
         Map<String, DataSource> newDataSourceMap = getAvailableDataSourceMap(disabledStateEventBusEvent.getDisabledDataSourceNames());
+        closeReplicationLagMonitor();
         dataSource = new ShardingDataSource(newDataSourceMap, dataSource.getShardingContext(), dataSource.getShardingProperties(), dataSource.getDatabaseType());
     }
+    
+    private void closeReplicationLagMonitor() {
+        if (null != dataSource.getReplicationLagMonitor()) {
+            dataSource.getReplicationLagMonitor().close();
+        }
+    }
 }
 
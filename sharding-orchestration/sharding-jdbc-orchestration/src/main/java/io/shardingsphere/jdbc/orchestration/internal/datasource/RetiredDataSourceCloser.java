@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.jdbc.orchestration.internal.datasource;
+
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closer of data sources retired by renewed configuration.
+ *
+ * <p>Retired data sources are closed after draining period, so that in-flight statements can finish on them.</p>
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class RetiredDataSourceCloser {
+    
+    private static final ScheduledExecutorService CLOSE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Retired-DataSource-Closer"));
+    
+    /**
+     * Close retired data sources after draining period.
+     *
+     * @param dataSources retired data sources
+     * @param drainingSeconds draining seconds before closed
+     */
+    public static void close(final Collection<DataSource> dataSources, final long drainingSeconds) {
+        if (dataSources.isEmpty()) {
+            return;
+        }
+        CLOSE_EXECUTOR.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                closeNow(dataSources);
+            }
+        }, drainingSeconds, TimeUnit.SECONDS);
+    }
+    
+    private static void closeNow(final Collection<DataSource> dataSources) {
+        for (DataSource each : dataSources) {
+            try {
+                each.getClass().getMethod("close").invoke(each);
+            } catch (final ReflectiveOperationException ex) {
+                log.warn("Close retired data source error", ex);
+            }
+        }
+    }
+}
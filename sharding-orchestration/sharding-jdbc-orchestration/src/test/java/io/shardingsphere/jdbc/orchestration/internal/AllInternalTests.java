@@ -18,11 +18,15 @@
 package io.shardingsphere.jdbc.orchestration.internal;
 
 import io.shardingsphere.jdbc.orchestration.internal.circuit.AllCircuitTests;
+import io.shardingsphere.jdbc.orchestration.internal.datasource.OrchestrationShardingDataSourceTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(AllCircuitTests.class)
+@SuiteClasses({
+        AllCircuitTests.class,
+        OrchestrationShardingDataSourceTest.class
+    })
 public final class AllInternalTests {
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.jdbc.orchestration.internal.datasource;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
+import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.jdbc.orchestration.api.yaml.util.EmbedTestingServer;
+import io.shardingsphere.jdbc.orchestration.config.OrchestrationConfiguration;
+import io.shardingsphere.jdbc.orchestration.config.OrchestrationType;
+import io.shardingsphere.jdbc.orchestration.internal.event.config.ShardingConfigurationEventBusEvent;
+import io.shardingsphere.orchestration.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class OrchestrationShardingDataSourceTest {
+    
+    private BasicDataSource originalDataSource0;
+    
+    private BasicDataSource originalDataSource1;
+    
+    private OrchestrationShardingDataSource orchestrationDataSource;
+    
+    @BeforeClass
+    public static void startRegistryCenter() {
+        EmbedTestingServer.start();
+    }
+    
+    @Before
+    public void setUp() throws SQLException {
+        originalDataSource0 = createDataSource("ds_0");
+        try (
+                Connection connection = originalDataSource0.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order (order_id INT PRIMARY KEY, status VARCHAR(10))");
+        }
+        originalDataSource1 = createDataSource("ds_1");
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
+        dataSourceMap.put("ds_0", originalDataSource0);
+        dataSourceMap.put("ds_1", originalDataSource1);
+        ShardingDataSource shardingDataSource = new ShardingDataSource(dataSourceMap, createShardingRule(dataSourceMap), new LinkedHashMap<String, Object>(), createProperties());
+        orchestrationDataSource = new OrchestrationShardingDataSource(shardingDataSource, createOrchestrationConfiguration());
+    }
+    
+    @After
+    public void tearDown() {
+        orchestrationDataSource.close();
+    }
+    
+    @Test
+    public void assertRenewWithUnchangedDataSources() throws SQLException, InterruptedException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
+        dataSourceMap.put("ds_0", createDataSource("ds_0"));
+        dataSourceMap.put("ds_1", createDataSource("ds_1"));
+        renew(dataSourceMap, createProperties());
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_0"), is((DataSource) originalDataSource0));
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_1"), is((DataSource) originalDataSource1));
+        Thread.sleep(100L);
+        assertFalse(originalDataSource0.isClosed());
+        assertFalse(originalDataSource1.isClosed());
+    }
+    
+    @Test
+    public void assertRenewWithChangedDataSource() throws SQLException, InterruptedException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
+        dataSourceMap.put("ds_0", createDataSource("ds_0"));
+        DataSource changedDataSource = createDataSource("ds_1_changed");
+        dataSourceMap.put("ds_1", changedDataSource);
+        renew(dataSourceMap, createProperties());
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_0"), is((DataSource) originalDataSource0));
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_1"), is(changedDataSource));
+        assertTrue(waitUntilClosed(originalDataSource1));
+        assertFalse(originalDataSource0.isClosed());
+    }
+    
+    @Test
+    public void assertRenewWithAddedDataSource() throws SQLException, InterruptedException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
+        dataSourceMap.put("ds_0", createDataSource("ds_0"));
+        dataSourceMap.put("ds_1", createDataSource("ds_1"));
+        DataSource addedDataSource = createDataSource("ds_2");
+        dataSourceMap.put("ds_2", addedDataSource);
+        renew(dataSourceMap, createProperties());
+        assertThat(orchestrationDataSource.getDataSourceMap().size(), is(3));
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_0"), is((DataSource) originalDataSource0));
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_2"), is(addedDataSource));
+        Thread.sleep(100L);
+        assertFalse(originalDataSource0.isClosed());
+        assertFalse(originalDataSource1.isClosed());
+    }
+    
+    @Test
+    public void assertRenewWithRemovedDataSource() throws SQLException, InterruptedException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>();
+        dataSourceMap.put("ds_0", createDataSource("ds_0"));
+        renew(dataSourceMap, createProperties());
+        assertThat(orchestrationDataSource.getDataSourceMap().keySet(), is(Collections.singleton("ds_0")));
+        assertThat(orchestrationDataSource.getDataSourceMap().get("ds_0"), is((DataSource) originalDataSource0));
+        assertTrue(waitUntilClosed(originalDataSource1));
+        assertFalse(originalDataSource0.isClosed());
+    }
+    
+    @Test
+    public void assertRenewWithUnchangedProperties() throws SQLException, InterruptedException {
+        ShardingExecuteEngine originalExecuteEngine = getExecuteEngine();
+        renew(createOriginalDataSourceMap(), createProperties());
+        assertThat(getExecuteEngine(), sameInstance(originalExecuteEngine));
+        Thread.sleep(100L);
+        assertFalse(isClosed(originalExecuteEngine));
+    }
+    
+    @Test
+    public void assertRenewWithChangedProperties() throws SQLException, InterruptedException {
+        ShardingExecuteEngine originalExecuteEngine = getExecuteEngine();
+        Properties props = createProperties();
+        props.setProperty(ShardingPropertiesConstant.SQL_SHOW.getKey(), Boolean.TRUE.toString());
+        renew(createOriginalDataSourceMap(), props);
+        assertThat(getExecuteEngine(), not(sameInstance(originalExecuteEngine)));
+        assertTrue(waitUntilClosed(originalExecuteEngine));
+        assertFalse(isClosed(getExecuteEngine()));
+    }
+    
+    private BasicDataSource createDataSource(final String name) {
+        BasicDataSource result = new BasicDataSource();
+        result.setDriverClassName(org.h2.Driver.class.getName());
+        result.setUrl(String.format("jdbc:h2:mem:renew_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL", name));
+        result.setUsername("sa");
+        return result;
+    }
+    
+    private Map<String, DataSource> createOriginalDataSourceMap() {
+        Map<String, DataSource> result = new LinkedHashMap<>();
+        result.put("ds_0", originalDataSource0);
+        result.put("ds_1", originalDataSource1);
+        return result;
+    }
+    
+    private ShardingRule createShardingRule(final Map<String, DataSource> dataSourceMap) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_0.t_order");
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDataSourceName("ds_0");
+        return new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ShardingPropertiesConstant.ORCHESTRATION_RETIRED_DATA_SOURCE_DRAINING_SECONDS.getKey(), "0");
+        return result;
+    }
+    
+    private OrchestrationConfiguration createOrchestrationConfiguration() {
+        ZookeeperConfiguration regCenterConfig = new ZookeeperConfiguration();
+        regCenterConfig.setServerLists("localhost:3181");
+        regCenterConfig.setNamespace("orchestration_renew_test");
+        return new OrchestrationConfiguration("renew_test", regCenterConfig, true, OrchestrationType.SHARDING);
+    }
+    
+    private void renew(final Map<String, DataSource> dataSourceMap, final Properties props) throws SQLException {
+        orchestrationDataSource.renew(new ShardingConfigurationEventBusEvent(dataSourceMap, Collections.<String>emptyList(), createShardingRule(dataSourceMap), props));
+    }
+    
+    private ShardingExecuteEngine getExecuteEngine() throws SQLException {
+        try (ShardingConnection connection = (ShardingConnection) orchestrationDataSource.getConnection()) {
+            return connection.getShardingDataSource().getShardingContext().getExecuteEngine();
+        }
+    }
+    
+    private boolean waitUntilClosed(final BasicDataSource dataSource) throws InterruptedException {
+        for (int i = 0; i < 50 && !dataSource.isClosed(); i++) {
+            Thread.sleep(100L);
+        }
+        return dataSource.isClosed();
+    }
+    
+    private boolean waitUntilClosed(final ShardingExecuteEngine executeEngine) throws SQLException, InterruptedException {
+        for (int i = 0; i < 50 && !isClosed(executeEngine); i++) {
+            Thread.sleep(100L);
+        }
+        return isClosed(executeEngine);
+    }
+    
+    private boolean isClosed(final ShardingExecuteEngine executeEngine) throws SQLException {
+        try {
+            executeEngine.execute(Arrays.asList(1, 2), new ShardingExecuteCallback<Integer, Integer>() {
+                
+                @Override
+                public Integer execute(final Integer input) {
+                    return input;
+                }
+            });
+            return false;
+        } catch (final RejectedExecutionException ex) {
+            return true;
+        }
+    }
+}
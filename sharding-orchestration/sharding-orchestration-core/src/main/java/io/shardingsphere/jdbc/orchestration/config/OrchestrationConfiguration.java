@@ -20,6 +20,7 @@ package io.shardingsphere.jdbc.orchestration.config;
 import io.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 /**
  * Orchestration configuration.
@@ -37,4 +38,22 @@ public final class OrchestrationConfiguration {
     private final boolean overwrite;
     
     private final OrchestrationType type;
+    
+    /**
+     * Path of local registry snapshot file, snapshot is disabled if absent.
+     */
+    @Setter
+    private String snapshotPath;
+    
+    /**
+     * Quiet window after last registry center change before reloading.
+     */
+    @Setter
+    private long eventDebounceMilliseconds = 200L;
+    
+    /**
+     * Max wait time after first pending registry center change before reloading.
+     */
+    @Setter
+    private long eventDebounceMaxWaitMilliseconds = 2000L;
 }
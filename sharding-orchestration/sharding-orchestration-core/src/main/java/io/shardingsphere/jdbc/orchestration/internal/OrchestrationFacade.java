@@ -18,6 +18,7 @@
 package io.shardingsphere.jdbc.orchestration.internal;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.jdbc.core.datasource.MasterSlaveDataSource;
@@ -34,12 +35,14 @@ import io.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import io.shardingsphere.orchestration.reg.etcd.EtcdConfiguration;
 import io.shardingsphere.orchestration.reg.etcd.EtcdRegistryCenter;
 import io.shardingsphere.orchestration.reg.newzk.NewZookeeperRegistryCenter;
+import io.shardingsphere.orchestration.reg.snapshot.SnapshotRegistryCenter;
 import io.shardingsphere.orchestration.reg.zookeeper.ZookeeperConfiguration;
 import io.shardingsphere.orchestration.reg.zookeeper.ZookeeperRegistryCenter;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
+import java.io.File;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,12 +72,24 @@ public final class OrchestrationFacade implements AutoCloseable {
     private final RegistryCenter regCenter;
     
     public OrchestrationFacade(final OrchestrationConfiguration orchestrationConfig) {
-        regCenter = createRegistryCenter(orchestrationConfig.getRegCenterConfig());
+        regCenter = null == orchestrationConfig.getSnapshotPath()
+                ? createRegistryCenter(orchestrationConfig.getRegCenterConfig()) : createSnapshotRegistryCenter(orchestrationConfig.getRegCenterConfig(), orchestrationConfig.getSnapshotPath());
         isOverwrite = orchestrationConfig.isOverwrite();
         configService = new ConfigurationService(orchestrationConfig.getName(), regCenter);
         instanceStateService = new InstanceStateService(orchestrationConfig.getName(), regCenter);
         dataSourceService = new DataSourceService(orchestrationConfig.getName(), regCenter);
-        listenerManager = new ListenerFactory(orchestrationConfig.getName(), regCenter);
+        listenerManager = new ListenerFactory(
+                orchestrationConfig.getName(), regCenter, orchestrationConfig.getEventDebounceMilliseconds(), orchestrationConfig.getEventDebounceMaxWaitMilliseconds());
+    }
+    
+    private RegistryCenter createSnapshotRegistryCenter(final RegistryCenterConfiguration regCenterConfig, final String snapshotPath) {
+        return new SnapshotRegistryCenter(new Supplier<RegistryCenter>() {
+            
+            @Override
+            public RegistryCenter get() {
+                return createRegistryCenter(regCenterConfig);
+            }
+        }, new File(snapshotPath));
     }
     
     private RegistryCenter createRegistryCenter(final RegistryCenterConfiguration regCenterConfig) {
@@ -113,6 +128,7 @@ public final class OrchestrationFacade implements AutoCloseable {
         instanceStateService.persistShardingInstanceOnline();
         dataSourceService.persistDataSourcesNode();
         listenerManager.initShardingListeners();
+        reconcileSnapshot();
     }
     
     /**
@@ -128,6 +144,7 @@ public final class OrchestrationFacade implements AutoCloseable {
         instanceStateService.persistMasterSlaveInstanceOnline();
         dataSourceService.persistDataSourcesNode();
         listenerManager.initMasterSlaveListeners();
+        reconcileSnapshot();
     }
     
     /**
@@ -142,6 +159,13 @@ public final class OrchestrationFacade implements AutoCloseable {
         instanceStateService.persistProxyInstanceOnline();
         dataSourceService.persistDataSourcesNode();
         listenerManager.initProxyListeners();
+        reconcileSnapshot();
+    }
+    
+    private void reconcileSnapshot() {
+        if (regCenter instanceof SnapshotRegistryCenter) {
+            ((SnapshotRegistryCenter) regCenter).reconcile();
+        }
     }
     
     private void reviseShardingRuleConfigurationForMasterSlave(final Map<String, DataSource> dataSourceMap, final ShardingRuleConfiguration shardingRuleConfig) {
@@ -174,6 +198,7 @@ public final class OrchestrationFacade implements AutoCloseable {
     
     @Override
     public void close() {
+        listenerManager.close();
         try {
             regCenter.close();
             // CHECKSTYLE:OFF
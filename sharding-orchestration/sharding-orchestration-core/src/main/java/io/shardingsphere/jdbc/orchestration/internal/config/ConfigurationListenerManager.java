@@ -23,12 +23,16 @@ import io.shardingsphere.jdbc.orchestration.internal.event.config.MasterSlaveCon
 import io.shardingsphere.jdbc.orchestration.internal.event.config.ProxyConfigurationEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.event.config.ShardingConfigurationEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.listener.ListenerManager;
+import io.shardingsphere.jdbc.orchestration.internal.listener.ReloadDebouncer;
+import io.shardingsphere.jdbc.orchestration.internal.listener.ReloadTask;
 import io.shardingsphere.jdbc.orchestration.internal.state.datasource.DataSourceService;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
 import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
 import io.shardingsphere.orchestration.reg.listener.EventListener;
 
 import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -47,76 +51,96 @@ public final class ConfigurationListenerManager implements ListenerManager {
     
     private final DataSourceService dataSourceService;
     
-    public ConfigurationListenerManager(final String name, final RegistryCenter regCenter) {
+    private final ReloadDebouncer reloadDebouncer;
+    
+    public ConfigurationListenerManager(final String name, final RegistryCenter regCenter, final ReloadDebouncer reloadDebouncer) {
         configNode = new ConfigurationNode(name);
         this.regCenter = regCenter;
+        this.reloadDebouncer = reloadDebouncer;
         configService = new ConfigurationService(name, regCenter);
         dataSourceService = new DataSourceService(name, regCenter);
     }
     
     @Override
     public void watchSharding() {
-        watchSharding(ConfigurationNode.DATA_SOURCE_NODE_PATH);
-        watchSharding(ConfigurationNode.SHARDING_RULE_NODE_PATH);
-        watchSharding(ConfigurationNode.SHARDING_PROPS_NODE_PATH);
-    }
-    
-    private void watchSharding(final String node) {
-        String cachePath = configNode.getFullPath(node);
-        regCenter.watch(cachePath, new EventListener() {
+        watch("sharding-config", new ReloadTask() {
             
             @Override
-            public void onChange(final DataChangedEvent event) {
-                if (DataChangedEvent.Type.UPDATED == event.getEventType()) {
-                    Map<String, DataSource> dataSourceMap = dataSourceService.getAvailableDataSources();
-                    ShardingConfigurationEventBusEvent shardingEvent = new ShardingConfigurationEventBusEvent(dataSourceMap,
-                            new ShardingRule(dataSourceService.getAvailableShardingRuleConfiguration(), dataSourceMap.keySet()), configService.loadShardingProperties());
-                    ShardingEventBusInstance.getInstance().post(shardingEvent);
-                }
+            public String loadContent() {
+                return getNodeContent(ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.SHARDING_RULE_NODE_PATH, ConfigurationNode.SHARDING_PROPS_NODE_PATH)
+                        + dataSourceService.getDisabledDataSourceNames();
+            }
+            
+            @Override
+            public void reload() {
+                Map<String, DataSource> dataSourceMap = configService.loadDataSourceMap();
+                Collection<String> disabledDataSourceNames = dataSourceService.getDisabledDataSourceNames();
+                Collection<String> availableDataSourceNames = new LinkedHashSet<>(dataSourceMap.keySet());
+                availableDataSourceNames.removeAll(disabledDataSourceNames);
+                ShardingConfigurationEventBusEvent shardingEvent = new ShardingConfigurationEventBusEvent(dataSourceMap, disabledDataSourceNames,
+                        new ShardingRule(dataSourceService.getAvailableShardingRuleConfiguration(), availableDataSourceNames), configService.loadShardingProperties());
+                ShardingEventBusInstance.getInstance().post(shardingEvent);
             }
-        });
+        }, ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.SHARDING_RULE_NODE_PATH, ConfigurationNode.SHARDING_PROPS_NODE_PATH);
     }
     
     @Override
     public void watchMasterSlave() {
-        watchMasterSlave(ConfigurationNode.DATA_SOURCE_NODE_PATH);
-        watchMasterSlave(ConfigurationNode.MASTER_SLAVE_RULE_NODE_PATH);
-        watchMasterSlave(ConfigurationNode.MASTER_SLAVE_PROPS_NODE_PATH);
-    }
-    
-    private void watchMasterSlave(final String node) {
-        String cachePath = configNode.getFullPath(node);
-        regCenter.watch(cachePath, new EventListener() {
+        watch("master-slave-config", new ReloadTask() {
             
             @Override
-            public void onChange(final DataChangedEvent event) {
-                if (DataChangedEvent.Type.UPDATED == event.getEventType()) {
-                    MasterSlaveConfigurationEventBusEvent masterSlaveEvent = new MasterSlaveConfigurationEventBusEvent(dataSourceService.getAvailableDataSources(),
-                            dataSourceService.getAvailableMasterSlaveRuleConfiguration(), configService.loadMasterSlaveProperties());
-                    ShardingEventBusInstance.getInstance().post(masterSlaveEvent);
-                }
+            public String loadContent() {
+                return getNodeContent(ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.MASTER_SLAVE_RULE_NODE_PATH, ConfigurationNode.MASTER_SLAVE_PROPS_NODE_PATH)
+                        + dataSourceService.getDisabledDataSourceNames();
+            }
+            
+            @Override
+            public void reload() {
+                MasterSlaveConfigurationEventBusEvent masterSlaveEvent = new MasterSlaveConfigurationEventBusEvent(dataSourceService.getAvailableDataSources(),
+                        dataSourceService.getAvailableMasterSlaveRuleConfiguration(), configService.loadMasterSlaveProperties());
+                ShardingEventBusInstance.getInstance().post(masterSlaveEvent);
             }
-        });
+        }, ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.MASTER_SLAVE_RULE_NODE_PATH, ConfigurationNode.MASTER_SLAVE_PROPS_NODE_PATH);
     }
     
     @Override
     public void watchProxy() {
-        watchProxy(ConfigurationNode.DATA_SOURCE_NODE_PATH);
-        watchProxy(ConfigurationNode.PROXY_RULE_NODE_PATH);
-        watchProxy(ConfigurationNode.PROXY_SERVER_CONFIG_NODE_PATH);
-    }
-    
-    private void watchProxy(final String node) {
-        String cachePath = configNode.getFullPath(node);
-        regCenter.watch(cachePath, new EventListener() {
+        watch("proxy-config", new ReloadTask() {
             
             @Override
-            public void onChange(final DataChangedEvent event) {
-                if (DataChangedEvent.Type.UPDATED == event.getEventType()) {
-                    ShardingEventBusInstance.getInstance().post(new ProxyConfigurationEventBusEvent(configService.loadYamlServerConfiguration(), 
-                            dataSourceService.getProxyAvailableDataSourceParameters(), dataSourceService.getAvailableYamlProxyConfiguration()));
-                }
+            public String loadContent() {
+                return getNodeContent(ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.PROXY_RULE_NODE_PATH, ConfigurationNode.PROXY_SERVER_CONFIG_NODE_PATH)
+                        + dataSourceService.getProxyDisabledDataSourceNames();
+            }
+            
+            @Override
+            public void reload() {
+                ShardingEventBusInstance.getInstance().post(new ProxyConfigurationEventBusEvent(configService.loadYamlServerConfiguration(), 
+                        dataSourceService.getProxyAvailableDataSourceParameters(), dataSourceService.getAvailableYamlProxyConfiguration()));
             }
-        });
+        }, ConfigurationNode.DATA_SOURCE_NODE_PATH, ConfigurationNode.PROXY_RULE_NODE_PATH, ConfigurationNode.PROXY_SERVER_CONFIG_NODE_PATH);
+    }
+    
+    private void watch(final String reloadType, final ReloadTask reloadTask, final String... nodes) {
+        reloadDebouncer.register(reloadType, reloadTask);
+        for (String each : nodes) {
+            regCenter.watch(configNode.getFullPath(each), new EventListener() {
+                
+                @Override
+                public void onChange(final DataChangedEvent event) {
+                    if (DataChangedEvent.Type.UPDATED == event.getEventType()) {
+                        reloadDebouncer.submit(reloadType, reloadTask);
+                    }
+                }
+            });
+        }
+    }
+    
+    private String getNodeContent(final String... nodes) {
+        StringBuilder result = new StringBuilder();
+        for (String each : nodes) {
+            result.append(regCenter.get(configNode.getFullPath(each))).append('\n');
+        }
+        return result.toString();
     }
 }
@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import javax.sql.DataSource;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Properties;
 
@@ -36,6 +37,8 @@ public final class ShardingConfigurationEventBusEvent {
     
     private final Map<String, DataSource> dataSourceMap;
     
+    private final Collection<String> disabledDataSourceNames;
+    
     private final ShardingRule shardingRule;
     
     private final Properties props;
@@ -29,7 +29,7 @@ import io.shardingsphere.orchestration.reg.api.RegistryCenter;
  * @author caohao
  * @author panjuan
  */
-public final class ListenerFactory {
+public final class ListenerFactory implements AutoCloseable {
     
     private final ConfigurationListenerManager configurationListenerManager;
     
@@ -39,11 +39,14 @@ public final class ListenerFactory {
     
     private final DataSourceListenerManager dataSourceListenerManager;
     
-    public ListenerFactory(final String name, final RegistryCenter regCenter) {
-        configurationListenerManager = new ConfigurationListenerManager(name, regCenter);
+    private final ReloadDebouncer reloadDebouncer;
+    
+    public ListenerFactory(final String name, final RegistryCenter regCenter, final long eventDebounceMilliseconds, final long eventDebounceMaxWaitMilliseconds) {
+        reloadDebouncer = new ReloadDebouncer(eventDebounceMilliseconds, eventDebounceMaxWaitMilliseconds);
+        configurationListenerManager = new ConfigurationListenerManager(name, regCenter, reloadDebouncer);
         instanceListenerManager = new InstanceListenerManager(name, regCenter);
         configMapListenerManager = new ConfigMapListenerManager(name, regCenter);
-        dataSourceListenerManager = new DataSourceListenerManager(name, regCenter);
+        dataSourceListenerManager = new DataSourceListenerManager(name, regCenter, reloadDebouncer);
     }
     
     /**
@@ -78,4 +81,9 @@ public final class ListenerFactory {
         dataSourceListenerManager.watchProxy();
         configMapListenerManager.watchProxy();
     }
+    
+    @Override
+    public void close() {
+        reloadDebouncer.close();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.jdbc.orchestration.internal.listener;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.core.executor.sql.execute.statistics.LatencyHistogram;
+import io.shardingsphere.core.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debouncer of reload tasks.
+ *
+ * <p>
+ * Changes of same reload type are coalesced into one reload, which reads latest configuration when executed.
+ * Reload runs when no more change arrives within debounce window after the last change,
+ * and runs at latest when max wait time elapsed after the first pending change, so continuous changes can not postpone reload forever.
+ * Reload is skipped if hash of its content is same as last applied one.
+ * All reloads run in one thread, so events are posted in order.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class ReloadDebouncer implements AutoCloseable {
+    
+    private static final String RELOADS_METRICS_NAME = "sharding_orchestration_reloads_total";
+    
+    private static final String RELOADS_METRICS_HELP = "Count of orchestration reloads.";
+    
+    private final long debounceNanos;
+    
+    private final long maxWaitNanos;
+    
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Orchestration-Reload"));
+    
+    private final Map<String, PendingReload> pendingReloads = new HashMap<>();
+    
+    private final ConcurrentMap<String, String> appliedContentHashes = new ConcurrentHashMap<>();
+    
+    public ReloadDebouncer(final long debounceMilliseconds, final long maxWaitMilliseconds) {
+        debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMilliseconds);
+        maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(debounceMilliseconds, maxWaitMilliseconds));
+    }
+    
+    /**
+     * Register content of reload task as applied.
+     *
+     * <p>Changes with same content as initialized configuration will not trigger reload.</p>
+     *
+     * @param reloadType reload type
+     * @param reloadTask reload task
+     */
+    public void register(final String reloadType, final ReloadTask reloadTask) {
+        appliedContentHashes.put(reloadType, hash(reloadTask.loadContent()));
+    }
+    
+    /**
+     * Submit reload task.
+     *
+     * @param reloadType reload type
+     * @param reloadTask reload task
+     */
+    public synchronized void submit(final String reloadType, final ReloadTask reloadTask) {
+        long currentNanos = System.nanoTime();
+        PendingReload pendingReload = pendingReloads.get(reloadType);
+        if (null == pendingReload) {
+            pendingReload = new PendingReload(currentNanos);
+            pendingReloads.put(reloadType, pendingReload);
+        } else {
+            pendingReload.future.cancel(false);
+        }
+        long delayNanos = Math.max(0L, Math.min(debounceNanos, pendingReload.firstSubmitNanos + maxWaitNanos - currentNanos));
+        final PendingReload scheduledReload = pendingReload;
+        pendingReload.future = reloadExecutor.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (remove(reloadType, scheduledReload)) {
+                    reload(reloadType, reloadTask);
+                }
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private synchronized boolean remove(final String reloadType, final PendingReload pendingReload) {
+        if (pendingReloads.get(reloadType) != pendingReload) {
+            return false;
+        }
+        pendingReloads.remove(reloadType);
+        return true;
+    }
+    
+    private void reload(final String reloadType, final ReloadTask reloadTask) {
+        long startNanos = System.nanoTime();
+        try {
+            String contentHash = hash(reloadTask.loadContent());
+            if (contentHash.equals(appliedContentHashes.get(reloadType))) {
+                MetricsRegistry.getInstance().getCounter(RELOADS_METRICS_NAME, RELOADS_METRICS_HELP, "type", reloadType, "result", "skipped").incrementAndGet();
+                return;
+            }
+            reloadTask.reload();
+            appliedContentHashes.put(reloadType, contentHash);
+            MetricsRegistry.getInstance().getCounter(RELOADS_METRICS_NAME, RELOADS_METRICS_HELP, "type", reloadType, "result", "applied").incrementAndGet();
+            getLatencyHistogram(reloadType).record(System.nanoTime() - startNanos);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            MetricsRegistry.getInstance().getCounter(RELOADS_METRICS_NAME, RELOADS_METRICS_HELP, "type", reloadType, "result", "failed").incrementAndGet();
+            log.error("Reload '{}' failure", reloadType, ex);
+        }
+    }
+    
+    private LatencyHistogram getLatencyHistogram(final String reloadType) {
+        return MetricsRegistry.getInstance().getHistogram("sharding_orchestration_reload_latency_microseconds", "Latency of applied orchestration reloads in microseconds.", "type", reloadType);
+    }
+    
+    private String hash(final String content) {
+        return Hashing.sha256().hashString(content, Charsets.UTF_8).toString();
+    }
+    
+    @Override
+    public void close() {
+        reloadExecutor.shutdownNow();
+    }
+    
+    private static final class PendingReload {
+        
+        private final long firstSubmitNanos;
+        
+        private ScheduledFuture<?> future;
+        
+        PendingReload(final long firstSubmitNanos) {
+            this.firstSubmitNanos = firstSubmitNanos;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.jdbc.orchestration.internal.listener;
+
+/**
+ * Reload task triggered by registry center changes.
+ *
+ * @author agent
+ */
+public interface ReloadTask {
+    
+    /**
+     * Load content which reload depends on.
+     * 
+     * <p>Reload is skipped if content is same as last applied one.</p>
+     *
+     * @return content which reload depends on
+     */
+    String loadContent();
+    
+    /**
+     * Reload latest configuration and post event.
+     */
+    void reload();
+}
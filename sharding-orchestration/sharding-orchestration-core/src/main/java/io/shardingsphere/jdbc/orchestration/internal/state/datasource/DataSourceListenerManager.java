@@ -21,6 +21,8 @@ import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.jdbc.orchestration.internal.event.state.DisabledStateEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.event.state.ProxyDisabledStateEventBusEvent;
 import io.shardingsphere.jdbc.orchestration.internal.listener.ListenerManager;
+import io.shardingsphere.jdbc.orchestration.internal.listener.ReloadDebouncer;
+import io.shardingsphere.jdbc.orchestration.internal.listener.ReloadTask;
 import io.shardingsphere.jdbc.orchestration.internal.state.StateNode;
 import io.shardingsphere.orchestration.reg.api.RegistryCenter;
 import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
@@ -40,46 +42,71 @@ public final class DataSourceListenerManager implements ListenerManager {
     
     private final DataSourceService dataSourceService;
     
-    public DataSourceListenerManager(final String name, final RegistryCenter regCenter) {
+    private final ReloadDebouncer reloadDebouncer;
+    
+    public DataSourceListenerManager(final String name, final RegistryCenter regCenter, final ReloadDebouncer reloadDebouncer) {
         stateNode = new StateNode(name);
         this.regCenter = regCenter;
+        this.reloadDebouncer = reloadDebouncer;
         dataSourceService = new DataSourceService(name, regCenter);
     }
     
     @Override
     public void watchSharding() {
-        regCenter.watch(stateNode.getDataSourcesNodeFullPath(), new EventListener() {
+        watch("sharding-state", new ReloadTask() {
             
             @Override
-            public void onChange(final DataChangedEvent event) {
-                if (DataChangedEvent.Type.UPDATED == event.getEventType() || DataChangedEvent.Type.DELETED == event.getEventType()) {
-                    ShardingEventBusInstance.getInstance().post(new DisabledStateEventBusEvent(dataSourceService.getDisabledDataSourceNames()));
-                }
+            public String loadContent() {
+                return dataSourceService.getDisabledDataSourceNames().toString();
+            }
+            
+            @Override
+            public void reload() {
+                ShardingEventBusInstance.getInstance().post(new DisabledStateEventBusEvent(dataSourceService.getDisabledDataSourceNames()));
             }
         });
     }
     
     @Override
     public void watchMasterSlave() {
-        regCenter.watch(stateNode.getDataSourcesNodeFullPath(), new EventListener() {
+        watch("master-slave-state", new ReloadTask() {
             
             @Override
-            public void onChange(final DataChangedEvent event) {
-                if (DataChangedEvent.Type.UPDATED == event.getEventType() || DataChangedEvent.Type.DELETED == event.getEventType()) {
-                    ShardingEventBusInstance.getInstance().post(new DisabledStateEventBusEvent(dataSourceService.getDisabledDataSourceNames()));
-                }
+            public String loadContent() {
+                return dataSourceService.getDisabledDataSourceNames().toString();
+            }
+            
+            @Override
+            public void reload() {
+                ShardingEventBusInstance.getInstance().post(new DisabledStateEventBusEvent(dataSourceService.getDisabledDataSourceNames()));
             }
         });
     }
     
     @Override
     public void watchProxy() {
+        watch("proxy-state", new ReloadTask() {
+            
+            @Override
+            public String loadContent() {
+                return dataSourceService.getProxyDisabledDataSourceNames().toString();
+            }
+            
+            @Override
+            public void reload() {
+                ShardingEventBusInstance.getInstance().post(new ProxyDisabledStateEventBusEvent(dataSourceService.getProxyDisabledDataSourceNames()));
+            }
+        });
+    }
+    
+    private void watch(final String reloadType, final ReloadTask reloadTask) {
+        reloadDebouncer.register(reloadType, reloadTask);
         regCenter.watch(stateNode.getDataSourcesNodeFullPath(), new EventListener() {
             
             @Override
             public void onChange(final DataChangedEvent event) {
                 if (DataChangedEvent.Type.UPDATED == event.getEventType() || DataChangedEvent.Type.DELETED == event.getEventType()) {
-                    ShardingEventBusInstance.getInstance().post(new ProxyDisabledStateEventBusEvent(dataSourceService.getProxyDisabledDataSourceNames()));
+                    reloadDebouncer.submit(reloadType, reloadTask);
                 }
             }
         });
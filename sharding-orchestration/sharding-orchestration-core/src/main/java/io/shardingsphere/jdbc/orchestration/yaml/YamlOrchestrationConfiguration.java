@@ -44,6 +44,12 @@ public class YamlOrchestrationConfiguration {
     
     private OrchestrationType type;
     
+    private String snapshotPath;
+    
+    private Long eventDebounceMilliseconds;
+    
+    private Long eventDebounceMaxWaitMilliseconds;
+    
     /**
      * Get orchestration master-slave rule configuration from yaml.
      *
@@ -51,6 +57,14 @@ public class YamlOrchestrationConfiguration {
      */
     public OrchestrationConfiguration getOrchestrationConfiguration() {
         Preconditions.checkState(null == etcd || null == zookeeper, "Can't config both zookeeper and etcd as registry center!");
-        return new OrchestrationConfiguration(getName(), null != etcd ? etcd : zookeeper, overwrite, type);
+        OrchestrationConfiguration result = new OrchestrationConfiguration(getName(), null != etcd ? etcd : zookeeper, overwrite, type);
+        result.setSnapshotPath(snapshotPath);
+        if (null != eventDebounceMilliseconds) {
+            result.setEventDebounceMilliseconds(eventDebounceMilliseconds);
+        }
+        if (null != eventDebounceMaxWaitMilliseconds) {
+            result.setEventDebounceMaxWaitMilliseconds(eventDebounceMaxWaitMilliseconds);
+        }
+        return result;
     }
 }
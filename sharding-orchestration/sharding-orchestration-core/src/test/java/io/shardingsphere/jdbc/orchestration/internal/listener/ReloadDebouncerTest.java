@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.jdbc.orchestration.internal.listener;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ReloadDebouncerTest {
+    
+    private final ReloadDebouncer reloadDebouncer = new ReloadDebouncer(100L, 1000L);
+    
+    @After
+    public void tearDown() {
+        reloadDebouncer.close();
+    }
+    
+    @Test
+    public void assertCoalesceChangesWithinWindow() throws InterruptedException {
+        FixedReloadTask reloadTask = new FixedReloadTask("content_0");
+        reloadDebouncer.register("test", reloadTask);
+        reloadTask.content = "content_1";
+        for (int i = 0; i < 50; i++) {
+            reloadDebouncer.submit("test", reloadTask);
+        }
+        assertTrue(reloadTask.latch.await(5L, TimeUnit.SECONDS));
+        assertThat(reloadTask.reloadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertSkipReloadWithSameContent() throws InterruptedException {
+        FixedReloadTask reloadTask = new FixedReloadTask("content_0");
+        reloadDebouncer.register("test", reloadTask);
+        reloadDebouncer.submit("test", reloadTask);
+        assertTrue(reloadTask.loadLatch.await(5L, TimeUnit.SECONDS));
+        reloadTask.content = "content_1";
+        reloadDebouncer.submit("test", reloadTask);
+        assertTrue(reloadTask.latch.await(5L, TimeUnit.SECONDS));
+        assertThat(reloadTask.reloadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertPostponeReloadUntilNoChangeWithinWindow() throws InterruptedException {
+        ReloadDebouncer reloadDebouncer = new ReloadDebouncer(1000L, 60000L);
+        try {
+            FixedReloadTask reloadTask = new FixedReloadTask("content_0");
+            reloadDebouncer.submit("test", reloadTask);
+            Thread.sleep(600L);
+            reloadDebouncer.submit("test", reloadTask);
+            Thread.sleep(600L);
+            assertThat(reloadTask.reloadCount.get(), is(0));
+            assertTrue(reloadTask.latch.await(5L, TimeUnit.SECONDS));
+            assertThat(reloadTask.reloadCount.get(), is(1));
+        } finally {
+            reloadDebouncer.close();
+        }
+    }
+    
+    @Test
+    public void assertReloadWithinMaxWaitUnderContinuousChanges() throws InterruptedException {
+        ReloadDebouncer reloadDebouncer = new ReloadDebouncer(1000L, 1500L);
+        try {
+            FixedReloadTask reloadTask = new FixedReloadTask("content_0");
+            for (int i = 0; i < 8; i++) {
+                reloadDebouncer.submit("test", reloadTask);
+                Thread.sleep(400L);
+            }
+            assertThat(reloadTask.latch.getCount(), is(0L));
+        } finally {
+            reloadDebouncer.close();
+        }
+    }
+    
+    private static final class FixedReloadTask implements ReloadTask {
+        
+        private final CountDownLatch loadLatch = new CountDownLatch(2);
+        
+        private final CountDownLatch latch = new CountDownLatch(1);
+        
+        private final AtomicInteger reloadCount = new AtomicInteger();
+        
+        private volatile String content;
+        
+        FixedReloadTask(final String content) {
+            this.content = content;
+        }
+        
+        @Override
+        public String loadContent() {
+            loadLatch.countDown();
+            return content;
+        }
+        
+        @Override
+        public void reload() {
+            reloadCount.incrementAndGet();
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.reg.snapshot;
+
+import com.google.common.base.Objects;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versioned local snapshot of registry center data.
+ *
+ * <p>Keys are sorted, so children of a key are looked up by range instead of scanning all keys.</p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class RegistrySnapshot {
+    
+    private static final String VERSION_KEY = "snapshot.version";
+    
+    private static final String OWNER_ONLY_PERMISSIONS = "rw-------";
+    
+    private final Path path;
+    
+    private final ConcurrentNavigableMap<String, String> data = new ConcurrentSkipListMap<>();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    public RegistrySnapshot(final File file) {
+        path = file.toPath();
+        load();
+    }
+    
+    private void load() {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        Properties props = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            props.load(inputStream);
+        } catch (final IOException ex) {
+            log.warn("Can not load registry snapshot from '{}': {}", path, ex.getMessage());
+            return;
+        }
+        for (String each : props.stringPropertyNames()) {
+            if (VERSION_KEY.equals(each)) {
+                version.set(Long.parseLong(props.getProperty(each)));
+            } else {
+                data.put(each, props.getProperty(each));
+            }
+        }
+    }
+    
+    /**
+     * Get version of snapshot.
+     *
+     * @return version of snapshot, 0 if never saved
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Judge whether snapshot contains key.
+     *
+     * @param key key of data
+     * @return contains key or not
+     */
+    public boolean contains(final String key) {
+        return data.containsKey(key);
+    }
+    
+    /**
+     * Get data.
+     *
+     * @param key key of data
+     * @return value of data, null if absent
+     */
+    public String get(final String key) {
+        return data.get(key);
+    }
+    
+    /**
+     * Get all keys.
+     *
+     * @return all keys
+     */
+    public Collection<String> getKeys() {
+        return Collections.unmodifiableCollection(data.keySet());
+    }
+    
+    /**
+     * Get sub-nodes name list of key.
+     *
+     * @param key key of data
+     * @return sub-nodes name list in descending order, same as registry center
+     */
+    public List<String> getChildrenKeys(final String key) {
+        String prefix = key + "/";
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : data.subMap(prefix, true, prefix + Character.MAX_VALUE, false).descendingKeySet()) {
+            int index = each.indexOf('/', prefix.length());
+            result.add(-1 == index ? each.substring(prefix.length()) : each.substring(prefix.length(), index));
+        }
+        return new ArrayList<>(result);
+    }
+    
+    /**
+     * Put data.
+     *
+     * @param key key of data
+     * @param value value of data
+     * @return data changed or not
+     */
+    public boolean put(final String key, final String value) {
+        String actualValue = null == value ? "" : value;
+        return !Objects.equal(data.put(key, actualValue), actualValue);
+    }
+    
+    /**
+     * Remove data.
+     *
+     * @param key key of data
+     * @return data changed or not
+     */
+    public boolean remove(final String key) {
+        return null != data.remove(key);
+    }
+    
+    /**
+     * Save snapshot with new version.
+     *
+     * <p>Snapshot is written to a temporary file then moved atomically, so a crash never leaves a partial snapshot.
+     * Snapshot may contain data source passwords, so the file is readable by owner only where file system supports POSIX permissions.</p>
+     */
+    public synchronized void save() {
+        Properties props = new Properties();
+        props.putAll(data);
+        props.setProperty(VERSION_KEY, String.valueOf(version.incrementAndGet()));
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (null != path.getParent()) {
+                Files.createDirectories(path.getParent());
+            }
+            createOwnerOnlyFile(tempPath);
+            try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
+                props.store(outputStream, "Registry snapshot");
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Can not save registry snapshot to '{}': {}", path, ex.getMessage());
+        }
+    }
+    
+    private void createOwnerOnlyFile(final Path filePath) throws IOException {
+        Files.deleteIfExists(filePath);
+        if (Files.getFileStore(filePath.toAbsolutePath().getParent()).supportsFileAttributeView("posix")) {
+            Files.createFile(filePath, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(OWNER_ONLY_PERMISSIONS)));
+        } else {
+            Files.createFile(filePath);
+        }
+    }
+}
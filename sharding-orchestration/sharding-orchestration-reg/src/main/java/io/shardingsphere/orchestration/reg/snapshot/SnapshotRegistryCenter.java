@@ -0,0 +1,344 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.reg.snapshot;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.Futures;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.orchestration.reg.api.RegistryCenter;
+import io.shardingsphere.orchestration.reg.exception.RegException;
+import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import io.shardingsphere.orchestration.reg.listener.EventListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry center which serves data from local snapshot until reconciled with actual registry center.
+ *
+ * <p>
+ * Before reconciled, data existed in snapshot is returned without accessing registry center, so boot is not blocked by slow registry center.
+ * If snapshot is not empty, actual registry center is created in background, watches and writes are deferred until it created.
+ * Reconciliation refreshes snapshot in background and notifies watchers for changed and deleted data.
+ * After reconciled, snapshot is used as fallback when registry center is unavailable.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class SnapshotRegistryCenter implements RegistryCenter {
+    
+    private static final long RECONCILE_RETRY_SECONDS = 5L;
+    
+    private final RegistrySnapshot snapshot;
+    
+    private final Map<EventListener, String> watchers = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService reconcileExecutor = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Registry-Snapshot-Reconciler"));
+    
+    private final Future<RegistryCenter> registryCenterFuture;
+    
+    private volatile boolean reconciled;
+    
+    private volatile boolean closed;
+    
+    public SnapshotRegistryCenter(final Supplier<RegistryCenter> registryCenterSupplier, final File snapshotFile) {
+        snapshot = new RegistrySnapshot(snapshotFile);
+        registryCenterFuture = snapshot.getKeys().isEmpty() ? Futures.immediateFuture(registryCenterSupplier.get()) : createRegistryCenterAsync(registryCenterSupplier);
+    }
+    
+    private Future<RegistryCenter> createRegistryCenterAsync(final Supplier<RegistryCenter> registryCenterSupplier) {
+        return reconcileExecutor.submit(new Callable<RegistryCenter>() {
+            
+            @Override
+            public RegistryCenter call() throws Exception {
+                RegistryCenter result = registryCenterSupplier.get();
+                if (closed) {
+                    result.close();
+                }
+                return result;
+            }
+        });
+    }
+    
+    private RegistryCenter getRegistryCenter() {
+        try {
+            return registryCenterFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RegException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RegException ? (RegException) ex.getCause() : new RegException(ex);
+        }
+    }
+    
+    /**
+     * Judge whether snapshot reconciled with registry center.
+     *
+     * @return reconciled or not
+     */
+    public boolean isReconciled() {
+        return reconciled;
+    }
+    
+    @Override
+    public String get(final String key) {
+        if (!reconciled && snapshot.contains(key)) {
+            return snapshot.get(key);
+        }
+        try {
+            return record(key, getRegistryCenter().get(key));
+        } catch (final RegException ex) {
+            return getFromSnapshot(key, ex);
+        }
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        if (!reconciled && snapshot.contains(key)) {
+            return snapshot.get(key);
+        }
+        try {
+            return record(key, getRegistryCenter().getDirectly(key));
+        } catch (final RegException ex) {
+            return getFromSnapshot(key, ex);
+        }
+    }
+    
+    private String record(final String key, final String value) {
+        if (null != value) {
+            snapshot.put(key, value);
+        }
+        return value;
+    }
+    
+    private String getFromSnapshot(final String key, final RegException cause) {
+        if (snapshot.contains(key)) {
+            log.warn("Registry center unavailable, use snapshot for key '{}': {}", key, cause.getMessage());
+            return snapshot.get(key);
+        }
+        throw cause;
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        if (!reconciled && snapshot.contains(key)) {
+            return true;
+        }
+        try {
+            return getRegistryCenter().isExisted(key);
+        } catch (final RegException ex) {
+            if (snapshot.contains(key)) {
+                return true;
+            }
+            throw ex;
+        }
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        if (!reconciled) {
+            List<String> result = snapshot.getChildrenKeys(key);
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        try {
+            return getRegistryCenter().getChildrenKeys(key);
+        } catch (final RegException ex) {
+            List<String> result = snapshot.getChildrenKeys(key);
+            if (!result.isEmpty()) {
+                return result;
+            }
+            throw ex;
+        }
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        executeWhenCreated(new Runnable() {
+            
+            @Override
+            public void run() {
+                getRegistryCenter().persist(key, value);
+            }
+        });
+        if (snapshot.put(key, value)) {
+            snapshot.save();
+        }
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        executeWhenCreated(new Runnable() {
+            
+            @Override
+            public void run() {
+                getRegistryCenter().update(key, value);
+            }
+        });
+        if (snapshot.put(key, value)) {
+            snapshot.save();
+        }
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        executeWhenCreated(new Runnable() {
+            
+            @Override
+            public void run() {
+                getRegistryCenter().persistEphemeral(key, value);
+            }
+        });
+    }
+    
+    @Override
+    public void watch(final String key, final EventListener eventListener) {
+        watchers.put(eventListener, key);
+        executeWhenCreated(new Runnable() {
+            
+            @Override
+            public void run() {
+                getRegistryCenter().watch(key, new EventListener() {
+                    
+                    @Override
+                    public void onChange(final DataChangedEvent event) {
+                        apply(event);
+                        eventListener.onChange(event);
+                    }
+                });
+            }
+        });
+    }
+    
+    private void executeWhenCreated(final Runnable command) {
+        if (registryCenterFuture.isDone()) {
+            command.run();
+            return;
+        }
+        reconcileExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    command.run();
+                } catch (final RegException ex) {
+                    log.warn("Deferred operation of registry center failure: {}", ex.getMessage());
+                }
+            }
+        });
+    }
+    
+    private void apply(final DataChangedEvent event) {
+        boolean changed;
+        switch (event.getEventType()) {
+            case UPDATED:
+                changed = snapshot.put(event.getKey(), event.getValue());
+                break;
+            case DELETED:
+                changed = snapshot.remove(event.getKey());
+                break;
+            default:
+                changed = false;
+        }
+        if (changed) {
+            snapshot.save();
+        }
+    }
+    
+    /**
+     * Reconcile snapshot with registry center asynchronously.
+     *
+     * <p>Keys absent from registry center are removed from snapshot.
+     * Reconciliation is executed after deferred writes, so data persisted during boot is not treated as stale.</p>
+     */
+    public void reconcile() {
+        reconcileExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                doReconcile();
+            }
+        });
+    }
+    
+    private void doReconcile() {
+        Collection<String> changedKeys = new ArrayList<>();
+        Collection<String> deletedKeys = new ArrayList<>();
+        try {
+            for (String each : new ArrayList<>(snapshot.getKeys())) {
+                String value = getRegistryCenter().getDirectly(each);
+                if (null == value) {
+                    if (snapshot.remove(each)) {
+                        deletedKeys.add(each);
+                    }
+                } else if (snapshot.put(each, value)) {
+                    changedKeys.add(each);
+                }
+            }
+        } catch (final RegException ex) {
+            log.warn("Reconcile registry snapshot failure, retry after {} seconds: {}", RECONCILE_RETRY_SECONDS, ex.getMessage());
+            reconcileExecutor.schedule(new Runnable() {
+                
+                @Override
+                public void run() {
+                    doReconcile();
+                }
+            }, RECONCILE_RETRY_SECONDS, TimeUnit.SECONDS);
+            return;
+        }
+        reconciled = true;
+        snapshot.save();
+        for (String each : changedKeys) {
+            notifyWatchers(new DataChangedEvent(DataChangedEvent.Type.UPDATED, each, snapshot.get(each)));
+        }
+        for (String each : deletedKeys) {
+            notifyWatchers(new DataChangedEvent(DataChangedEvent.Type.DELETED, each, null));
+        }
+    }
+    
+    private void notifyWatchers(final DataChangedEvent event) {
+        for (Entry<EventListener, String> entry : watchers.entrySet()) {
+            if (event.getKey().equals(entry.getValue()) || event.getKey().startsWith(entry.getValue() + "/")) {
+                entry.getKey().onChange(event);
+            }
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        reconcileExecutor.shutdownNow();
+        if (registryCenterFuture.isDone() && !registryCenterFuture.isCancelled()) {
+            getRegistryCenter().close();
+        }
+    }
+}
@@ -40,10 +40,10 @@ import org.apache.zookeeper.data.ACL;
 import java.io.UnsupportedEncodingException;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,7 +55,7 @@ public final class ZookeeperRegistryCenter implements RegistryCenter {
     
     private final CuratorFramework client;
     
-    private final Map<String, TreeCache> caches = new HashMap<>();
+    private final Map<String, TreeCache> caches = new ConcurrentHashMap<>();
     
     public ZookeeperRegistryCenter(final ZookeeperConfiguration zkConfig) {
         client = buildCuratorClient(zkConfig);
@@ -117,10 +117,13 @@ public final class ZookeeperRegistryCenter implements RegistryCenter {
     }
     
     private TreeCache findTreeCache(final String key) {
-        for (Entry<String, TreeCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
+        int index = key.lastIndexOf('/', key.length() - 2);
+        while (index >= 0) {
+            TreeCache result = caches.get(key.substring(0, index + 1));
+            if (null != result) {
+                return result;
             }
+            index = key.lastIndexOf('/', index - 1);
         }
         return null;
     }
@@ -18,11 +18,15 @@
 package io.shardingsphere.orchestration.reg;
 
 import io.shardingsphere.orchestration.reg.newzk.AllNewzkTests;
+import io.shardingsphere.orchestration.reg.snapshot.SnapshotRegistryCenterTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(AllNewzkTests.class)
+@SuiteClasses({
+        AllNewzkTests.class, 
+        SnapshotRegistryCenterTest.class
+})
 public final class AllRegTests {
 }
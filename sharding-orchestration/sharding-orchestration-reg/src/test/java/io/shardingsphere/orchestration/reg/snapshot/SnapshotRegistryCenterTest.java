@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.orchestration.reg.snapshot;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import io.shardingsphere.orchestration.reg.api.RegistryCenter;
+import io.shardingsphere.orchestration.reg.exception.RegException;
+import io.shardingsphere.orchestration.reg.listener.DataChangedEvent;
+import io.shardingsphere.orchestration.reg.listener.EventListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SnapshotRegistryCenterTest {
+    
+    @Mock
+    private RegistryCenter registryCenter;
+    
+    private File snapshotFile;
+    
+    @Before
+    public void setUp() throws IOException {
+        snapshotFile = File.createTempFile("registry", ".snapshot");
+        assertTrue(snapshotFile.delete());
+    }
+    
+    @After
+    public void tearDown() {
+        snapshotFile.delete();
+    }
+    
+    @Test
+    public void assertPersistAndLoadSnapshot() throws Exception {
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        snapshotRegistryCenter.persist("/test/config/datasource", "ds_0");
+        snapshotRegistryCenter.persist("/test/config/sharding/rule", "rule_0");
+        snapshotRegistryCenter.close();
+        verify(registryCenter).persist("/test/config/datasource", "ds_0");
+        RegistrySnapshot actual = new RegistrySnapshot(snapshotFile);
+        assertThat(actual.getVersion(), is(2L));
+        assertThat(actual.get("/test/config/datasource"), is("ds_0"));
+        assertThat(actual.getChildrenKeys("/test/config"), is(Arrays.asList("sharding", "datasource")));
+    }
+    
+    @Test
+    public void assertGetFromSnapshotBeforeReconciled() {
+        RegistrySnapshot snapshot = new RegistrySnapshot(snapshotFile);
+        snapshot.put("/test/config/datasource", "ds_0");
+        snapshot.save();
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        assertThat(snapshotRegistryCenter.get("/test/config/datasource"), is("ds_0"));
+        assertTrue(snapshotRegistryCenter.isExisted("/test/config/datasource"));
+        assertThat(snapshotRegistryCenter.getChildrenKeys("/test/config"), is(Collections.singletonList("datasource")));
+        verify(registryCenter, never()).get("/test/config/datasource");
+    }
+    
+    @Test
+    public void assertGetFromRegistryCenterWhenAbsentInSnapshot() {
+        when(registryCenter.get("/test/config/props")).thenReturn("props_0");
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        assertThat(snapshotRegistryCenter.get("/test/config/props"), is("props_0"));
+        assertThat(snapshotRegistryCenter.get("/test/config/props"), is("props_0"));
+        verify(registryCenter).get("/test/config/props");
+    }
+    
+    @Test
+    public void assertReconcile() {
+        RegistrySnapshot snapshot = new RegistrySnapshot(snapshotFile);
+        snapshot.put("/test/config/datasource", "ds_0");
+        snapshot.put("/test/config/props", "props_0");
+        snapshot.save();
+        when(registryCenter.getDirectly("/test/config/datasource")).thenReturn("ds_1");
+        when(registryCenter.getDirectly("/test/config/props")).thenReturn(null);
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        EventListener eventListener = mock(EventListener.class);
+        snapshotRegistryCenter.watch("/test/config", eventListener);
+        snapshotRegistryCenter.reconcile();
+        ArgumentCaptor<DataChangedEvent> eventCaptor = ArgumentCaptor.forClass(DataChangedEvent.class);
+        verify(eventListener, timeout(5000L).times(2)).onChange(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues().get(0).getEventType(), is(DataChangedEvent.Type.UPDATED));
+        assertThat(eventCaptor.getAllValues().get(0).getKey(), is("/test/config/datasource"));
+        assertThat(eventCaptor.getAllValues().get(0).getValue(), is("ds_1"));
+        assertThat(eventCaptor.getAllValues().get(1).getEventType(), is(DataChangedEvent.Type.DELETED));
+        assertThat(eventCaptor.getAllValues().get(1).getKey(), is("/test/config/props"));
+        assertTrue(snapshotRegistryCenter.isReconciled());
+        verify(registryCenter).watch(any(String.class), any(EventListener.class));
+        RegistrySnapshot actual = new RegistrySnapshot(snapshotFile);
+        assertThat(actual.get("/test/config/datasource"), is("ds_1"));
+        assertFalse(actual.contains("/test/config/props"));
+    }
+    
+    @Test
+    public void assertWatchAppliesChangesToSnapshot() {
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        EventListener eventListener = mock(EventListener.class);
+        snapshotRegistryCenter.watch("/test/config", eventListener);
+        ArgumentCaptor<EventListener> listenerCaptor = ArgumentCaptor.forClass(EventListener.class);
+        verify(registryCenter).watch(any(String.class), listenerCaptor.capture());
+        DataChangedEvent updatedEvent = new DataChangedEvent(DataChangedEvent.Type.UPDATED, "/test/config/datasource", "ds_0");
+        listenerCaptor.getValue().onChange(updatedEvent);
+        verify(eventListener).onChange(updatedEvent);
+        assertThat(new RegistrySnapshot(snapshotFile).get("/test/config/datasource"), is("ds_0"));
+        listenerCaptor.getValue().onChange(new DataChangedEvent(DataChangedEvent.Type.DELETED, "/test/config/datasource", null));
+        assertFalse(new RegistrySnapshot(snapshotFile).contains("/test/config/datasource"));
+    }
+    
+    @Test
+    public void assertFallbackToSnapshotWhenRegistryCenterUnavailable() {
+        RegistrySnapshot snapshot = new RegistrySnapshot(snapshotFile);
+        snapshot.put("/test/config/datasource", "ds_0");
+        snapshot.save();
+        when(registryCenter.getDirectly("/test/config/datasource")).thenReturn("ds_0");
+        when(registryCenter.get("/test/config/datasource")).thenThrow(new RegException("Registry center unavailable"));
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(Suppliers.ofInstance(registryCenter), snapshotFile);
+        snapshotRegistryCenter.reconcile();
+        while (!snapshotRegistryCenter.isReconciled()) {
+            Thread.yield();
+        }
+        assertThat(snapshotRegistryCenter.get("/test/config/datasource"), is("ds_0"));
+    }
+    
+    @Test
+    public void assertCreateRegistryCenterAsyncWhenSnapshotExists() throws Exception {
+        RegistrySnapshot snapshot = new RegistrySnapshot(snapshotFile);
+        snapshot.put("/test/config/datasource", "ds_0");
+        snapshot.save();
+        final CountDownLatch latch = new CountDownLatch(1);
+        SnapshotRegistryCenter snapshotRegistryCenter = new SnapshotRegistryCenter(new Supplier<RegistryCenter>() {
+            
+            @Override
+            public RegistryCenter get() {
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return registryCenter;
+            }
+        }, snapshotFile);
+        assertThat(snapshotRegistryCenter.get("/test/config/datasource"), is("ds_0"));
+        snapshotRegistryCenter.persist("/test/config/props", "props_0");
+        assertThat(snapshotRegistryCenter.get("/test/config/props"), is("props_0"));
+        verify(registryCenter, never()).persist("/test/config/props", "props_0");
+        latch.countDown();
+        verify(registryCenter, timeout(5000L)).persist("/test/config/props", "props_0");
+        snapshotRegistryCenter.close();
+        verify(registryCenter).close();
+    }
+    
+    @Test
+    public void assertSaveSnapshotWithOwnerOnlyPermissions() throws IOException {
+        assumeTrue(Files.getFileStore(snapshotFile.getParentFile().toPath()).supportsFileAttributeView("posix"));
+        RegistrySnapshot snapshot = new RegistrySnapshot(snapshotFile);
+        snapshot.put("/test/config/datasource", "ds_0");
+        snapshot.save();
+        assertThat(Files.getPosixFilePermissions(snapshotFile.toPath()), is(PosixFilePermissions.fromString("rw-------")));
+    }
+}
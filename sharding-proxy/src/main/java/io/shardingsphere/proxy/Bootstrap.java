@@ -116,6 +116,7 @@ public final class Bootstrap {
             YamlRuleConfiguration yamlRuleConfig = new YamlRuleConfiguration();
             yamlRuleConfig.setShardingRule(entry.getValue().getShardingRule());
             yamlRuleConfig.setMasterSlaveRule(entry.getValue().getMasterSlaveRule());
+            yamlRuleConfig.setQueryResultCache(entry.getValue().getQueryResultCache());
             result.put(entry.getKey(), yamlRuleConfig);
         }
         return result;
@@ -18,6 +18,10 @@
 package io.shardingsphere.proxy.backend;
 
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.sql.execute.breaker.CircuitBreakerSettings;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.execute.statistics.DataSourceStatisticsRegistry;
 import io.shardingsphere.proxy.config.ProxyContext;
 import lombok.Getter;
 
@@ -28,10 +32,21 @@ import lombok.Getter;
  */
 public final class BackendExecutorContext {
     
+    private static final ProxyContext PROXY_CONTEXT = ProxyContext.getInstance();
+    
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
     @Getter
-    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(ProxyContext.getInstance().getExecutorSize());
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(PROXY_CONTEXT.getExecutorSize());
+    
+    @Getter
+    private final SQLExecuteBulkhead executeBulkhead = createExecuteBulkhead();
+    
+    @Getter
+    private final SQLExecuteCircuitBreaker circuitBreaker = createCircuitBreaker();
+    
+    @Getter
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
     
     /**
      * Get backend executor context instance.
@@ -41,4 +56,16 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    private static SQLExecuteBulkhead createExecuteBulkhead() {
+        if (!SQLExecuteBulkhead.isEnabled(PROXY_CONTEXT.getExecutorMaxConcurrency(), PROXY_CONTEXT.getExecutorMaxConcurrencyPerDataSource())) {
+            return null;
+        }
+        return new SQLExecuteBulkhead(PROXY_CONTEXT.getExecutorMaxConcurrency(), PROXY_CONTEXT.getExecutorMaxConcurrencyPerDataSource(),
+                PROXY_CONTEXT.getExecutorMaxQueueSize(), PROXY_CONTEXT.getExecutorMaxQueueWaitMilliseconds());
+    }
+    
+    private static SQLExecuteCircuitBreaker createCircuitBreaker() {
+        return CircuitBreakerSettings.isEnabled(PROXY_CONTEXT.getShardingProperties()) ? new SQLExecuteCircuitBreaker(new CircuitBreakerSettings(PROXY_CONTEXT.getShardingProperties())) : null;
+    }
 }
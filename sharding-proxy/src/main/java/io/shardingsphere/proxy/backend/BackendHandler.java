@@ -17,9 +17,13 @@
 
 package io.shardingsphere.proxy.backend;
 
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
 
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Backend handler.
@@ -50,4 +54,27 @@ public interface BackendHandler {
      * @throws SQLException SQL exception
      */
     ResultPacket getResultValue() throws SQLException;
+    
+    /**
+     * Get column count of result.
+     *
+     * @return column count of result
+     */
+    int getColumnCount();
+    
+    /**
+     * Get column types of result.
+     *
+     * @return column types of result
+     */
+    List<ColumnType> getColumnTypes();
+    
+    /**
+     * Get result value encoded by row encoder.
+     *
+     * @param rowEncoder row encoder created for result
+     * @return encoded row packet
+     * @throws SQLException SQL exception
+     */
+    EncodedResultSetRowPacket getResultValue(ResultSetRowEncoder rowEncoder) throws SQLException;
 }
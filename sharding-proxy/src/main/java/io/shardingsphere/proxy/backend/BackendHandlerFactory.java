@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.backend;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.proxy.backend.jdbc.JDBCBackendHandler;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngineFactory;
@@ -59,22 +60,23 @@ public final class BackendHandlerFactory {
     }
     
     /**
-     * Create new instance of text protocol backend handler.
+     * Create new instance of binary protocol backend handler.
      *
      * @param connectionId connection ID of database connected
      * @param sequenceId sequence ID of SQL packet
      * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed when prepared
      * @param parameters SQL parameters
      * @param backendConnection backend connection
      * @param databaseType database type
      * @param frontendHandler frontend handler
-     * @return instance of text protocol backend handler
+     * @return instance of binary protocol backend handler
      */
     public static BackendHandler newBinaryProtocolInstance(
-            final int connectionId, final int sequenceId, final String sql, final List<Object> parameters, final BackendConnection backendConnection,
+            final int connectionId, final int sequenceId, final String sql, final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection,
             final DatabaseType databaseType, final FrontendHandler frontendHandler) {
         return PROXY_CONTEXT.isUseNIO() ? new NettyBackendHandler(frontendHandler, PROXY_CONTEXT.getRuleRegistry(frontendHandler.getCurrentSchema()), connectionId, sequenceId, sql, databaseType)
                 : new JDBCBackendHandler(frontendHandler, PROXY_CONTEXT.getRuleRegistry(frontendHandler.getCurrentSchema()), sql,
-                JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection));
+                JDBCExecuteEngineFactory.createBinaryProtocolInstance(sqlStatement, parameters, backendConnection));
     }
 }
@@ -17,6 +17,8 @@
 
 package io.shardingsphere.proxy.backend.jdbc;
 
+import com.google.common.base.Optional;
+import io.netty.buffer.Unpooled;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
@@ -27,10 +29,15 @@ import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.proxy.backend.AbstractBackendHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.proxy.backend.jdbc.cache.CachedQueryResult;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCache;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheKey;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheRecorder;
 import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteQueryResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteResponse;
@@ -39,11 +46,14 @@ import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.ProxyTableMetaDataConnectionManager;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -54,7 +64,10 @@ import javax.transaction.Status;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Backend handler via JDBC to connect databases.
@@ -81,11 +94,42 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     private int currentSequenceId;
     
+    private int columnCount;
+    
+    private List<ColumnType> columnTypes = Collections.emptyList();
+    
+    private QueryResponsePackets queryResponsePackets;
+    
+    private QueryResultCacheKey queryResultCacheKey;
+    
+    private QueryResultCacheRecorder queryResultCacheRecorder;
+    
+    private Iterator<byte[]> cachedRows;
+    
+    private byte[] currentCachedRow;
+    
     @Override
     protected CommandResponsePackets execute0() throws SQLException {
+        QueryResultCache queryResultCache = ruleRegistry.getQueryResultCache();
+        if (queryResultCache.isEnabled() && !executeEngine.getBackendConnection().isInTransaction()) {
+            queryResultCacheKey = executeEngine.getJdbcExecutorWrapper().createQueryResultCacheKey(sql);
+            Optional<CachedQueryResult> cachedQueryResult = queryResultCache.get(queryResultCacheKey);
+            if (cachedQueryResult.isPresent()) {
+                return replay(cachedQueryResult.get());
+            }
+        }
         return execute(executeEngine.getJdbcExecutorWrapper().route(sql, DatabaseType.MySQL));
     }
     
+    private CommandResponsePackets replay(final CachedQueryResult cachedQueryResult) {
+        queryResponsePackets = cachedQueryResult.getQueryResponsePackets();
+        columnCount = cachedQueryResult.getColumnCount();
+        columnTypes = cachedQueryResult.getColumnTypes();
+        cachedRows = cachedQueryResult.getRows().iterator();
+        currentSequenceId = queryResponsePackets.getPackets().size();
+        return queryResponsePackets;
+    }
+    
     private CommandResponsePackets execute(final SQLRouteResult routeResult) throws SQLException {
         if (routeResult.getSqlStatement() != null && routeResult.getSqlStatement() instanceof UseStatement) {
             return handleUseStatement((UseStatement) routeResult.getSqlStatement(), frontendHandler);
@@ -98,7 +142,16 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             return new CommandResponsePackets(new ErrPacket(1,
                     ServerErrorCode.ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE, sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
+        if (null != queryResultCacheKey && SQLType.DQL == sqlStatement.getType()) {
+            queryResultCacheRecorder = ruleRegistry.getQueryResultCache().newRecorder(queryResultCacheKey, sqlStatement.getTables().getTableNames()).orNull();
+        }
         executeResponse = executeEngine.execute(routeResult);
+        if (SQLType.DML == sqlStatement.getType()) {
+            executeEngine.getBackendConnection().invalidateQueryResultCache(ruleRegistry.getQueryResultCache(), sqlStatement.getTables().getTableNames());
+        }
+        if (SQLType.DDL == sqlStatement.getType()) {
+            ruleRegistry.getQueryResultCache().invalidate(sqlStatement.getTables().getTableNames());
+        }
         if (!ruleRegistry.isMasterSlaveOnly() && SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
             String logicTableName = sqlStatement.getTables().getSingleTableName();
             // TODO refresh table meta data by SQL parse result
@@ -116,23 +169,31 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets merge(final SQLStatement sqlStatement) throws SQLException {
         if (executeResponse instanceof ExecuteUpdateResponse) {
+            queryResultCacheRecorder = null;
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
-        mergedResult = MergeEngineFactory.newInstance(
-                ruleRegistry.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, ruleRegistry.getMetaData().getTable()).merge();
+        mergedResult = MergeEngineFactory.newInstance(ruleRegistry.getShardingRule(), 
+                ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, ruleRegistry.getMetaData().getTable(), PROXY_CONTEXT.getShardingProperties()).merge();
         if (mergedResult instanceof ShowDatabasesMergedResult) {
             mergedResult = new ShowDatabasesMergedResult(PROXY_CONTEXT.getSchemaNames());
         }
-        QueryResponsePackets result = getQueryResponsePacketsWithoutDerivedColumns(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
-        currentSequenceId = result.getPackets().size();
-        return result;
+        QueryResponsePackets executedQueryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
+        columnCount = executedQueryResponsePackets.getColumnCount();
+        columnTypes = new ArrayList<>(executedQueryResponsePackets.getColumnTypes());
+        queryResponsePackets = getQueryResponsePacketsWithoutDerivedColumns(executedQueryResponsePackets, sqlStatement);
+        currentSequenceId = queryResponsePackets.getPackets().size();
+        return queryResponsePackets;
     }
     
-    private QueryResponsePackets getQueryResponsePacketsWithoutDerivedColumns(final QueryResponsePackets queryResponsePackets) {
+    private QueryResponsePackets getQueryResponsePacketsWithoutDerivedColumns(final QueryResponsePackets queryResponsePackets, final SQLStatement sqlStatement) {
+        Map<String, String> originalColumnLabels = sqlStatement instanceof SelectStatement ? ((SelectStatement) sqlStatement).getOriginalColumnLabels() : Collections.<String, String>emptyMap();
         Collection<ColumnDefinition41Packet> columnDefinition41Packets = new ArrayList<>(queryResponsePackets.getColumnCount());
         int columnCount = 0;
         for (ColumnDefinition41Packet each : queryResponsePackets.getColumnDefinition41Packets()) {
-            if (!DerivedColumn.isDerivedColumn(each.getName())) {
+            if (originalColumnLabels.containsKey(each.getName())) {
+                columnDefinition41Packets.add(each.rename(originalColumnLabels.get(each.getName())));
+                columnCount++;
+            } else if (!DerivedColumn.isDerivedColumn(each.getName())) {
                 columnDefinition41Packets.add(each);
                 columnCount++;
             }
@@ -143,17 +204,51 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        if (null != cachedRows) {
+            currentCachedRow = cachedRows.hasNext() ? cachedRows.next() : null;
+            return null != currentCachedRow;
+        }
+        if (null != mergedResult && mergedResult.next()) {
+            return true;
+        }
+        if (null != mergedResult) {
+            mergedResult.close();
+        }
+        if (null != queryResultCacheRecorder) {
+            queryResultCacheRecorder.finish(queryResponsePackets, columnCount, columnTypes);
+            queryResultCacheRecorder = null;
+        }
+        return false;
     }
     
     @Override
     public ResultPacket getResultValue() throws SQLException {
-        QueryResponsePackets queryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
-        int columnCount = queryResponsePackets.getColumnCount();
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new ResultPacket(++currentSequenceId, data, columnCount, queryResponsePackets.getColumnTypes());
+        return new ResultPacket(++currentSequenceId, data, columnCount, columnTypes);
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    @Override
+    public List<ColumnType> getColumnTypes() {
+        return columnTypes;
+    }
+    
+    @Override
+    public EncodedResultSetRowPacket getResultValue(final ResultSetRowEncoder rowEncoder) throws SQLException {
+        if (null != cachedRows) {
+            return new EncodedResultSetRowPacket(++currentSequenceId, Unpooled.wrappedBuffer(currentCachedRow));
+        }
+        EncodedResultSetRowPacket result = rowEncoder.encode(++currentSequenceId, mergedResult);
+        if (null != queryResultCacheRecorder) {
+            queryResultCacheRecorder.record(result.getRow());
+        }
+        return result;
     }
 }
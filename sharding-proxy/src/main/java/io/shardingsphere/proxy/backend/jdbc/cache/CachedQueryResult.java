@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.cache;
+
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cached query result.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class CachedQueryResult {
+    
+    private final QueryResponsePackets queryResponsePackets;
+    
+    private final int columnCount;
+    
+    private final List<ColumnType> columnTypes;
+    
+    private final List<byte[]> rows;
+    
+    private final Collection<String> tableNames;
+    
+    private final long size;
+    
+    private final long expireTimeMilliseconds;
+    
+    private volatile long lastAccessSequence;
+    
+    /**
+     * Judge is expired or not.
+     *
+     * @param currentTimeMilliseconds current time in milliseconds
+     * @return is expired or not
+     */
+    public boolean isExpired(final long currentTimeMilliseconds) {
+        return currentTimeMilliseconds >= expireTimeMilliseconds;
+    }
+    
+    void access(final long accessSequence) {
+        lastAccessSequence = accessSequence;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.cache;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheConfiguration;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheTableConfiguration;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Query result cache of schema.
+ *
+ * <p>
+ * Only queries which all logic tables are configured as cacheable will be cached, the encoded rows are kept until TTL expired.
+ * Entries are invalidated when DML or DDL touching the logic tables they read are executed via proxy, DML executed in XA transaction invalidates entries when transaction finished,
+ * modifications out of proxy are visible after TTL expired.
+ * </p>
+ *
+ * <p>
+ * Cached results are kept in concurrent map without global lock, least recently used entries are evicted when max bytes exceeded.
+ * Results put concurrently with invalidation are removed again, so stale results will not survive invalidation.
+ * </p>
+ *
+ * @author agent
+ */
+public final class QueryResultCache {
+    
+    private static final Comparator<Entry<QueryResultCacheKey, CachedQueryResult>> LEAST_RECENTLY_USED_FIRST = new Comparator<Entry<QueryResultCacheKey, CachedQueryResult>>() {
+        
+        @Override
+        public int compare(final Entry<QueryResultCacheKey, CachedQueryResult> o1, final Entry<QueryResultCacheKey, CachedQueryResult> o2) {
+            return Long.compare(o1.getValue().getLastAccessSequence(), o2.getValue().getLastAccessSequence());
+        }
+    };
+    
+    @Getter
+    private final long maxBytes;
+    
+    private final Map<String, Long> tableTTLMilliseconds = new HashMap<>();
+    
+    private final ConcurrentMap<QueryResultCacheKey, CachedQueryResult> cachedResults = new ConcurrentHashMap<>();
+    
+    private final AtomicLong totalBytes = new AtomicLong();
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final AtomicLong accessSequence = new AtomicLong();
+    
+    public QueryResultCache(final YamlQueryResultCacheConfiguration config) {
+        if (null == config) {
+            maxBytes = 0L;
+            return;
+        }
+        maxBytes = config.getMaxBytes();
+        for (Entry<String, YamlQueryResultCacheTableConfiguration> entry : config.getTables().entrySet()) {
+            tableTTLMilliseconds.put(entry.getKey().toLowerCase(), entry.getValue().getTtlMilliseconds());
+        }
+    }
+    
+    /**
+     * Judge is enabled or not.
+     *
+     * @return is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxBytes > 0L && !tableTTLMilliseconds.isEmpty();
+    }
+    
+    /**
+     * Get cached query result.
+     *
+     * @param key key of query result cache
+     * @return cached query result
+     */
+    public Optional<CachedQueryResult> get(final QueryResultCacheKey key) {
+        CachedQueryResult result = cachedResults.get(key);
+        if (null == result) {
+            return Optional.absent();
+        }
+        if (result.isExpired(System.currentTimeMillis())) {
+            remove(key, result);
+            return Optional.absent();
+        }
+        result.access(accessSequence.incrementAndGet());
+        return Optional.of(result);
+    }
+    
+    /**
+     * Create recorder for query result.
+     *
+     * <p>Recorder should be created before query executed, query results read before invalidation will not be cached.</p>
+     *
+     * @param key key of query result cache
+     * @param tableNames logic table names which query read
+     * @return recorder, absent if any logic table is not cacheable
+     */
+    public Optional<QueryResultCacheRecorder> newRecorder(final QueryResultCacheKey key, final Collection<String> tableNames) {
+        if (!isEnabled() || tableNames.isEmpty()) {
+            return Optional.absent();
+        }
+        long ttlMilliseconds = Long.MAX_VALUE;
+        for (String each : tableNames) {
+            Long tableTTLMilliseconds = this.tableTTLMilliseconds.get(each.toLowerCase());
+            if (null == tableTTLMilliseconds) {
+                return Optional.absent();
+            }
+            ttlMilliseconds = Math.min(ttlMilliseconds, tableTTLMilliseconds);
+        }
+        return Optional.of(new QueryResultCacheRecorder(this, key, tableNames, ttlMilliseconds, generation.get()));
+    }
+    
+    void put(final QueryResultCacheKey key, final CachedQueryResult cachedQueryResult, final long generation) {
+        if (this.generation.get() != generation || cachedQueryResult.getSize() > maxBytes) {
+            return;
+        }
+        cachedQueryResult.access(accessSequence.incrementAndGet());
+        CachedQueryResult previous = cachedResults.put(key, cachedQueryResult);
+        totalBytes.addAndGet(null == previous ? cachedQueryResult.getSize() : cachedQueryResult.getSize() - previous.getSize());
+        if (this.generation.get() != generation) {
+            remove(key, cachedQueryResult);
+            return;
+        }
+        evict();
+    }
+    
+    private void evict() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Entry<QueryResultCacheKey, CachedQueryResult>> entries = new ArrayList<>(cachedResults.entrySet());
+        Collections.sort(entries, LEAST_RECENTLY_USED_FIRST);
+        for (Entry<QueryResultCacheKey, CachedQueryResult> each : entries) {
+            if (totalBytes.get() <= maxBytes) {
+                return;
+            }
+            remove(each.getKey(), each.getValue());
+        }
+    }
+    
+    private void remove(final QueryResultCacheKey key, final CachedQueryResult cachedQueryResult) {
+        if (cachedResults.remove(key, cachedQueryResult)) {
+            totalBytes.addAndGet(-cachedQueryResult.getSize());
+        }
+    }
+    
+    /**
+     * Invalidate cached query results which read any of logic tables.
+     *
+     * @param tableNames logic table names which modified
+     */
+    public void invalidate(final Collection<String> tableNames) {
+        if (!isCacheable(tableNames)) {
+            return;
+        }
+        generation.incrementAndGet();
+        for (Entry<QueryResultCacheKey, CachedQueryResult> each : cachedResults.entrySet()) {
+            if (isReadAny(each.getValue(), tableNames)) {
+                remove(each.getKey(), each.getValue());
+            }
+        }
+    }
+    
+    private boolean isCacheable(final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            if (tableTTLMilliseconds.containsKey(each.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isReadAny(final CachedQueryResult cachedQueryResult, final Collection<String> tableNames) {
+        for (String each : cachedQueryResult.getTableNames()) {
+            for (String tableName : tableNames) {
+                if (each.equalsIgnoreCase(tableName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get total size of cached query results.
+     *
+     * @return total size in bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+}
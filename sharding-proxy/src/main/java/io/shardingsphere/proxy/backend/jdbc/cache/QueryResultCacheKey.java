@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.cache;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * Key of query result cache.
+ *
+ * <p>
+ * SQL is normalized by tokens, so queries which only differ in whitespace or comments share the same key.
+ * Case of tokens is kept, because keywords are not distinguished from table names which may be case sensitive.
+ * Encoded rows are different between text and binary protocol, so protocol is part of key.
+ * </p>
+ *
+ * @author agent
+ */
+@EqualsAndHashCode
+public final class QueryResultCacheKey {
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final boolean binaryProtocol;
+    
+    public QueryResultCacheKey(final String sql, final List<Object> parameters, final boolean binaryProtocol) {
+        this.sql = normalize(sql);
+        this.parameters = parameters;
+        this.binaryProtocol = binaryProtocol;
+    }
+    
+    private static String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.MySQL, sql);
+        try {
+            lexerEngine.nextToken();
+            while (!lexerEngine.isEnd()) {
+                if (0 != result.length()) {
+                    result.append(' ');
+                }
+                appendToken(sql, lexerEngine.getCurrentToken(), result);
+                lexerEngine.nextToken();
+            }
+        } catch (final ShardingException ex) {
+            return sql.trim();
+        }
+        return result.toString();
+    }
+    
+    private static void appendToken(final String sql, final Token token, final StringBuilder stringBuilder) {
+        if (Literals.CHARS == token.getType()) {
+            char quote = sql.charAt(token.getEndPosition() - 1);
+            stringBuilder.append(quote).append(token.getLiterals()).append(quote);
+        } else {
+            stringBuilder.append(token.getLiterals());
+        }
+    }
+}
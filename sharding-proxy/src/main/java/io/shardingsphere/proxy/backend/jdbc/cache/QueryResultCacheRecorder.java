@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Recorder of encoded rows for query result cache.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class QueryResultCacheRecorder {
+    
+    private static final int ROW_OVERHEAD_BYTES = 16;
+    
+    private final QueryResultCache queryResultCache;
+    
+    private final QueryResultCacheKey key;
+    
+    private final Collection<String> tableNames;
+    
+    private final long ttlMilliseconds;
+    
+    private final long generation;
+    
+    private final List<byte[]> rows = new ArrayList<>();
+    
+    private long size;
+    
+    private boolean overflow;
+    
+    /**
+     * Record encoded row.
+     *
+     * <p>Rows will be discarded if total size exceed max bytes of cache.</p>
+     *
+     * @param row encoded row
+     */
+    public void record(final ByteBuf row) {
+        if (overflow) {
+            return;
+        }
+        size += row.readableBytes() + ROW_OVERHEAD_BYTES;
+        if (size > queryResultCache.getMaxBytes()) {
+            overflow = true;
+            rows.clear();
+            return;
+        }
+        rows.add(ByteBufUtil.getBytes(row));
+    }
+    
+    /**
+     * Finish recording and put query result into cache.
+     *
+     * @param queryResponsePackets query response packets
+     * @param columnCount column count
+     * @param columnTypes column types
+     */
+    public void finish(final QueryResponsePackets queryResponsePackets, final int columnCount, final List<ColumnType> columnTypes) {
+        if (overflow) {
+            return;
+        }
+        long expireTimeMilliseconds = System.currentTimeMillis() + ttlMilliseconds;
+        queryResultCache.put(key, new CachedQueryResult(queryResponsePackets, columnCount, columnTypes, rows, tableNames, size, 
+                expireTimeMilliseconds < 0L ? Long.MAX_VALUE : expireTimeMilliseconds), generation);
+    }
+}
@@ -17,57 +17,222 @@
 
 package io.shardingsphere.proxy.backend.jdbc.connection;
 
+import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPosition;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionManager;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCache;
+import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Backend connection.
  *
+ * <p>
+ * Backend connection is bound to frontend session, connections of data sources are kept across commands,
+ * and released to data source pool when session idle timeout or session closed.
+ * Connections are pinned while session in transaction.
+ * Prepared statements are cached per connection and reused by later commands, until connection released.
+ * Logic tables modified in transaction are recorded, and their query result cache is invalidated when transaction finished.
+ * Written replication positions of master data sources are recorded after commit if read your writes enabled,
+ * session keeps routing reads to master data sources if they cannot be recorded.
+ * Cursors held by session are limited, and closed if not fetched within idle timeout.
+ * </p>
+ *
  * @author zhaojun
  * @author zhangliang
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class BackendConnection implements AutoCloseable {
     
+    private static final int MAX_CACHED_PREPARED_STATEMENTS_PER_CONNECTION = 256;
+    
+    private static final int MAX_HELD_CURSORS_PER_SESSION = 16;
+    
+    private final long idleTimeoutMilliseconds;
+    
     @Getter
-    private final RuleRegistry ruleRegistry;
+    private RuleRegistry ruleRegistry;
     
-    private final Collection<Connection> cachedConnections = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Connection>> cachedConnections = new HashMap<>();
+    
+    private final Map<String, Integer> usedConnectionCounts = new HashMap<>();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Map<Connection, Map<List<Object>, PreparedStatement>> cachedPreparedStatements = new HashMap<>();
+    
+    private final Collection<Statement> usedPreparedStatements = new CopyOnWriteArrayList<>();
+    
+    private final Collection<BulkheadPermit> bulkheadPermits = new LinkedList<>();
+    
+    private final Map<QueryResultCache, Collection<String>> modifiedTableNames = new HashMap<>();
+    
+    private final Collection<CursorResources> heldCursorResources = new LinkedList<>();
+    
+    @Getter
+    private volatile boolean inTransaction;
+    
+    private boolean masterVisited;
+    
+    private Map<MasterSlaveRule, ReplicationPosition> writtenPositions = Collections.emptyMap();
+    
+    private long lastReleaseMilliseconds = System.currentTimeMillis();
+    
+    private volatile boolean closed;
+    
+    /**
+     * Prepare for command execution.
+     *
+     * <p>Connections cached for other rule registry will be released if schema changed.
+     * Master visited flag and written replication positions of session are restored into current thread, because commands of session may run on different threads.</p>
+     *
+     * @param ruleRegistry rule registry of current schema
+     * @throws SQLException SQL exception
+     */
+    public synchronized void prepare(final RuleRegistry ruleRegistry) throws SQLException {
+        if (ruleRegistry != this.ruleRegistry) {
+            throwSQLExceptionIfNecessary(closeConnections());
+            this.ruleRegistry = ruleRegistry;
+        }
+        if (masterVisited) {
+            MasterVisitedManager.setMasterVisited();
+        } else {
+            MasterVisitedManager.clear();
+        }
+        ReplicationPositionManager.setWrittenPositions(writtenPositions);
+    }
+    
     /**
      * Get connection of current thread datasource.
+     * 
+     * <p>Cached connection of data source will be reused if it is not used by current command.</p>
      *
      * @param dataSourceName data source name
      * @return connection
      * @throws SQLException SQL exception
      */
-    public Connection getConnection(final String dataSourceName) throws SQLException {
+    public synchronized Connection getConnection(final String dataSourceName) throws SQLException {
+        if (closed) {
+            throw new SQLException("Backend connection is closed.");
+        }
+        List<Connection> connections = cachedConnections.get(dataSourceName);
+        if (null == connections) {
+            connections = new ArrayList<>();
+            cachedConnections.put(dataSourceName, connections);
+        }
+        int usedCount = usedConnectionCounts.containsKey(dataSourceName) ? usedConnectionCounts.get(dataSourceName) : 0;
+        usedConnectionCounts.put(dataSourceName, usedCount + 1);
+        if (usedCount < connections.size()) {
+            return connections.get(usedCount);
+        }
         Connection result = ruleRegistry.getBackendDataSource().getConnection(dataSourceName);
-        cachedConnections.add(result);
+        connections.add(result);
+        return result;
+    }
+    
+    /**
+     * Hold bulkhead permit of current command.
+     *
+     * <p>Bulkhead permit will be released when command released, or when cursor closed if resources of command are held by cursor.</p>
+     *
+     * @param bulkheadPermit bulkhead permit
+     */
+    public synchronized void holdBulkheadPermit(final BulkheadPermit bulkheadPermit) {
+        bulkheadPermits.add(bulkheadPermit);
+    }
+    
+    /**
+     * Prepare statement on connection.
+     *
+     * <p>Prepared statement cached on connection will be reused if it is not used by current command, otherwise new one will be prepared.</p>
+     *
+     * @param connection connection
+     * @param sql SQL to be prepared
+     * @param isReturnGeneratedKeys is return generated keys
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public synchronized PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        Map<List<Object>, PreparedStatement> preparedStatements = cachedPreparedStatements.get(connection);
+        if (null == preparedStatements) {
+            preparedStatements = new LinkedHashMap<>(16, 0.75f, true);
+            cachedPreparedStatements.put(connection, preparedStatements);
+        }
+        List<Object> key = Arrays.<Object>asList(sql, isReturnGeneratedKeys);
+        PreparedStatement result = preparedStatements.get(key);
+        if (null != result && usedPreparedStatements.contains(result)) {
+            return createPreparedStatement(connection, sql, isReturnGeneratedKeys);
+        }
+        if (null == result || result.isClosed()) {
+            result = createPreparedStatement(connection, sql, isReturnGeneratedKeys);
+            preparedStatements.put(key, result);
+            evictPreparedStatements(preparedStatements);
+        } else {
+            result.clearParameters();
+            result.setFetchSize(0);
+        }
+        usedPreparedStatements.add(result);
         return result;
     }
     
+    private PreparedStatement createPreparedStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        return isReturnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private void evictPreparedStatements(final Map<List<Object>, PreparedStatement> preparedStatements) {
+        Iterator<PreparedStatement> iterator = preparedStatements.values().iterator();
+        while (preparedStatements.size() > MAX_CACHED_PREPARED_STATEMENTS_PER_CONNECTION && iterator.hasNext()) {
+            PreparedStatement each = iterator.next();
+            if (!usedPreparedStatements.contains(each)) {
+                iterator.remove();
+                try {
+                    each.close();
+                } catch (final SQLException ignore) {
+                }
+            }
+        }
+    }
+    
     /**
      * Add statement.
      *
+     * <p>Statement will be closed when command released, except prepared statement cached on connection.</p>
+     *
      * @param statement statement to be added
      */
     public void add(final Statement statement) {
-        cachedStatements.add(statement);
+        if (!usedPreparedStatements.contains(statement)) {
+            cachedStatements.add(statement);
+        }
     }
     
     /**
@@ -79,11 +244,121 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Judge cursor can be held or not.
+     *
+     * <p>Cursors held by session are limited, rows should be sent without cursor if limit reached.</p>
+     *
+     * @return cursor can be held or not
+     */
+    public synchronized boolean canHoldCursor() {
+        removeClosedCursorResources();
+        return heldCursorResources.size() < MAX_HELD_CURSORS_PER_SESSION;
+    }
+    
+    private void removeClosedCursorResources() {
+        for (Iterator<CursorResources> iterator = heldCursorResources.iterator(); iterator.hasNext();) {
+            if (iterator.next().isClosed()) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    /**
+     * Hold resources of current command for cursor.
+     *
+     * <p>Result sets, statements and connections used by current command are detached from session,
+     * they are not closed when command released and not reused by later commands, until cursor closed, idle timeout or session closed.</p>
+     *
+     * @return backend resources held by cursor
+     */
+    public synchronized CursorResources holdCursorResources() {
+        Collection<ResultSet> resultSets = new LinkedList<>(cachedResultSets);
+        cachedResultSets.clear();
+        Collection<Statement> statements = new LinkedList<>(cachedStatements);
+        cachedStatements.clear();
+        Collection<Connection> connections = new LinkedList<>();
+        for (Entry<String, Integer> entry : usedConnectionCounts.entrySet()) {
+            List<Connection> dataSourceConnections = cachedConnections.get(entry.getKey());
+            for (int i = 0; i < entry.getValue() && !dataSourceConnections.isEmpty(); i++) {
+                Connection connection = dataSourceConnections.remove(0);
+                connections.add(connection);
+                Map<List<Object>, PreparedStatement> preparedStatements = cachedPreparedStatements.remove(connection);
+                if (null != preparedStatements) {
+                    statements.addAll(preparedStatements.values());
+                }
+            }
+            if (dataSourceConnections.isEmpty()) {
+                cachedConnections.remove(entry.getKey());
+            }
+        }
+        usedConnectionCounts.clear();
+        usedPreparedStatements.clear();
+        Collection<BulkheadPermit> permits = new LinkedList<>(bulkheadPermits);
+        bulkheadPermits.clear();
+        CursorResources result = new CursorResources(resultSets, statements, connections, permits);
+        heldCursorResources.add(result);
+        return result;
+    }
+    
+    /**
+     * Invalidate query result cache of modified logic tables.
+     *
+     * <p>Query result cache is invalidated immediately in auto commit mode, and in LOCAL transaction which does not send TCL to backend.
+     * While in XA transaction, modifications are invisible to other sessions until committed, results cached by them before committed will be stale,
+     * so modified logic tables are recorded and invalidated when transaction committed or rolled back.</p>
+     *
+     * @param queryResultCache query result cache of current schema
+     * @param tableNames modified logic table names
+     */
+    public synchronized void invalidateQueryResultCache(final QueryResultCache queryResultCache, final Collection<String> tableNames) {
+        if (!inTransaction || TransactionType.XA != ProxyContext.getInstance().getTransactionType()) {
+            queryResultCache.invalidate(tableNames);
+            return;
+        }
+        Collection<String> tableNamesOfCache = modifiedTableNames.get(queryResultCache);
+        if (null == tableNamesOfCache) {
+            tableNamesOfCache = new LinkedHashSet<>();
+            modifiedTableNames.put(queryResultCache, tableNamesOfCache);
+        }
+        tableNamesOfCache.addAll(tableNames);
+    }
+    
+    /**
+     * Set in transaction or not.
+     *
+     * <p>Cached connections will be released when transaction begins or finishes, to make connections enlisted in current transaction only.
+     * Master visited flag will be cleared unless written replication positions cannot be recorded,
+     * and query result cache of logic tables modified in transaction will be invalidated when transaction finished.</p>
+     *
+     * @param inTransaction in transaction or not
+     * @throws SQLException SQL exception
+     */
+    public synchronized void setInTransaction(final boolean inTransaction) throws SQLException {
+        if (this.inTransaction == inTransaction) {
+            return;
+        }
+        this.inTransaction = inTransaction;
+        if (!inTransaction) {
+            masterVisited = MasterVisitedManager.isMasterVisited() && !recordWrittenPositions();
+            if (!masterVisited) {
+                MasterVisitedManager.clear();
+            }
+            invalidateModifiedTables();
+        }
+        throwSQLExceptionIfNecessary(closeConnections());
+    }
+    
     /**
      * Cancel statement.
      */
     public void cancel() {
-        for (Statement each : cachedStatements) {
+        cancel(cachedStatements);
+        cancel(usedPreparedStatements);
+    }
+    
+    private void cancel(final Collection<Statement> statements) {
+        for (Statement each : statements) {
             try {
                 each.cancel();
             } catch (final SQLException ignore) {
@@ -91,16 +366,162 @@ public final class BackendConnection implements AutoCloseable {
         }
     }
     
+    /**
+     * Release resources of command.
+     * 
+     * <p>Result sets and statements will be closed, connections and prepared statements cached on them will be kept for next command of session.
+     * All connections will be released to pool if idle timeout is not positive.
+     * Master visited flag of current thread is kept by session while in transaction or if written replication positions cannot be recorded,
+     * written replication positions of current thread are kept by session, and both are cleared from current thread.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void release() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeStatements());
+        usedPreparedStatements.clear();
+        usedConnectionCounts.clear();
+        releaseBulkheadPermits();
+        lastReleaseMilliseconds = System.currentTimeMillis();
+        masterVisited = MasterVisitedManager.isMasterVisited() && (inTransaction || !recordWrittenPositions());
+        writtenPositions = ReplicationPositionManager.getWrittenPositions();
+        MasterVisitedManager.clear();
+        ReplicationPositionManager.clear();
+        if (!inTransaction && idleTimeoutMilliseconds <= 0L) {
+            exceptions.addAll(closeConnections());
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    /**
+     * Release connections to pool if session is idle, and close cursors not fetched within idle timeout.
+     *
+     * @return milliseconds remained before next idle timeout, 0 if no connection cached and no cursor held
+     * @throws SQLException SQL exception
+     */
+    public synchronized long releaseIfIdle() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        long result = closeIdleCursors(exceptions);
+        if (!cachedConnections.isEmpty()) {
+            long idleMilliseconds = System.currentTimeMillis() - lastReleaseMilliseconds;
+            if (inTransaction || !usedConnectionCounts.isEmpty() || idleMilliseconds < idleTimeoutMilliseconds) {
+                long remainedMilliseconds = Math.max(1L, idleTimeoutMilliseconds - idleMilliseconds);
+                result = 0L == result ? remainedMilliseconds : Math.min(result, remainedMilliseconds);
+            } else {
+                exceptions.addAll(closeConnections());
+            }
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+        return result;
+    }
+    
+    private long closeIdleCursors(final Collection<SQLException> exceptions) {
+        long result = 0L;
+        for (Iterator<CursorResources> iterator = heldCursorResources.iterator(); iterator.hasNext();) {
+            long remainedMilliseconds;
+            try {
+                remainedMilliseconds = iterator.next().closeIfIdle(idleTimeoutMilliseconds);
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+                remainedMilliseconds = 0L;
+            }
+            if (0L == remainedMilliseconds) {
+                iterator.remove();
+            } else {
+                result = 0L == result ? remainedMilliseconds : Math.min(result, remainedMilliseconds);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of cached connections.
+     *
+     * @return count of cached connections
+     */
+    public synchronized int getConnectionSize() {
+        int result = 0;
+        for (List<Connection> each : cachedConnections.values()) {
+            result += each.size();
+        }
+        return result;
+    }
+    
     @Override
-    public void close() throws SQLException {
+    public synchronized void close() throws SQLException {
+        closed = true;
         Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeHeldCursors());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeConnections());
+        usedPreparedStatements.clear();
+        usedConnectionCounts.clear();
+        releaseBulkheadPermits();
+        inTransaction = false;
+        masterVisited = false;
+        writtenPositions = Collections.emptyMap();
         MasterVisitedManager.clear();
+        ReplicationPositionManager.clear();
+        invalidateModifiedTables();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeHeldCursors() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CursorResources each : heldCursorResources) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        heldCursorResources.clear();
+        return result;
+    }
+    
+    private boolean recordWrittenPositions() {
+        ReplicationLagMonitor replicationLagMonitor = null == ruleRegistry ? null : ruleRegistry.getReplicationLagMonitor();
+        if (null == replicationLagMonitor) {
+            return true;
+        }
+        boolean result = false;
+        for (Entry<String, List<Connection>> entry : cachedConnections.entrySet()) {
+            if (!replicationLagMonitor.isMasterDataSource(entry.getKey()) || entry.getValue().isEmpty()) {
+                continue;
+            }
+            if (!recordWrittenPosition(replicationLagMonitor, entry.getKey(), entry.getValue().get(0))) {
+                return false;
+            }
+            result = true;
+        }
+        return result;
+    }
+    
+    private boolean recordWrittenPosition(final ReplicationLagMonitor replicationLagMonitor, final String masterDataSourceName, final Connection connection) {
+        try {
+            return replicationLagMonitor.recordWrittenPosition(masterDataSourceName, connection);
+        } catch (final SQLException ex) {
+            log.warn(String.format("Cannot fetch written position of master data source '%s', route reads to master data source", masterDataSourceName), ex);
+            return false;
+        }
+    }
+    
+    private void invalidateModifiedTables() {
+        for (Entry<QueryResultCache, Collection<String>> entry : modifiedTableNames.entrySet()) {
+            entry.getKey().invalidate(entry.getValue());
+        }
+        modifiedTableNames.clear();
+    }
+    
+    private void releaseBulkheadPermits() {
+        for (BulkheadPermit each : bulkheadPermits) {
+            each.release();
+        }
+        bulkheadPermits.clear();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -110,6 +531,7 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedResultSets.clear();
         return result;
     }
     
@@ -122,18 +544,37 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedStatements.clear();
         return result;
     }
     
-    private Collection<SQLException> closeConnections() {
+    private Collection<SQLException> closePreparedStatements() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : cachedConnections) {
-            try {
-                each.close();
-            } catch (SQLException ex) {
-                result.add(ex);
+        for (Map<List<Object>, PreparedStatement> preparedStatements : cachedPreparedStatements.values()) {
+            for (PreparedStatement each : preparedStatements.values()) {
+                try {
+                    each.close();
+                } catch (final SQLException ex) {
+                    result.add(ex);
+                }
+            }
+        }
+        cachedPreparedStatements.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeConnections() {
+        Collection<SQLException> result = new LinkedList<>(closePreparedStatements());
+        for (List<Connection> connections : cachedConnections.values()) {
+            for (Connection each : connections) {
+                try {
+                    each.close();
+                } catch (SQLException ex) {
+                    result.add(ex);
+                }
             }
         }
+        cachedConnections.clear();
         return result;
     }
     
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Backend resources held by cursor.
+ *
+ * <p>Result sets, statements, connections and bulkhead permits are detached from backend connection, and closed or released when cursor closed.
+ * Cursor not fetched within idle timeout is closed by backend connection, to avoid holding them by client which never fetches.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CursorResources implements AutoCloseable {
+    
+    private final Collection<ResultSet> resultSets;
+    
+    private final Collection<Statement> statements;
+    
+    private final Collection<Connection> connections;
+    
+    private final Collection<BulkheadPermit> bulkheadPermits;
+    
+    private boolean closed;
+    
+    private boolean fetching;
+    
+    private long lastFetchMilliseconds = System.currentTimeMillis();
+    
+    /**
+     * Start fetching rows.
+     *
+     * @return started or not, false if cursor already closed
+     */
+    public synchronized boolean startFetch() {
+        if (closed) {
+            return false;
+        }
+        fetching = true;
+        return true;
+    }
+    
+    /**
+     * Finish fetching rows.
+     */
+    public synchronized void finishFetch() {
+        fetching = false;
+        lastFetchMilliseconds = System.currentTimeMillis();
+    }
+    
+    /**
+     * Judge cursor is closed or not.
+     *
+     * @return cursor is closed or not
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+    
+    /**
+     * Close cursor if it is not fetched within idle timeout.
+     *
+     * @param idleTimeoutMilliseconds idle timeout milliseconds
+     * @return milliseconds remained before idle timeout, 0 if cursor closed
+     * @throws SQLException SQL exception
+     */
+    synchronized long closeIfIdle(final long idleTimeoutMilliseconds) throws SQLException {
+        if (closed) {
+            return 0L;
+        }
+        long idleMilliseconds = System.currentTimeMillis() - lastFetchMilliseconds;
+        if (fetching || idleMilliseconds < idleTimeoutMilliseconds) {
+            return Math.max(1L, idleTimeoutMilliseconds - idleMilliseconds);
+        }
+        close();
+        return 0L;
+    }
+    
+    @Override
+    public synchronized void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (ResultSet each : resultSets) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (Statement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (Connection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (BulkheadPermit each : bulkheadPermits) {
+            each.release();
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        for (SQLException each : exceptions) {
+            ex.setNextException(each);
+        }
+        throw ex;
+    }
+}
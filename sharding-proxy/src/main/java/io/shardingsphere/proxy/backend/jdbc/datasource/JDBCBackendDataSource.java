@@ -94,7 +94,12 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return getDataSourceMap().get(dataSourceName).getConnection();
     }
     
-    private Map<String, DataSource> getDataSourceMap() {
+    /**
+     * Get available data source map.
+     *
+     * @return available data source map
+     */
+    public Map<String, DataSource> getDataSourceMap() {
         if (!ruleRegistry.getDisabledDataSourceNames().isEmpty()) {
             return getAvailableDataSourceMap();
         }
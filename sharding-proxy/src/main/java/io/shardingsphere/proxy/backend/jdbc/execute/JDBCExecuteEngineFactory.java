@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.memory.ConnectionStrictlyExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.stream.MemoryStrictlyExecuteEngine;
@@ -55,12 +56,13 @@ public final class JDBCExecuteEngineFactory {
     /**
      * Create instance for binary protocol.
      *
+     * @param sqlStatement SQL statement parsed when prepared
      * @param parameters parameters of prepared statement
      * @param backendConnection backend connection
      * @return instance for binary protocol
      */
-    public static JDBCExecuteEngine createBinaryProtocolInstance(final List<Object> parameters, final BackendConnection backendConnection) {
-        JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(backendConnection.getRuleRegistry(), parameters);
+    public static JDBCExecuteEngine createBinaryProtocolInstance(final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection) {
+        JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(backendConnection, sqlStatement, parameters);
         return ConnectionMode.MEMORY_STRICTLY == PROXY_CONTEXT.getConnectionMode()
                 ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
     }
@@ -17,13 +17,16 @@
 
 package io.shardingsphere.proxy.backend.jdbc.execute.memory;
 
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.BulkheadPermit;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorDataMap;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
@@ -49,7 +52,9 @@ import lombok.RequiredArgsConstructor;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 
 /**
@@ -60,14 +65,20 @@ import java.util.Map;
  */
 public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
     
+    private static final Integer FETCH_ONE_ROW_A_TIME = Integer.MIN_VALUE;
+    
+    private final Collection<Statement> streamQueryStatements = new HashSet<>();
+    
     private final SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
     public ConnectionStrictlyExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         super(backendConnection, jdbcExecutorWrapper);
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(ProxyContext.getInstance().getMaxConnectionsSizePerQuery());
-        sqlExecuteTemplate = new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine());
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(ProxyContext.getInstance().getMaxConnectionsSizePerQuery(), 
+                BackendExecutorContext.getInstance().getExecuteBulkhead(), BackendExecutorContext.getInstance().getCircuitBreaker(), BackendExecutorContext.getInstance().getStatisticsRegistry());
+        sqlExecuteTemplate = new SQLExecuteTemplate(
+                BackendExecutorContext.getInstance().getExecuteEngine(), BackendExecutorContext.getInstance().getCircuitBreaker(), BackendExecutorContext.getInstance().getStatisticsRegistry());
     }
     
     @SuppressWarnings("unchecked")
@@ -77,6 +88,7 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
         SQLType sqlType = routeResult.getSqlStatement().getType();
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        streamQueryStatements.clear();
         Collection<ShardingExecuteGroup<SQLExecuteUnit>> sqlExecuteGroups = 
                 sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new ConnectionStrictlySQLExecutePrepareCallback(isReturnGeneratedKeys));
         Collection<ExecuteResponseUnit> executeResponseUnits = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
@@ -97,7 +109,7 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
     
     @Override
     protected QueryResult createQueryResult(final ResultSet resultSet) throws SQLException {
-        return new MemoryQueryResult(resultSet);
+        return streamQueryStatements.contains(resultSet.getStatement()) ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
     }
     
     @RequiredArgsConstructor
@@ -105,14 +117,24 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
         
         private final boolean isReturnGeneratedKeys;
         
+        @Override
+        public void holdBulkheadPermit(final BulkheadPermit bulkheadPermit) {
+            getBackendConnection().holdBulkheadPermit(bulkheadPermit);
+        }
+        
         @Override
         public Connection getConnection(final String dataSourceName) throws SQLException {
             return getBackendConnection().getConnection(dataSourceName);
         }
         
         @Override
-        public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit) throws SQLException {
-            return new StatementExecuteUnit(routeUnit, getJdbcExecutorWrapper().createStatement(connection, routeUnit.getSqlUnit().getSql(), isReturnGeneratedKeys));
+        public SQLExecuteUnit createSQLExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
+            Statement statement = getJdbcExecutorWrapper().createStatement(connection, routeUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
+            if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+                statement.setFetchSize(FETCH_ONE_ROW_A_TIME);
+                streamQueryStatements.add(statement);
+            }
+            return new StatementExecuteUnit(routeUnit, statement);
         }
     }
     
@@ -22,6 +22,8 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.sql.SQLExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.breaker.SQLExecuteCircuitBreaker;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorDataMap;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
@@ -65,7 +67,8 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     
     public MemoryStrictlyExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         super(backendConnection, jdbcExecutorWrapper);
-        sqlExecuteTemplate = new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine());
+        sqlExecuteTemplate = new SQLExecuteTemplate(
+                BackendExecutorContext.getInstance().getExecuteEngine(), BackendExecutorContext.getInstance().getCircuitBreaker(), BackendExecutorContext.getInstance().getStatisticsRegistry());
     }
     
     @Override
@@ -96,6 +99,16 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     
     private List<Connection> getConnections(final SQLRouteResult routeResult) throws SQLException {
         List<Connection> result = new ArrayList<>(routeResult.getRouteUnits().size());
+        SQLExecuteCircuitBreaker circuitBreaker = BackendExecutorContext.getInstance().getCircuitBreaker();
+        if (null != circuitBreaker) {
+            for (RouteUnit each : routeResult.getRouteUnits()) {
+                circuitBreaker.checkAvailable(each.getDataSourceName());
+            }
+        }
+        SQLExecuteBulkhead executeBulkhead = BackendExecutorContext.getInstance().getExecuteBulkhead();
+        if (null != executeBulkhead) {
+            getBackendConnection().holdBulkheadPermit(executeBulkhead.acquire(routeResult.getRouteUnits()));
+        }
         synchronized (MemoryStrictlyExecuteEngine.class) {
             for (RouteUnit each : routeResult.getRouteUnits()) {
                 result.add(getBackendConnection().getConnection(each.getDataSourceName()));
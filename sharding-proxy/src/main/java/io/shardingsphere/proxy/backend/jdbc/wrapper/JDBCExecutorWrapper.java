@@ -19,6 +19,7 @@ package io.shardingsphere.proxy.backend.jdbc.wrapper;
 
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheKey;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -61,4 +62,12 @@ public interface JDBCExecutorWrapper {
      * @throws SQLException SQL exception
      */
     boolean executeSQL(Statement statement, String sql, boolean isReturnGeneratedKeys) throws SQLException;
+    
+    /**
+     * Create key of query result cache.
+     * 
+     * @param sql SQL to be executed
+     * @return key of query result cache
+     */
+    QueryResultCacheKey createQueryResultCacheKey(String sql);
 }
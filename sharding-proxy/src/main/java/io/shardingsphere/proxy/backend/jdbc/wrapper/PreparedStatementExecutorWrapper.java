@@ -25,53 +25,67 @@ import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
+import io.shardingsphere.proxy.backend.BackendExecutorContext;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheKey;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.RuleRegistry;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Executor wrapper for prepared statement.
  *
+ * <p>SQL statement parsed when prepared is reused for routing, backend prepared statements are reused from backend connection.</p>
+ *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapper {
     
     private static final ProxyContext PROXY_CONTEXT = ProxyContext.getInstance();
     
+    private final BackendConnection backendConnection;
+    
     private final RuleRegistry ruleRegistry;
     
+    private final SQLStatement sqlStatement;
+    
     private final List<Object> parameters;
     
+    public PreparedStatementExecutorWrapper(final BackendConnection backendConnection, final SQLStatement sqlStatement, final List<Object> parameters) {
+        this.backendConnection = backendConnection;
+        ruleRegistry = backendConnection.getRuleRegistry();
+        this.sqlStatement = sqlStatement;
+        this.parameters = parameters;
+    }
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         return ruleRegistry.isMasterSlaveOnly() ? doMasterSlaveRoute(sql) : doShardingRoute(sql, databaseType);
     }
     
     private SQLRouteResult doMasterSlaveRoute(final String sql) {
-        SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
-        SQLRouteResult result = new SQLRouteResult(sqlStatement);
-        for (String each : new MasterSlaveRouter(ruleRegistry.getMasterSlaveRule(), PROXY_CONTEXT.isShowSQL()).route(sql)) {
+        SQLRouteResult result = new SQLRouteResult(null == sqlStatement ? new SQLJudgeEngine(sql).judge() : sqlStatement);
+        for (String each : new MasterSlaveRouter(ruleRegistry.getMasterSlaveRule(), PROXY_CONTEXT.isShowSQL(), BackendExecutorContext.getInstance().getStatisticsRegistry()).route(sql)) {
             result.getRouteUnits().add(new RouteUnit(each, new SQLUnit(sql, Collections.<List<Object>>emptyList())));
         }
         return result;
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        return new PreparedStatementRoutingEngine(
-                sql, ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable(), databaseType, PROXY_CONTEXT.isShowSQL(), ruleRegistry.getMetaData().getDataSource()).route(parameters);
+        return new PreparedStatementRoutingEngine(sql, sqlStatement, ruleRegistry.getShardingRule(), ruleRegistry.getMetaData().getTable(), 
+                databaseType, PROXY_CONTEXT.isShowSQL(), ruleRegistry.getMetaData().getDataSource(), BackendExecutorContext.getInstance().getStatisticsRegistry()).route(parameters);
     }
     
     @Override
     public Statement createStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
-        PreparedStatement result = isReturnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        PreparedStatement result = backendConnection.prepareStatement(connection, sql, isReturnGeneratedKeys);
         for (int i = 0; i < parameters.size(); i++) {
             result.setObject(i + 1, parameters.get(i));
         }
@@ -82,4 +96,9 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     public boolean executeSQL(final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
         return ((PreparedStatement) statement).execute();
     }
+    
+    @Override
+    public QueryResultCacheKey createQueryResultCacheKey(final String sql) {
+        return new QueryResultCacheKey(sql, new ArrayList<>(parameters), true);
+    }
 }
@@ -29,6 +29,7 @@ import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.RouteUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
@@ -48,6 +49,9 @@ import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -210,14 +214,31 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(ruleRegistry.getShardingRule(), queryResults, sqlStatement, ruleRegistry.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    ruleRegistry.getShardingRule(), queryResults, sqlStatement, ruleRegistry.getMetaData().getTable(), PROXY_CONTEXT.getShardingProperties()).merge();
             if (mergedResult instanceof ShowDatabasesMergedResult) {
                 mergedResult = new ShowDatabasesMergedResult(PROXY_CONTEXT.getSchemaNames());
             }
         } catch (final SQLException ex) {
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
-        return packets.get(0);
+        return sqlStatement instanceof SelectStatement ? getPacketsWithOriginalColumnLabels(packets.get(0), ((SelectStatement) sqlStatement).getOriginalColumnLabels()) : packets.get(0);
+    }
+    
+    private CommandResponsePackets getPacketsWithOriginalColumnLabels(final CommandResponsePackets packets, final Map<String, String> originalColumnLabels) {
+        if (originalColumnLabels.isEmpty()) {
+            return packets;
+        }
+        CommandResponsePackets result = new CommandResponsePackets();
+        for (DatabasePacket each : packets.getPackets()) {
+            if (each instanceof ColumnDefinition41Packet && originalColumnLabels.containsKey(((ColumnDefinition41Packet) each).getName())) {
+                ColumnDefinition41Packet columnDefinition41Packet = (ColumnDefinition41Packet) each;
+                result.getPackets().add(columnDefinition41Packet.rename(originalColumnLabels.get(columnDefinition41Packet.getName())));
+            } else {
+                result.getPackets().add(each);
+            }
+        }
+        return result;
     }
     
     // TODO :jiaqi use sql packet to refresh meta data
@@ -231,6 +252,9 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     @Override
     public boolean next() throws SQLException {
         if (null == mergedResult || !mergedResult.next()) {
+            if (null != mergedResult) {
+                mergedResult.close();
+            }
             channelRelease();
             return false;
         }
@@ -246,6 +270,16 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         return new ResultPacket(++currentSequenceId, data, columnCount, Collections.<ColumnType>emptyList());
     }
     
+    @Override
+    public List<ColumnType> getColumnTypes() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public EncodedResultSetRowPacket getResultValue(final ResultSetRowEncoder rowEncoder) throws SQLException {
+        return rowEncoder.encode(++currentSequenceId, mergedResult);
+    }
+    
     private void channelRelease() {
         for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
             for (Channel each : entry.getValue()) {
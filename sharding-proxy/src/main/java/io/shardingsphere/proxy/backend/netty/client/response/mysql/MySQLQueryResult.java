@@ -19,6 +19,8 @@ package io.shardingsphere.proxy.backend.netty.client.response.mysql;
 
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.util.NumberUtil;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
@@ -175,6 +177,11 @@ public final class MySQLQueryResult implements QueryResult {
         return columnIndexAndLabelMap.get(columnIndex);
     }
     
+    @Override
+    public int getColumnType(final int columnIndex) {
+        return ColumnType.toJDBCType(columnDefinitions.get(columnIndex - 1).getColumnType());
+    }
+    
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
         return currentRow.getData().get(columnIndex - 1);
@@ -185,6 +192,36 @@ public final class MySQLQueryResult implements QueryResult {
         return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
+    @Override
+    public int getInt(final int columnIndex) {
+        return NumberUtil.getIntValue(getValue(columnIndex, int.class));
+    }
+    
+    @Override
+    public int getInt(final String columnLabel) {
+        return NumberUtil.getIntValue(getValue(columnLabel, int.class));
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return NumberUtil.getLongValue(getValue(columnIndex, long.class));
+    }
+    
+    @Override
+    public long getLong(final String columnLabel) {
+        return NumberUtil.getLongValue(getValue(columnLabel, long.class));
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return NumberUtil.getDoubleValue(getValue(columnIndex, double.class));
+    }
+    
+    @Override
+    public double getDouble(final String columnLabel) {
+        return NumberUtil.getDoubleValue(getValue(columnLabel, double.class));
+    }
+    
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         return currentRow.getData().get(columnIndex - 1);
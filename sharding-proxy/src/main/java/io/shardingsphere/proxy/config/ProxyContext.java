@@ -69,14 +69,28 @@ public final class ProxyContext {
     
     private int executorSize;
     
+    private int executorMaxConcurrency;
+    
+    private int executorMaxConcurrencyPerDataSource;
+    
+    private int executorMaxQueueSize;
+    
+    private long executorMaxQueueWaitMilliseconds;
+    
     private ConnectionMode connectionMode;
     
     private TransactionType transactionType;
     
     private BackendNIOConfiguration backendNIOConfig;
     
+    private long backendConnectionIdleTimeoutMilliseconds;
+    
+    private int metricsPort;
+    
     private boolean isCircuitBreak;
     
+    private ShardingProperties shardingProperties = new ShardingProperties(new Properties());
+    
     /**
      * Get instance of proxy context.
      *
@@ -111,7 +125,7 @@ public final class ProxyContext {
     
     private void initServerConfiguration(final YamlServerConfiguration serverConfig) {
         Properties properties = serverConfig.getProps();
-        ShardingProperties shardingProperties = new ShardingProperties(null == properties ? new Properties() : properties);
+        shardingProperties = new ShardingProperties(null == properties ? new Properties() : properties);
         connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         // TODO just config proxy.transaction.enable here, in future(3.1.0)
@@ -119,12 +133,18 @@ public final class ProxyContext {
         showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         acceptorSize = shardingProperties.getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE);
         executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        executorMaxConcurrency = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY);
+        executorMaxConcurrencyPerDataSource = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE);
+        executorMaxQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_SIZE);
+        executorMaxQueueWaitMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_WAIT_MILLISECONDS);
         // TODO :jiaqi force off use NIO for backend, this feature is not complete yet
         useNIO = false;
         // boolean proxyBackendUseNio = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
         int databaseConnectionCount = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_CONNECTIONS);
         int connectionTimeoutSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS);
         backendNIOConfig = new BackendNIOConfiguration(databaseConnectionCount, connectionTimeoutSeconds);
+        backendConnectionIdleTimeoutMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_IDLE_TIMEOUT_MILLISECONDS);
+        metricsPort = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_METRICS_PORT);
         proxyAuthority = serverConfig.getProxyAuthority();
     }
     
@@ -177,7 +197,7 @@ public final class ProxyContext {
     public void renew(final ProxyConfigurationEventBusEvent proxyConfigurationEventBusEvent) {
         initServerConfiguration(proxyConfigurationEventBusEvent.getServerConfiguration());
         for (Entry<String, RuleRegistry> entry : ruleRegistryMap.entrySet()) {
-            entry.getValue().getBackendDataSource().close();
+            entry.getValue().close();
         }
         ruleRegistryMap.clear();
         for (Entry<String, Map<String, DataSourceParameter>> entry : proxyConfigurationEventBusEvent.getSchemaDataSourceMap().entrySet()) {
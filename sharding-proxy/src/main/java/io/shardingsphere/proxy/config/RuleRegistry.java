@@ -20,11 +20,15 @@ package io.shardingsphere.proxy.config;
 import io.shardingsphere.core.yaml.YamlRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCache;
 import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
 import lombok.Getter;
 import lombok.Setter;
@@ -57,6 +61,10 @@ public final class RuleRegistry {
     
     private final JDBCBackendDataSource backendDataSource;
     
+    private final QueryResultCache queryResultCache;
+    
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     private ShardingMetaData metaData;
     
     @Setter
@@ -69,6 +77,22 @@ public final class RuleRegistry {
         shardingRule = new ShardingRule(null == rule.getShardingRule() ? new ShardingRuleConfiguration() : rule.getShardingRule().getShardingRuleConfiguration(), dataSources.keySet());
         masterSlaveRule = null == rule.getMasterSlaveRule() ? null : new MasterSlaveRule(rule.getMasterSlaveRule().getMasterSlaveRuleConfiguration());
         backendDataSource = new JDBCBackendDataSource(this);
+        queryResultCache = new QueryResultCache(rule.getQueryResultCache());
+        replicationLagMonitor = createReplicationLagMonitor();
+    }
+    
+    private ReplicationLagMonitor createReplicationLagMonitor() {
+        ShardingProperties shardingProperties = ProxyContext.getInstance().getShardingProperties();
+        boolean readYourWritesEnabled = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_READ_YOUR_WRITES_ENABLED);
+        Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>(shardingRule.getMasterSlaveRules());
+        if (null != masterSlaveRule) {
+            masterSlaveRules.add(masterSlaveRule);
+        }
+        if (!readYourWritesEnabled || masterSlaveRules.isEmpty()) {
+            return null;
+        }
+        long pollIntervalMilliseconds = shardingProperties.getValue(ShardingPropertiesConstant.MASTER_SLAVE_REPLICATION_POLL_INTERVAL_MILLISECONDS);
+        return new ReplicationLagMonitor(DatabaseType.MySQL, masterSlaveRules, backendDataSource.getDataSourceMap(), pollIntervalMilliseconds);
     }
     
     /**
@@ -117,4 +141,14 @@ public final class RuleRegistry {
         }
         return result;
     }
+    
+    /**
+     * Close backend data sources and replication lag monitor.
+     */
+    public void close() {
+        if (null != replicationLagMonitor) {
+            replicationLagMonitor.close();
+        }
+        backendDataSource.close();
+    }
 }
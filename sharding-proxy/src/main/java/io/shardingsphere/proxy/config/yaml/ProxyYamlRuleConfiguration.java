@@ -19,6 +19,7 @@ package io.shardingsphere.proxy.config.yaml;
 
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.yaml.masterslave.YamlMasterSlaveRuleConfiguration;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheConfiguration;
 import io.shardingsphere.core.yaml.sharding.YamlShardingRuleConfiguration;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,4 +43,6 @@ public final class ProxyYamlRuleConfiguration {
     private YamlShardingRuleConfiguration shardingRule;
     
     private YamlMasterSlaveRuleConfiguration masterSlaveRule;
+    
+    private YamlQueryResultCacheConfiguration queryResultCache;
 }
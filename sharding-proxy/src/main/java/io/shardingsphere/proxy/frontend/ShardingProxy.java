@@ -30,10 +30,15 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.shardingsphere.core.metrics.ExecutorMetricsCollector;
+import io.shardingsphere.core.metrics.DataSourceMetricsCollector;
+import io.shardingsphere.core.metrics.MetricsRegistry;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.netty.client.BackendNettyClientManager;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.netty.ServerHandlerInitializer;
+import io.shardingsphere.proxy.metrics.MetricsHttpServer;
+import io.shardingsphere.proxy.metrics.ProxyMetricsCollector;
 
 /**
  * Sharding-Proxy.
@@ -54,6 +59,8 @@ public final class ShardingProxy {
     
     private EventLoopGroup userGroup;
     
+    private MetricsHttpServer metricsHttpServer;
+    
     public ShardingProxy() {
         PROXY_CONTEXT.initShardingMetaData(backendExecutorContext.getExecuteEngine());
     }
@@ -69,6 +76,7 @@ public final class ShardingProxy {
             if (PROXY_CONTEXT.isUseNIO()) {
                 BackendNettyClientManager.getInstance().start();
             }
+            startMetrics();
             ServerBootstrap bootstrap = new ServerBootstrap();
             bossGroup = createEventLoopGroup();
             if (bossGroup instanceof EpollEventLoopGroup) {
@@ -79,6 +87,9 @@ public final class ShardingProxy {
             ChannelFuture future = bootstrap.bind(port).sync();
             future.channel().closeFuture().sync();
         } finally {
+            if (null != metricsHttpServer) {
+                metricsHttpServer.close();
+            }
             userGroup.shutdownGracefully();
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
@@ -89,6 +100,16 @@ public final class ShardingProxy {
         }
     }
     
+    private void startMetrics() throws InterruptedException {
+        MetricsRegistry.getInstance().register(new ExecutorMetricsCollector(backendExecutorContext.getExecuteEngine(), backendExecutorContext.getExecuteBulkhead(), backendExecutorContext.getCircuitBreaker()));
+        MetricsRegistry.getInstance().register(new DataSourceMetricsCollector(backendExecutorContext.getStatisticsRegistry()));
+        MetricsRegistry.getInstance().register(new ProxyMetricsCollector());
+        if (PROXY_CONTEXT.getMetricsPort() > 0) {
+            metricsHttpServer = new MetricsHttpServer(PROXY_CONTEXT.getMetricsPort());
+            metricsHttpServer.start();
+        }
+    }
+    
     private EventLoopGroup createEventLoopGroup() {
         try {
             return new EpollEventLoopGroup(1);
@@ -18,33 +18,51 @@
 package io.shardingsphere.proxy.frontend.common;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Frontend handler.
  * 
  * @author zhangliang 
  */
+@Slf4j
 public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     private volatile boolean authorized;
     
-    @Setter
-    private volatile BackendConnection backendConnection;
-
+    @Getter
+    private final BackendConnection backendConnection = new BackendConnection(ProxyContext.getInstance().getBackendConnectionIdleTimeoutMilliseconds());
+    
+    @Getter
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    private final AtomicBoolean idleReleaseScheduled = new AtomicBoolean();
+    
     @Getter
     @Setter
     private volatile String currentSchema;
-
+    
+    @Getter
+    private volatile ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    
     @Override
     public final void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        allocator = context.alloc();
         handshake(context);
     }
     
@@ -67,12 +85,54 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf message);
     
+    /**
+     * Schedule releasing backend connections of session when session idle.
+     * 
+     * @param context channel handler context
+     */
+    protected final void scheduleIdleRelease(final ChannelHandlerContext context) {
+        long idleTimeoutMilliseconds = ProxyContext.getInstance().getBackendConnectionIdleTimeoutMilliseconds();
+        if (idleTimeoutMilliseconds > 0L && idleReleaseScheduled.compareAndSet(false, true)) {
+            scheduleIdleRelease(context, idleTimeoutMilliseconds);
+        }
+    }
+    
+    private void scheduleIdleRelease(final ChannelHandlerContext context, final long delayMilliseconds) {
+        context.executor().schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                idleReleaseScheduled.set(false);
+                long remainedMilliseconds = releaseIfIdle();
+                if (remainedMilliseconds > 0L && idleReleaseScheduled.compareAndSet(false, true)) {
+                    scheduleIdleRelease(context, remainedMilliseconds);
+                }
+            }
+        }, delayMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private long releaseIfIdle() {
+        try {
+            return backendConnection.releaseIfIdle();
+        } catch (final SQLException ex) {
+            log.error("Release idle backend connection error", ex);
+            return 0L;
+        }
+    }
+    
     @Override
     public final void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        // TODO :yonglun investigate why null here 
-        if (null != backendConnection) {
-            backendConnection.cancel();
+        backendConnection.cancel();
+        try {
+            binaryStatementRegistry.clear();
+        } catch (final SQLException ex) {
+            log.error("Close cursor of prepared statement error", ex);
+        }
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Close backend connection error", ex);
         }
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
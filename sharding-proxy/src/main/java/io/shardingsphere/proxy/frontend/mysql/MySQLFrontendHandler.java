@@ -19,6 +19,7 @@ package io.shardingsphere.proxy.frontend.mysql;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
@@ -29,6 +30,7 @@ import io.shardingsphere.proxy.frontend.common.executor.ExecutorGroup;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketFactory;
@@ -42,6 +44,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGene
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
 
@@ -53,6 +56,7 @@ import java.sql.SQLException;
  * @author wangkai
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class MySQLFrontendHandler extends FrontendHandler {
     
     private final EventLoopGroup eventLoopGroup;
@@ -112,9 +116,9 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         
         @Override
         public void run() {
-            try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-                 BackendConnection backendConnection = new BackendConnection(ProxyContext.getInstance().getRuleRegistry(frontendHandler.getCurrentSchema()))) {
-                setBackendConnection(backendConnection);
+            BackendConnection backendConnection = frontendHandler.getBackendConnection();
+            try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
+                backendConnection.prepare(ProxyContext.getInstance().getRuleRegistry(frontendHandler.getCurrentSchema()));
                 CommandPacket commandPacket = getCommandPacket(payload, backendConnection, frontendHandler);
                 Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
                 if (!responsePackets.isPresent()) {
@@ -123,7 +127,8 @@ public final class MySQLFrontendHandler extends FrontendHandler {
                 for (DatabasePacket each : responsePackets.get().getPackets()) {
                     context.writeAndFlush(each);
                 }
-                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
+                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)
+                        && !isCursorOpened(responsePackets.get())) {
                     writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
                 }
             } catch (final SQLException ex) {
@@ -132,9 +137,25 @@ public final class MySQLFrontendHandler extends FrontendHandler {
             } catch (final Exception ex) {
                 // CHECKSTYLE:ON
                 context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+            } finally {
+                release(backendConnection);
             }
         }
         
+        private boolean isCursorOpened(final CommandResponsePackets responsePackets) {
+            DatabasePacket lastPacket = Iterables.getLast(responsePackets.getPackets());
+            return lastPacket instanceof EofPacket && 0 != (((EofPacket) lastPacket).getStatusFlags() & StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue());
+        }
+        
+        private void release(final BackendConnection backendConnection) {
+            try {
+                backendConnection.release();
+            } catch (final SQLException ex) {
+                log.error("Release backend connection error", ex);
+            }
+            scheduleIdleRelease(context);
+        }
+        
         private CommandPacket getCommandPacket(final MySQLPacketPayload payload, final BackendConnection backendConnection, final FrontendHandler frontendHandler) throws SQLException {
             int sequenceId = payload.readInt1();
             int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.CharsetUtil;
+import io.shardingsphere.core.metrics.MetricsRegistry;
+
+/**
+ * HTTP handler to export metrics in Prometheus text format.
+ *
+ * @author agent
+ */
+public final class MetricsHttpHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+    
+    private static final String METRICS_PATH = "/metrics";
+    
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    @Override
+    protected void channelRead0(final ChannelHandlerContext context, final FullHttpRequest request) {
+        if (!METRICS_PATH.equals(new QueryStringDecoder(request.uri()).path())) {
+            writeResponse(context, HttpResponseStatus.NOT_FOUND, Unpooled.EMPTY_BUFFER);
+            return;
+        }
+        if (!HttpMethod.GET.equals(request.method())) {
+            writeResponse(context, HttpResponseStatus.METHOD_NOT_ALLOWED, Unpooled.EMPTY_BUFFER);
+            return;
+        }
+        writeResponse(context, HttpResponseStatus.OK, Unpooled.copiedBuffer(MetricsRegistry.getInstance().export(), CharsetUtil.UTF_8));
+    }
+    
+    private void writeResponse(final ChannelHandlerContext context, final HttpResponseStatus status, final ByteBuf content) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, content);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+        context.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+}
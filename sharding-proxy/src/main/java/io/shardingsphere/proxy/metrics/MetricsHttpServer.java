@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP server to export metrics on admin port.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class MetricsHttpServer implements AutoCloseable {
+    
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024;
+    
+    private final int port;
+    
+    private EventLoopGroup eventLoopGroup;
+    
+    private Channel channel;
+    
+    /**
+     * Start metrics HTTP server.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    public void start() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        bootstrap.group(eventLoopGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    
+                    @Override
+                    protected void initChannel(final SocketChannel socketChannel) {
+                        socketChannel.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(MAX_CONTENT_LENGTH), new MetricsHttpHandler());
+                    }
+                });
+        channel = bootstrap.bind(port).sync().channel();
+    }
+    
+    @Override
+    public void close() {
+        if (null != channel) {
+            channel.close();
+        }
+        if (null != eventLoopGroup) {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+}
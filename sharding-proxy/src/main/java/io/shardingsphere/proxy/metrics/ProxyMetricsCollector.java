@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.metrics.MetricsCollector;
+import io.shardingsphere.core.metrics.MetricsTextWriter;
+import io.shardingsphere.proxy.config.ProxyContext;
+import io.shardingsphere.proxy.config.RuleRegistry;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map.Entry;
+
+/**
+ * Metrics collector for backend data source pools and query result caches of proxy.
+ *
+ * <p>Pool MXBean is read by reflection because its package differs between HikariCP versions.</p>
+ *
+ * @author agent
+ */
+public final class ProxyMetricsCollector implements MetricsCollector {
+    
+    private static final String POOL_CONNECTIONS = "sharding_proxy_backend_pool_connections";
+    
+    private static final String POOL_CONNECTIONS_HELP = "Count of backend pool connections by state.";
+    
+    private static final ProxyContext PROXY_CONTEXT = ProxyContext.getInstance();
+    
+    @Override
+    public void collect(final MetricsTextWriter writer) {
+        for (RuleRegistry each : PROXY_CONTEXT.getRuleRegistryMap().values()) {
+            collectPoolConnections(writer, each);
+        }
+        for (RuleRegistry each : PROXY_CONTEXT.getRuleRegistryMap().values()) {
+            if (each.getQueryResultCache().isEnabled()) {
+                writer.writeGauge("sharding_proxy_query_result_cache_bytes", "Size of cached query results in bytes.", each.getQueryResultCache().getTotalBytes(), "schema", each.getSchemaName());
+            }
+        }
+    }
+    
+    private void collectPoolConnections(final MetricsTextWriter writer, final RuleRegistry ruleRegistry) {
+        for (Entry<String, DataSource> entry : ruleRegistry.getBackendDataSource().getDataSourceMap().entrySet()) {
+            Optional<Object> poolMXBean = invoke(entry.getValue(), "getHikariPoolMXBean");
+            if (!poolMXBean.isPresent()) {
+                continue;
+            }
+            writePoolConnections(writer, poolMXBean.get(), "getActiveConnections", "active", ruleRegistry.getSchemaName(), entry.getKey());
+            writePoolConnections(writer, poolMXBean.get(), "getIdleConnections", "idle", ruleRegistry.getSchemaName(), entry.getKey());
+            writePoolConnections(writer, poolMXBean.get(), "getThreadsAwaitingConnection", "pending", ruleRegistry.getSchemaName(), entry.getKey());
+        }
+    }
+    
+    private void writePoolConnections(final MetricsTextWriter writer, final Object poolMXBean, final String methodName, final String state, final String schemaName, final String dataSourceName) {
+        Optional<Object> count = invoke(poolMXBean, methodName);
+        if (count.isPresent()) {
+            writer.writeGauge(POOL_CONNECTIONS, POOL_CONNECTIONS_HELP, ((Number) count.get()).longValue(), "schema", schemaName, "data_source", dataSourceName, "state", state);
+        }
+    }
+    
+    private Optional<Object> invoke(final Object target, final String methodName) {
+        try {
+            Method method = target.getClass().getMethod(methodName);
+            method.setAccessible(true);
+            return Optional.fromNullable(method.invoke(target));
+        } catch (final NoSuchMethodException | InvocationTargetException | IllegalAccessException ignored) {
+            return Optional.absent();
+        }
+    }
+}
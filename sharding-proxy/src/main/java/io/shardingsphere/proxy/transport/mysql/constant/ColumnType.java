@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Column types.
@@ -136,6 +137,21 @@ public enum ColumnType {
         throw new IllegalArgumentException(String.format("Cannot find JDBC type '%s' in column type", jdbcType));
     }
     
+    /**
+     * Get JDBC type of column type.
+     *
+     * @param columnType column type
+     * @return JDBC type, {@code java.sql.Types.OTHER} if not found
+     */
+    public static int toJDBCType(final ColumnType columnType) {
+        for (Entry<Integer, ColumnType> entry : JDBC_TYPE_AND_COLUMN_TYPE_MAP.entrySet()) {
+            if (columnType == entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        return Types.OTHER;
+    }
+    
     /**
      * Value of.
      * 
@@ -37,6 +37,10 @@ public enum ServerErrorCode {
     
     ER_BAD_DB_ERROR(1049, "42000", "Unknown database '%s'"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
+    ER_STMT_HAS_NO_OPEN_CURSOR(1421, "HY000", "The statement (%s) has no open cursor."),
+    
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
             "Please do not modify the %s table with an XA transaction. "
                     + "This is an internal system table used to store GTIDs for committed transactions. "
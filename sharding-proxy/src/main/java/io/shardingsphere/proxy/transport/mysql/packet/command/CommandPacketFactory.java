@@ -26,6 +26,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.admin.ping.ComPing
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuitPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch.ComStmtFetchPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.fieldlist.ComFieldListPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
@@ -71,8 +72,10 @@ public final class CommandPacketFactory {
                 return new ComStmtPreparePacket(sequenceId, payload, frontendHandler);
             case COM_STMT_EXECUTE:
                 return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection, frontendHandler);
+            case COM_STMT_FETCH:
+                return new ComStmtFetchPacket(sequenceId, payload, frontendHandler);
             case COM_STMT_CLOSE:
-                return new ComStmtClosePacket(sequenceId, payload);
+                return new ComStmtClosePacket(sequenceId, payload, frontendHandler);
             case COM_PING:
                 return new ComPingPacket(sequenceId);
             default:
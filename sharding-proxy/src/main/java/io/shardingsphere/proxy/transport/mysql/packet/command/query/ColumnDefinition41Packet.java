@@ -103,6 +103,30 @@ public final class ColumnDefinition41Packet implements MySQLPacket {
         payload.skipReserved(2);
     }
     
+    private ColumnDefinition41Packet(final ColumnDefinition41Packet columnDefinition41Packet, final String name) {
+        sequenceId = columnDefinition41Packet.sequenceId;
+        characterSet = columnDefinition41Packet.characterSet;
+        flags = columnDefinition41Packet.flags;
+        schema = columnDefinition41Packet.schema;
+        table = columnDefinition41Packet.table;
+        orgTable = columnDefinition41Packet.orgTable;
+        this.name = name;
+        orgName = name;
+        columnLength = columnDefinition41Packet.columnLength;
+        columnType = columnDefinition41Packet.columnType;
+        decimals = columnDefinition41Packet.decimals;
+    }
+    
+    /**
+     * Create column definition with another column name.
+     * 
+     * @param name column name
+     * @return column definition with another column name
+     */
+    public ColumnDefinition41Packet rename(final String name) {
+        return new ColumnDefinition41Packet(this, name);
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeStringLenenc(CATALOG);
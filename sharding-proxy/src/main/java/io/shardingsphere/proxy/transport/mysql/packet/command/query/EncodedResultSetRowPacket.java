@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result set row packet which encoded by {@code ResultSetRowEncoder}.
+ *
+ * <p>
+ * Row is written only once, it is released after written to outbound buffer.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class EncodedResultSetRowPacket implements MySQLPacket {
+    
+    private final int sequenceId;
+    
+    private final ByteBuf row;
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        try {
+            payload.getByteBuf().writeBytes(row, row.readerIndex(), row.readableBytes());
+        } finally {
+            row.release();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+
+import java.sql.SQLException;
+
+/**
+ * Result set row encoder.
+ *
+ * <p>
+ * Row encoder is created once for each result set, it reads values from merged result and encodes them to row packet directly,
+ * strings are encoded in reusable scratch buffer. Rows are encoded into buffers of channel allocator,
+ * because merged result is advanced by command executor thread before the packet is written on event loop.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class ResultSetRowEncoder {
+    
+    private static final int INITIAL_ROW_CAPACITY = 64;
+    
+    private static final int INITIAL_SCRATCH_CAPACITY = 256;
+    
+    private static final int MAX_LONG_LENGTH = 20;
+    
+    private final ByteBuf scratchBuffer = Unpooled.buffer(INITIAL_SCRATCH_CAPACITY);
+    
+    private final byte[] digits = new byte[MAX_LONG_LENGTH];
+    
+    private final ByteBufAllocator allocator;
+    
+    private int lastRowCapacity = INITIAL_ROW_CAPACITY;
+    
+    protected ResultSetRowEncoder(final ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+    
+    /**
+     * Encode current row of merged result.
+     *
+     * @param sequenceId sequence ID
+     * @param mergedResult merged result
+     * @return encoded row packet
+     * @throws SQLException SQL exception
+     */
+    public final EncodedResultSetRowPacket encode(final int sequenceId, final MergedResult mergedResult) throws SQLException {
+        ByteBuf row = allocator.buffer(lastRowCapacity);
+        encodeRow(new MySQLPacketPayload(row), mergedResult);
+        lastRowCapacity = Math.max(INITIAL_ROW_CAPACITY, row.readableBytes());
+        return new EncodedResultSetRowPacket(sequenceId, row);
+    }
+    
+    protected final Class<?> getValueType(final ColumnType columnType) {
+        switch (columnType) {
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    protected abstract void encodeRow(MySQLPacketPayload payload, MergedResult mergedResult) throws SQLException;
+    
+    protected final void writeStringLenenc(final MySQLPacketPayload payload, final CharSequence value) {
+        scratchBuffer.clear();
+        int length = ByteBufUtil.writeUtf8(scratchBuffer, value);
+        payload.writeIntLenenc(length);
+        payload.getByteBuf().writeBytes(scratchBuffer, 0, length);
+    }
+    
+    protected final void writeBytesLenenc(final MySQLPacketPayload payload, final byte[] value) {
+        payload.writeIntLenenc(value.length);
+        payload.getByteBuf().writeBytes(value);
+    }
+    
+    protected final void writeLongLenenc(final MySQLPacketPayload payload, final long value) {
+        int index = digits.length;
+        long remained = value < 0L ? value : -value;
+        do {
+            digits[--index] = (byte) ('0' - remained % 10L);
+            remained /= 10L;
+        } while (0L != remained);
+        if (value < 0L) {
+            digits[--index] = '-';
+        }
+        payload.writeIntLenenc(digits.length - index);
+        payload.getByteBuf().writeBytes(digits, index, digits.length - index);
+    }
+    
+    protected final boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+}
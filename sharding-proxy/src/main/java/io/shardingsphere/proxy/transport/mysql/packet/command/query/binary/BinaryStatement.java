@@ -17,10 +17,13 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -37,5 +40,35 @@ public final class BinaryStatement {
     
     private final int parametersCount;
     
+    private final SQLStatement sqlStatement;
+    
     private List<BinaryStatementParameterType> parameterTypes;
+    
+    @Setter(AccessLevel.NONE)
+    private BinaryStatementCursor cursor;
+    
+    /**
+     * Open cursor, previous opened cursor will be closed.
+     *
+     * @param cursor cursor to be opened
+     * @throws SQLException SQL exception
+     */
+    public void openCursor(final BinaryStatementCursor cursor) throws SQLException {
+        closeCursor();
+        this.cursor = cursor;
+    }
+    
+    /**
+     * Close cursor if opened.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void closeCursor() throws SQLException {
+        if (null == cursor) {
+            return;
+        }
+        BinaryStatementCursor closingCursor = cursor;
+        cursor = null;
+        closingCursor.close();
+    }
 }
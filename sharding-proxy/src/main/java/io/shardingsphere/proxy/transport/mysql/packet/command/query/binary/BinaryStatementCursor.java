@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
+
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.jdbc.connection.CursorResources;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+
+/**
+ * Read only cursor of binary prepared statement.
+ *
+ * <p>Rows are read from merged result of backend handler batch by batch, backend resources are closed when cursor closed or all rows sent.
+ * Fetching cursor closed by idle timeout of backend connection is failed.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class BinaryStatementCursor implements AutoCloseable {
+    
+    private final BackendHandler backendHandler;
+    
+    private final ResultSetRowEncoder rowEncoder;
+    
+    private final CursorResources cursorResources;
+    
+    private boolean hasCurrentRow;
+    
+    private boolean exhausted;
+    
+    /**
+     * Fetch rows.
+     *
+     * @param rowCount max count of rows to be fetched
+     * @return rows and EOF packet, EOF packet is flagged with last row sent if no more row
+     * @throws SQLException SQL exception
+     */
+    public CommandResponsePackets fetch(final long rowCount) throws SQLException {
+        if (exhausted) {
+            return fetchRows(rowCount);
+        }
+        if (!cursorResources.startFetch()) {
+            throw new SQLException("Cursor is closed because it is not fetched within idle timeout.");
+        }
+        try {
+            return fetchRows(rowCount);
+        } finally {
+            cursorResources.finishFetch();
+        }
+    }
+    
+    private CommandResponsePackets fetchRows(final long rowCount) throws SQLException {
+        CommandResponsePackets result = new CommandResponsePackets();
+        int currentSequenceId = 0;
+        for (long i = 0; i < rowCount && nextRow(); i++) {
+            result.getPackets().add(new EncodedResultSetRowPacket(++currentSequenceId, backendHandler.getResultValue(rowEncoder).getRow()));
+            hasCurrentRow = false;
+        }
+        int statusFlags = StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue();
+        if (!nextRow()) {
+            statusFlags |= StatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue();
+            close();
+        }
+        result.getPackets().add(new EofPacket(++currentSequenceId, 0, statusFlags));
+        return result;
+    }
+    
+    private boolean nextRow() throws SQLException {
+        if (hasCurrentRow) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        hasCurrentRow = backendHandler.next();
+        exhausted = !hasCurrentRow;
+        return hasCurrentRow;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        exhausted = true;
+        hasCurrentRow = false;
+        cursorResources.close();
+    }
+}
@@ -17,9 +17,9 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 
+import java.sql.SQLException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,44 +27,28 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Binary prepared statement registry.
  *
+ * <p>Registry is bound to frontend session, statements are removed and their cursors are closed when closed by client or session closed.</p>
+ *
  * @author zhangliang
  * @author zhangyonglun
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class BinaryStatementRegistry {
     
-    private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry();
-    
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>();
     
     private final AtomicInteger sequence = new AtomicInteger();
     
-    /**
-     * Get prepared statement registry instance.
-     * 
-     * @return prepared statement registry instance
-     */
-    public static BinaryStatementRegistry getInstance() {
-        return INSTANCE;
-    }
-    
     /**
      * Register SQL.
      * 
      * @param sql SQL
      * @param parametersCount parameters count
+     * @param sqlStatement parsed SQL statement
      * @return statement ID
      */
-    public int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new BinaryStatement(sql, parametersCount));
+    public int register(final String sql, final int parametersCount, final SQLStatement sqlStatement) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new BinaryStatement(sql, parametersCount, sqlStatement));
         return result;
     }
     
@@ -72,9 +56,50 @@ public final class BinaryStatementRegistry {
      * Get binary prepared statement.
      *
      * @param statementId statement ID
-     * @return binary prepared statement
+     * @return binary prepared statement, null if absent
      */
     public BinaryStatement getBinaryStatement(final int statementId) {
         return binaryStatements.get(statementId);
     }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @throws SQLException SQL exception
+     */
+    public void remove(final int statementId) throws SQLException {
+        BinaryStatement binaryStatement = binaryStatements.remove(statementId);
+        if (null != binaryStatement) {
+            binaryStatement.closeCursor();
+        }
+    }
+    
+    /**
+     * Remove all binary prepared statements.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void clear() throws SQLException {
+        SQLException exception = null;
+        for (Integer each : binaryStatements.keySet()) {
+            try {
+                remove(each);
+            } catch (final SQLException ex) {
+                exception = ex;
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    /**
+     * Get count of registered binary prepared statements.
+     *
+     * @return count of registered binary prepared statements
+     */
+    public int size() {
+        return binaryStatements.size();
+    }
 }
@@ -18,12 +18,15 @@
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close;
 
 import com.google.common.base.Optional;
+import io.shardingsphere.proxy.frontend.common.FrontendHandler;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.SQLException;
+
 /**
  * COM_STMT_CLOSE command packet.
  * 
@@ -39,9 +42,12 @@ public final class ComStmtClosePacket implements CommandPacket {
     
     private final int statementId;
     
-    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    private final FrontendHandler frontendHandler;
+    
+    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload, final FrontendHandler frontendHandler) {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
+        this.frontendHandler = frontendHandler;
     }
     
     @Override
@@ -51,7 +57,11 @@ public final class ComStmtClosePacket implements CommandPacket {
     @Override
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_CLOSE received for Sharding-Proxy: {}", statementId);
-        // TODO :yonglun need to clean PreparedStatementRegistry?
+        try {
+            frontendHandler.getBinaryStatementRegistry().remove(statementId);
+        } catch (final SQLException ex) {
+            log.error("Close cursor of prepared statement error", ex);
+        }
         return Optional.absent();
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValueFactory;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Binary result set row encoder.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ *
+ * @author agent
+ */
+public final class BinaryResultSetRowEncoder extends ResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final ColumnType[] columnTypes;
+    
+    private final Class<?>[] valueTypes;
+    
+    private final Object[] values;
+    
+    public BinaryResultSetRowEncoder(final ByteBufAllocator allocator, final int columnCount, final List<ColumnType> columnTypes) {
+        super(allocator);
+        this.columnTypes = new ColumnType[columnCount];
+        valueTypes = new Class<?>[columnCount];
+        values = new Object[columnCount];
+        int index = 0;
+        for (ColumnType each : columnTypes) {
+            if (index == columnCount) {
+                break;
+            }
+            this.columnTypes[index] = each;
+            valueTypes[index++] = getValueType(each);
+        }
+        while (index < columnCount) {
+            this.columnTypes[index] = ColumnType.MYSQL_TYPE_VAR_STRING;
+            valueTypes[index++] = String.class;
+        }
+    }
+    
+    @Override
+    protected void encodeRow(final MySQLPacketPayload payload, final MergedResult mergedResult) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mergedResult.getValue(i + 1, valueTypes[i]);
+        }
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload);
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                writeValue(payload, columnTypes[i], values[i]);
+            }
+        }
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload) {
+        int nullBitmap = 0;
+        int bitPosition = NULL_BITMAP_OFFSET;
+        for (Object each : values) {
+            if (null == each) {
+                nullBitmap |= 1 << bitPosition;
+            }
+            if (8 == ++bitPosition) {
+                payload.writeInt1(nullBitmap);
+                nullBitmap = 0;
+                bitPosition = 0;
+            }
+        }
+        if (0 != bitPosition) {
+            payload.writeInt1(nullBitmap);
+        }
+    }
+    
+    private void writeValue(final MySQLPacketPayload payload, final ColumnType columnType, final Object value) {
+        switch (columnType) {
+            case MYSQL_TYPE_LONGLONG:
+                payload.writeInt8(((Number) value).longValue());
+                return;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                payload.writeInt4(((Number) value).intValue());
+                return;
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+                payload.writeInt2(value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString().substring(0, 4)));
+                return;
+            case MYSQL_TYPE_TINY:
+                payload.writeInt1(value instanceof Boolean ? ((Boolean) value ? 1 : 0) : ((Number) value).intValue());
+                return;
+            case MYSQL_TYPE_DOUBLE:
+                payload.getByteBuf().writeDoubleLE(value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString()));
+                return;
+            case MYSQL_TYPE_FLOAT:
+                payload.getByteBuf().writeFloatLE(value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString()));
+                return;
+            case MYSQL_TYPE_VARCHAR:
+            case MYSQL_TYPE_VAR_STRING:
+            case MYSQL_TYPE_STRING:
+            case MYSQL_TYPE_ENUM:
+            case MYSQL_TYPE_SET:
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+            case MYSQL_TYPE_BIT:
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MYSQL_TYPE_GEOMETRY:
+                if (value instanceof byte[]) {
+                    writeBytesLenenc(payload, (byte[]) value);
+                } else {
+                    writeStringLenenc(payload, value.toString());
+                }
+                return;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_TIMESTAMP:
+                BinaryProtocolValueFactory.getBinaryProtocolValue(columnType).write(payload, value instanceof Timestamp ? value : new Timestamp(((Date) value).getTime()));
+                return;
+            default:
+                BinaryProtocolValueFactory.getBinaryProtocolValue(columnType).write(payload, value);
+        }
+    }
+}
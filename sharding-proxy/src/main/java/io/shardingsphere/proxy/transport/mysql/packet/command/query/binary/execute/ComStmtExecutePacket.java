@@ -19,10 +19,10 @@ package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.exec
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBufAllocator;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.proxy.backend.BackendHandler;
 import io.shardingsphere.proxy.backend.BackendHandlerFactory;
-import io.shardingsphere.proxy.backend.ResultPacket;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
@@ -30,14 +30,18 @@ import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.constant.NewParametersBoundFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementCursor;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementParameterType;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValue;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValueFactory;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +53,8 @@ import java.util.List;
 /**
  * COM_STMT_EXECUTE command packet.
  * 
+ * <p>Read only cursor will be opened if requested by flags, rows are fetched by COM_STMT_FETCH instead of sent after response.</p>
+ * 
  * @see <a href="https://dev.mysql.com/doc/internals/en/com-stmt-execute.html">COM_STMT_EXECUTE</a>
  *
  * @author zhangyonglun
@@ -60,6 +66,8 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int CURSOR_TYPE_READ_ONLY = 0x01;
+    
     @Getter
     private final int sequenceId;
     
@@ -75,13 +83,23 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private final List<Object> parameters;
     
+    private final BackendConnection backendConnection;
+    
     private final BackendHandler backendHandler;
     
+    private final ByteBufAllocator allocator;
+    
+    private ResultSetRowEncoder rowEncoder;
+    
     public ComStmtExecutePacket(
             final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final FrontendHandler frontendHandler) throws SQLException {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
-        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = frontendHandler.getBinaryStatementRegistry().getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            throw new SQLException(String.format(ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorMessage(), statementId, "mysqld_stmt_execute"),
+                    ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getSqlState(), ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -94,7 +112,9 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
             binaryStatement.setParameterTypes(getParameterTypes(payload, parametersCount));
         }
         parameters = getParameters(payload, parametersCount);
-        backendHandler = BackendHandlerFactory.newBinaryProtocolInstance(connectionId, sequenceId, binaryStatement.getSql(), parameters, backendConnection, 
+        this.backendConnection = backendConnection;
+        allocator = frontendHandler.getAllocator();
+        backendHandler = BackendHandlerFactory.newBinaryProtocolInstance(connectionId, sequenceId, binaryStatement.getSql(), binaryStatement.getSqlStatement(), parameters, backendConnection, 
                 DatabaseType.MySQL, frontendHandler);
     }
     
@@ -137,12 +157,32 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     }
     
     @Override
-    public Optional<CommandResponsePackets> execute() {
+    public Optional<CommandResponsePackets> execute() throws SQLException {
         log.debug("COM_STMT_EXECUTE received for Sharding-Proxy: {}", statementId);
         if (ProxyContext.getInstance().isCircuitBreak()) {
             return Optional.of(new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_CIRCUIT_BREAK_MODE)));
         }
-        return Optional.of(backendHandler.execute());
+        binaryStatement.closeCursor();
+        CommandResponsePackets result = backendHandler.execute();
+        if (isCursorRequested() && result instanceof QueryResponsePackets) {
+            return Optional.of(openCursor(result));
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isCursorRequested() {
+        return 0 != (flags & CURSOR_TYPE_READ_ONLY) && !ProxyContext.getInstance().isUseNIO() && !backendConnection.isInTransaction() && backendConnection.canHoldCursor();
+    }
+    
+    private CommandResponsePackets openCursor(final CommandResponsePackets queryResponsePackets) throws SQLException {
+        binaryStatement.openCursor(new BinaryStatementCursor(
+                backendHandler, new BinaryResultSetRowEncoder(allocator, backendHandler.getColumnCount(), backendHandler.getColumnTypes()), backendConnection.holdCursorResources()));
+        List<DatabasePacket> packets = new ArrayList<>(queryResponsePackets.getPackets());
+        EofPacket eofPacket = (EofPacket) packets.remove(packets.size() - 1);
+        CommandResponsePackets result = new CommandResponsePackets();
+        result.getPackets().addAll(packets);
+        result.getPackets().add(new EofPacket(eofPacket.getSequenceId(), eofPacket.getWarnings(), eofPacket.getStatusFlags() | StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()));
+        return result;
     }
     
     @Override
@@ -152,7 +192,9 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     @Override
     public DatabasePacket getResultValue() throws SQLException {
-        ResultPacket resultPacket = backendHandler.getResultValue();
-        return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes());
+        if (null == rowEncoder) {
+            rowEncoder = new BinaryResultSetRowEncoder(allocator, backendHandler.getColumnCount(), backendHandler.getColumnTypes());
+        }
+        return backendHandler.getResultValue(rowEncoder);
     }
 }
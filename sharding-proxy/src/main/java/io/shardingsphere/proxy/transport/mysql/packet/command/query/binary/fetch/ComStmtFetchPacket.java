@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.proxy.frontend.common.FrontendHandler;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+
+/**
+ * COM_STMT_FETCH command packet.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-stmt-fetch.html">COM_STMT_FETCH</a>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class ComStmtFetchPacket implements CommandPacket {
+    
+    @Getter
+    private final int sequenceId;
+    
+    private final int statementId;
+    
+    private final long rowCount;
+    
+    private final FrontendHandler frontendHandler;
+    
+    public ComStmtFetchPacket(final int sequenceId, final MySQLPacketPayload payload, final FrontendHandler frontendHandler) {
+        this.sequenceId = sequenceId;
+        statementId = payload.readInt4();
+        rowCount = payload.readInt4() & 0xffffffffL;
+        this.frontendHandler = frontendHandler;
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.writeInt4(statementId);
+        payload.writeInt4((int) rowCount);
+    }
+    
+    @Override
+    public Optional<CommandResponsePackets> execute() throws SQLException {
+        log.debug("COM_STMT_FETCH received for Sharding-Proxy: {}", statementId);
+        BinaryStatement binaryStatement = frontendHandler.getBinaryStatementRegistry().getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            return Optional.of(new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_UNKNOWN_STMT_HANDLER, statementId, "mysqld_stmt_fetch")));
+        }
+        if (null == binaryStatement.getCursor()) {
+            return Optional.of(new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_STMT_HAS_NO_OPEN_CURSOR, statementId)));
+        }
+        return Optional.of(binaryStatement.getCursor().fetch(rowCount));
+    }
+}
@@ -31,7 +31,6 @@ import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -46,8 +45,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class ComStmtPreparePacket implements CommandPacket {
     
-    private static final BinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = BinaryStatementRegistry.getInstance();
-    
     @Getter
     private final int sequenceId;
     
@@ -77,7 +74,7 @@ public final class ComStmtPreparePacket implements CommandPacket {
         SQLStatement sqlStatement = sqlParsingEngine.parse(true);
         int parametersIndex = sqlStatement.getParametersIndex();
         CommandResponsePackets result = new CommandResponsePackets(
-                new ComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(sql, parametersIndex), getNumColumns(sqlStatement), parametersIndex, 0));
+                new ComStmtPrepareOKPacket(++currentSequenceId, frontendHandler.getBinaryStatementRegistry().register(sql, parametersIndex, sqlStatement), getNumColumns(sqlStatement), parametersIndex, 0));
         for (int i = 0; i < parametersIndex; i++) {
             // TODO add column name
             result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, frontendHandler.getCurrentSchema(),
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Text result set row encoder.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+ *
+ * @author agent
+ */
+public final class TextResultSetRowEncoder extends ResultSetRowEncoder {
+    
+    private static final int NULL = 0xfb;
+    
+    private final Class<?>[] valueTypes;
+    
+    public TextResultSetRowEncoder(final ByteBufAllocator allocator, final int columnCount, final List<ColumnType> columnTypes) {
+        super(allocator);
+        valueTypes = new Class<?>[columnCount];
+        int index = 0;
+        for (ColumnType each : columnTypes) {
+            if (index == columnCount) {
+                break;
+            }
+            valueTypes[index++] = getValueType(each);
+        }
+        while (index < columnCount) {
+            valueTypes[index++] = Object.class;
+        }
+    }
+    
+    @Override
+    protected void encodeRow(final MySQLPacketPayload payload, final MergedResult mergedResult) throws SQLException {
+        for (int i = 0; i < valueTypes.length; i++) {
+            Object value = mergedResult.getValue(i + 1, valueTypes[i]);
+            if (null == value) {
+                payload.writeInt1(NULL);
+            } else if (isIntegral(value)) {
+                writeLongLenenc(payload, ((Number) value).longValue());
+            } else if (value instanceof byte[]) {
+                writeBytesLenenc(payload, (byte[]) value);
+            } else {
+                writeStringLenenc(payload, value.toString());
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query;
 
 import com.google.common.base.Optional;
+import io.netty.buffer.ByteBufAllocator;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
@@ -25,7 +26,6 @@ import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
 import io.shardingsphere.proxy.backend.BackendHandler;
 import io.shardingsphere.proxy.backend.BackendHandlerFactory;
-import io.shardingsphere.proxy.backend.ResultPacket;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
@@ -35,7 +35,8 @@ import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowEncoder;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
 import io.shardingsphere.transaction.manager.ShardingTransactionManagerRegistry;
@@ -63,9 +64,17 @@ public final class ComQueryPacket implements QueryCommandPacket {
     
     private final BackendHandler backendHandler;
     
+    private final BackendConnection backendConnection;
+    
+    private final ByteBufAllocator allocator;
+    
+    private ResultSetRowEncoder rowEncoder;
+    
     public ComQueryPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final FrontendHandler frontendHandler) {
         this.sequenceId = sequenceId;
         sql = payload.readStringEOF();
+        this.backendConnection = backendConnection;
+        allocator = frontendHandler.getAllocator();
         backendHandler = BackendHandlerFactory.newTextProtocolInstance(connectionId, sequenceId, sql, backendConnection, DatabaseType.MySQL, frontendHandler);
     }
     
@@ -73,6 +82,8 @@ public final class ComQueryPacket implements QueryCommandPacket {
         this.sequenceId = sequenceId;
         this.sql = sql;
         backendHandler = null;
+        backendConnection = null;
+        allocator = null;
     }
     
     @Override
@@ -94,6 +105,7 @@ public final class ComQueryPacket implements QueryCommandPacket {
         if (TransactionType.XA == ProxyContext.getInstance().getTransactionType() && isInTransaction(operationType.get())) {
             ShardingEventBusInstance.getInstance().post(new XATransactionEvent(operationType.get()));
         }
+        backendConnection.setInTransaction(TransactionOperationType.BEGIN == operationType.get());
         // TODO :zhaojun do not send TCL to backend, send when local transaction ready 
         return Optional.of(new CommandResponsePackets(new OKPacket(1)));
     }
@@ -111,7 +123,9 @@ public final class ComQueryPacket implements QueryCommandPacket {
     
     @Override
     public DatabasePacket getResultValue() throws SQLException {
-        ResultPacket resultPacket = backendHandler.getResultValue();
-        return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
+        if (null == rowEncoder) {
+            rowEncoder = new TextResultSetRowEncoder(allocator, backendHandler.getColumnCount(), backendHandler.getColumnTypes());
+        }
+        return backendHandler.getResultValue(rowEncoder);
     }
 }
@@ -17,8 +17,10 @@
 
 package io.shardingsphere.proxy;
 
+import io.shardingsphere.proxy.backend.AllBackendTests;
 import io.shardingsphere.proxy.config.AllConfigTests;
 import io.shardingsphere.proxy.listener.AllListenerTests;
+import io.shardingsphere.proxy.metrics.AllMetricsTests;
 import io.shardingsphere.proxy.runtime.AllRuntimeTests;
 import io.shardingsphere.proxy.transport.AllTransportTests;
 import org.junit.runner.RunWith;
@@ -30,7 +32,9 @@ import org.junit.runners.Suite.SuiteClasses;
         AllRuntimeTests.class, 
         AllListenerTests.class,
         AllConfigTests.class, 
-        AllTransportTests.class
+        AllTransportTests.class, 
+        AllBackendTests.class, 
+        AllMetricsTests.class
 })
 public final class AllTests {
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.cache;
+
+import com.google.common.base.Optional;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheConfiguration;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheTableConfiguration;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class QueryResultCacheTest {
+    
+    private final QueryResultCacheKey key = new QueryResultCacheKey("SELECT * FROM t_config", Collections.emptyList(), false);
+    
+    private QueryResultCache queryResultCache;
+    
+    @Before
+    public void setUp() {
+        YamlQueryResultCacheConfiguration config = new YamlQueryResultCacheConfiguration();
+        config.setMaxBytes(100L);
+        config.getTables().put("t_config", new YamlQueryResultCacheTableConfiguration());
+        config.getTables().put("t_dict", new YamlQueryResultCacheTableConfiguration());
+        queryResultCache = new QueryResultCache(config);
+    }
+    
+    @Test
+    public void assertIsNotEnabledWithoutConfiguration() {
+        assertFalse(new QueryResultCache(null).isEnabled());
+    }
+    
+    @Test
+    public void assertNewRecorderWithNotCacheableTable() {
+        assertFalse(queryResultCache.newRecorder(key, Arrays.asList("t_config", "t_order")).isPresent());
+    }
+    
+    @Test
+    public void assertRecordAndGet() {
+        record(queryResultCache.newRecorder(key, Collections.singletonList("T_CONFIG")).get(), 10);
+        Optional<CachedQueryResult> actual = queryResultCache.get(key);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().size(), is(1));
+        assertThat(actual.get().getRows().get(0).length, is(10));
+        assertThat(queryResultCache.getTotalBytes(), is(26L));
+    }
+    
+    @Test
+    public void assertRecordWithOverflow() {
+        record(queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get(), 100);
+        assertFalse(queryResultCache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsed() {
+        QueryResultCacheKey otherKey = new QueryResultCacheKey("SELECT * FROM t_dict", Collections.emptyList(), false);
+        record(queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get(), 40);
+        record(queryResultCache.newRecorder(otherKey, Collections.singletonList("t_dict")).get(), 40);
+        assertFalse(queryResultCache.get(key).isPresent());
+        assertTrue(queryResultCache.get(otherKey).isPresent());
+        assertThat(queryResultCache.getTotalBytes(), is(56L));
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        record(queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get(), 10);
+        queryResultCache.invalidate(Collections.singletonList("t_dict"));
+        assertTrue(queryResultCache.get(key).isPresent());
+        queryResultCache.invalidate(Collections.singletonList("T_CONFIG"));
+        assertFalse(queryResultCache.get(key).isPresent());
+        assertThat(queryResultCache.getTotalBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertNotCacheIfInvalidatedWhileRecording() {
+        QueryResultCacheRecorder recorder = queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get();
+        queryResultCache.invalidate(Collections.singletonList("t_config"));
+        record(recorder, 10);
+        assertFalse(queryResultCache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertDifferentKeyForBinaryProtocol() {
+        record(queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get(), 10);
+        assertFalse(queryResultCache.get(new QueryResultCacheKey("SELECT * FROM t_config", Collections.emptyList(), true)).isPresent());
+    }
+    
+    @Test
+    public void assertSameKeyForNormalizedSQL() {
+        record(queryResultCache.newRecorder(key, Collections.singletonList("t_config")).get(), 10);
+        assertTrue(queryResultCache.get(new QueryResultCacheKey("  SELECT *\n  FROM t_config /* config */ ", Collections.emptyList(), false)).isPresent());
+    }
+    
+    @Test
+    public void assertDifferentKeyForDifferentCharsLiteral() {
+        QueryResultCacheKey keyWithCharsLiteral = new QueryResultCacheKey("SELECT * FROM t_config WHERE name = 'a  b'", Collections.emptyList(), false);
+        record(queryResultCache.newRecorder(keyWithCharsLiteral, Collections.singletonList("t_config")).get(), 10);
+        assertTrue(queryResultCache.get(new QueryResultCacheKey("SELECT * FROM t_config WHERE name='a  b'", Collections.emptyList(), false)).isPresent());
+        assertFalse(queryResultCache.get(new QueryResultCacheKey("SELECT * FROM t_config WHERE name = 'a b'", Collections.emptyList(), false)).isPresent());
+    }
+    
+    private void record(final QueryResultCacheRecorder recorder, final int rowSize) {
+        recorder.record(Unpooled.wrappedBuffer(new byte[rowSize]));
+        recorder.finish(mock(QueryResponsePackets.class), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_VARCHAR));
+    }
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.executor.sql.execute.bulkhead.SQLExecuteBulkhead;
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationLagMonitor;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPosition;
+import io.shardingsphere.core.routing.router.masterslave.replication.ReplicationPositionManager;
+import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheConfiguration;
+import io.shardingsphere.core.yaml.other.YamlQueryResultCacheTableConfiguration;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCache;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheKey;
+import io.shardingsphere.proxy.backend.jdbc.cache.QueryResultCacheRecorder;
+import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.proxy.config.ProxyContext;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BackendConnectionTest {
+    
+    @Mock
+    private RuleRegistry ruleRegistry;
+    
+    @Mock
+    private JDBCBackendDataSource backendDataSource;
+    
+    @Mock
+    private Connection connection1;
+    
+    @Mock
+    private Connection connection2;
+    
+    private final QueryResultCacheKey queryResultCacheKey = new QueryResultCacheKey("SELECT * FROM t_config", Collections.emptyList(), false);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(ruleRegistry.getBackendDataSource()).thenReturn(backendDataSource);
+        when(backendDataSource.getConnection("ds_0")).thenReturn(connection1, connection2);
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        setTransactionType(null);
+    }
+    
+    @Test
+    public void assertGetConnectionReusedAcrossCommands() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        Connection actual = backendConnection.getConnection("ds_0");
+        assertThat(backendConnection.getConnection("ds_0"), not(actual));
+        backendConnection.release();
+        assertThat(backendConnection.getConnection("ds_0"), is(actual));
+        assertThat(backendConnection.getConnectionSize(), is(2));
+        verify(backendDataSource, times(2)).getConnection("ds_0");
+        verify(connection1, never()).close();
+    }
+    
+    @Test
+    public void assertReleaseStatements() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        Statement statement = mock(Statement.class);
+        backendConnection.getConnection("ds_0");
+        backendConnection.add(statement);
+        backendConnection.release();
+        verify(statement).close();
+        verify(connection1, never()).close();
+    }
+    
+    @Test
+    public void assertPrepareStatementReusedAcrossCommands() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        Connection connection = backendConnection.getConnection("ds_0");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        PreparedStatement actual = backendConnection.prepareStatement(connection, "SELECT 1", false);
+        backendConnection.add(actual);
+        backendConnection.release();
+        verify(preparedStatement, never()).close();
+        assertThat(backendConnection.prepareStatement(connection, "SELECT 1", false), is(actual));
+        verify(connection).prepareStatement("SELECT 1");
+        verify(preparedStatement).clearParameters();
+    }
+    
+    @Test
+    public void assertPrepareStatementInUse() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        Connection connection = backendConnection.getConnection("ds_0");
+        PreparedStatement cachedPreparedStatement = mock(PreparedStatement.class);
+        PreparedStatement temporaryPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(cachedPreparedStatement, temporaryPreparedStatement);
+        backendConnection.add(backendConnection.prepareStatement(connection, "SELECT 1", false));
+        PreparedStatement actual = backendConnection.prepareStatement(connection, "SELECT 1", false);
+        assertThat(actual, is(temporaryPreparedStatement));
+        backendConnection.add(actual);
+        backendConnection.release();
+        verify(temporaryPreparedStatement).close();
+        verify(cachedPreparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertClosePreparedStatementsWithConnections() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(0L);
+        Connection connection = backendConnection.getConnection("ds_0");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        backendConnection.prepareStatement(connection, "SELECT 1", false);
+        backendConnection.release();
+        verify(preparedStatement).close();
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertHoldCursorResources() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(0L);
+        Connection connection = backendConnection.getConnection("ds_0");
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        backendConnection.add(statement);
+        backendConnection.add(resultSet);
+        CursorResources actual = backendConnection.holdCursorResources();
+        backendConnection.release();
+        verify(resultSet, never()).close();
+        verify(statement, never()).close();
+        verify(connection, never()).close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+        assertThat(backendConnection.getConnection("ds_0"), is(connection2));
+        actual.close();
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertReleaseBulkheadPermit() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(1, 0);
+        backendConnection.holdBulkheadPermit(executeBulkhead.acquire(createRouteUnits()));
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(1));
+        backendConnection.release();
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseBulkheadPermitWhenCursorClosed() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        SQLExecuteBulkhead executeBulkhead = new SQLExecuteBulkhead(1, 0);
+        backendConnection.holdBulkheadPermit(executeBulkhead.acquire(createRouteUnits()));
+        CursorResources actual = backendConnection.holdCursorResources();
+        backendConnection.release();
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(1));
+        actual.close();
+        assertThat(executeBulkhead.getGlobalBulkhead().getActiveCount(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseWithoutIdleTimeout() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(0L);
+        backendConnection.getConnection("ds_0");
+        backendConnection.release();
+        verify(connection1).close();
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
+    @Test
+    public void assertReleaseIfIdleBeforeTimeout() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.getConnection("ds_0");
+        backendConnection.release();
+        assertTrue(backendConnection.releaseIfIdle() > 0L);
+        verify(connection1, never()).close();
+    }
+    
+    @Test
+    public void assertReleaseIfIdleAfterTimeout() throws SQLException, InterruptedException {
+        BackendConnection backendConnection = createBackendConnection(1L);
+        backendConnection.getConnection("ds_0");
+        backendConnection.release();
+        Thread.sleep(10L);
+        assertThat(backendConnection.releaseIfIdle(), is(0L));
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertReleaseIfIdleInTransaction() throws SQLException, InterruptedException {
+        BackendConnection backendConnection = createBackendConnection(1L);
+        backendConnection.setInTransaction(true);
+        backendConnection.getConnection("ds_0");
+        backendConnection.release();
+        Thread.sleep(10L);
+        assertTrue(backendConnection.releaseIfIdle() > 0L);
+        verify(connection1, never()).close();
+        backendConnection.setInTransaction(false);
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertReleaseIfIdleCloseCursorAfterTimeout() throws SQLException, InterruptedException {
+        BackendConnection backendConnection = createBackendConnection(1L);
+        backendConnection.getConnection("ds_0");
+        CursorResources actual = backendConnection.holdCursorResources();
+        backendConnection.release();
+        Thread.sleep(10L);
+        assertThat(backendConnection.releaseIfIdle(), is(0L));
+        assertTrue(actual.isClosed());
+        assertFalse(actual.startFetch());
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertReleaseIfIdleWhileFetchingCursor() throws SQLException, InterruptedException {
+        BackendConnection backendConnection = createBackendConnection(1L);
+        backendConnection.getConnection("ds_0");
+        CursorResources actual = backendConnection.holdCursorResources();
+        backendConnection.release();
+        assertTrue(actual.startFetch());
+        Thread.sleep(10L);
+        assertTrue(backendConnection.releaseIfIdle() > 0L);
+        assertFalse(actual.isClosed());
+        verify(connection1, never()).close();
+        actual.finishFetch();
+    }
+    
+    @Test
+    public void assertCanHoldCursor() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        CursorResources firstCursorResources = backendConnection.holdCursorResources();
+        for (int i = 1; i < 16; i++) {
+            assertTrue(backendConnection.canHoldCursor());
+            backendConnection.holdCursorResources();
+        }
+        assertFalse(backendConnection.canHoldCursor());
+        firstCursorResources.close();
+        assertTrue(backendConnection.canHoldCursor());
+    }
+    
+    @Test
+    public void assertCloseHeldCursors() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.getConnection("ds_0");
+        CursorResources actual = backendConnection.holdCursorResources();
+        backendConnection.release();
+        backendConnection.close();
+        assertTrue(actual.isClosed());
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertMasterVisitedKeptAcrossCommandsInTransaction() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.setInTransaction(true);
+        MasterVisitedManager.setMasterVisited();
+        backendConnection.release();
+        assertFalse(MasterVisitedManager.isMasterVisited());
+        backendConnection.prepare(ruleRegistry);
+        assertTrue(MasterVisitedManager.isMasterVisited());
+        backendConnection.setInTransaction(false);
+        assertFalse(MasterVisitedManager.isMasterVisited());
+        backendConnection.release();
+        backendConnection.prepare(ruleRegistry);
+        assertFalse(MasterVisitedManager.isMasterVisited());
+    }
+    
+    @Test
+    public void assertMasterVisitedClearedAfterCommandWithoutTransaction() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        MasterVisitedManager.setMasterVisited();
+        backendConnection.release();
+        assertFalse(MasterVisitedManager.isMasterVisited());
+        MasterVisitedManager.setMasterVisited();
+        backendConnection.prepare(ruleRegistry);
+        assertFalse(MasterVisitedManager.isMasterVisited());
+    }
+    
+    @Test
+    public void assertWrittenPositionsKeptAcrossCommandsWithoutTransaction() throws SQLException {
+        MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ds", "ds_0", Collections.singletonList("ds_1")));
+        ReplicationLagMonitor replicationLagMonitor = new ReplicationLagMonitor(DatabaseType.MySQL, Collections.singletonList(masterSlaveRule), Collections.<String, DataSource>emptyMap(), 60000L);
+        when(ruleRegistry.getReplicationLagMonitor()).thenReturn(replicationLagMonitor);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection1.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW MASTER STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("File")).thenReturn("mysql-bin.000001");
+        when(resultSet.getLong("Position")).thenReturn(100L);
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        try {
+            backendConnection.getConnection("ds_0");
+            MasterVisitedManager.setMasterVisited();
+            backendConnection.release();
+            assertNull(ReplicationPositionManager.getWrittenPosition(masterSlaveRule));
+            backendConnection.prepare(ruleRegistry);
+            assertFalse(MasterVisitedManager.isMasterVisited());
+            assertThat(ReplicationPositionManager.getWrittenPosition(masterSlaveRule), is(new ReplicationPosition("mysql-bin.000001", 100L)));
+        } finally {
+            backendConnection.close();
+            replicationLagMonitor.close();
+        }
+    }
+    
+    @Test
+    public void assertMasterVisitedKeptWhenWrittenPositionCannotBeRecorded() throws SQLException {
+        MasterSlaveRule masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration("ds", "ds_0", Collections.singletonList("ds_1")));
+        ReplicationLagMonitor replicationLagMonitor = new ReplicationLagMonitor(DatabaseType.MySQL, Collections.singletonList(masterSlaveRule), Collections.<String, DataSource>emptyMap(), 60000L);
+        when(ruleRegistry.getReplicationLagMonitor()).thenReturn(replicationLagMonitor);
+        when(connection1.createStatement()).thenThrow(new SQLException("Access denied"));
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        try {
+            backendConnection.getConnection("ds_0");
+            MasterVisitedManager.setMasterVisited();
+            backendConnection.release();
+            assertFalse(MasterVisitedManager.isMasterVisited());
+            backendConnection.prepare(ruleRegistry);
+            assertTrue(MasterVisitedManager.isMasterVisited());
+            assertNull(ReplicationPositionManager.getWrittenPosition(masterSlaveRule));
+        } finally {
+            backendConnection.close();
+            replicationLagMonitor.close();
+        }
+    }
+    
+    @Test
+    public void assertPrepareWithOtherRuleRegistry() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.getConnection("ds_0");
+        backendConnection.release();
+        backendConnection.prepare(mock(RuleRegistry.class));
+        verify(connection1).close();
+    }
+    
+    @Test
+    public void assertInvalidateQueryResultCacheWithoutTransaction() throws SQLException {
+        QueryResultCache queryResultCache = createQueryResultCache();
+        record(queryResultCache);
+        createBackendConnection(60000L).invalidateQueryResultCache(queryResultCache, Collections.singletonList("t_config"));
+        assertFalse(queryResultCache.get(queryResultCacheKey).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateQueryResultCacheImmediatelyInLocalTransaction() throws SQLException, ReflectiveOperationException {
+        setTransactionType(TransactionType.LOCAL);
+        QueryResultCache queryResultCache = createQueryResultCache();
+        record(queryResultCache);
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.setInTransaction(true);
+        backendConnection.invalidateQueryResultCache(queryResultCache, Collections.singletonList("t_config"));
+        assertFalse(queryResultCache.get(queryResultCacheKey).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateQueryResultCacheWhenXATransactionCommitted() throws SQLException, ReflectiveOperationException {
+        setTransactionType(TransactionType.XA);
+        QueryResultCache queryResultCache = createQueryResultCache();
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.setInTransaction(true);
+        backendConnection.invalidateQueryResultCache(queryResultCache, Collections.singletonList("t_config"));
+        record(queryResultCache);
+        assertTrue(queryResultCache.get(queryResultCacheKey).isPresent());
+        backendConnection.setInTransaction(false);
+        assertFalse(queryResultCache.get(queryResultCacheKey).isPresent());
+        record(queryResultCache);
+        backendConnection.setInTransaction(true);
+        backendConnection.setInTransaction(false);
+        assertTrue(queryResultCache.get(queryResultCacheKey).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateQueryResultCacheWhenClosedInXATransaction() throws SQLException, ReflectiveOperationException {
+        setTransactionType(TransactionType.XA);
+        QueryResultCache queryResultCache = createQueryResultCache();
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.setInTransaction(true);
+        backendConnection.invalidateQueryResultCache(queryResultCache, Collections.singletonList("t_config"));
+        record(queryResultCache);
+        backendConnection.close();
+        assertFalse(queryResultCache.get(queryResultCacheKey).isPresent());
+    }
+    
+    private void setTransactionType(final TransactionType transactionType) throws ReflectiveOperationException {
+        Field field = ProxyContext.class.getDeclaredField("transactionType");
+        field.setAccessible(true);
+        field.set(ProxyContext.getInstance(), transactionType);
+    }
+    
+    private QueryResultCache createQueryResultCache() {
+        YamlQueryResultCacheConfiguration config = new YamlQueryResultCacheConfiguration();
+        config.setMaxBytes(100L);
+        config.getTables().put("t_config", new YamlQueryResultCacheTableConfiguration());
+        return new QueryResultCache(config);
+    }
+    
+    private void record(final QueryResultCache queryResultCache) {
+        QueryResultCacheRecorder recorder = queryResultCache.newRecorder(queryResultCacheKey, Collections.singletonList("t_config")).get();
+        recorder.record(Unpooled.wrappedBuffer(new byte[10]));
+        recorder.finish(mock(QueryResponsePackets.class), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_VARCHAR));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetConnectionAfterClose() throws SQLException {
+        BackendConnection backendConnection = createBackendConnection(60000L);
+        backendConnection.getConnection("ds_0");
+        backendConnection.close();
+        verify(connection1).close();
+        backendConnection.getConnection("ds_0");
+    }
+    
+    private List<RouteUnit> createRouteUnits() {
+        return Collections.singletonList(new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.<List<Object>>emptyList())));
+    }
+    
+    private BackendConnection createBackendConnection(final long idleTimeoutMilliseconds) throws SQLException {
+        BackendConnection result = new BackendConnection(idleTimeoutMilliseconds);
+        result.prepare(ruleRegistry);
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.metrics;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import io.shardingsphere.core.metrics.MetricsRegistry;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MetricsHttpHandlerTest {
+    
+    @Test
+    public void assertExportMetrics() {
+        MetricsRegistry.getInstance().getCounter("sharding_proxy_test_total", "Test counter.").incrementAndGet();
+        FullHttpResponse response = request(HttpMethod.GET, "/metrics");
+        try {
+            assertThat(response.status(), is(HttpResponseStatus.OK));
+            assertThat(response.headers().get(HttpHeaderNames.CONTENT_TYPE), is("text/plain; version=0.0.4; charset=utf-8"));
+            assertThat(response.content().toString(CharsetUtil.UTF_8), containsString("# TYPE sharding_proxy_test_total counter"));
+        } finally {
+            response.release();
+        }
+    }
+    
+    @Test
+    public void assertUnknownPath() {
+        FullHttpResponse response = request(HttpMethod.GET, "/unknown");
+        try {
+            assertThat(response.status(), is(HttpResponseStatus.NOT_FOUND));
+        } finally {
+            response.release();
+        }
+    }
+    
+    @Test
+    public void assertMethodNotAllowed() {
+        FullHttpResponse response = request(HttpMethod.POST, "/metrics");
+        try {
+            assertThat(response.status(), is(HttpResponseStatus.METHOD_NOT_ALLOWED));
+        } finally {
+            response.release();
+        }
+    }
+    
+    private FullHttpResponse request(final HttpMethod method, final String uri) {
+        EmbeddedChannel channel = new EmbeddedChannel(new MetricsHttpHandler());
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri));
+        FullHttpResponse result = channel.readOutbound();
+        channel.finish();
+        return result;
+    }
+}
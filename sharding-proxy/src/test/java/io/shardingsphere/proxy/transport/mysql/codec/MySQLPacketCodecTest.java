@@ -18,7 +18,8 @@
 package io.shardingsphere.proxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
@@ -26,7 +27,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -35,8 +38,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,17 +82,24 @@ public final class MySQLPacketCodecTest {
     
     @Test
     public void assertDoEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodec().doEncode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                ((MySQLPacketPayload) invocation.getArguments()[0]).writeStringEOF("value");
+                return null;
+            }
+        }).when(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(0xff);
+        new MySQLPacketCodec().doEncode(context, actualMessage, out);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0xff);
+        expected.writeMediumLE(5);
+        expected.writeByte(1);
+        expected.writeBytes("value".getBytes());
+        assertThat(ByteBufUtil.hexDump(out), is(ByteBufUtil.hexDump(expected)));
     }
 }
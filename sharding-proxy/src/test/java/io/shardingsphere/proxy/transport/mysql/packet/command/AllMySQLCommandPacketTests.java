@@ -24,14 +24,18 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuit
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41PacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePacketsTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementCursorTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistryTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacketTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowEncoderTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.NullBitmapTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.protocol.AllMySQLBinaryProtocolTests;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch.ComStmtFetchPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPrepareOKPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacketTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowEncoderTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.fieldlist.ComFieldListPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacketTest;
@@ -46,17 +50,21 @@ import org.junit.runners.Suite.SuiteClasses;
         CommandResponsePacketsTest.class, 
         QueryResponsePacketsTest.class, 
         BinaryStatementRegistryTest.class, 
+        BinaryStatementCursorTest.class, 
         NullBitmapTest.class,
         AllMySQLBinaryProtocolTests.class, 
         FieldCountPacketTest.class, 
         ColumnDefinition41PacketTest.class, 
         TextResultSetRowPacketTest.class, 
+        TextResultSetRowEncoderTest.class, 
         ComFieldListPacketTest.class, 
         ComQueryPacketTest.class, 
         ComStmtPreparePacketTest.class, 
         ComStmtPrepareOKPacketTest.class, 
         BinaryResultSetRowPacketTest.class, 
+        BinaryResultSetRowEncoderTest.class, 
         ComStmtExecutePacketTest.class, 
+        ComStmtFetchPacketTest.class, 
         ComStmtClosePacketTest.class, 
         ComInitDbPacketTest.class, 
         ComPingPacketTest.class, 
@@ -32,6 +32,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuit
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch.ComStmtFetchPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.fieldlist.ComFieldListPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
@@ -119,10 +120,18 @@ public final class CommandPacketFactoryTest {
     public void assertNewInstanceWithComStmtExecutePacket() throws SQLException {
         when(payload.readInt1()).thenReturn(CommandPacketType.COM_STMT_EXECUTE.getValue(), NewParametersBoundFlag.PARAMETER_TYPE_EXIST.getValue());
         when(payload.readInt4()).thenReturn(1);
-        BinaryStatementRegistry.getInstance().register("", 1);
+        BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+        binaryStatementRegistry.register("", 1, null);
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
         assertThat(CommandPacketFactory.newInstance(1, 1000, payload, backendConnection, frontendHandler), instanceOf(ComStmtExecutePacket.class));
     }
     
+    @Test
+    public void assertNewInstanceWithComStmtFetchPacket() throws SQLException {
+        when(payload.readInt1()).thenReturn(CommandPacketType.COM_STMT_FETCH.getValue());
+        assertThat(CommandPacketFactory.newInstance(1, 1000, payload, backendConnection, frontendHandler), instanceOf(ComStmtFetchPacket.class));
+    }
+    
     @Test
     public void assertNewInstanceWithComStmtClosePacket() throws SQLException {
         when(payload.readInt1()).thenReturn(CommandPacketType.COM_STMT_CLOSE.getValue());
@@ -255,12 +264,6 @@ public final class CommandPacketFactoryTest {
         assertThat(CommandPacketFactory.newInstance(1, 1000, payload, backendConnection, frontendHandler), instanceOf(UnsupportedCommandPacket.class));
     }
     
-    @Test
-    public void assertNewInstanceWithComStmtFetchPacket() throws SQLException {
-        when(payload.readInt1()).thenReturn(CommandPacketType.COM_STMT_FETCH.getValue());
-        assertThat(CommandPacketFactory.newInstance(1, 1000, payload, backendConnection, frontendHandler), instanceOf(UnsupportedCommandPacket.class));
-    }
-    
     @Test
     public void assertNewInstanceWithComDaemonPacket() throws SQLException {
         when(payload.readInt1()).thenReturn(CommandPacketType.COM_DAEMON.getValue());
@@ -72,6 +72,15 @@ public final class ColumnDefinition41PacketTest {
         verifyWrite();
     }
     
+    @Test
+    public void assertRename() {
+        ColumnDefinition41Packet actual = new ColumnDefinition41Packet(1, ShardingConstant.LOGIC_SCHEMA_NAME, "tbl", "tbl", "AGGREGATION_DISTINCT_DERIVED_0", "id", 10, ColumnType.MYSQL_TYPE_LONG, 0).rename("id");
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getName(), is("id"));
+        actual.write(payload);
+        verifyWrite();
+    }
+    
     private void verifyWrite() {
         verify(payload).writeStringLenenc("def");
         verify(payload).writeStringLenenc(ShardingConstant.LOGIC_SCHEMA_NAME);
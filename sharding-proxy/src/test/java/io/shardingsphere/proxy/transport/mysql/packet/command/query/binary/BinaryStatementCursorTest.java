@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
+
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.jdbc.connection.CursorResources;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ResultSetRowEncoder;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BinaryStatementCursorTest {
+    
+    @Mock
+    private BackendHandler backendHandler;
+    
+    @Mock
+    private ResultSetRowEncoder rowEncoder;
+    
+    @Mock
+    private CursorResources cursorResources;
+    
+    private BinaryStatementCursor cursor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(backendHandler.next()).thenReturn(true, true, false);
+        when(backendHandler.getResultValue(rowEncoder)).thenReturn(new EncodedResultSetRowPacket(10, Unpooled.buffer()));
+        cursor = new BinaryStatementCursor(backendHandler, rowEncoder, cursorResources);
+    }
+    
+    @Test
+    public void assertFetchInBatches() throws SQLException {
+        when(cursorResources.startFetch()).thenReturn(true);
+        CommandResponsePackets actual = cursor.fetch(1L);
+        assertThat(actual.getPackets().size(), is(2));
+        assertEofPacket(actual, 2, false);
+        verify(cursorResources, never()).close();
+        actual = cursor.fetch(1L);
+        assertThat(actual.getPackets().size(), is(2));
+        assertEofPacket(actual, 2, true);
+        verify(cursorResources).close();
+        verify(backendHandler, times(3)).next();
+        verify(cursorResources, times(2)).finishFetch();
+    }
+    
+    @Test
+    public void assertFetchAll() throws SQLException {
+        when(cursorResources.startFetch()).thenReturn(true);
+        CommandResponsePackets actual = cursor.fetch(10L);
+        assertThat(actual.getPackets().size(), is(3));
+        Iterator<DatabasePacket> packets = actual.getPackets().iterator();
+        assertThat(packets.next().getSequenceId(), is(1));
+        assertThat(packets.next().getSequenceId(), is(2));
+        assertEofPacket(actual, 3, true);
+        actual = cursor.fetch(10L);
+        assertThat(actual.getPackets().size(), is(1));
+        assertEofPacket(actual, 1, true);
+        verify(backendHandler, times(3)).next();
+        verify(cursorResources).startFetch();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertFetchAfterIdleTimeout() throws SQLException {
+        when(cursorResources.startFetch()).thenReturn(false);
+        try {
+            cursor.fetch(1L);
+        } finally {
+            verify(backendHandler, never()).next();
+            verify(cursorResources, never()).finishFetch();
+        }
+    }
+    
+    private void assertEofPacket(final CommandResponsePackets actual, final int expectedSequenceId, final boolean lastRowSent) {
+        EofPacket eofPacket = null;
+        for (DatabasePacket each : actual.getPackets()) {
+            if (each instanceof EofPacket) {
+                eofPacket = (EofPacket) each;
+            }
+        }
+        assertThat(eofPacket.getSequenceId(), is(expectedSequenceId));
+        assertThat(0 != (eofPacket.getStatusFlags() & StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()), is(true));
+        assertThat(0 != (eofPacket.getStatusFlags() & StatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue()), is(lastRowSent));
+    }
+}
@@ -17,38 +17,57 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
-import org.junit.After;
-import org.junit.Before;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Test;
 
+import java.sql.SQLException;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public final class BinaryStatementRegistryTest {
     
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
-    @Before
-    @After
-    public void reset() throws ReflectiveOperationException {
-        BinaryStatementRegistryUtil.reset();
-    }
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        BinaryStatement actual = BinaryStatementRegistry.getInstance().getBinaryStatement(1);
+    public void assertRegister() {
+        SQLStatement sqlStatement = new SelectStatement();
+        assertThat(binaryStatementRegistry.register(sql, 1, sqlStatement), is(1));
+        BinaryStatement actual = binaryStatementRegistry.getBinaryStatement(1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParametersCount(), is(1));
+        assertThat(actual.getSqlStatement(), is(sqlStatement));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        BinaryStatement actual = BinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
+    public void assertRegisterSameSQLTwice() {
+        assertThat(binaryStatementRegistry.register(sql, 1, null), is(1));
+        assertThat(binaryStatementRegistry.register(sql, 1, null), is(2));
+        assertThat(binaryStatementRegistry.size(), is(2));
+    }
+    
+    @Test
+    public void assertRemove() throws SQLException {
+        binaryStatementRegistry.register(sql, 1, null);
+        binaryStatementRegistry.register(sql, 1, null);
+        binaryStatementRegistry.remove(1);
+        assertNull(binaryStatementRegistry.getBinaryStatement(1));
+        assertThat(binaryStatementRegistry.getBinaryStatement(2).getSql(), is(sql));
+    }
+    
+    @Test
+    public void assertClear() throws SQLException {
+        binaryStatementRegistry.register(sql, 1, null);
+        BinaryStatementCursor cursor = mock(BinaryStatementCursor.class);
+        binaryStatementRegistry.getBinaryStatement(1).openCursor(cursor);
+        binaryStatementRegistry.clear();
+        assertThat(binaryStatementRegistry.size(), is(0));
+        verify(cursor).close();
     }
 }
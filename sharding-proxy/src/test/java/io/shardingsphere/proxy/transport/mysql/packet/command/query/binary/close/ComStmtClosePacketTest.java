@@ -18,16 +18,24 @@
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close;
 
 import com.google.common.base.Optional;
+import io.shardingsphere.proxy.frontend.common.FrontendHandler;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementCursor;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.SQLException;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -36,17 +44,27 @@ public final class ComStmtClosePacketTest {
     @Mock
     private MySQLPacketPayload payload;
     
+    @Mock
+    private FrontendHandler frontendHandler;
+    
     @Test
-    public void assertExecute() {
+    public void assertExecute() throws SQLException {
+        BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+        binaryStatementRegistry.register("SELECT id FROM tbl WHERE id=?", 1, null);
+        BinaryStatementCursor cursor = mock(BinaryStatementCursor.class);
+        binaryStatementRegistry.getBinaryStatement(1).openCursor(cursor);
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
         when(payload.readInt4()).thenReturn(1);
-        Optional<CommandResponsePackets> actual = new ComStmtClosePacket(1, payload).execute();
+        Optional<CommandResponsePackets> actual = new ComStmtClosePacket(1, payload, frontendHandler).execute();
         assertFalse(actual.isPresent());
+        assertNull(binaryStatementRegistry.getBinaryStatement(1));
+        verify(cursor).close();
     }
     
     @Test
     public void assertWrite() {
         when(payload.readInt4()).thenReturn(1);
-        ComStmtClosePacket actual = new ComStmtClosePacket(1, payload);
+        ComStmtClosePacket actual = new ComStmtClosePacket(1, payload, frontendHandler);
         assertThat(actual.getSequenceId(), is(1));
         actual.write(payload);
     }
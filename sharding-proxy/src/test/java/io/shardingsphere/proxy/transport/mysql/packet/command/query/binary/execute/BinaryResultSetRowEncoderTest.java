@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BinaryResultSetRowEncoderTest {
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Test
+    public void assertEncode() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1L);
+        when(mergedResult.getValue(2, Object.class)).thenReturn(2L);
+        when(mergedResult.getValue(3, String.class)).thenReturn("value");
+        when(mergedResult.getValue(4, String.class)).thenReturn(null);
+        when(mergedResult.getValue(5, Object.class)).thenReturn(null);
+        BinaryResultSetRowEncoder encoder = new BinaryResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 5, Arrays.asList(
+                ColumnType.MYSQL_TYPE_LONGLONG, ColumnType.MYSQL_TYPE_LONG, ColumnType.MYSQL_TYPE_VARCHAR, ColumnType.MYSQL_TYPE_STRING, ColumnType.MYSQL_TYPE_DOUBLE));
+        EncodedResultSetRowPacket actual = encoder.encode(2, mergedResult);
+        assertThat(actual.getSequenceId(), is(2));
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0x00);
+        expected.writeByte(0x60);
+        expected.writeLongLE(1L);
+        expected.writeIntLE(2);
+        expected.writeByte(5).writeBytes("value".getBytes(Charsets.UTF_8));
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeWithNullBitmapOfMultipleBytes() throws SQLException {
+        for (int i = 1; i <= 7; i++) {
+            when(mergedResult.getValue(i, Object.class)).thenReturn(null);
+        }
+        ColumnType[] columnTypes = new ColumnType[7];
+        Arrays.fill(columnTypes, ColumnType.MYSQL_TYPE_LONG);
+        EncodedResultSetRowPacket actual = new BinaryResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 7, Arrays.asList(columnTypes)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0x00);
+        expected.writeByte(0xfc);
+        expected.writeByte(0x01);
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeLongValueOfIntColumn() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(Long.valueOf(10L));
+        EncodedResultSetRowPacket actual = new BinaryResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONG)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0x00);
+        expected.writeByte(0x00);
+        expected.writeIntLE(10);
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeDateValueOfDatetimeColumn() throws SQLException {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2018, Calendar.AUGUST, 1);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new Date(calendar.getTimeInMillis()));
+        EncodedResultSetRowPacket actual = new BinaryResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.singletonList(ColumnType.MYSQL_TYPE_DATETIME)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0x00);
+        expected.writeByte(0x00);
+        expected.writeByte(4).writeShortLE(2018).writeByte(8).writeByte(1);
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeBytesValueOfBlobColumn() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new byte[] {1, 2, 3});
+        EncodedResultSetRowPacket actual = new BinaryResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.singletonList(ColumnType.MYSQL_TYPE_BLOB)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(0x00);
+        expected.writeByte(0x00);
+        expected.writeByte(3).writeBytes(new byte[] {1, 2, 3});
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    private ByteBuf write(final EncodedResultSetRowPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
@@ -18,18 +18,22 @@
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
 
 import com.google.common.base.Optional;
+import io.netty.buffer.Unpooled;
 import io.shardingsphere.proxy.backend.BackendHandler;
-import io.shardingsphere.proxy.backend.ResultPacket;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
-import org.junit.After;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,9 +46,13 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,26 +69,27 @@ public final class ComStmtExecutePacketTest {
     @Mock
     private FrontendHandler frontendHandler;
     
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
     @Before
     public void setUp() throws ReflectiveOperationException {
         setProxyContextNIOConfig();
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
     }
     
-    @Before
-    @After
-    public void reset() throws ReflectiveOperationException {
-        BinaryStatementRegistryUtil.reset();
+    private void setProxyContextNIOConfig() throws ReflectiveOperationException {
+        setProxyContextNIOConfig(true);
     }
     
-    private void setProxyContextNIOConfig() throws ReflectiveOperationException {
+    private void setProxyContextNIOConfig(final boolean useNIO) throws ReflectiveOperationException {
         Field field = ProxyContext.class.getDeclaredField("useNIO");
         field.setAccessible(true);
-        field.set(ProxyContext.getInstance(), true);
+        field.set(ProxyContext.getInstance(), useNIO);
     }
     
     @Test
     public void assertWrite() throws SQLException {
-        BinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        binaryStatementRegistry.register("SELECT id FROM tbl WHERE id=?", 1, null);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
         ComStmtExecutePacket actual = new ComStmtExecutePacket(1, 1000, payload, backendConnection, frontendHandler);
@@ -94,14 +103,17 @@ public final class ComStmtExecutePacketTest {
     
     @Test
     public void assertExecute() throws ReflectiveOperationException, SQLException {
-        BinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        binaryStatementRegistry.register("SELECT id FROM tbl WHERE id=?", 1, null);
         BackendHandler backendHandler = mock(BackendHandler.class);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
         CommandResponsePackets expectedCommandResponsePackets = new CommandResponsePackets();
         when(backendHandler.execute()).thenReturn(expectedCommandResponsePackets);
         when(backendHandler.next()).thenReturn(true, false);
-        when(backendHandler.getResultValue()).thenReturn(new ResultPacket(2, Collections.<Object>singletonList(99999L), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONG)));
+        when(backendHandler.getColumnCount()).thenReturn(1);
+        when(backendHandler.getColumnTypes()).thenReturn(Collections.singletonList(ColumnType.MYSQL_TYPE_LONG));
+        EncodedResultSetRowPacket expectedResultValue = new EncodedResultSetRowPacket(2, Unpooled.buffer());
+        when(backendHandler.getResultValue(isA(BinaryResultSetRowEncoder.class))).thenReturn(expectedResultValue);
         ComStmtExecutePacket packet = new ComStmtExecutePacket(1, 1000, payload, backendConnection, frontendHandler);
         setBackendHandler(packet, backendHandler);
         Optional<CommandResponsePackets> actualCommandResponsePackets = packet.execute();
@@ -110,10 +122,64 @@ public final class ComStmtExecutePacketTest {
         assertTrue(packet.next());
         DatabasePacket actualResultValue = packet.getResultValue();
         assertThat(actualResultValue.getSequenceId(), is(2));
-        assertThat(((BinaryResultSetRowPacket) actualResultValue).getData(), is(Collections.<Object>singletonList(99999L)));
+        assertThat(actualResultValue, is((DatabasePacket) expectedResultValue));
         assertFalse(packet.next());
     }
     
+    @Test
+    public void assertExecuteWithCursor() throws ReflectiveOperationException, SQLException {
+        binaryStatementRegistry.register("SELECT id FROM tbl WHERE id=?", 1, null);
+        BackendHandler backendHandler = mock(BackendHandler.class);
+        when(payload.readInt4()).thenReturn(1);
+        when(payload.readInt1()).thenReturn(1);
+        when(backendHandler.execute()).thenReturn(new QueryResponsePackets(new FieldCountPacket(1, 0), Collections.<ColumnDefinition41Packet>emptyList(), new EofPacket(2)));
+        when(backendConnection.canHoldCursor()).thenReturn(true);
+        ComStmtExecutePacket packet = new ComStmtExecutePacket(1, 1000, payload, backendConnection, frontendHandler);
+        setBackendHandler(packet, backendHandler);
+        setProxyContextNIOConfig(false);
+        try {
+            Optional<CommandResponsePackets> actual = packet.execute();
+            assertTrue(actual.isPresent());
+            assertThat(actual.get().getPackets().size(), is(2));
+            EofPacket eofPacket = (EofPacket) actual.get().getPackets().toArray()[1];
+            assertThat(eofPacket.getSequenceId(), is(2));
+            assertTrue(0 != (eofPacket.getStatusFlags() & StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()));
+            assertNotNull(binaryStatementRegistry.getBinaryStatement(1).getCursor());
+            verify(backendConnection).holdCursorResources();
+        } finally {
+            setProxyContextNIOConfig(true);
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithCursorWhenHeldCursorsExceeded() throws ReflectiveOperationException, SQLException {
+        binaryStatementRegistry.register("SELECT id FROM tbl WHERE id=?", 1, null);
+        BackendHandler backendHandler = mock(BackendHandler.class);
+        when(payload.readInt4()).thenReturn(1);
+        when(payload.readInt1()).thenReturn(1);
+        QueryResponsePackets expected = new QueryResponsePackets(new FieldCountPacket(1, 0), Collections.<ColumnDefinition41Packet>emptyList(), new EofPacket(2));
+        when(backendHandler.execute()).thenReturn(expected);
+        when(backendConnection.canHoldCursor()).thenReturn(false);
+        ComStmtExecutePacket packet = new ComStmtExecutePacket(1, 1000, payload, backendConnection, frontendHandler);
+        setBackendHandler(packet, backendHandler);
+        setProxyContextNIOConfig(false);
+        try {
+            Optional<CommandResponsePackets> actual = packet.execute();
+            assertTrue(actual.isPresent());
+            assertThat(actual.get(), is((CommandResponsePackets) expected));
+            assertNull(binaryStatementRegistry.getBinaryStatement(1).getCursor());
+            verify(backendConnection, never()).holdCursorResources();
+        } finally {
+            setProxyContextNIOConfig(true);
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewWithUnknownStatementId() throws SQLException {
+        when(payload.readInt4()).thenReturn(1);
+        new ComStmtExecutePacket(1, 1000, payload, backendConnection, frontendHandler);
+    }
+    
     private void setBackendHandler(final ComStmtExecutePacket packet, final BackendHandler backendHandler) throws ReflectiveOperationException {
         Field field = ComStmtExecutePacket.class.getDeclaredField("backendHandler");
         field.setAccessible(true);
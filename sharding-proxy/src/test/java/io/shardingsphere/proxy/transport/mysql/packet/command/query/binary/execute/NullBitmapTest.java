@@ -46,4 +46,17 @@ public final class NullBitmapTest {
         actual.setNullBit(0);
         assertTrue(actual.isNullParameter(0));
     }
+    
+    @Test
+    public void assertSetMultipleNullBitsInSameByte() {
+        NullBitmap actual = new NullBitmap(8, 2);
+        actual.setNullBit(0);
+        actual.setNullBit(1);
+        actual.setNullBit(5);
+        assertTrue(actual.isNullParameter(0));
+        assertTrue(actual.isNullParameter(1));
+        assertFalse(actual.isNullParameter(2));
+        assertTrue(actual.isNullParameter(5));
+        assertThat(actual.getNullBitmap()[0], is(0x8c));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.proxy.frontend.common.FrontendHandler;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementCursor;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ComStmtFetchPacketTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Mock
+    private FrontendHandler frontendHandler;
+    
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    @Before
+    public void setUp() {
+        when(payload.readInt4()).thenReturn(1, 100);
+    }
+    
+    @Test
+    public void assertWrite() {
+        ComStmtFetchPacket actual = new ComStmtFetchPacket(1, payload, frontendHandler);
+        assertThat(actual.getSequenceId(), is(1));
+        actual.write(payload);
+        verify(payload).writeInt4(1);
+        verify(payload).writeInt4(100);
+    }
+    
+    @Test
+    public void assertExecuteWithUnknownStatement() throws SQLException {
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
+        Optional<CommandResponsePackets> actual = new ComStmtFetchPacket(1, payload, frontendHandler).execute();
+        assertThat(((ErrPacket) actual.get().getHeadPacket()).getErrorCode(), is(ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode()));
+    }
+    
+    @Test
+    public void assertExecuteWithoutCursor() throws SQLException {
+        binaryStatementRegistry.register("SELECT id FROM tbl", 0, null);
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
+        Optional<CommandResponsePackets> actual = new ComStmtFetchPacket(1, payload, frontendHandler).execute();
+        assertThat(((ErrPacket) actual.get().getHeadPacket()).getErrorCode(), is(ServerErrorCode.ER_STMT_HAS_NO_OPEN_CURSOR.getErrorCode()));
+    }
+    
+    @Test
+    public void assertExecuteWithCursor() throws SQLException {
+        binaryStatementRegistry.register("SELECT id FROM tbl", 0, null);
+        BinaryStatementCursor cursor = mock(BinaryStatementCursor.class);
+        CommandResponsePackets expected = new CommandResponsePackets();
+        when(cursor.fetch(100L)).thenReturn(expected);
+        binaryStatementRegistry.getBinaryStatement(1).openCursor(cursor);
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
+        assertThat(new ComStmtFetchPacket(1, payload, frontendHandler).execute().get(), is(expected));
+    }
+}
@@ -35,10 +35,9 @@ import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import org.hamcrest.CoreMatchers;
-import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -67,18 +66,14 @@ public final class ComStmtPreparePacketTest {
     @Mock
     private FrontendHandler frontendHandler;
     
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
     @Before
     public void setUp() throws ReflectiveOperationException {
         setProxyContextRuleRegistryMap();
         setFrontendHandlerSchema();
     }
     
-    @Before
-    @After
-    public void reset() throws ReflectiveOperationException {
-        BinaryStatementRegistryUtil.reset();
-    }
-    
     private void setProxyContextRuleRegistryMap() throws ReflectiveOperationException {
         RuleRegistry ruleRegistry = mock(RuleRegistry.class);
         ShardingMetaData metaData = mock(ShardingMetaData.class);
@@ -121,6 +116,7 @@ public final class ComStmtPreparePacketTest {
         assertThat(columnDefinition41Packet.getColumnType(), is(ColumnType.MYSQL_TYPE_VARCHAR));
         EofPacket eofPacket = (EofPacket) packets.next();
         assertThat(eofPacket.getSequenceId(), is(3));
+        assertThat(binaryStatementRegistry.getBinaryStatement(1).getSqlStatement(), is((SQLStatement) selectStatement));
     }
     
     @Test
@@ -158,6 +154,7 @@ public final class ComStmtPreparePacketTest {
     
     private ComStmtPreparePacket getComStmtPreparePacketWithMockedSQLParsingEngine(final String sql, final SQLStatement sqlStatement) throws ReflectiveOperationException {
         when(payload.readStringEOF()).thenReturn(sql);
+        when(frontendHandler.getBinaryStatementRegistry()).thenReturn(binaryStatementRegistry);
         ComStmtPreparePacket result = new ComStmtPreparePacket(1, payload, frontendHandler);
         SQLParsingEngine sqlParsingEngine = mock(SQLParsingEngine.class);
         when(sqlParsingEngine.parse(true)).thenReturn(sqlStatement);
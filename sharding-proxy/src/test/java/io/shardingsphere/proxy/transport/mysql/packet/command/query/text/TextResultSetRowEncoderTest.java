@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TextResultSetRowEncoderTest {
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Test
+    public void assertEncode() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(-12345L);
+        when(mergedResult.getValue(2, String.class)).thenReturn("\u4e2d\u6587");
+        when(mergedResult.getValue(3, String.class)).thenReturn(null);
+        when(mergedResult.getValue(4, Object.class)).thenReturn(new byte[] {1, 2});
+        TextResultSetRowEncoder encoder = new TextResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT,
+                4, Arrays.asList(ColumnType.MYSQL_TYPE_LONGLONG, ColumnType.MYSQL_TYPE_VARCHAR, ColumnType.MYSQL_TYPE_VARCHAR, ColumnType.MYSQL_TYPE_BLOB));
+        EncodedResultSetRowPacket actual = encoder.encode(2, mergedResult);
+        assertThat(actual.getSequenceId(), is(2));
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(6).writeBytes("-12345".getBytes(Charsets.US_ASCII));
+        expected.writeByte(6).writeBytes("\u4e2d\u6587".getBytes(Charsets.UTF_8));
+        expected.writeByte(0xfb);
+        expected.writeByte(2).writeBytes(new byte[] {1, 2});
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+        assertThat(actual.getRow().refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeWithLongMinValue() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(Long.MIN_VALUE);
+        EncodedResultSetRowPacket actual = new TextResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONGLONG)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(20).writeBytes(String.valueOf(Long.MIN_VALUE).getBytes(Charsets.US_ASCII));
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeWithoutColumnTypes() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(0);
+        EncodedResultSetRowPacket actual = new TextResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.<ColumnType>emptyList()).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(1).writeByte('0');
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    @Test
+    public void assertEncodeBytesValue() throws SQLException {
+        byte[] value = new byte[] {(byte) 0xff, 0x00, 0x7f};
+        when(mergedResult.getValue(1, Object.class)).thenReturn(value);
+        EncodedResultSetRowPacket actual = new TextResultSetRowEncoder(UnpooledByteBufAllocator.DEFAULT, 1, Collections.singletonList(ColumnType.MYSQL_TYPE_BLOB)).encode(2, mergedResult);
+        ByteBuf expected = Unpooled.buffer();
+        expected.writeByte(3).writeBytes(value);
+        assertThat(ByteBufUtil.hexDump(write(actual)), is(ByteBufUtil.hexDump(expected)));
+    }
+    
+    private ByteBuf write(final EncodedResultSetRowPacket packet) {
+        ByteBuf result = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(result));
+        return result;
+    }
+}
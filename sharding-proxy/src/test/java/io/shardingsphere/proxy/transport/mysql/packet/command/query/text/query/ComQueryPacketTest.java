@@ -19,6 +19,7 @@ package io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query;
 
 import com.google.common.base.Optional;
 import com.google.common.eventbus.Subscribe;
+import io.netty.buffer.Unpooled;
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
@@ -26,7 +27,6 @@ import io.shardingsphere.core.event.ShardingEventBusInstance;
 import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.proxy.backend.BackendHandler;
-import io.shardingsphere.proxy.backend.ResultPacket;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.ProxyContext;
 import io.shardingsphere.proxy.config.RuleRegistry;
@@ -36,8 +36,9 @@ import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.EncodedResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
-import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowEncoder;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
 import lombok.Getter;
 import lombok.Setter;
@@ -59,6 +60,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -136,11 +138,13 @@ public final class ComQueryPacketTest {
         when(payload.readStringEOF()).thenReturn("SELECT id FROM tbl");
         BackendHandler backendHandler = mock(BackendHandler.class);
         when(backendHandler.next()).thenReturn(true, false);
-        when(backendHandler.getResultValue()).thenReturn(new ResultPacket(1, Collections.<Object>singletonList("id"), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_VARCHAR)));
         FieldCountPacket expectedFieldCountPacket = new FieldCountPacket(1, 1);
         when(backendHandler.execute()).thenReturn(new CommandResponsePackets(expectedFieldCountPacket));
         when(backendHandler.next()).thenReturn(true, false);
-        when(backendHandler.getResultValue()).thenReturn(new ResultPacket(2, Collections.<Object>singletonList(99999L), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONG)));
+        when(backendHandler.getColumnCount()).thenReturn(1);
+        when(backendHandler.getColumnTypes()).thenReturn(Collections.singletonList(ColumnType.MYSQL_TYPE_LONG));
+        EncodedResultSetRowPacket expectedResultValue = new EncodedResultSetRowPacket(2, Unpooled.buffer());
+        when(backendHandler.getResultValue(isA(TextResultSetRowEncoder.class))).thenReturn(expectedResultValue);
         ComQueryPacket packet = new ComQueryPacket(1, 1000, payload, backendConnection, frontendHandler);
         setBackendHandler(packet, backendHandler);
         Optional<CommandResponsePackets> actual = packet.execute();
@@ -150,7 +154,7 @@ public final class ComQueryPacketTest {
         assertThat(actual.get().getPackets().iterator().next(), is((DatabasePacket) expectedFieldCountPacket));
         assertTrue(packet.next());
         assertThat(packet.getResultValue().getSequenceId(), is(2));
-        assertThat(((TextResultSetRowPacket) packet.getResultValue()).getData(), is(Collections.<Object>singletonList(99999L)));
+        assertThat(packet.getResultValue(), is((DatabasePacket) expectedResultValue));
         assertFalse(packet.next());
     }
     
@@ -25,6 +25,7 @@ import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.transaction.manager.xa.XATransactionManager;
+import io.shardingsphere.transaction.manager.xa.readonly.ReadOnlyBranchXADataSource;
 
 import javax.sql.DataSource;
 import javax.sql.XADataSource;
@@ -39,6 +40,11 @@ import java.util.Properties;
 /**
  * Atomikos XA transaction manager.
  *
+ * <p>
+ * Atomikos commits transaction with only one branch by one phase, and skips commit phase for branches voted read only.
+ * Branches of multiple data sources are prepared and committed concurrently, which is configured by {@code threaded_2pc} of {@code jta.properties}.
+ * </p>
+ *
  * @author zhaojun
  */
 public final class AtomikosTransactionManager implements XATransactionManager {
@@ -103,7 +109,7 @@ public final class AtomikosTransactionManager implements XATransactionManager {
             xaProperties = new Properties();
         }
         PropertyUtils.setProperties(xaDataSource, xaProperties);
-        result.setXaDataSource(xaDataSource);
+        result.setXaDataSource(new ReadOnlyBranchXADataSource(xaDataSource));
         result.setXaProperties(xaProperties);
         return result;
     }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.manager.xa.readonly;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import javax.sql.ConnectionEventListener;
+import javax.sql.StatementEventListener;
+import javax.sql.XAConnection;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * XA connection which tracks write SQL of current branch.
+ *
+ * @author agent
+ */
+final class ReadOnlyBranchXAConnection implements XAConnection {
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final XAConnection xaConnection;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final ReadOnlyBranchXADataSource dataSource;
+    
+    private final ReadOnlyBranchXAResource xaResource;
+    
+    private volatile Xid currentXid;
+    
+    ReadOnlyBranchXAConnection(final XAConnection xaConnection, final ReadOnlyBranchXADataSource dataSource) throws SQLException {
+        this.xaConnection = xaConnection;
+        this.dataSource = dataSource;
+        xaResource = new ReadOnlyBranchXAResource(xaConnection.getXAResource(), this);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class[]{Connection.class}, new WriteTrackingInvocationHandler(xaConnection.getConnection(), this, null));
+    }
+    
+    @Override
+    public XAResource getXAResource() {
+        return xaResource;
+    }
+    
+    void associate(final Xid xid) {
+        currentXid = xid;
+    }
+    
+    void disassociate() {
+        currentXid = null;
+    }
+    
+    void markWritten() {
+        Xid xid = currentXid;
+        if (null != xid) {
+            dataSource.markWritten(xid);
+        }
+    }
+    
+    boolean isTrackingRequired() {
+        Xid xid = currentXid;
+        return null != xid && !dataSource.isWritten(xid);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        xaConnection.close();
+    }
+    
+    @Override
+    public void addConnectionEventListener(final ConnectionEventListener listener) {
+        xaConnection.addConnectionEventListener(listener);
+    }
+    
+    @Override
+    public void removeConnectionEventListener(final ConnectionEventListener listener) {
+        xaConnection.removeConnectionEventListener(listener);
+    }
+    
+    @Override
+    public void addStatementEventListener(final StatementEventListener listener) {
+        xaConnection.addStatementEventListener(listener);
+    }
+    
+    @Override
+    public void removeStatementEventListener(final StatementEventListener listener) {
+        xaConnection.removeStatementEventListener(listener);
+    }
+}
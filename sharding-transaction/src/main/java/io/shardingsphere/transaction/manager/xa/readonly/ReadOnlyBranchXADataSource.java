@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.manager.xa.readonly;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.XAConnection;
+import javax.sql.XADataSource;
+import javax.transaction.xa.Xid;
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * XA data source which finishes read only branches in prepare phase.
+ *
+ * <p>
+ * Branches which did not execute any write SQL are committed with one phase when prepared, and vote {@code XA_RDONLY},
+ * so transaction manager can skip commit phase of them, and skip whole commit phase if all branches are read only.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ReadOnlyBranchXADataSource implements XADataSource {
+    
+    @Getter
+    private final XADataSource xaDataSource;
+    
+    private final Set<Xid> writtenBranches = Collections.newSetFromMap(new ConcurrentHashMap<Xid, Boolean>());
+    
+    @Override
+    public XAConnection getXAConnection() throws SQLException {
+        return new ReadOnlyBranchXAConnection(xaDataSource.getXAConnection(), this);
+    }
+    
+    @Override
+    public XAConnection getXAConnection(final String user, final String password) throws SQLException {
+        return new ReadOnlyBranchXAConnection(xaDataSource.getXAConnection(user, password), this);
+    }
+    
+    void markWritten(final Xid xid) {
+        writtenBranches.add(xid);
+    }
+    
+    boolean isWritten(final Xid xid) {
+        return writtenBranches.contains(xid);
+    }
+    
+    void finish(final Xid xid) {
+        writtenBranches.remove(xid);
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return xaDataSource.getLogWriter();
+    }
+    
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        xaDataSource.setLogWriter(out);
+    }
+    
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        xaDataSource.setLoginTimeout(seconds);
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return xaDataSource.getLoginTimeout();
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return xaDataSource.getParentLogger();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.manager.xa.readonly;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * XA resource which commits read only branch with one phase when prepared.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+final class ReadOnlyBranchXAResource implements XAResource {
+    
+    private final XAResource xaResource;
+    
+    private final ReadOnlyBranchXAConnection xaConnection;
+    
+    @Override
+    public void start(final Xid xid, final int flags) throws XAException {
+        xaResource.start(xid, flags);
+        xaConnection.associate(xid);
+    }
+    
+    @Override
+    public void end(final Xid xid, final int flags) throws XAException {
+        xaConnection.disassociate();
+        xaResource.end(xid, flags);
+    }
+    
+    @Override
+    public int prepare(final Xid xid) throws XAException {
+        if (xaConnection.getDataSource().isWritten(xid)) {
+            xaConnection.getDataSource().finish(xid);
+            return xaResource.prepare(xid);
+        }
+        xaResource.commit(xid, true);
+        return XA_RDONLY;
+    }
+    
+    @Override
+    public void commit(final Xid xid, final boolean onePhase) throws XAException {
+        xaConnection.getDataSource().finish(xid);
+        xaResource.commit(xid, onePhase);
+    }
+    
+    @Override
+    public void rollback(final Xid xid) throws XAException {
+        xaConnection.getDataSource().finish(xid);
+        xaResource.rollback(xid);
+    }
+    
+    @Override
+    public void forget(final Xid xid) throws XAException {
+        xaConnection.getDataSource().finish(xid);
+        xaResource.forget(xid);
+    }
+    
+    @Override
+    public Xid[] recover(final int flag) throws XAException {
+        return xaResource.recover(flag);
+    }
+    
+    @Override
+    public boolean isSameRM(final XAResource xaResource) throws XAException {
+        return this.xaResource.isSameRM(xaResource instanceof ReadOnlyBranchXAResource ? ((ReadOnlyBranchXAResource) xaResource).xaResource : xaResource);
+    }
+    
+    @Override
+    public int getTransactionTimeout() throws XAException {
+        return xaResource.getTransactionTimeout();
+    }
+    
+    @Override
+    public boolean setTransactionTimeout(final int seconds) throws XAException {
+        return xaResource.setTransactionTimeout(seconds);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.manager.xa.readonly;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+
+/**
+ * Invocation handler of connection and statement which marks branch as written when write SQL executed.
+ *
+ * <p>Statements created by {@code prepareCall} are always considered as write, because stored procedure may modify data.
+ * Only plain select is considered as read, select with locking read ({@code FOR UPDATE}, {@code FOR SHARE}, {@code LOCK IN SHARE MODE}),
+ * {@code INTO} or multiple statements is considered as write, because its locks or effects must be kept until branch committed.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+final class WriteTrackingInvocationHandler implements InvocationHandler {
+    
+    private final Object target;
+    
+    private final ReadOnlyBranchXAConnection xaConnection;
+    
+    private final String preparedSQL;
+    
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (target instanceof Statement && isExecuteMethod(method) && xaConnection.isTrackingRequired() && isWriteSQL(getSQL(args))) {
+            xaConnection.markWritten();
+        }
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+        if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class[]{method.getReturnType()},
+                    new WriteTrackingInvocationHandler(result, xaConnection, "prepareStatement".equals(method.getName()) ? (String) args[0] : null));
+        }
+        return result;
+    }
+    
+    private boolean isExecuteMethod(final Method method) {
+        return method.getName().startsWith("execute") || "addBatch".equals(method.getName());
+    }
+    
+    private String getSQL(final Object[] args) {
+        return null != args && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSQL;
+    }
+    
+    private boolean isWriteSQL(final String sql) {
+        if (null == sql) {
+            return true;
+        }
+        try {
+            return !(new SQLJudgeEngine(sql).judge() instanceof DQLStatement) || !isPlainSelect(sql);
+        } catch (final SQLParsingException ex) {
+            return true;
+        }
+    }
+    
+    private boolean isPlainSelect(final String sql) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.MySQL, sql);
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            if (lexerEngine.equalAny(DefaultKeyword.FOR, DefaultKeyword.LOCK, DefaultKeyword.INTO)) {
+                return false;
+            }
+            if (lexerEngine.skipIfEqual(Symbol.SEMI)) {
+                return lexerEngine.isEnd();
+            }
+            lexerEngine.nextToken();
+        }
+        return true;
+    }
+}
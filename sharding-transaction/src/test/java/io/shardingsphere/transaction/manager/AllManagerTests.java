@@ -20,6 +20,7 @@ package io.shardingsphere.transaction.manager;
 import io.shardingsphere.transaction.manager.base.SagaTransactionManagerTest;
 import io.shardingsphere.transaction.manager.xa.XATransactionManagerSPILoaderTest;
 import io.shardingsphere.transaction.manager.xa.atomikos.AtomikosTransactionManagerTest;
+import io.shardingsphere.transaction.manager.xa.readonly.ReadOnlyBranchXADataSourceTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -29,6 +30,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ShardingTransactionManagerRegistryTest.class, 
         XATransactionManagerSPILoaderTest.class,
         AtomikosTransactionManagerTest.class, 
+        ReadOnlyBranchXADataSourceTest.class, 
         SagaTransactionManagerTest.class
 })
 public final class AllManagerTests {
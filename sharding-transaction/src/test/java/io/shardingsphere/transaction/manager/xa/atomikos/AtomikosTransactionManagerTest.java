@@ -23,6 +23,7 @@ import com.mysql.jdbc.jdbc2.optional.MysqlXADataSource;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
 import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.transaction.manager.xa.readonly.ReadOnlyBranchXADataSource;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -150,6 +151,6 @@ public final class AtomikosTransactionManagerTest {
         assertThat(actual.getUniqueResourceName(), is("ds_name"));
         assertThat(actual.getMaxPoolSize(), is(10));
         assertThat(actual.getTestQuery(), is("SELECT 1"));
-        assertThat(actual.getXaDataSource(), is(xaDataSource));
+        assertThat(((ReadOnlyBranchXADataSource) actual.getXaDataSource()).getXaDataSource(), is(xaDataSource));
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.transaction.manager.xa.readonly;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.XAConnection;
+import javax.sql.XADataSource;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ReadOnlyBranchXADataSourceTest {
+    
+    @Mock
+    private XADataSource xaDataSource;
+    
+    @Mock
+    private XAConnection xaConnection;
+    
+    @Mock
+    private XAResource xaResource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private Xid xid;
+    
+    private XAConnection actualXAConnection;
+    
+    @Before
+    public void setUp() throws Exception {
+        when(xaDataSource.getXAConnection()).thenReturn(xaConnection);
+        when(xaConnection.getXAResource()).thenReturn(xaResource);
+        actualXAConnection = new ReadOnlyBranchXADataSource(xaDataSource).getXAConnection();
+    }
+    
+    @Test
+    public void assertPrepareReadOnlyBranch() throws Exception {
+        when(xaConnection.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAConnection.getConnection().createStatement().executeQuery("SELECT * FROM t_order");
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(actualXAResource.prepare(xid), is(XAResource.XA_RDONLY));
+        verify(xaResource).commit(xid, true);
+        verify(xaResource, never()).prepare(xid);
+    }
+    
+    @Test
+    public void assertPrepareWrittenBranch() throws Exception {
+        when(xaConnection.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("UPDATE t_order SET status = ?")).thenReturn(mock(PreparedStatement.class));
+        when(xaResource.prepare(xid)).thenReturn(XAResource.XA_OK);
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAConnection.getConnection().prepareStatement("UPDATE t_order SET status = ?").executeUpdate();
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(actualXAResource.prepare(xid), is(XAResource.XA_OK));
+        verify(xaResource, never()).commit(xid, true);
+    }
+    
+    @Test
+    public void assertPrepareBranchWithSelectForUpdate() throws Exception {
+        assertPrepareBranchWithNotPlainSelect("SELECT * FROM t_order WHERE order_id = 1 FOR UPDATE");
+    }
+    
+    @Test
+    public void assertPrepareBranchWithSelectLockInShareMode() throws Exception {
+        assertPrepareBranchWithNotPlainSelect("SELECT * FROM t_order WHERE order_id = 1 LOCK IN SHARE MODE");
+    }
+    
+    @Test
+    public void assertPrepareBranchWithSelectInto() throws Exception {
+        assertPrepareBranchWithNotPlainSelect("SELECT status INTO @status FROM t_order WHERE order_id = 1");
+    }
+    
+    @Test
+    public void assertPrepareBranchWithMultipleStatements() throws Exception {
+        assertPrepareBranchWithNotPlainSelect("SELECT * FROM t_order; DELETE FROM t_order");
+    }
+    
+    private void assertPrepareBranchWithNotPlainSelect(final String sql) throws Exception {
+        when(xaConnection.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(xaResource.prepare(xid)).thenReturn(XAResource.XA_OK);
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAConnection.getConnection().createStatement().executeQuery(sql);
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(actualXAResource.prepare(xid), is(XAResource.XA_OK));
+        verify(xaResource, never()).commit(xid, true);
+    }
+    
+    @Test
+    public void assertPrepareBranchWithStoredProcedure() throws Exception {
+        when(xaConnection.getConnection()).thenReturn(connection);
+        when(connection.prepareCall("{call proc()}")).thenReturn(mock(CallableStatement.class));
+        when(xaResource.prepare(xid)).thenReturn(XAResource.XA_OK);
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAConnection.getConnection().prepareCall("{call proc()}").execute();
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(actualXAResource.prepare(xid), is(XAResource.XA_OK));
+    }
+    
+    @Test
+    public void assertWriteOutsideBranchNotTracked() throws Exception {
+        when(xaConnection.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        actualXAConnection.getConnection().createStatement().executeUpdate("DELETE FROM t_order");
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        assertThat(actualXAResource.prepare(xid), is(XAResource.XA_RDONLY));
+    }
+    
+    @Test
+    public void assertCommitWithOnePhase() throws Exception {
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        actualXAResource.start(xid, XAResource.TMNOFLAGS);
+        actualXAResource.end(xid, XAResource.TMSUCCESS);
+        actualXAResource.commit(xid, true);
+        verify(xaResource).commit(xid, true);
+        verify(xaResource, never()).prepare(xid);
+    }
+    
+    @Test
+    public void assertRollback() throws Exception {
+        actualXAConnection.getXAResource().rollback(xid);
+        verify(xaResource).rollback(xid);
+    }
+    
+    @Test
+    public void assertIsSameRM() throws Exception {
+        when(xaResource.isSameRM(xaResource)).thenReturn(true);
+        XAResource actualXAResource = actualXAConnection.getXAResource();
+        assertTrue(actualXAResource.isSameRM(actualXAResource));
+    }
+}